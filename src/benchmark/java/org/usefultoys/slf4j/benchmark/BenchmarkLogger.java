@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.benchmark;
+
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.AbstractLogger;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * A logger that formats enabled events like a real appender would, but discards the result instead of writing it.
+ * <p>
+ * This isolates the cost attributable to `slf4j-toys` (message building, level checks, placeholder formatting) from
+ * I/O and appender costs, which depend on the logging backend and are out of scope of the benchmarks.
+ *
+ * @author Daniel Felix Ferber
+ */
+public class BenchmarkLogger extends AbstractLogger {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Configuration selected by the logger name. */
+    private final LoggerMode mode;
+    /**
+     * Accumulated length of formatted messages. Keeps the formatting work observable so that the JIT cannot eliminate
+     * it. Not thread-safe on purpose: its value is meaningless, only the write matters.
+     */
+    @SuppressWarnings("unused")
+    private long consumed;
+
+    BenchmarkLogger(final String name) {
+        this.name = name;
+        this.mode = LoggerMode.fromLoggerName(name);
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return mode.isEnabled(Level.TRACE);
+    }
+
+    @Override
+    public boolean isTraceEnabled(final Marker marker) {
+        return mode.isEnabled(Level.TRACE);
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return mode.isEnabled(Level.DEBUG);
+    }
+
+    @Override
+    public boolean isDebugEnabled(final Marker marker) {
+        return mode.isEnabled(Level.DEBUG);
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return mode.isEnabled(Level.INFO);
+    }
+
+    @Override
+    public boolean isInfoEnabled(final Marker marker) {
+        return mode.isEnabled(Level.INFO);
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return mode.isEnabled(Level.WARN);
+    }
+
+    @Override
+    public boolean isWarnEnabled(final Marker marker) {
+        return mode.isEnabled(Level.WARN);
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return mode.isEnabled(Level.ERROR);
+    }
+
+    @Override
+    public boolean isErrorEnabled(final Marker marker) {
+        return mode.isEnabled(Level.ERROR);
+    }
+
+    @Override
+    protected String getFullyQualifiedCallerName() {
+        return null;
+    }
+
+    @Override
+    protected void handleNormalizedLoggingCall(final Level level, final Marker marker, final String messagePattern, final Object[] arguments, final Throwable throwable) {
+        final String message = MessageFormatter.basicArrayFormat(messagePattern, arguments);
+        consumed += message == null ? 0 : message.length();
+    }
+}
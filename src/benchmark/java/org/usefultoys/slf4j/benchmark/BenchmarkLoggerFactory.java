@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.benchmark;
+
+import org.slf4j.ILoggerFactory;
+import org.slf4j.Logger;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Creates and caches {@link BenchmarkLogger} instances, like any real SLF4J backend does.
+ *
+ * @author Daniel Felix Ferber
+ */
+public class BenchmarkLoggerFactory implements ILoggerFactory {
+
+    private final ConcurrentMap<String, Logger> loggers = new ConcurrentHashMap<>();
+
+    @Override
+    public Logger getLogger(final String name) {
+        final Logger logger = loggers.get(name);
+        if (logger != null) {
+            return logger;
+        }
+        final Logger newLogger = new BenchmarkLogger(name);
+        final Logger previous = loggers.putIfAbsent(name, newLogger);
+        return previous == null ? newLogger : previous;
+    }
+}
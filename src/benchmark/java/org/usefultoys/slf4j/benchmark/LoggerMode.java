@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.benchmark;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+/**
+ * Logging configurations measured by the benchmarks.
+ * <p>
+ * Each mode maps to a logger category. The {@link BenchmarkLoggerFactory} enables levels according to the category
+ * of the requested logger name (or its parent category), so a benchmark selects the configuration simply by choosing
+ * the category of the {@link org.usefultoys.slf4j.meter.Meter} it creates.
+ *
+ * @author Daniel Felix Ferber
+ */
+public enum LoggerMode {
+    /** All levels disabled: meters only pay for state bookkeeping. */
+    DISABLED(null),
+    /** Readable message channel enabled (DEBUG and above), data channel (TRACE) disabled. */
+    MESSAGE(Level.DEBUG),
+    /** Readable message channel and machine-parsable data channel (TRACE) enabled. */
+    MESSAGE_AND_DATA(Level.TRACE);
+
+    /** Most verbose level enabled by this mode, or {@code null} if all levels are disabled. */
+    private final Level threshold;
+
+    LoggerMode(final Level threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns the logger category associated with this mode.
+     *
+     * @return The category.
+     */
+    public String category() {
+        return "benchmark." + name().toLowerCase();
+    }
+
+    /**
+     * Returns a logger whose name selects this mode.
+     *
+     * @return The logger for this mode.
+     */
+    public Logger logger() {
+        return LoggerFactory.getLogger(category());
+    }
+
+    /**
+     * Finds the mode selected by a logger name.
+     *
+     * @param loggerName The logger name.
+     * @return The mode whose category is the logger name or one of its parents, or {@link #DISABLED} if none is.
+     */
+    static LoggerMode fromLoggerName(final String loggerName) {
+        for (final LoggerMode mode : values()) {
+            final String category = mode.category();
+            if (loggerName.equals(category) || loggerName.startsWith(category + ".")) {
+                return mode;
+            }
+        }
+        return DISABLED;
+    }
+
+    /**
+     * Tells whether a level is enabled by this mode.
+     *
+     * @param level The level to check.
+     * @return {@code true} if the level is enabled.
+     */
+    boolean isEnabled(final Level level) {
+        return threshold != null && level.toInt() >= threshold.toInt();
+    }
+}
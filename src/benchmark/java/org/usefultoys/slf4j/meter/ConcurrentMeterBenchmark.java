@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.usefultoys.slf4j.benchmark.LoggerMode;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how counting iterations of one batch meter scales when many worker threads share it.
+ * <p>
+ * Compares a {@link ConcurrentMeter} with a plain {@link Meter} guarded by a lock, the only safe way to share the latter.
+ * All benchmarks run on 32 threads; override the number of threads with {@code -t} to draw the scaling curve.
+ * <p>
+ * Run with: {@code mvn test-compile exec:exec@jmh -P benchmark -Djmh.args="ConcurrentMeterBenchmark -prof gc"}
+ *
+ * @author Daniel Felix Ferber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class ConcurrentMeterBenchmark {
+
+    private Logger logger;
+    private ConcurrentMeter concurrentMeter;
+    private Meter lockedMeter;
+
+    @Setup(Level.Iteration)
+    public void start() {
+        logger = LoggerMode.DISABLED.logger();
+        concurrentMeter = new ConcurrentMeter(logger, "batch");
+        concurrentMeter.iterations(Long.MAX_VALUE).start();
+        lockedMeter = new Meter(logger, "batch").iterations(Long.MAX_VALUE).start();
+    }
+
+    @TearDown(Level.Iteration)
+    public void stop() {
+        concurrentMeter.ok();
+        lockedMeter.ok();
+    }
+
+    @Benchmark
+    public Meter concurrentInc() {
+        return concurrentMeter.inc();
+    }
+
+    @Benchmark
+    public Meter concurrentIncProgress() {
+        return concurrentMeter.inc().progress();
+    }
+
+    @Benchmark
+    public Meter lockedInc() {
+        synchronized (lockedMeter) {
+            return lockedMeter.inc();
+        }
+    }
+
+    @Benchmark
+    public Meter lockedIncProgress() {
+        synchronized (lockedMeter) {
+            return lockedMeter.inc().progress();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of encoding and parsing the compact binary representation written to the data channel when
+ * {@link MeterConfig#dataBinary} is enabled, isolated from the logger.
+ * <p>
+ * The encoded sample is the same completed meter as in {@link MeterJson5Benchmark}, so that both encodings can be
+ * compared directly.
+ * <p>
+ * Run with: {@code mvn test-compile exec:exec@jmh -P benchmark -Djmh.args="MeterBinaryBenchmark -prof gc"}
+ *
+ * @author Daniel Felix Ferber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MeterBinaryBenchmark {
+
+    private final MeterData data = sample();
+    private final String binary = data.binaryMessage();
+
+    private static MeterData sample() {
+        final Map<String, String> context = new LinkedHashMap<>();
+        context.put("user", "alice");
+        context.put("items", "42");
+        context.put("flag", null);
+        return new MeterData("8ae94091", 1234, 987654321098L,
+                210_000_000L, 4_000_000_000L, 150_000_000L, 80_000_000L, 0L, 75_000_000L, 0L,
+                9_500L, 9_800L, 300L, 12_345L, 87L, 456L,
+                300_000_000L, 4_000_000_000L, 500_000_000L, 0.37,
+                "com.example.service.OrderService", "checkout", "com.example.web.Controller#17", "Checkout order",
+                987654000000L, 987654100000L, 987654321098L, 5_000_000_000L, 42L, 100L,
+                "paid", null, null, null, context);
+    }
+
+    @Benchmark
+    public String binaryMessage() {
+        return data.binaryMessage();
+    }
+
+    @Benchmark
+    public MeterData readBinary() {
+        final MeterData restored = new MeterData();
+        restored.readBinary(binary);
+        return restored;
+    }
+}
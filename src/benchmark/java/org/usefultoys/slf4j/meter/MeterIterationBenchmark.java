@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.usefultoys.slf4j.benchmark.LoggerMode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost per element of metering a batch traversal, by hand and through the iteration adapters of
+ * {@link Meter}.
+ * <p>
+ * Each invocation traverses {@value #SIZE} elements, so scores are per element. {@code baseline} traverses without a
+ * meter; {@code incProgress} calls {@code inc().progress()} for each element; {@code iterate} and {@code stream} use
+ * {@link Meter#iterate(Iterable)} and {@link Meter#stream(java.util.stream.Stream)}.
+ * <p>
+ * Run with: {@code mvn test-compile exec:exec@jmh -P benchmark -Djmh.args="MeterIterationBenchmark -prof gc"}
+ *
+ * @author Daniel Felix Ferber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MeterIterationBenchmark {
+
+    static final int SIZE = 100_000;
+
+    @Param({"DISABLED", "MESSAGE"})
+    public LoggerMode mode;
+
+    private Logger logger;
+    private final List<Integer> items = new ArrayList<>(SIZE);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        logger = mode.logger();
+        for (int i = 0; i < SIZE; i++) {
+            items.add(i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long baseline() {
+        long sum = 0;
+        for (final Integer item : items) {
+            sum += item;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long incProgress() {
+        final Meter meter = new Meter(logger, "export").iterations(SIZE).start();
+        long sum = 0;
+        for (final Integer item : items) {
+            sum += item;
+            meter.inc().progress();
+        }
+        meter.ok();
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long iterate() {
+        final Meter meter = new Meter(logger, "export");
+        long sum = 0;
+        for (final Integer item : meter.iterate(items)) {
+            sum += item;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long stream() {
+        return new Meter(logger, "export").stream(items.stream()).mapToLong(Integer::longValue).sum();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.usefultoys.slf4j.benchmark.LoggerMode;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of each step of the {@link Meter} lifecycle on the calling thread.
+ * <p>
+ * Every benchmark runs once per {@link LoggerMode}: loggers disabled, readable message channel only, and readable
+ * message plus data channel. Run with the GC profiler ({@code -prof gc}, the default of the {@code benchmark}
+ * profile) to read allocation per lifecycle from {@code gc.alloc.rate.norm}.
+ * <p>
+ * Run with: {@code mvn test-compile exec:exec@jmh -P benchmark -Djmh.args="MeterLifecycleBenchmark -prof gc"}
+ *
+ * @author Daniel Felix Ferber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MeterLifecycleBenchmark {
+
+    @Param
+    public LoggerMode mode;
+
+    private Logger logger;
+    private MeterTemplate template;
+    /** Pre-allocated, so that the benchmark does not measure {@link Throwable#fillInStackTrace()}. */
+    private final Exception failure = new IllegalStateException("benchmark failure");
+    private final Callable<String> callable = () -> "result";
+
+    @Setup(Level.Trial)
+    public void setupLogger() {
+        logger = mode.logger();
+        template = MeterFactory.template(logger);
+    }
+
+    /**
+     * A started meter kept running across a whole iteration, for benchmarks that operate on an ongoing operation.
+     */
+    @State(Scope.Thread)
+    public static class RunningMeter {
+        Meter meter;
+
+        @Setup(Level.Iteration)
+        public void start(final MeterLifecycleBenchmark benchmark) {
+            meter = new Meter(benchmark.logger, "running").iterations(Long.MAX_VALUE).start();
+        }
+
+        @TearDown(Level.Iteration)
+        public void stop() {
+            meter.ok();
+        }
+    }
+
+    /**
+     * A started collecting meter kept running across a whole iteration, whose sub-operations log nothing.
+     */
+    @State(Scope.Thread)
+    public static class CollectingMeter {
+        Meter meter;
+
+        @Setup(Level.Iteration)
+        public void start(final MeterLifecycleBenchmark benchmark) {
+            meter = new Meter(benchmark.logger, "collecting").collecting().start();
+        }
+
+        @TearDown(Level.Iteration)
+        public void stop() {
+            meter.ok();
+        }
+    }
+
+    @Benchmark
+    public Meter construct() {
+        return new Meter(logger);
+    }
+
+    @Benchmark
+    public Meter constructWithOperation() {
+        return new Meter(logger, "operation");
+    }
+
+    @Benchmark
+    public Meter startOk() {
+        return new Meter(logger).start().ok();
+    }
+
+    @Benchmark
+    public Meter templateStartOk() {
+        return template.start().ok();
+    }
+
+    @Benchmark
+    public Meter templateBorrowStartOk() {
+        return template.borrow().start().ok();
+    }
+
+    @Benchmark
+    public Meter borrowStartOk() {
+        return MeterFactory.borrow(logger).start().ok();
+    }
+
+    @Benchmark
+    public Meter startReject() {
+        return new Meter(logger).start().reject("rejected");
+    }
+
+    @Benchmark
+    public Meter startFail() {
+        return new Meter(logger).start().fail(failure);
+    }
+
+    @Benchmark
+    public Meter incProgress(final RunningMeter running) {
+        return running.meter.inc().progress();
+    }
+
+    @Benchmark
+    public Meter subOk(final RunningMeter running) {
+        return running.meter.sub("child").start().ok();
+    }
+
+    @Benchmark
+    public Meter collectedSubOk(final CollectingMeter collecting) {
+        return collecting.meter.sub("child").start().ok();
+    }
+
+    @Benchmark
+    public String executorCall() throws Exception {
+        return new Meter(logger).call(callable);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.usefultoys.slf4j.benchmark.LoggerMode;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how assigning {@link Meter} positions scales when many threads create meters for the same operation.
+ * <p>
+ * All benchmarks run on 32 threads sharing one category and operation, once per {@link MeterConfig#positionBlockSize}:
+ * one position at a time from the shared counter, and blocks of positions reserved per thread. Override the number of
+ * threads with {@code -t} to draw the scaling curve.
+ * <p>
+ * Run with: {@code mvn test-compile exec:exec@jmh -P benchmark -Djmh.args="MeterPositionBenchmark -prof gc"}
+ *
+ * @author Daniel Felix Ferber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class MeterPositionBenchmark {
+
+    @Param({"1", "64"})
+    public int blockSize;
+
+    private Logger logger;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        MeterConfig.positionBlockSize = blockSize;
+        logger = LoggerMode.DISABLED.logger();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MeterConfig.reset();
+    }
+
+    @Benchmark
+    public long nextPosition() {
+        return Meter.extractNextPosition("benchmark.position", "operation");
+    }
+
+    @Benchmark
+    public long nextPositionWithoutOperation() {
+        return Meter.extractNextPosition("benchmark.position", null);
+    }
+
+    @Benchmark
+    public Meter construct() {
+        return new Meter(logger, "operation");
+    }
+}
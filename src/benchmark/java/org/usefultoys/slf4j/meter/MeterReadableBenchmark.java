@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of formatting the human-readable message written to the message channel, isolated from the
+ * logger.
+ * <p>
+ * The sample is a completed meter with iterations, sub-operations, context and system metrics, whose message formats
+ * execution time, iterations, throughput and memory with {@link org.usefultoys.slf4j.utils.UnitFormatter}.
+ * <p>
+ * Run with: {@code mvn test-compile exec:exec@jmh -P benchmark -Djmh.args="MeterReadableBenchmark -prof gc"}
+ *
+ * @author Daniel Felix Ferber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MeterReadableBenchmark {
+
+    private final MeterData data = sample();
+
+    private static MeterData sample() {
+        final Map<String, String> context = new LinkedHashMap<>();
+        context.put("user", "alice");
+        context.put("items", "42");
+        final MeterData data = new MeterData("8ae94091", 1234, 987654321098L,
+                210_000_000L, 4_000_000_000L, 150_000_000L, 80_000_000L, 0L, 75_000_000L, 0L,
+                9_500L, 9_800L, 300L, 12_345L, 87L, 456L,
+                300_000_000L, 4_000_000_000L, 500_000_000L, 0.37,
+                "com.example.service.OrderService", "checkout", null, null,
+                987654000000L, 987654100000L, 987655321098L, 5_000_000_000L, 4200L, 10000L,
+                "paid", null, null, null, context);
+        data.subCount = 3;
+        data.subTime = 850_000_000L;
+        return data;
+    }
+
+    @Benchmark
+    public String readableMessage() {
+        return data.readableMessage();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.usefultoys.slf4j.benchmark.LoggerMode;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of reporting an invalid {@link Meter} call, dominated by capturing the caller stack trace.
+ * <p>
+ * The invalid call is made {@link #depth} nested calls below the benchmark method, to show how the cost grows with the
+ * stack. Loggers are disabled, so only the capture is measured. The benchmark frames share the library package, so they
+ * are walked and skipped as library frames; only the JMH runner frames below are kept, up to
+ * {@code CallerStackTraceThrowable.MAX_FRAMES}. The limit therefore pays off on deep stacks of user code, as in
+ * application servers, rather than on the nested frames measured here.
+ * <p>
+ * Run with: {@code mvn test-compile exec:exec@jmh -P benchmark -Djmh.args="MeterValidatorBenchmark -prof gc"}. This
+ * measures the Java 8 implementation from {@code target/classes}; put {@code target/classes/META-INF/versions/9} first
+ * on the classpath to measure the Java 9+ one, as the multi-release JAR would select it.
+ *
+ * @author Daniel Felix Ferber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MeterValidatorBenchmark {
+
+    @Param({"0", "50"})
+    public int depth;
+
+    private Meter meter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Logger logger = LoggerMode.DISABLED.logger();
+        meter = new Meter(logger, "invalid");
+    }
+
+    @Benchmark
+    public Meter invalidState() {
+        return nested(depth);
+    }
+
+    private Meter nested(final int remaining) {
+        /* inc() before start() reports an invalid state. */
+        return remaining == 0 ? meter.inc() : nested(remaining - 1);
+    }
+}
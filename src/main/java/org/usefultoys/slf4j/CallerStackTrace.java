@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j;
+
+import java.util.Arrays;
+
+/**
+ * Captures the stack trace reported by {@link CallerStackTraceThrowable}.
+ * <p>
+ * This is the Java 8 implementation, which retrieves the full stack trace of the current thread and filters it with
+ * {@link CallerStackTraceThrowable#removeInternalFrames(StackTraceElement[], int)}. The multi-release JAR replaces
+ * this class on Java 9 and later by an implementation based on {@code StackWalker}.
+ *
+ * @author Daniel Felix Ferber
+ */
+final class CallerStackTrace {
+
+    /**
+     * Leading frames that belong to the capture itself: {@code Thread.getStackTrace()}, {@link #capture()},
+     * {@link CallerStackTraceThrowable#fillInStackTrace()} and the {@link Throwable} constructor.
+     */
+    private static final int CAPTURE_FRAMES = 4;
+
+    private CallerStackTrace() {
+        // Utility class
+    }
+
+    /**
+     * Captures the stack trace of the current thread, starting at the API entry point or at the user code, with at
+     * most {@link CallerStackTraceThrowable#MAX_FRAMES} frames. Must be called only from
+     * {@link CallerStackTraceThrowable#fillInStackTrace()}.
+     *
+     * @return the stack trace with internal frames removed
+     */
+    static StackTraceElement[] capture() {
+        final StackTraceElement[] frames = CallerStackTraceThrowable.removeInternalFrames(Thread.currentThread().getStackTrace(), CAPTURE_FRAMES);
+        return frames.length <= CallerStackTraceThrowable.MAX_FRAMES ? frames : Arrays.copyOf(frames, CallerStackTraceThrowable.MAX_FRAMES);
+    }
+}
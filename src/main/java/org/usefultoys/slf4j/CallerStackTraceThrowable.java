@@ -38,6 +38,11 @@ public class CallerStackTraceThrowable extends Throwable {
     private static final long serialVersionUID = 1L;
     public static final String PACKAGE_NAME = CallerStackTraceThrowable.class.getPackage().getName();
     public static final StackTraceElement[] EMPTY_STACK_TRACE = new StackTraceElement[0];
+    /**
+     * Largest number of frames kept from the API entry point or the user code on. Enough to locate the invalid call,
+     * while sparing the capture from converting the whole stack of deep application server or framework threads.
+     */
+    static final int MAX_FRAMES = 16;
 
     /**
      * Constructs a new instance with no detail message.
@@ -93,19 +98,41 @@ public class CallerStackTraceThrowable extends Throwable {
     }
 
     /**
-     * Overrides `fillInStackTrace()` to prevent it from capturing the stack trace again,
-     * as it has already been manipulated in the constructor.
+     * Overrides `fillInStackTrace()` to capture only the API entry point and the user code frames, at most
+     * {@link #MAX_FRAMES} of them.
+     * <p>
+     * The capture is delegated to {@link CallerStackTrace}. On Java 9 and later, the multi-release JAR provides an
+     * implementation based on {@code StackWalker} that skips library frames while walking and stops walking once it
+     * kept enough frames. On Java 8, the full stack trace is retrieved and filtered by {@link #removeInternalFrames}.
      *
      * @return This `Throwable` instance.
      */
     @Override
     public synchronized Throwable fillInStackTrace() {
-        final StackTraceElement[] stacktrace = Thread.currentThread().getStackTrace();
-        final StackTraceElement[] cleanedStackTrace = removeInternalFrames(stacktrace);
-        setStackTrace(cleanedStackTrace);
+        setStackTrace(CallerStackTrace.capture());
         return this;
     }
 
+    /**
+     * Tells whether a stack frame belongs to the library internals, or to reflection and Mockito calls in between.
+     * <p>
+     * During tests, the test classes appear in the same package as the library, but are not considered being part of
+     * the library itself.
+     *
+     * @param className the class name of the stack frame
+     * @return true if the frame shall be removed from the stack trace
+     */
+    static boolean isInternalFrame(final String className) {
+        return (className.startsWith(PACKAGE_NAME) ||
+                    /* During tests, skip artificial stack trace calls generated by mockito */
+                    className.contains("org.mockito") ||
+                    className.contains("sun.reflect") ||
+                    className.contains("java.lang.invoke") ||
+                    className.contains("java.lang.reflect")
+                ) &&
+                !(className.endsWith("Test") || className.endsWith("Tests"));
+    }
+
     /**
      * Removes internal library frames from the stack trace, keeping only the API entry point
      * and user code frames.
@@ -123,33 +150,33 @@ public class CallerStackTraceThrowable extends Throwable {
      */
     StackTraceElement[] removeInternalFrames(final StackTraceElement[] stacktrace) {
         /* Always skip index 0 (Thread.getStackTrace, fillInStackTrace itself and Exception constructor) and start from index 3 */
-        int framesToDiscard = 3;
+        return removeInternalFrames(stacktrace, 3);
+    }
+
+    /**
+     * Removes internal library frames from the stack trace, after skipping a fixed number of leading frames.
+     *
+     * @param stacktrace the raw stack trace from Thread.currentThread().getStackTrace()
+     * @param skippedFrames number of leading frames that belong to the stack trace capture itself
+     * @return the cleaned stack trace with internal frames removed
+     */
+    static StackTraceElement[] removeInternalFrames(final StackTraceElement[] stacktrace, final int skippedFrames) {
+        int framesToDiscard = skippedFrames;
 
         /* Skip all frames from the CallerStackTraceThrowable and library internals. 
            A proper handling is required while running under stats, since stack trace may be under influence of Mockito 
            additional reflection calls, and the method may be thrown from the test class, which is under the same package,
            but is not considered library itself. */
-        while (framesToDiscard < stacktrace.length &&
-                (stacktrace[framesToDiscard].getClassName().startsWith(PACKAGE_NAME) ||
-                    /* During tests, skip artificial stack trace calls generated by mockito */
-                    stacktrace[framesToDiscard].getClassName().contains("org.mockito") ||
-                    stacktrace[framesToDiscard].getClassName().contains("sun.reflect") ||
-                    stacktrace[framesToDiscard].getClassName().contains("java.lang.invoke") ||
-                    stacktrace[framesToDiscard].getClassName().contains("java.lang.reflect")
-                 ) &&
-                 /* During tests, the test class appears as the same package name, but ist not considered being part of the library itself. */
-                ! (stacktrace[framesToDiscard].getClassName().endsWith("Test") ||
-                   stacktrace[framesToDiscard].getClassName().endsWith("Tests"))
-        ){
+        while (framesToDiscard < stacktrace.length && isInternalFrame(stacktrace[framesToDiscard].getClassName())) {
             framesToDiscard++;
         }
 
         if (framesToDiscard >= stacktrace.length) {
             /* All stack trace frames are from the library itself, or array is too short. */
             return EMPTY_STACK_TRACE;
-        } else if (framesToDiscard == 3) {
-            /* No library frames found (only user code), keep all from index 3 onwards */
-            return Arrays.copyOfRange(stacktrace, 3, stacktrace.length);
+        } else if (framesToDiscard == skippedFrames) {
+            /* No library frames found (only user code), keep all after the skipped frames */
+            return Arrays.copyOfRange(stacktrace, skippedFrames, stacktrace.length);
         } else if (stacktrace[framesToDiscard - 1].getClassName().equals(CallerStackTraceThrowable.class.getName())) {
             /* Found exception constructor called directly from user code. */
             return Arrays.copyOfRange(stacktrace, framesToDiscard, stacktrace.length);
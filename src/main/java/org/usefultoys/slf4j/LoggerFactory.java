@@ -76,7 +76,7 @@ public class LoggerFactory {
      * @return the logger instance
      */
     public Logger getLogger(final @NonNull Class<?> clazz, final @NonNull String name) {
-        return getILoggerFactory().getLogger(String.format("%s.%s", clazz.getName(), name));
+        return getILoggerFactory().getLogger(clazz.getName() + '.' + name);
     }
 
 
@@ -92,7 +92,7 @@ public class LoggerFactory {
      * @return the logger instance
      */
     public Logger getLogger(final @NonNull Logger logger, final @NonNull String name) {
-        return getILoggerFactory().getLogger(String.format("%s.%s", logger.getName(), name));
+        return getILoggerFactory().getLogger(logger.getName() + '.' + name);
     }
 
     /**
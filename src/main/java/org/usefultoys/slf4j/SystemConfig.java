@@ -50,6 +50,8 @@ public class SystemConfig {
     public final String PROP_USE_GARBAGE_COLLECTION_MANAGED_BEAN = "slf4jtoys.useGarbageCollectionManagedBean";
     /** System property key for enabling/disabling platform MXBean usage. */
     public final String PROP_USE_PLATFORM_MANAGED_BEAN = "slf4jtoys.usePlatformManagedBean";
+    /** System property key for the period of the background sampler of system status. */
+    public final String PROP_SAMPLING_PERIOD = "slf4jtoys.samplingPeriod";
 
     /**
      * Determines whether memory usage metrics are retrieved from the {@link java.lang.management.MemoryMXBean}.
@@ -86,6 +88,16 @@ public class SystemConfig {
      * It can be changed at runtime.
      */
     public boolean usePlatformManagedBean;
+    /**
+     * Period (in milliseconds) at which a daemon thread samples the runtime and platform status reported by each
+     * {@link org.usefultoys.slf4j.meter.Meter} event. Events then copy the latest sample instead of querying
+     * {@link Runtime} and the {@link java.lang.management.OperatingSystemMXBean} on the calling thread, at the cost of
+     * reporting values up to one period old. Zero disables sampling: each event queries the status synchronously.
+     * <p>
+     * The value is read from the system property {@code slf4jtoys.samplingPeriod}, defaulting to {@code 0} (disabled).
+     * Accepts time units (e.g., "100ms", "1s"). It can be changed at runtime.
+     */
+    public long samplingPeriodMilliseconds;
 
     /**
      * Initializes the configuration properties. This method should be called at application startup to ensure
@@ -97,6 +109,7 @@ public class SystemConfig {
         useCompilationManagedBean = ConfigParser.getProperty(PROP_USE_COMPILATION_MANAGED_BEAN, false);
         useGarbageCollectionManagedBean = ConfigParser.getProperty(PROP_USE_GARBAGE_COLLECTION_MANAGED_BEAN, false);
         usePlatformManagedBean = ConfigParser.getProperty(PROP_USE_PLATFORM_MANAGED_BEAN, false);
+        samplingPeriodMilliseconds = ConfigParser.getMillisecondsProperty(PROP_SAMPLING_PERIOD, 0L);
     }
 
     /**
@@ -109,6 +122,7 @@ public class SystemConfig {
         System.clearProperty(PROP_USE_COMPILATION_MANAGED_BEAN);
         System.clearProperty(PROP_USE_GARBAGE_COLLECTION_MANAGED_BEAN);
         System.clearProperty(PROP_USE_PLATFORM_MANAGED_BEAN);
+        System.clearProperty(PROP_SAMPLING_PERIOD);
         init();
     }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Reader for the compact binary messages written by {@link BinaryWriter}.
+ * <p>
+ * The reader decodes the Base64 text following {@link BinaryWriter#PREFIX} and then hands out the values of the record
+ * in the order they were written. Unlike {@link Json5Reader}, which skips malformed properties, a binary record is
+ * either read completely or rejected: a message that is not a binary message, that is truncated or that holds a
+ * malformed integer causes an {@link IllegalArgumentException}.
+ * <p>
+ * Instances are not thread-safe and are meant to be used for reading a single message.
+ *
+ * @author Daniel Felix Ferber
+ */
+public final class BinaryReader {
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final byte[] bytes;
+    private int position;
+
+    /**
+     * Creates a reader positioned on the first byte of a message.
+     *
+     * @param message The binary message, starting with {@link BinaryWriter#PREFIX}.
+     * @throws IllegalArgumentException if the message is not a binary message.
+     */
+    public BinaryReader(final String message) {
+        if (!isBinaryMessage(message)) {
+            throw new IllegalArgumentException("Not a binary message.");
+        }
+        bytes = DECODER.decode(message.substring(1));
+    }
+
+    /**
+     * Tells whether a data channel message is a binary message, instead of a JSON5 message.
+     *
+     * @param message The message.
+     * @return {@code true} if the message starts with {@link BinaryWriter#PREFIX}.
+     */
+    public static boolean isBinaryMessage(final String message) {
+        return message != null && !message.isEmpty() && message.charAt(0) == BinaryWriter.PREFIX;
+    }
+
+    /**
+     * Tells whether all bytes of the message were read.
+     *
+     * @return {@code true} if there are no more bytes to read.
+     */
+    public boolean isExhausted() {
+        return position == bytes.length;
+    }
+
+    /**
+     * Reads a single byte.
+     *
+     * @return The byte, from 0 to 255.
+     */
+    public int readByte() {
+        if (position >= bytes.length) {
+            throw new IllegalArgumentException("Truncated binary message.");
+        }
+        return bytes[position++] & 0xFF;
+    }
+
+    /**
+     * Reads an unsigned variable-length integer written by {@link BinaryWriter#writeUnsigned(long)}.
+     *
+     * @return The value.
+     */
+    public long readUnsigned() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed integer in binary message.");
+    }
+
+    /**
+     * Reads a signed variable-length integer written by {@link BinaryWriter#writeSigned(long)}.
+     *
+     * @return The value.
+     */
+    public long readSigned() {
+        final long value = readUnsigned();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads a string written by {@link BinaryWriter#writeString(String)}.
+     *
+     * @return The string, or {@code null}.
+     */
+    public String readString() {
+        final long length = readUnsigned();
+        if (length == 0) {
+            return null;
+        }
+        if (length < 0 || length - 1 > bytes.length - position) {
+            throw new IllegalArgumentException("Truncated binary message.");
+        }
+        final String value = new String(bytes, position, (int) (length - 1), StandardCharsets.UTF_8);
+        position += (int) (length - 1);
+        return value;
+    }
+}
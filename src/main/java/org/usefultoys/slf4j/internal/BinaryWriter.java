@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writer for the compact binary messages written to the data channel, the alternative to the JSON5 encoding.
+ * <p>
+ * Integers are written as variable-length quantities: seven bits per byte, least significant group first, with the
+ * high bit set on every byte but the last. Signed values are zig-zag mapped first ({@code 0, -1, 1, -2, ...} become
+ * {@code 0, 1, 2, 3, ...}), so that small magnitudes take few bytes regardless of sign. Strings are written as the
+ * length of their UTF-8 encoding plus one, followed by the encoded bytes; a length of zero stands for {@code null}.
+ * <p>
+ * The record is wrapped by {@link #toMessage()} as {@link #PREFIX} followed by the URL-safe Base64 encoding of the
+ * bytes, without padding, so that it fits in a single text log line and is told apart from JSON5 messages, which
+ * start with a brace. The layout of the record is read back by {@link BinaryReader}.
+ * <p>
+ * Instances are not thread-safe and are meant to be reused by a single thread, calling {@link #reset()} before each
+ * message.
+ *
+ * @author Daniel Felix Ferber
+ */
+public final class BinaryWriter {
+
+    /** First character of a binary message, which is not part of the Base64 alphabet. */
+    public static final char PREFIX = '~';
+    /** Version of the record layout, written as the first byte of each record. */
+    public static final int VERSION = 1;
+
+    /** URL-safe Base64 alphabet, as in RFC 4648, read back by {@link java.util.Base64#getUrlDecoder()}. */
+    private static final char[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+
+    private byte[] buffer;
+    private int size;
+    /** Reused by {@link #toMessage()}, so that only the resulting string is allocated. */
+    private char[] text = new char[0];
+
+    /**
+     * Creates an empty writer.
+     *
+     * @param initialCapacity Initial number of bytes the writer holds without growing.
+     */
+    public BinaryWriter(final int initialCapacity) {
+        buffer = new byte[initialCapacity];
+    }
+
+    /**
+     * Discards all bytes written so far, retaining the capacity.
+     */
+    public void reset() {
+        size = 0;
+    }
+
+    /**
+     * Returns the number of bytes or characters the larger internal buffer holds without growing, which tells whether
+     * a writer grown by an unusually large message is still worth reusing.
+     *
+     * @return The capacity of the larger internal buffer.
+     */
+    public int capacity() {
+        return Math.max(buffer.length, text.length);
+    }
+
+    /**
+     * Returns the number of bytes written since the last {@link #reset()}.
+     *
+     * @return The size of the record, in bytes.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Writes a single byte.
+     *
+     * @param value The byte, of which only the lowest eight bits are written.
+     */
+    public void writeByte(final int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+    }
+
+    /**
+     * Writes an unsigned variable-length integer. Negative values are written as large unsigned values, taking ten
+     * bytes; use {@link #writeSigned(long)} for values that may be negative.
+     *
+     * @param value The value.
+     */
+    public void writeUnsigned(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    /**
+     * Writes a signed variable-length integer, zig-zag mapped so that small negative values take few bytes.
+     *
+     * @param value The value.
+     */
+    public void writeSigned(final long value) {
+        writeUnsigned((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Writes a string, or {@code null}, as its UTF-8 length plus one followed by its UTF-8 bytes.
+     *
+     * @param value The string, or {@code null}.
+     */
+    public void writeString(final String value) {
+        if (value == null) {
+            writeUnsigned(0);
+            return;
+        }
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) >= 0x80) {
+                writeBytes(value.getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+        }
+        /* ASCII strings, as categories and operations, are copied without an intermediate array. */
+        writeUnsigned(length + 1L);
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[size++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeBytes(final byte[] bytes) {
+        writeUnsigned(bytes.length + 1L);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    /**
+     * Returns the bytes written since the last {@link #reset()} as a text message: {@link #PREFIX} followed by the
+     * URL-safe Base64 encoding of the bytes, without padding.
+     *
+     * @return The text message.
+     */
+    public String toMessage() {
+        final int length = 1 + (size * 4 + 2) / 3;
+        if (text.length < length) {
+            text = new char[Math.max(length, text.length * 2)];
+        }
+        final char[] chars = text;
+        chars[0] = PREFIX;
+        int c = 1;
+        int i = 0;
+        for (; i + 2 < size; i += 3) {
+            final int bits = (buffer[i] & 0xFF) << 16 | (buffer[i + 1] & 0xFF) << 8 | buffer[i + 2] & 0xFF;
+            chars[c++] = ALPHABET[bits >>> 18];
+            chars[c++] = ALPHABET[bits >>> 12 & 0x3F];
+            chars[c++] = ALPHABET[bits >>> 6 & 0x3F];
+            chars[c++] = ALPHABET[bits & 0x3F];
+        }
+        if (i < size) {
+            final int bits = (buffer[i] & 0xFF) << 16 | (i + 1 < size ? (buffer[i + 1] & 0xFF) << 8 : 0);
+            chars[c++] = ALPHABET[bits >>> 18];
+            chars[c++] = ALPHABET[bits >>> 12 & 0x3F];
+            if (i + 1 < size) {
+                chars[c++] = ALPHABET[bits >>> 6 & 0x3F];
+            }
+        }
+        return new String(chars, 0, c);
+    }
+
+    private void ensureCapacity(final int additional) {
+        if (size + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+        }
+    }
+}
@@ -67,6 +67,36 @@ public class EventData implements Serializable {
     @Setter(AccessLevel.PROTECTED) // To support unit test cases
     protected transient TimeSource timeSource = SystemTimeSource.INSTANCE;
 
+    /**
+     * Initial capacity of the per-thread buffer used to encode JSON5 messages; fits typical messages without growing.
+     */
+    private static final int JSON5_BUFFER_INITIAL_CAPACITY = 512;
+    /**
+     * Largest capacity retained by the per-thread buffer. A buffer grown beyond this size by an unusually large message
+     * (e.g., a large context) is discarded instead of being kept alive by the thread.
+     */
+    private static final int JSON5_BUFFER_MAX_RETAINED_CAPACITY = 8192;
+    /**
+     * Per-thread buffer reused by {@link #encodeJson5()}, so that encoding a message does not grow a new builder
+     * on every call.
+     */
+    private static final ThreadLocal<StringBuilder> JSON5_BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(JSON5_BUFFER_INITIAL_CAPACITY));
+    /**
+     * Initial capacity, in bytes, of the per-thread writer used to encode binary messages.
+     */
+    private static final int BINARY_BUFFER_INITIAL_CAPACITY = 256;
+    /**
+     * Largest capacity, in bytes, retained by the per-thread writer, for the same reason as
+     * {@link #JSON5_BUFFER_MAX_RETAINED_CAPACITY}.
+     */
+    private static final int BINARY_BUFFER_MAX_RETAINED_CAPACITY = 4096;
+    /**
+     * Per-thread writer reused by {@link #encodeBinary()}.
+     */
+    private static final ThreadLocal<BinaryWriter> BINARY_BUFFER =
+            ThreadLocal.withInitial(() -> new BinaryWriter(BINARY_BUFFER_INITIAL_CAPACITY));
+
     /**
      * Constructs an EventData instance with a specified session UUID.
      *
@@ -137,6 +167,19 @@ public class EventData implements Serializable {
         lastCurrentTime = 0;
     }
 
+    /**
+     * Reverts all event attributes to their initial values, as {@link #reset()}, and assigns a new identity, as if
+     * newly constructed with the given session UUID and position.
+     *
+     * @param sessionUuid The unique identifier for the JVM session.
+     * @param position The time-ordered sequential position of the event.
+     */
+    protected final void reset(final String sessionUuid, final long position) {
+        reset();
+        this.sessionUuid = sessionUuid;
+        this.position = position;
+    }
+
     /**
      * Appends the object's properties to the JSON5-encoded string by delegating
      * to the appropriate Json5 serializer. Subclasses should override this method
@@ -149,12 +192,118 @@ public class EventData implements Serializable {
     }
 
     /**
-     * Reads and parses event data from a JSON5-encoded string by delegating
-     * to the appropriate Json5 serializer, populating the object's fields.
+     * Encodes the object as a complete JSON5 message, enclosing the properties written by {@link #writeJson5(StringBuilder)}
+     * in braces. The properties are written into a per-thread buffer, so only the resulting string is allocated.
+     *
+     * @return A string containing the JSON5-encoded message.
+     */
+    protected final String encodeJson5() {
+        final StringBuilder sb = JSON5_BUFFER.get();
+        sb.setLength(0);
+        sb.append('{');
+        writeJson5(sb);
+        sb.append('}');
+        final String json5 = sb.toString();
+        if (sb.capacity() > JSON5_BUFFER_MAX_RETAINED_CAPACITY) {
+            JSON5_BUFFER.remove();
+        }
+        return json5;
+    }
+
+    /**
+     * Reads and parses event data from a JSON5-encoded string, populating the object's fields.
+     * The string is walked once; each property is handed to {@link #readJson5Property(Json5Reader)}.
      *
      * @param json5 The JSON5-encoded string containing event data.
      */
     public void readJson5(final String json5) {
-        EventDataJson5.read(this, json5);
+        final Json5Reader reader = new Json5Reader(json5);
+        while (reader.nextProperty()) {
+            readJson5Property(reader);
+        }
+    }
+
+    /**
+     * Populates the field that corresponds to the current property of the reader by delegating to the appropriate
+     * Json5 serializer. Subclasses should override this method to delegate properties they do not recognize to
+     * their superclass, so that the message is parsed in a single pass.
+     *
+     * @param reader The reader positioned on a property.
+     * @return {@code true} if the property was recognized.
+     */
+    protected boolean readJson5Property(final Json5Reader reader) {
+        return EventDataJson5.readProperty(this, reader);
+    }
+
+    /**
+     * Writes the object's attributes to the binary record by delegating to the appropriate binary serializer.
+     * Subclasses should override this method to call the superclass first and then delegate to their own specific
+     * serializer, so that attributes are written in the order {@link #readBinaryFields(BinaryReader)} reads them.
+     *
+     * @param writer The writer to which the attributes are written.
+     */
+    protected void writeBinary(final BinaryWriter writer) {
+        EventDataBinary.write(this, writer);
+    }
+
+    /**
+     * Encodes the object as a complete binary message, as described by {@link BinaryWriter}: a record starting with
+     * the layout version and followed by the attributes written by {@link #writeBinary(BinaryWriter)}.
+     * The record is written into a per-thread writer, so only the resulting string is allocated.
+     *
+     * @return A string containing the binary message.
+     */
+    protected final String encodeBinary() {
+        final BinaryWriter writer = BINARY_BUFFER.get();
+        writer.reset();
+        writer.writeByte(BinaryWriter.VERSION);
+        writeBinary(writer);
+        final String message = writer.toMessage();
+        if (writer.capacity() > BINARY_BUFFER_MAX_RETAINED_CAPACITY) {
+            BINARY_BUFFER.remove();
+        }
+        return message;
+    }
+
+    /**
+     * Reads event data from a binary message, populating all of the object's fields.
+     *
+     * @param message The binary message containing event data.
+     * @throws IllegalArgumentException if the message is not a binary message, was written with an unsupported layout
+     *                                  version, or is truncated.
+     */
+    public void readBinary(final String message) {
+        final BinaryReader reader = new BinaryReader(message);
+        final int version = reader.readByte();
+        if (version != BinaryWriter.VERSION) {
+            throw new IllegalArgumentException("Unsupported binary message version: " + version);
+        }
+        readBinaryFields(reader);
+    }
+
+    /**
+     * Reads event data from a data channel message, which may be either a JSON5 message or a binary message.
+     *
+     * @param message The message containing event data.
+     * @see #readJson5(String)
+     * @see #readBinary(String)
+     */
+    public void readMessage(final String message) {
+        if (BinaryReader.isBinaryMessage(message)) {
+            readBinary(message);
+        } else {
+            readJson5(message);
+        }
+    }
+
+    /**
+     * Populates the object's fields from the binary record by delegating to the appropriate binary serializer.
+     * Subclasses should override this method to call the superclass first and then delegate to their own specific
+     * serializer.
+     *
+     * @param reader The reader positioned on the attributes of this class.
+     */
+    protected void readBinaryFields(final BinaryReader reader) {
+        EventDataBinary.read(this, reader);
     }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.internal;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * A package-private utility class responsible for serializing and deserializing
+ * {@link EventData} objects to and from the compact binary record read by {@link BinaryReader}.
+ * <p>
+ * The event attributes are always written, in a fixed order, at the beginning of the record.
+ *
+ * @author Daniel Felix Ferber
+ */
+@UtilityClass
+class EventDataBinary {
+
+    void write(final EventData data, final BinaryWriter writer) {
+        writer.writeString(data.sessionUuid);
+        writer.writeUnsigned(data.position);
+        writer.writeSigned(data.lastCurrentTime);
+    }
+
+    void read(final EventData data, final BinaryReader reader) {
+        data.sessionUuid = reader.readString();
+        data.position = reader.readUnsigned();
+        data.lastCurrentTime = reader.readSigned();
+    }
+}
@@ -17,10 +17,6 @@ package org.usefultoys.slf4j.internal;
 
 import lombok.experimental.UtilityClass;
 
-import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
  * A package-private utility class responsible for serializing and deserializing
  * {@link EventData} objects to and from a JSON5-like string format.
@@ -45,15 +41,6 @@ class EventDataJson5 {
      */
     public static final String EVENT_TIME = "t";
 
-    public final String REGEX_START = "[{,]\\s*";
-    public final String REGEX_WORD_VALUE = "\\s*:\\s*([^,}\\s]+)";
-    public final String REGEX_3_TUPLE = "\\s*:\\s*\\[([^,}\\s]+),([^,}\\s]+),([^,}\\s]+)\\]";
-    public final String REGEX_2_TUPLE = "\\s*:\\s*\\[([^,}\\s]+),([^,}\\s]+)\\]";
-
-    private final Pattern patternSession = Pattern.compile(REGEX_START + SESSION_UUID + REGEX_WORD_VALUE);
-    private final Pattern patternPosition = Pattern.compile(REGEX_START + "\\" + EVENT_POSITION + REGEX_WORD_VALUE);
-    private final Pattern patternTime = Pattern.compile(REGEX_START + EVENT_TIME + REGEX_WORD_VALUE);
-
     /**
      * Appends the JSON5 representation of the {@link EventData} object's fields
      * to the provided {@link StringBuilder}.
@@ -62,10 +49,9 @@ class EventDataJson5 {
      * @param sb   The {@link StringBuilder} to append to.
      */
     void write(final EventData data, final StringBuilder sb) {
-        sb.append(String.format(Locale.US, "%s:%s,%s:%d,%s:%d",
-                SESSION_UUID, data.getSessionUuid(),
-                EVENT_POSITION, data.getPosition(),
-                EVENT_TIME, data.getLastCurrentTime()));
+        sb.append(SESSION_UUID).append(':').append(data.getSessionUuid())
+                .append(',').append(EVENT_POSITION).append(':').append(data.getPosition())
+                .append(',').append(EVENT_TIME).append(':').append(data.getLastCurrentTime());
     }
 
     /**
@@ -76,19 +62,30 @@ class EventDataJson5 {
      * @param json5 The JSON5-encoded string.
      */
     void read(final EventData data, final String json5) {
-        final Matcher matcherSession = patternSession.matcher(json5);
-        if (matcherSession.find()) {
-            data.sessionUuid = matcherSession.group(1);
-        }
-
-        final Matcher matcherPosition = patternPosition.matcher(json5);
-        if (matcherPosition.find()) {
-            data.position = Long.parseLong(matcherPosition.group(1));
+        final Json5Reader reader = new Json5Reader(json5);
+        while (reader.nextProperty()) {
+            readProperty(data, reader);
         }
+    }
 
-        final Matcher matcherTime = patternTime.matcher(json5);
-        if (matcherTime.find()) {
-            data.lastCurrentTime = Long.parseLong(matcherTime.group(1));
+    /**
+     * Populates the field of the provided {@link EventData} object that corresponds to the current property
+     * of the reader.
+     *
+     * @param data   The {@link EventData} object to populate.
+     * @param reader The reader positioned on a property.
+     * @return {@code true} if the property belongs to {@link EventData}.
+     */
+    boolean readProperty(final EventData data, final Json5Reader reader) {
+        if (reader.isKey(SESSION_UUID)) {
+            data.sessionUuid = reader.wordValue(data.sessionUuid);
+        } else if (reader.isKey(EVENT_POSITION)) {
+            data.position = reader.longValue(data.position);
+        } else if (reader.isKey(EVENT_TIME)) {
+            data.lastCurrentTime = reader.longValue(data.lastCurrentTime);
+        } else {
+            return false;
         }
+        return true;
     }
 }
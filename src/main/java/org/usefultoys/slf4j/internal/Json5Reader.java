@@ -0,0 +1,344 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Single-pass reader for the JSON5-like messages written to the data channel.
+ * <p>
+ * The reader walks the message once, stopping at each top-level property. The caller checks the key with
+ * {@link #isKey(String)} and converts the value with one of the value methods. Keys and numeric values are compared
+ * and parsed in place, so reading a property does not create strings unless its value is a string or a map.
+ * <p>
+ * The reader accepts the subset of JSON5 produced by the serializers of this library: unquoted keys; values that are
+ * words (numbers or identifiers), single-quoted strings without escapes, tuples of numbers ({@code [1,2,3]}) or
+ * flat maps ({@code {k:v,k:}}). Whitespace is allowed around keys, colons and values. Properties that are malformed
+ * or whose value does not match the requested type are ignored, leaving the target field unchanged.
+ * <p>
+ * Instances are not thread-safe and are meant to be used for reading a single message.
+ *
+ * @author Daniel Felix Ferber
+ */
+public final class Json5Reader {
+
+    private static final int TYPE_NONE = 0;
+    private static final int TYPE_WORD = 1;
+    private static final int TYPE_STRING = 2;
+    private static final int TYPE_TUPLE = 3;
+    private static final int TYPE_MAP = 4;
+
+    /** Largest number of elements supported in a tuple value. */
+    private static final int MAX_TUPLE_SIZE = 6;
+
+    private final String json5;
+    private final int length;
+    private int position;
+
+    private int keyStart;
+    private int keyEnd;
+    private int valueType;
+    private int valueStart;
+    private int valueEnd;
+
+    private final long[] tuple = new long[MAX_TUPLE_SIZE];
+
+    /**
+     * Creates a reader positioned before the first property of a message.
+     *
+     * @param json5 The JSON5-encoded message, with or without the enclosing braces.
+     */
+    public Json5Reader(final String json5) {
+        this.json5 = json5;
+        length = json5.length();
+        position = skipWhitespace(0);
+        if (position < length && json5.charAt(position) == '{') {
+            position++;
+        }
+    }
+
+    /**
+     * Advances to the next top-level property.
+     *
+     * @return {@code true} if the reader is positioned on a property; {@code false} if there are no more properties.
+     */
+    public boolean nextProperty() {
+        while (true) {
+            while (position < length && (json5.charAt(position) == ',' || Character.isWhitespace(json5.charAt(position)))) {
+                position++;
+            }
+            if (position >= length || json5.charAt(position) == '}') {
+                position = length;
+                return false;
+            }
+            keyStart = position;
+            while (position < length && !isKeyDelimiter(json5.charAt(position))) {
+                position++;
+            }
+            keyEnd = position;
+            position = skipWhitespace(position);
+            if (position < length && json5.charAt(position) == ':' && keyEnd > keyStart) {
+                position = skipWhitespace(position + 1);
+                readValue();
+                skipToNextProperty();
+                return true;
+            }
+            /* Property without colon or without key: skip it entirely. */
+            valueType = TYPE_NONE;
+            skipToNextProperty();
+        }
+    }
+
+    /**
+     * Tells whether the current property has the given key.
+     *
+     * @param key The key to compare.
+     * @return {@code true} if the key of the current property equals the given key.
+     */
+    public boolean isKey(final String key) {
+        return keyEnd - keyStart == key.length() && json5.regionMatches(keyStart, key, 0, key.length());
+    }
+
+    /**
+     * Returns the value of the current property as an unquoted word.
+     *
+     * @param defaultValue Value to return if the property value is not a word.
+     * @return The word, or {@code defaultValue}.
+     */
+    public String wordValue(final String defaultValue) {
+        return valueType == TYPE_WORD ? json5.substring(valueStart, valueEnd) : defaultValue;
+    }
+
+    /**
+     * Returns the value of the current property as a single-quoted string.
+     *
+     * @param defaultValue Value to return if the property value is not a quoted string.
+     * @return The content between quotes, possibly empty, or {@code defaultValue}.
+     */
+    public String stringValue(final String defaultValue) {
+        return valueType == TYPE_STRING ? json5.substring(valueStart, valueEnd) : defaultValue;
+    }
+
+    /**
+     * Returns the value of the current property as a long integer, parsed in place.
+     *
+     * @param defaultValue Value to return if the property value is not a word.
+     * @return The parsed value, or {@code defaultValue}.
+     * @throws NumberFormatException if the word is not a valid long integer.
+     */
+    public long longValue(final long defaultValue) {
+        return valueType == TYPE_WORD ? parseLong(valueStart, valueEnd) : defaultValue;
+    }
+
+    /**
+     * Returns the value of the current property as a double.
+     *
+     * @param defaultValue Value to return if the property value is not a word.
+     * @return The parsed value, or {@code defaultValue}.
+     * @throws NumberFormatException if the word is not a valid number.
+     */
+    public double doubleValue(final double defaultValue) {
+        return valueType == TYPE_WORD ? Double.parseDouble(json5.substring(valueStart, valueEnd)) : defaultValue;
+    }
+
+    /**
+     * Parses the value of the current property as a tuple of long integers. On success, the elements are available
+     * from {@link #tupleElement(int)}.
+     *
+     * @param size The expected number of elements.
+     * @return {@code true} if the value is a tuple with exactly {@code size} non-empty elements.
+     * @throws NumberFormatException if an element is not a valid long integer.
+     */
+    public boolean tupleValue(final int size) {
+        if (valueType != TYPE_TUPLE || size > MAX_TUPLE_SIZE) {
+            return false;
+        }
+        int count = 0;
+        int elementStart = valueStart;
+        while (elementStart <= valueEnd) {
+            int elementEnd = json5.indexOf(',', elementStart);
+            if (elementEnd < 0 || elementEnd > valueEnd) {
+                elementEnd = valueEnd;
+            }
+            final int from = trimStart(elementStart, elementEnd);
+            final int to = trimEnd(elementStart, elementEnd);
+            if (count == size || from == to) {
+                return false;
+            }
+            tuple[count++] = parseLong(from, to);
+            elementStart = elementEnd + 1;
+        }
+        return count == size;
+    }
+
+    /**
+     * Returns an element of the tuple parsed by the last successful call to {@link #tupleValue(int)}.
+     *
+     * @param index The index of the element.
+     * @return The element.
+     */
+    public long tupleElement(final int index) {
+        return tuple[index];
+    }
+
+    /**
+     * Returns the value of the current property as a flat map of words. An entry without value (e.g. {@code k:})
+     * maps to {@code null}. Each value extends to the next comma, so values may contain colons.
+     *
+     * @param defaultValue Value to return if the property value is not a map or has no entries.
+     * @return A new map with the entries, or {@code defaultValue}.
+     */
+    public Map<String, String> mapValue(final Map<String, String> defaultValue) {
+        if (valueType != TYPE_MAP) {
+            return defaultValue;
+        }
+        Map<String, String> map = null;
+        int entryStart = valueStart;
+        while (entryStart < valueEnd) {
+            int entryEnd = json5.indexOf(',', entryStart);
+            if (entryEnd < 0 || entryEnd > valueEnd) {
+                entryEnd = valueEnd;
+            }
+            int colon = json5.indexOf(':', entryStart);
+            if (colon < 0 || colon > entryEnd) {
+                colon = entryEnd;
+            }
+            final int keyFrom = trimStart(entryStart, colon);
+            final int keyTo = trimEnd(entryStart, colon);
+            if (keyTo > keyFrom) {
+                String value = null;
+                if (colon < entryEnd) {
+                    final int valueFrom = trimStart(colon + 1, entryEnd);
+                    final int valueTo = trimEnd(colon + 1, entryEnd);
+                    if (valueTo > valueFrom) {
+                        value = json5.substring(valueFrom, valueTo);
+                    }
+                }
+                if (map == null) {
+                    map = new HashMap<>(10);
+                }
+                map.put(json5.substring(keyFrom, keyTo), value);
+            }
+            entryStart = entryEnd + 1;
+        }
+        return map == null ? defaultValue : map;
+    }
+
+    private void readValue() {
+        valueType = TYPE_NONE;
+        if (position >= length) {
+            return;
+        }
+        final char first = json5.charAt(position);
+        if (first == '\'') {
+            readEnclosed(TYPE_STRING, '\'');
+        } else if (first == '[') {
+            readEnclosed(TYPE_TUPLE, ']');
+        } else if (first == '{') {
+            readEnclosed(TYPE_MAP, '}');
+        } else {
+            valueStart = position;
+            while (position < length && !isWordDelimiter(json5.charAt(position))) {
+                position++;
+            }
+            valueEnd = position;
+            if (valueEnd > valueStart) {
+                valueType = TYPE_WORD;
+            }
+        }
+    }
+
+    private void readEnclosed(final int type, final char closing) {
+        final int end = json5.indexOf(closing, position + 1);
+        if (end < 0) {
+            /* Unterminated value: consume the remaining message. */
+            position = length;
+            return;
+        }
+        valueType = type;
+        valueStart = position + 1;
+        valueEnd = end;
+        position = end + 1;
+    }
+
+    private void skipToNextProperty() {
+        while (position < length && json5.charAt(position) != ',' && json5.charAt(position) != '}') {
+            position++;
+        }
+    }
+
+    private int skipWhitespace(int index) {
+        while (index < length && Character.isWhitespace(json5.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private int trimStart(int start, final int end) {
+        while (start < end && Character.isWhitespace(json5.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimEnd(final int start, int end) {
+        while (end > start && Character.isWhitespace(json5.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isKeyDelimiter(final char c) {
+        return c == ':' || c == ',' || c == '}' || Character.isWhitespace(c);
+    }
+
+    private static boolean isWordDelimiter(final char c) {
+        return c == ',' || c == '}' || Character.isWhitespace(c);
+    }
+
+    private long parseLong(final int start, final int end) {
+        int index = start;
+        boolean negative = false;
+        if (index < end && (json5.charAt(index) == '-' || json5.charAt(index) == '+')) {
+            negative = json5.charAt(index) == '-';
+            index++;
+        }
+        if (index == end) {
+            throw numberFormatException(start, end);
+        }
+        /* Accumulates negatively, as Long.parseLong does, to reach Long.MIN_VALUE without overflow. */
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplyLimit = limit / 10;
+        long result = 0;
+        while (index < end) {
+            final int digit = json5.charAt(index++) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                throw numberFormatException(start, end);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw numberFormatException(start, end);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private NumberFormatException numberFormatException(final int start, final int end) {
+        return new NumberFormatException("For input string: \"" + json5.substring(start, end) + "\"");
+    }
+}
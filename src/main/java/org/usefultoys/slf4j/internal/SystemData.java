@@ -168,6 +168,35 @@ public abstract class SystemData extends EventData {
         systemLoad = 0;
     }
 
+    /**
+     * Copies the event identity and the system status from another instance, so that the copy can be reported
+     * after the source has moved on.
+     *
+     * @param source The instance to copy from.
+     */
+    protected final void copyFrom(final SystemData source) {
+        sessionUuid = source.sessionUuid;
+        position = source.position;
+        lastCurrentTime = source.lastCurrentTime;
+        heap_commited = source.heap_commited;
+        heap_max = source.heap_max;
+        heap_used = source.heap_used;
+        nonHeap_commited = source.nonHeap_commited;
+        nonHeap_max = source.nonHeap_max;
+        nonHeap_used = source.nonHeap_used;
+        objectPendingFinalizationCount = source.objectPendingFinalizationCount;
+        classLoading_loaded = source.classLoading_loaded;
+        classLoading_total = source.classLoading_total;
+        classLoading_unloaded = source.classLoading_unloaded;
+        compilationTime = source.compilationTime;
+        garbageCollector_count = source.garbageCollector_count;
+        garbageCollector_time = source.garbageCollector_time;
+        runtime_usedMemory = source.runtime_usedMemory;
+        runtime_maxMemory = source.runtime_maxMemory;
+        runtime_totalMemory = source.runtime_totalMemory;
+        systemLoad = source.systemLoad;
+    }
+
     @Override
     protected void writeJson5(final StringBuilder sb) {
         super.writeJson5(sb);
@@ -175,8 +204,19 @@ public abstract class SystemData extends EventData {
     }
 
     @Override
-    public void readJson5(final String json5) {
-        super.readJson5(json5);
-        SystemDataJson5.read(this, json5);
+    protected boolean readJson5Property(final Json5Reader reader) {
+        return SystemDataJson5.readProperty(this, reader) || super.readJson5Property(reader);
+    }
+
+    @Override
+    protected void writeBinary(final BinaryWriter writer) {
+        super.writeBinary(writer);
+        SystemDataBinary.write(this, writer);
+    }
+
+    @Override
+    protected void readBinaryFields(final BinaryReader reader) {
+        super.readBinaryFields(reader);
+        SystemDataBinary.read(this, reader);
     }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.internal;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * A package-private utility class responsible for serializing and deserializing
+ * {@link SystemData} objects to and from the compact binary record read by {@link BinaryReader}.
+ * <p>
+ * The attributes are written as a byte whose bits tell which groups are present, followed by the values of the
+ * present groups, in the order of the bits. A group is present under the same conditions as the corresponding JSON5
+ * property written by {@link SystemDataJson5}. The system load is written in tenths, the precision of the JSON5
+ * message.
+ *
+ * @author Daniel Felix Ferber
+ */
+@UtilityClass
+class SystemDataBinary {
+
+    private final int HAS_MEMORY = 1;
+    private final int HAS_HEAP = 1 << 1;
+    private final int HAS_NON_HEAP = 1 << 2;
+    private final int HAS_FINALIZATION_COUNT = 1 << 3;
+    private final int HAS_CLASS_LOADING = 1 << 4;
+    private final int HAS_COMPILATION_TIME = 1 << 5;
+    private final int HAS_GARBAGE_COLLECTOR = 1 << 6;
+    private final int HAS_SYSTEM_LOAD = 1 << 7;
+
+    void write(final SystemData data, final BinaryWriter writer) {
+        int mask = 0;
+        if (data.runtime_usedMemory > 0 || data.runtime_totalMemory > 0 || data.runtime_maxMemory > 0) {
+            mask |= HAS_MEMORY;
+        }
+        if (data.heap_commited > 0 || data.heap_max > 0 || data.heap_used > 0) {
+            mask |= HAS_HEAP;
+        }
+        if (data.nonHeap_commited > 0 || data.nonHeap_max > 0 || data.nonHeap_used > 0) {
+            mask |= HAS_NON_HEAP;
+        }
+        if (data.objectPendingFinalizationCount > 0) {
+            mask |= HAS_FINALIZATION_COUNT;
+        }
+        if (data.classLoading_loaded > 0 || data.classLoading_total > 0 || data.classLoading_unloaded > 0) {
+            mask |= HAS_CLASS_LOADING;
+        }
+        if (data.compilationTime > 0) {
+            mask |= HAS_COMPILATION_TIME;
+        }
+        if (data.garbageCollector_count > 0 || data.garbageCollector_time > 0) {
+            mask |= HAS_GARBAGE_COLLECTOR;
+        }
+        if (data.systemLoad > 0) {
+            mask |= HAS_SYSTEM_LOAD;
+        }
+
+        writer.writeByte(mask);
+        if ((mask & HAS_MEMORY) != 0) {
+            writer.writeSigned(data.runtime_usedMemory);
+            writer.writeSigned(data.runtime_totalMemory);
+            writer.writeSigned(data.runtime_maxMemory);
+        }
+        if ((mask & HAS_HEAP) != 0) {
+            writer.writeSigned(data.heap_used);
+            writer.writeSigned(data.heap_commited);
+            writer.writeSigned(data.heap_max);
+        }
+        if ((mask & HAS_NON_HEAP) != 0) {
+            writer.writeSigned(data.nonHeap_used);
+            writer.writeSigned(data.nonHeap_commited);
+            writer.writeSigned(data.nonHeap_max);
+        }
+        if ((mask & HAS_FINALIZATION_COUNT) != 0) {
+            writer.writeSigned(data.objectPendingFinalizationCount);
+        }
+        if ((mask & HAS_CLASS_LOADING) != 0) {
+            writer.writeSigned(data.classLoading_total);
+            writer.writeSigned(data.classLoading_loaded);
+            writer.writeSigned(data.classLoading_unloaded);
+        }
+        if ((mask & HAS_COMPILATION_TIME) != 0) {
+            writer.writeSigned(data.compilationTime);
+        }
+        if ((mask & HAS_GARBAGE_COLLECTOR) != 0) {
+            writer.writeSigned(data.garbageCollector_count);
+            writer.writeSigned(data.garbageCollector_time);
+        }
+        if ((mask & HAS_SYSTEM_LOAD) != 0) {
+            writer.writeSigned(Math.round(data.systemLoad * 10));
+        }
+    }
+
+    void read(final SystemData data, final BinaryReader reader) {
+        final int mask = reader.readByte();
+        if ((mask & HAS_MEMORY) != 0) {
+            data.runtime_usedMemory = reader.readSigned();
+            data.runtime_totalMemory = reader.readSigned();
+            data.runtime_maxMemory = reader.readSigned();
+        }
+        if ((mask & HAS_HEAP) != 0) {
+            data.heap_used = reader.readSigned();
+            data.heap_commited = reader.readSigned();
+            data.heap_max = reader.readSigned();
+        }
+        if ((mask & HAS_NON_HEAP) != 0) {
+            data.nonHeap_used = reader.readSigned();
+            data.nonHeap_commited = reader.readSigned();
+            data.nonHeap_max = reader.readSigned();
+        }
+        if ((mask & HAS_FINALIZATION_COUNT) != 0) {
+            data.objectPendingFinalizationCount = reader.readSigned();
+        }
+        if ((mask & HAS_CLASS_LOADING) != 0) {
+            data.classLoading_total = reader.readSigned();
+            data.classLoading_loaded = reader.readSigned();
+            data.classLoading_unloaded = reader.readSigned();
+        }
+        if ((mask & HAS_COMPILATION_TIME) != 0) {
+            data.compilationTime = reader.readSigned();
+        }
+        if ((mask & HAS_GARBAGE_COLLECTOR) != 0) {
+            data.garbageCollector_count = reader.readSigned();
+            data.garbageCollector_time = reader.readSigned();
+        }
+        if ((mask & HAS_SYSTEM_LOAD) != 0) {
+            data.systemLoad = reader.readSigned() / 10.0;
+        }
+    }
+}
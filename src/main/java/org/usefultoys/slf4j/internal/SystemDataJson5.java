@@ -16,12 +16,7 @@
 package org.usefultoys.slf4j.internal;
 
 import lombok.experimental.UtilityClass;
-
-import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import static org.usefultoys.slf4j.internal.EventDataJson5.*;
+import org.usefultoys.slf4j.utils.UnitFormatter;
 
 /**
  * A package-private utility class responsible for serializing and deserializing
@@ -41,83 +36,89 @@ class SystemDataJson5 {
     private final String PROP_GARBAGE_COLLECTOR = "gc";
     private final String PROP_SYSTEM_LOAD = "sl";
 
-    private final Pattern patternMemory = Pattern.compile(REGEX_START + PROP_MEMORY + REGEX_3_TUPLE);
-    private final Pattern patternHeap = Pattern.compile(REGEX_START + PROP_HEAP + REGEX_3_TUPLE);
-    private final Pattern patternNonHeap = Pattern.compile(REGEX_START + PROP_NON_HEAP + REGEX_3_TUPLE);
-    private final Pattern patternFinalizationCount = Pattern.compile(REGEX_START + PROP_FINALIZATION_COUNT + REGEX_WORD_VALUE);
-    private final Pattern patternClassLoading = Pattern.compile(REGEX_START + PROP_CLASS_LOADING + REGEX_3_TUPLE);
-    private final Pattern patternCompilationTime = Pattern.compile(REGEX_START + PROP_COMPILATION_TIME + REGEX_WORD_VALUE);
-    private final Pattern patternGarbageCollector = Pattern.compile(REGEX_START + PROP_GARBAGE_COLLECTOR + REGEX_2_TUPLE);
-    private final Pattern patternSystemLoad = Pattern.compile(REGEX_START + PROP_SYSTEM_LOAD + REGEX_WORD_VALUE);
-
     void write(final SystemData data, final StringBuilder sb) {
         if (data.runtime_usedMemory > 0 || data.runtime_totalMemory > 0 || data.runtime_maxMemory > 0) {
-            sb.append(String.format(Locale.US, ",%s:[%d,%d,%d]", PROP_MEMORY, data.runtime_usedMemory, data.runtime_totalMemory, data.runtime_maxMemory));
+            appendTuple(sb, PROP_MEMORY, data.runtime_usedMemory, data.runtime_totalMemory, data.runtime_maxMemory);
         }
         if (data.heap_commited > 0 || data.heap_max > 0 || data.heap_used > 0) {
-            sb.append(String.format(Locale.US, ",%s:[%d,%d,%d]", PROP_HEAP, data.heap_used, data.heap_commited, data.heap_max));
+            appendTuple(sb, PROP_HEAP, data.heap_used, data.heap_commited, data.heap_max);
         }
         if (data.nonHeap_commited > 0 || data.nonHeap_max > 0 || data.nonHeap_used > 0) {
-            sb.append(String.format(Locale.US, ",%s:[%d,%d,%d]", PROP_NON_HEAP, data.nonHeap_used, data.nonHeap_commited, data.nonHeap_max));
+            appendTuple(sb, PROP_NON_HEAP, data.nonHeap_used, data.nonHeap_commited, data.nonHeap_max);
         }
         if (data.objectPendingFinalizationCount > 0) {
-            sb.append(String.format(Locale.US, ",%s:%d", PROP_FINALIZATION_COUNT, data.objectPendingFinalizationCount));
+            sb.append(',').append(PROP_FINALIZATION_COUNT).append(':').append(data.objectPendingFinalizationCount);
         }
         if (data.classLoading_loaded > 0 || data.classLoading_total > 0 || data.classLoading_unloaded > 0) {
-            sb.append(String.format(Locale.US, ",%s:[%d,%d,%d]", PROP_CLASS_LOADING, data.classLoading_total, data.classLoading_loaded, data.classLoading_unloaded));
+            appendTuple(sb, PROP_CLASS_LOADING, data.classLoading_total, data.classLoading_loaded, data.classLoading_unloaded);
         }
         if (data.compilationTime > 0) {
-            sb.append(String.format(Locale.US, ",%s:%d", PROP_COMPILATION_TIME, data.compilationTime));
+            sb.append(',').append(PROP_COMPILATION_TIME).append(':').append(data.compilationTime);
         }
         if (data.garbageCollector_count > 0 || data.garbageCollector_time > 0) {
-            sb.append(String.format(Locale.US, ",%s:[%d,%d]", PROP_GARBAGE_COLLECTOR, data.garbageCollector_count, data.garbageCollector_time));
+            sb.append(',').append(PROP_GARBAGE_COLLECTOR).append(":[")
+                    .append(data.garbageCollector_count).append(',')
+                    .append(data.garbageCollector_time).append(']');
         }
         if (data.systemLoad > 0) {
-            sb.append(String.format(Locale.US, ",%s:%.1f", PROP_SYSTEM_LOAD, data.systemLoad));
+            sb.append(',').append(PROP_SYSTEM_LOAD).append(':');
+            UnitFormatter.appendOneDecimal(sb, data.systemLoad, '.');
         }
     }
 
+    private void appendTuple(final StringBuilder sb, final String key, final long first, final long second, final long third) {
+        sb.append(',').append(key).append(":[")
+                .append(first).append(',')
+                .append(second).append(',')
+                .append(third).append(']');
+    }
+
     void read(final SystemData data, final String json5) {
-        final Matcher matcherMemory = patternMemory.matcher(json5);
-        if (matcherMemory.find()) {
-            data.runtime_usedMemory = Long.parseLong(matcherMemory.group(1));
-            data.runtime_totalMemory = Long.parseLong(matcherMemory.group(2));
-            data.runtime_maxMemory = Long.parseLong(matcherMemory.group(3));
-        }
-        final Matcher matcherHeap = patternHeap.matcher(json5);
-        if (matcherHeap.find()) {
-            data.heap_used = Long.parseLong(matcherHeap.group(1));
-            data.heap_commited = Long.parseLong(matcherHeap.group(2));
-            data.heap_max = Long.parseLong(matcherHeap.group(3));
-        }
-        final Matcher matcherNonHeap = patternNonHeap.matcher(json5);
-        if (matcherNonHeap.find()) {
-            data.nonHeap_used = Long.parseLong(matcherNonHeap.group(1));
-            data.nonHeap_commited = Long.parseLong(matcherNonHeap.group(2));
-            data.nonHeap_max = Long.parseLong(matcherNonHeap.group(3));
-        }
-        final Matcher matcherFinalizationCount = patternFinalizationCount.matcher(json5);
-        if (matcherFinalizationCount.find()) {
-            data.objectPendingFinalizationCount = Long.parseLong(matcherFinalizationCount.group(1));
-        }
-        final Matcher matcherClassLoading = patternClassLoading.matcher(json5);
-        if (matcherClassLoading.find()) {
-            data.classLoading_total = Long.parseLong(matcherClassLoading.group(1));
-            data.classLoading_loaded = Long.parseLong(matcherClassLoading.group(2));
-            data.classLoading_unloaded = Long.parseLong(matcherClassLoading.group(3));
-        }
-        final Matcher matcherCompilationTime = patternCompilationTime.matcher(json5);
-        if (matcherCompilationTime.find()) {
-            data.compilationTime = Long.parseLong(matcherCompilationTime.group(1));
-        }
-        final Matcher matcherGarbageCollector = patternGarbageCollector.matcher(json5);
-        if (matcherGarbageCollector.find()) {
-            data.garbageCollector_count = Long.parseLong(matcherGarbageCollector.group(1));
-            data.garbageCollector_time = Long.parseLong(matcherGarbageCollector.group(2));
-        }
-        final Matcher matcherSystemLoad = patternSystemLoad.matcher(json5);
-        if (matcherSystemLoad.find()) {
-            data.systemLoad = Double.parseDouble(matcherSystemLoad.group(1));
+        final Json5Reader reader = new Json5Reader(json5);
+        while (reader.nextProperty()) {
+            readProperty(data, reader);
         }
     }
+
+    boolean readProperty(final SystemData data, final Json5Reader reader) {
+        if (reader.isKey(PROP_MEMORY)) {
+            if (reader.tupleValue(3)) {
+                data.runtime_usedMemory = reader.tupleElement(0);
+                data.runtime_totalMemory = reader.tupleElement(1);
+                data.runtime_maxMemory = reader.tupleElement(2);
+            }
+        } else if (reader.isKey(PROP_HEAP)) {
+            if (reader.tupleValue(3)) {
+                data.heap_used = reader.tupleElement(0);
+                data.heap_commited = reader.tupleElement(1);
+                data.heap_max = reader.tupleElement(2);
+            }
+        } else if (reader.isKey(PROP_NON_HEAP)) {
+            if (reader.tupleValue(3)) {
+                data.nonHeap_used = reader.tupleElement(0);
+                data.nonHeap_commited = reader.tupleElement(1);
+                data.nonHeap_max = reader.tupleElement(2);
+            }
+        } else if (reader.isKey(PROP_FINALIZATION_COUNT)) {
+            data.objectPendingFinalizationCount = reader.longValue(data.objectPendingFinalizationCount);
+        } else if (reader.isKey(PROP_CLASS_LOADING)) {
+            if (reader.tupleValue(3)) {
+                data.classLoading_total = reader.tupleElement(0);
+                data.classLoading_loaded = reader.tupleElement(1);
+                data.classLoading_unloaded = reader.tupleElement(2);
+            }
+        } else if (reader.isKey(PROP_COMPILATION_TIME)) {
+            data.compilationTime = reader.longValue(data.compilationTime);
+        } else if (reader.isKey(PROP_GARBAGE_COLLECTOR)) {
+            if (reader.tupleValue(2)) {
+                data.garbageCollector_count = reader.tupleElement(0);
+                data.garbageCollector_time = reader.tupleElement(1);
+            }
+        } else if (reader.isKey(PROP_SYSTEM_LOAD)) {
+            data.systemLoad = reader.doubleValue(data.systemLoad);
+        } else {
+            return false;
+        }
+        return true;
+    }
 }
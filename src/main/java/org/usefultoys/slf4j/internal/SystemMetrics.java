@@ -16,6 +16,7 @@
 package org.usefultoys.slf4j.internal;
 
 import lombok.experimental.UtilityClass;
+import org.usefultoys.slf4j.SystemConfig;
 
 import java.lang.management.ManagementFactory;
 
@@ -39,6 +40,33 @@ public class SystemMetrics {
         return Holder.INSTANCE;
     }
 
+    /**
+     * Returns the singleton instance of the {@link SystemMetricsSampler}, that refreshes snapshots with the singleton
+     * {@link SystemMetricsCollector}.
+     *
+     * @return The shared instance.
+     */
+    public SystemMetricsSampler getSampler() {
+        return SamplerHolder.INSTANCE;
+    }
+
+    /**
+     * Collects the runtime and platform status reported by each event. If {@link SystemConfig#samplingPeriodMilliseconds}
+     * is positive, copies the latest snapshot refreshed by the background sampler, instead of querying the JVM on the
+     * calling thread.
+     *
+     * @param data The {@link SystemData} object to be populated.
+     */
+    public void collectStatus(final SystemData data) {
+        if (SystemConfig.samplingPeriodMilliseconds > 0) {
+            getSampler().latest().applyTo(data);
+        } else {
+            final SystemMetricsCollector collector = getInstance();
+            collector.collectRuntimeStatus(data);
+            collector.collectPlatformStatus(data);
+        }
+    }
+
     /**
      * The holder class that contains the singleton instance.
      * The instance is created only when the {@link Holder} class is first accessed.
@@ -57,4 +85,12 @@ public class SystemMetrics {
             );
         }
     }
+
+    /**
+     * The holder class that contains the singleton sampler, created only when sampling is first used.
+     */
+    @UtilityClass
+    private class SamplerHolder {
+        final SystemMetricsSampler INSTANCE = new SystemMetricsSampler(getInstance());
+    }
 }
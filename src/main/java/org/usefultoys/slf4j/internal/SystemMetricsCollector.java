@@ -71,6 +71,23 @@ public class SystemMetricsCollector {
     }
 
      /**
+     * Collects the runtime and platform status into an immutable snapshot, as
+     * {@link #collectRuntimeStatus(SystemData)} and {@link #collectPlatformStatus(SystemData)} would collect into a
+     * {@link SystemData} object.
+     *
+     * @return The snapshot.
+     */
+    public SystemSnapshot sample() {
+        final SystemData data = new SystemData() {
+            private static final long serialVersionUID = 1L;
+        };
+        data.systemLoad = -1;
+        collectRuntimeStatus(data);
+        collectPlatformStatus(data);
+        return new SystemSnapshot(System.nanoTime(), data, data.systemLoad >= 0);
+    }
+
+    /**
      * Collects memory usage statistics from the JVM's {@link Runtime} object.
      *
      * @param data The {@link SystemData} object to be populated.
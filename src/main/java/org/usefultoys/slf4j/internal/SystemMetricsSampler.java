@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.internal;
+
+import org.usefultoys.slf4j.SystemConfig;
+
+/**
+ * Keeps a recent {@link SystemSnapshot}, refreshed by a daemon thread every
+ * {@link SystemConfig#samplingPeriodMilliseconds}, so that events read the runtime and platform status without
+ * querying the JVM on the calling thread.
+ * <p>
+ * The daemon thread is started by the first read and stops by itself once sampling is disabled, that is, once the
+ * sampling period is no longer positive. A later read starts it again, after refreshing the snapshot synchronously.
+ *
+ * @author Daniel Felix Ferber
+ */
+public final class SystemMetricsSampler {
+
+    /** Name of the daemon thread that refreshes the snapshot. */
+    public static final String THREAD_NAME = "slf4j-toys-system-sampler";
+
+    private final SystemMetricsCollector collector;
+    private volatile SystemSnapshot latest;
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * Constructs a new sampler that collects snapshots with the provided collector.
+     *
+     * @param collector The collector used to sample the runtime and platform status.
+     */
+    public SystemMetricsSampler(final SystemMetricsCollector collector) {
+        this.collector = collector;
+    }
+
+    /**
+     * Returns the latest snapshot, starting the daemon thread if it is not running.
+     *
+     * @return The latest snapshot, never {@code null}.
+     */
+    public SystemSnapshot latest() {
+        final SystemSnapshot snapshot = latest;
+        if (snapshot != null && running) {
+            return snapshot;
+        }
+        return start();
+    }
+
+    /**
+     * Stops the daemon thread, if running. A later read starts it again.
+     */
+    public synchronized void stop() {
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Tells whether the daemon thread is running.
+     *
+     * @return {@code true} if the snapshot is being refreshed in background.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    private synchronized SystemSnapshot start() {
+        if (!running) {
+            /* Either the first read, or the thread stopped: the previous snapshot may be arbitrarily old. */
+            latest = collector.sample();
+            running = true;
+            thread = new Thread(this::refresh, THREAD_NAME);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return latest;
+    }
+
+    private void refresh() {
+        try {
+            long period;
+            while ((period = SystemConfig.samplingPeriodMilliseconds) > 0) {
+                Thread.sleep(period);
+                try {
+                    latest = collector.sample();
+                } catch (final RuntimeException ignored) {
+                    /* Keep the previous snapshot; a failing MXBean must not stop sampling. */
+                }
+            }
+        } catch (final InterruptedException ignored) {
+            /* Stopped. */
+        } finally {
+            synchronized (this) {
+                running = false;
+                thread = null;
+            }
+        }
+    }
+}
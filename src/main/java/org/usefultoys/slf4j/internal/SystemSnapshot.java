@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.internal;
+
+import lombok.Getter;
+
+/**
+ * An immutable sample of the runtime and platform status collected by {@link SystemMetricsCollector}, shared by all
+ * threads until the next sample replaces it.
+ *
+ * @author Daniel Felix Ferber
+ * @see SystemMetricsSampler
+ */
+@Getter
+public final class SystemSnapshot {
+
+    /** The timestamp (in nanoseconds) when the sample was collected. */
+    private final long sampleTime;
+    /** Total memory currently allocated by the JVM, in bytes. */
+    private final long runtime_totalMemory;
+    /** Memory currently used by the JVM, in bytes. */
+    private final long runtime_usedMemory;
+    /** Maximum memory the JVM will attempt to use, in bytes. */
+    private final long runtime_maxMemory;
+    /** System CPU load, or a negative value if it was not collected. */
+    private final double systemLoad;
+
+    SystemSnapshot(final long sampleTime, final SystemData data, final boolean hasSystemLoad) {
+        this.sampleTime = sampleTime;
+        runtime_totalMemory = data.runtime_totalMemory;
+        runtime_usedMemory = data.runtime_usedMemory;
+        runtime_maxMemory = data.runtime_maxMemory;
+        systemLoad = hasSystemLoad ? data.systemLoad : -1;
+    }
+
+    /**
+     * Copies the sampled status into the data, as {@link SystemMetricsCollector#collectRuntimeStatus(SystemData)} and
+     * {@link SystemMetricsCollector#collectPlatformStatus(SystemData)} would. The system load is left unchanged if it
+     * was not collected.
+     *
+     * @param data The {@link SystemData} object to be populated.
+     */
+    public void applyTo(final SystemData data) {
+        data.runtime_totalMemory = runtime_totalMemory;
+        data.runtime_usedMemory = runtime_usedMemory;
+        data.runtime_maxMemory = runtime_maxMemory;
+        if (systemLoad >= 0) {
+            data.systemLoad = systemLoad;
+        }
+    }
+}
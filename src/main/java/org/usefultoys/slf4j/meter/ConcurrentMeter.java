@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import lombok.NonNull;
+import org.slf4j.Logger;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link Meter} for a batch operation whose iterations are reported by several worker threads at the same time, for
+ * example by a parallel stream or by fork-join tasks.
+ * <p>
+ * {@link #inc()} and {@link #incBy(long)} add to a {@link LongAdder}, so workers may call them concurrently without
+ * external locking and without contending on a single counter. {@link #progress()} may also be called by any worker:
+ * one caller at a time is elected by a compare-and-set to sum the count and apply the usual throttling, while the
+ * other callers return immediately. The terminal transition waits for an ongoing progress report, sums the final
+ * count and prevents any further report.
+ * <p>
+ * The lifecycle is otherwise the one of {@link Meter}: {@link #start()} and the terminal transition are called once,
+ * typically by the thread that submits the work and waits for it. Only the iteration count is thread-safe; context
+ * and paths must still be set by a single thread.
+ *
+ * @author Daniel Felix Ferber
+ */
+public class ConcurrentMeter extends Meter {
+
+    private static final long serialVersionUID = 1L;
+
+    /** No thread is reporting progress. */
+    private static final int IDLE = 0;
+    /** A thread elected by {@link #progress()} is reporting progress. */
+    private static final int REPORTING = 1;
+    /** The terminal transition happened; no progress is reported anymore. */
+    private static final int STOPPED = 2;
+
+    /** Iterations completed by all workers. */
+    private final transient LongAdder iterations = new LongAdder();
+    /** Elects the single thread that reports progress and excludes progress reports after the terminal transition. */
+    private final transient AtomicInteger reporter = new AtomicInteger(IDLE);
+
+    /**
+     * Creates a new `ConcurrentMeter` for an operation belonging to the category derived from the logger's name.
+     *
+     * @param logger The SLF4J logger that will report messages.
+     */
+    public ConcurrentMeter(final @NonNull Logger logger) {
+        super(logger);
+    }
+
+    /**
+     * Creates a new `ConcurrentMeter` for a specific operation within the category derived from the logger's name.
+     *
+     * @param logger    The SLF4J logger that will report messages.
+     * @param operation The name of the operation, or {@code null} if the category itself describes the operation.
+     */
+    public ConcurrentMeter(final @NonNull Logger logger, final String operation) {
+        super(logger, operation);
+    }
+
+    /**
+     * Creates a new `ConcurrentMeter` for an operation, optionally as a child of an existing `Meter`.
+     *
+     * @param logger    The SLF4J logger that will report messages.
+     * @param operation The name of the operation, or {@code null}.
+     * @param parent    The full ID of the parent `Meter`, or {@code null} if this is a top-level operation.
+     */
+    public ConcurrentMeter(final @NonNull Logger logger, final String operation, final String parent) {
+        super(logger, operation, parent);
+    }
+
+    /**
+     * Returns the number of iterations completed so far by all workers, or the count reported by the terminal
+     * transition once the operation has stopped.
+     *
+     * @return The sum of all iterations reported.
+     */
+    @Override
+    public long getCurrentIteration() {
+        return reporter.get() == STOPPED ? currentIteration : iterations.sum();
+    }
+
+    @Override
+    public Meter inc() {
+        if (!MeterValidator.validateIncPrecondition(this)) {
+            return this;
+        }
+        iterations.increment();
+        return this;
+    }
+
+    @Override
+    public Meter incBy(final long increment) {
+        if (!MeterValidator.validateIncPrecondition(this) || !MeterValidator.validateIncByCallArgument(this, increment)) {
+            return this;
+        }
+        iterations.add(increment);
+        return this;
+    }
+
+    /**
+     * Notifies the `Meter` that the operation has reached a specific iteration count. Meaningful only if a single
+     * thread reports absolute progress: increments reported concurrently by other workers are added on top of it.
+     *
+     * @param currentIteration The new total number of iterations or steps completed. Must be greater than the previous
+     *                         count.
+     * @return Reference to this `Meter` instance, for method chaining.
+     */
+    @Override
+    public Meter incTo(final long currentIteration) {
+        if (!MeterValidator.validateIncPrecondition(this) || !MeterValidator.validateIncToCallArgument(this, currentIteration)) {
+            return this;
+        }
+        iterations.add(currentIteration - iterations.sum());
+        return this;
+    }
+
+    /**
+     * Reports the current progress of the operation, if no other worker is reporting it at the same time. The caller
+     * that wins the election sums the iterations and applies the throttling of {@link Meter#progress()}; the other
+     * callers return immediately.
+     *
+     * @return Reference to this `Meter` instance, for method chaining.
+     */
+    @Override
+    public Meter progress() {
+        /* Read before the compare-and-set, so that workers do not contend on the flag while one of them reports. */
+        if (reporter.get() != IDLE || !reporter.compareAndSet(IDLE, REPORTING)) {
+            return this;
+        }
+        try {
+            currentIteration = iterations.sum();
+            super.progress();
+        } finally {
+            reporter.set(IDLE);
+        }
+        return this;
+    }
+
+    @Override
+    Meter commonOk(final Object pathId) {
+        stopReporting();
+        return super.commonOk(pathId);
+    }
+
+    @Override
+    public Meter reject(final Object cause) {
+        stopReporting();
+        return super.reject(cause);
+    }
+
+    @Override
+    public Meter fail(final Object cause) {
+        stopReporting();
+        return super.fail(cause);
+    }
+
+    @Override
+    public void close() {
+        stopReporting();
+        super.close();
+    }
+
+    /**
+     * Waits for an ongoing progress report to finish, prevents further reports and sums the final iteration count for
+     * the terminal transition. Only the first terminal transition sums the count; later ones are reported as invalid
+     * by {@link Meter} and must not change the count already logged.
+     */
+    private void stopReporting() {
+        while (true) {
+            final int state = reporter.get();
+            if (state == STOPPED) {
+                return;
+            }
+            if (state == IDLE && reporter.compareAndSet(IDLE, STOPPED)) {
+                currentIteration = iterations.sum();
+                return;
+            }
+            Thread.yield();
+        }
+    }
+}
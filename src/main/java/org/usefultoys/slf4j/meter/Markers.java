@@ -70,4 +70,6 @@ public class Markers {
     public final Marker UNEXPECTED_EXCEPTION = MarkerFactory.getMarker("METER_UNEXPECTED_EXCEPTION");
     /** Marker for illegal argument usage of the Meter API. */
     public final Marker INVALID_ARGUMENT = MarkerFactory.getMarker("INVALID_ARGUMENT");
+    /** Marker for terminal events or data messages discarded because the asynchronous emission buffer was full. */
+    public final Marker ASYNC_OVERFLOW = MarkerFactory.getMarker("METER_ASYNC_OVERFLOW");
 }
@@ -26,10 +26,13 @@ import org.usefultoys.slf4j.internal.TimeSource;
 
 import java.io.Closeable;
 import java.lang.ref.WeakReference;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The `Meter` is a core component of `slf4j-toys` designed to track the **lifecycle** of application operations.
@@ -52,7 +55,7 @@ import java.util.concurrent.atomic.AtomicLong;
  * @see MeterConfig
  * @see Markers
  */
-@SuppressWarnings({"OverlyBroadCatchBlock", "FinalizeDeclaration"})
+@SuppressWarnings("OverlyBroadCatchBlock")
 public class Meter extends MeterData implements MeterContext<Meter>, MeterExecutor<Meter>, Closeable {
 
     /**
@@ -67,15 +70,11 @@ public class Meter extends MeterData implements MeterContext<Meter>, MeterExecut
 
     /** Logger for human-readable messages. */
     @Getter
-    private final transient Logger messageLogger;
+    private transient Logger messageLogger;
     /** Logger for machine-parsable data. */
     @Getter
-    private final transient Logger dataLogger;
+    private transient Logger dataLogger;
 
-    /**
-     * Tracks how many times each unique operation (category/operation name pair) has been executed.
-     */
-    static final ConcurrentMap<String, AtomicLong> EVENT_COUNTER = new ConcurrentHashMap<>();
     /**
      * Timestamp (in nanoseconds) when progress was last reported. Zero if progress has not been reported yet. Used to
      * control the frequency of progress messages and avoid flooding the log.
@@ -87,6 +86,21 @@ public class Meter extends MeterData implements MeterContext<Meter>, MeterExecut
      * frequency of progress messages.
      */
     private transient long lastProgressIteration = 0;
+    /**
+     * Record tracking this started `Meter` for the leak detection enabled by {@link MeterConfig#leakTrackingSample}, or
+     * {@code null} if this `Meter` was not selected for tracking.
+     */
+    private transient MeterLeakTracker.Record leakRecord = null;
+    /**
+     * Whether this `Meter` was borrowed from {@link MeterPool} and returns to it after its terminal transition.
+     */
+    private transient boolean borrowed = false;
+    /**
+     * Whether this borrowed `Meter` was already returned to {@link MeterPool} by its terminal transition. A released
+     * `Meter` must not be used anymore, since it may be handed out again by the next borrow on the thread.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private transient boolean released = false;
 
     /**
      * Tracks the `Meter` instance most recently started on the current thread.
@@ -97,6 +111,43 @@ public class Meter extends MeterData implements MeterContext<Meter>, MeterExecut
      * These references form a linked list representing a stack of `Meter` instances.
      */
     private WeakReference<Meter> previousInstance;
+    /**
+     * Weak reference to this `Meter`, pushed on the thread's stack of `Meter` instances by {@link #start()}. Cleared
+     * when a borrowed `Meter` is recycled, so that references kept from its previous use no longer reach it.
+     */
+    private transient WeakReference<Meter> selfReference;
+    /**
+     * Set once this `Meter` was removed from the stack of the thread that started it by {@link #detach()}. Its terminal
+     * transition may then run on any thread, and leaves the stack of that thread untouched.
+     */
+    private transient boolean detached;
+    /**
+     * Accumulates the outcomes of the sub-operations of this `Meter`, if configured by {@link #collecting()};
+     * otherwise {@code null}.
+     */
+    private transient MeterCollector children;
+    /**
+     * Accumulator of the collecting parent to which this sub-operation reports its outcome instead of logging it, or
+     * {@code null} if this `Meter` logs its own messages.
+     */
+    private transient MeterCollector collectedBy;
+    /**
+     * The `Meter` that created this sub-operation by {@link #sub(String)}, to which this `Meter` adds its execution
+     * time when it stops; otherwise {@code null}.
+     */
+    private transient Meter subOf;
+    /**
+     * Generation of {@link #subOf} when it created this sub-operation, so that a sub-operation that stops after its
+     * borrowed parent was recycled for another operation does not add to that operation.
+     */
+    private transient int subOfGeneration;
+    /**
+     * Incremented each time this `Meter` is recycled, distinguishing its uses, which may reach the same position.
+     */
+    private transient int generation;
+
+    private static final AtomicLongFieldUpdater<MeterData> SUB_COUNT = AtomicLongFieldUpdater.newUpdater(MeterData.class, "subCount");
+    private static final AtomicLongFieldUpdater<MeterData> SUB_TIME = AtomicLongFieldUpdater.newUpdater(MeterData.class, "subTime");
 
     /**
      * Creates a new `Meter` for an operation belonging to the category derived from the logger's name.
@@ -126,12 +177,99 @@ public class Meter extends MeterData implements MeterContext<Meter>, MeterExecut
      * @param parent    The full ID of the parent `Meter`, or {@code null} if this is a top-level operation.
      */
     public Meter(final @NonNull Logger logger, final String operation, final String parent) {
-        super(Session.shortSessionUuid(),
-                extractNextPosition(logger.getName(), operation),
-                logger.getName(), operation, parent);
+        this(MeterPositions.counter(logger.getName(), operation), parent);
+    }
+
+    private Meter(final MeterPositions.Counter counter, final String parent) {
+        super(Session.shortSessionUuid(), counter.next(), counter.identity, parent);
         createTime = collectCurrentTime();
-        messageLogger = org.slf4j.LoggerFactory.getLogger(MeterConfig.messagePrefix + logger.getName() + MeterConfig.messageSuffix);
-        dataLogger = org.slf4j.LoggerFactory.getLogger(MeterConfig.dataPrefix + logger.getName() + MeterConfig.dataSuffix);
+        final MeterLoggerCache.Entry loggers = MeterLoggerCache.get(category);
+        messageLogger = loggers.messageLogger;
+        dataLogger = loggers.dataLogger;
+    }
+
+    /**
+     * Creates a new `Meter` for the operation described by a template, reusing the pieces resolved by the template.
+     * A factory method rather than a constructor, so that {@code new Meter(null)} stays unambiguous within the package.
+     *
+     * @param template The template describing the operation.
+     * @return The new `Meter`.
+     */
+    static Meter fromTemplate(final MeterTemplate template) {
+        return new Meter(template);
+    }
+
+    private Meter(final MeterTemplate template) {
+        super(template.sessionUuid(), template.nextPosition(), template.identity(), null);
+        final MeterLoggerCache.Entry loggers = template.loggers();
+        messageLogger = loggers.messageLogger;
+        dataLogger = loggers.dataLogger;
+        timeLimit = template.getTimeLimit();
+    }
+
+    /**
+     * Reverts this `Meter` to a newly created one for another operation, reusing the instance. Called by
+     * {@link MeterPool} when handing out a pooled `Meter`.
+     *
+     * @param logger    The SLF4J logger that will report messages.
+     * @param operation The name of the operation, or {@code null}.
+     */
+    final void recycle(final Logger logger, final String operation) {
+        final MeterPositions.Counter counter = MeterPositions.counter(logger.getName(), operation);
+        reset(Session.shortSessionUuid(), counter.next(), counter.identity, null);
+        recycled(MeterLoggerCache.get(category));
+    }
+
+    /**
+     * Reverts this `Meter` to a newly created one for the operation described by a template, reusing the instance.
+     * Called by {@link MeterPool} when handing out a pooled `Meter`.
+     *
+     * @param template The template describing the operation.
+     */
+    final void recycle(final MeterTemplate template) {
+        reset(template.sessionUuid(), template.nextPosition(), template.identity(), null);
+        recycled(template.loggers());
+        timeLimit = template.getTimeLimit();
+    }
+
+    private void recycled(final MeterLoggerCache.Entry loggers) {
+        messageLogger = loggers.messageLogger;
+        dataLogger = loggers.dataLogger;
+        lastProgressTime = 0;
+        lastProgressIteration = 0;
+        leakRecord = null;
+        previousInstance = null;
+        if (selfReference != null) {
+            selfReference.clear();
+            selfReference = null;
+        }
+        detached = false;
+        children = null;
+        collectedBy = null;
+        subOf = null;
+        generation++;
+        released = false;
+    }
+
+    /**
+     * Marks this `Meter` as borrowed, so that it returns to {@link MeterPool} after its terminal transition.
+     *
+     * @return Reference to this `Meter` instance, for method chaining.
+     */
+    final Meter borrowed() {
+        borrowed = true;
+        return this;
+    }
+
+    /**
+     * Returns this `Meter` to {@link MeterPool} if it was borrowed and has just completed its terminal transition.
+     */
+    private void releaseIfBorrowed() {
+        if (borrowed && !released && stopTime != 0) {
+            released = true;
+            previousInstance = null;
+            MeterPool.release(this);
+        }
     }
 
     /**
@@ -162,20 +300,15 @@ public class Meter extends MeterData implements MeterContext<Meter>, MeterExecut
     }
 
     /**
-     * Extracts and increments the next sequential position for a given operation. This ensures a unique, time-ordered
-     * ID for each operation execution.
+     * Extracts the next position for a given operation. This ensures a unique ID for each operation execution,
+     * time-ordered unless {@link MeterConfig#positionBlockSize} is greater than one.
      *
      * @param eventCategory The category of the event.
      * @param operationName The name of the operation.
      * @return The next sequential position for the operation.
      */
     static long extractNextPosition(final String eventCategory, final String operationName) {
-        final String key = operationName == null ? eventCategory : eventCategory + "/" + operationName;
-        EVENT_COUNTER.putIfAbsent(key, new AtomicLong(0));
-        final AtomicLong atomicLong = EVENT_COUNTER.get(key);
-        /* Reset counter when it reaches maximum value to prevent overflow */
-        atomicLong.compareAndSet(Long.MAX_VALUE, 0);
-        return atomicLong.incrementAndGet();
+        return MeterPositions.next(eventCategory, operationName);
     }
 
     /**
@@ -194,6 +327,32 @@ public class Meter extends MeterData implements MeterContext<Meter>, MeterExecut
         return current;
     }
 
+    /**
+     * Returns the reference to the `Meter` most recently started on the current thread, so that
+     * {@link MeterExecutors} can install it on the thread that runs a task.
+     *
+     * @return The reference, or {@code null} if no `Meter` is active on the current thread.
+     */
+    static WeakReference<Meter> currentReference() {
+        return localThreadInstance.get();
+    }
+
+    /**
+     * Installs a reference as the `Meter` most recently started on the current thread.
+     *
+     * @param reference The reference to install, or {@code null} to leave no `Meter` active.
+     * @return The reference installed before, to be restored once the task completes.
+     */
+    static WeakReference<Meter> installReference(final WeakReference<Meter> reference) {
+        final WeakReference<Meter> previous = localThreadInstance.get();
+        if (reference == null) {
+            localThreadInstance.remove();
+        } else {
+            localThreadInstance.set(reference);
+        }
+        return previous;
+    }
+
     /**
      * Converts an object into a string representation suitable for a path identifier.
      *
@@ -221,7 +380,9 @@ public class Meter extends MeterData implements MeterContext<Meter>, MeterExecut
 
     /**
      * Creates a new `Meter` instance representing a sub-operation of this `Meter`. The new `Meter` inherits the
-     * category of this `Meter` and its context.
+     * category of this `Meter` and its context. When the sub-operation stops, while this `Meter` is still running, its
+     * execution time is added to this `Meter`, whose messages then report its self time and the time spent in
+     * sub-operations (see {@link #getSelfTime()}).
      *
      * @param suboperationName The name of the sub-operation.
      * @return A new `Meter` instance for the sub-operation.
@@ -242,9 +403,69 @@ public class Meter extends MeterData implements MeterContext<Meter>, MeterExecut
             /* Inherit parent's context for sub-operation */
             m.context = new HashMap<>(context);
         }
+        m.collectedBy = children;
+        m.subOf = this;
+        m.subOfGeneration = generation;
         return m;
     }
 
+    /**
+     * Configures this `Meter` to collect its sub-operations, typically when an operation fans out into many parallel
+     * tasks, for example on a {@link java.util.concurrent.ForkJoinPool}. Sub-operations created afterwards by
+     * {@link #sub(String)} log no messages of their own. Instead, each one folds its outcome, execution time and
+     * iterations into lock-free accumulators of this `Meter` when it stops, on any thread. When this `Meter` stops,
+     * its messages report the number of sub-operations per outcome, their median, 90th and 99th percentile and
+     * longest execution time, and the full ID of the slowest one.
+     * <p>
+     * Only sub-operations that stopped before this `Meter` are reported; sub-operations that stop later log their own
+     * terminal messages. Sub-operations of sub-operations are not collected, unless their parent is configured as
+     * collecting too.
+     *
+     * @return Reference to this `Meter` instance, for method chaining.
+     */
+    public Meter collecting() {
+        if (!MeterValidator.validateCollectingPrecondition(this)) {
+            return this;
+        }
+        if (children == null) {
+            children = new MeterCollector();
+        }
+        return this;
+    }
+
+    /**
+     * Reports the outcomes collected from sub-operations, adds the execution time of this `Meter` to the self time
+     * and child time accounting of its parent and, if this `Meter` is collected by its parent, folds its own outcome
+     * into the parent. Called by each terminal transition.
+     *
+     * @return {@code true} if this `Meter` was collected by its parent and must not log its terminal messages.
+     */
+    private boolean collect() {
+        if (children != null) {
+            children.reportTo(this);
+        }
+        boolean parentRunning = false;
+        if (subOf != null) {
+            parentRunning = subOf.generation == subOfGeneration && subOf.getStopTime() == 0;
+            /* Atomic, as sibling sub-operations may stop concurrently on other threads. */
+            if (parentRunning) {
+                SUB_COUNT.incrementAndGet(subOf);
+                SUB_TIME.addAndGet(subOf, Math.max(0, getExecutionTime()));
+            }
+            subOf = null;
+        }
+        if (collectedBy == null) {
+            return false;
+        }
+        if (!parentRunning) {
+            /* The parent already reported its sub-operations; log the outcome instead of losing it. */
+            collectedBy = null;
+            return false;
+        }
+        collectedBy.record(this);
+        return true;
+    }
+
     // ========================================================================
 
     /**
@@ -347,16 +568,19 @@ public class Meter extends MeterData implements MeterContext<Meter>, MeterExecut
             }
 
             previousInstance = localThreadInstance.get();
-            localThreadInstance.set(new WeakReference<>(this));
+            if (selfReference == null) {
+                selfReference = new WeakReference<>(this);
+            }
+            localThreadInstance.set(selfReference);
 
             lastProgressTime = startTime = collectCurrentTime();
+            leakRecord = MeterLeakTracker.track(this);
 
-            if (messageLogger.isDebugEnabled()) {
-                SystemMetrics.getInstance().collectRuntimeStatus(this);
-                SystemMetrics.getInstance().collectPlatformStatus(this);
+            if (collectedBy == null && messageLogger.isDebugEnabled()) {
+                SystemMetrics.collectStatus(this);
                 messageLogger.debug(Markers.MSG_START, readableMessage());
                 if (dataLogger.isTraceEnabled()) {
-                    dataLogger.trace(Markers.DATA_START, json5Message());
+                    dataLogger.trace(Markers.DATA_START, dataMessage());
                 }
                 clearContext();
             }
@@ -431,12 +655,11 @@ public class Meter extends MeterData implements MeterContext<Meter>, MeterExecut
                 lastProgressIteration = currentIteration;
                 lastProgressTime = now;
 
-                if (messageLogger.isInfoEnabled()) {
-                    SystemMetrics.getInstance().collectRuntimeStatus(this);
-                    SystemMetrics.getInstance().collectPlatformStatus(this);
+                if (collectedBy == null && messageLogger.isInfoEnabled()) {
+                    SystemMetrics.collectStatus(this);
                     messageLogger.info(Markers.MSG_PROGRESS, readableMessage());
                     if (dataLogger.isTraceEnabled()) {
-                        final String message2 = json5Message();
+                        final String message2 = dataMessage();
                         /* Use different marker for slow progress */
                         if (isSlow()) {
                             dataLogger.trace(Markers.DATA_SLOW_PROGRESS, message2);
@@ -453,6 +676,78 @@ public class Meter extends MeterData implements MeterContext<Meter>, MeterExecut
         return this;
     }
 
+    /**
+     * Returns an {@link Iterable} whose iterators count each element returned as one iteration of this `Meter`.
+     * The `Meter` is started now, if not started yet. If the iterable is a non-empty {@link Collection} and no
+     * expected iterations were set, its size becomes the expected number of iterations.
+     * <p>
+     * See {@link #wrap(Iterator)} for how iterations are counted and how the `Meter` is finished.
+     *
+     * @param iterable The elements to traverse.
+     * @param <E>      The type of the elements.
+     * @return An {@link Iterable} that meters the traversal of {@code iterable}.
+     */
+    public <E> Iterable<E> iterate(final @NonNull Iterable<E> iterable) {
+        if (iterable instanceof Collection && expectedIterations == 0) {
+            final int size = ((Collection<?>) iterable).size();
+            if (size > 0) {
+                iterations(size);
+            }
+        }
+        if (!isStarted()) {
+            start();
+        }
+        return () -> new MeterIteration.MeteredIterator<>(iterable.iterator(), new MeterIteration(this));
+    }
+
+    /**
+     * Returns an {@link Iterator} that counts each element returned as one iteration of this `Meter`. The `Meter` is
+     * started now, if not started yet.
+     * <p>
+     * Progress is checked only once every few elements, at a stride that adapts to the throughput, so that the time
+     * source is not read for each element; the iteration count of the `Meter` is updated at each check. The `Meter` is
+     * finished with {@code OK} once {@link Iterator#hasNext()} returns {@code false}, and with {@code FAIL} if the
+     * iterator throws. Exceptions thrown by the loop body and loops left early are not seen by the iterator; use the
+     * `Meter` in a try-with-resources block to cover them.
+     *
+     * @param iterator The elements to traverse.
+     * @param <E>      The type of the elements.
+     * @return An {@link Iterator} that meters the traversal of {@code iterator}.
+     */
+    public <E> Iterator<E> wrap(final @NonNull Iterator<E> iterator) {
+        if (!isStarted()) {
+            start();
+        }
+        return new MeterIteration.MeteredIterator<>(iterator, new MeterIteration(this));
+    }
+
+    /**
+     * Returns a sequential {@link Stream} that counts each element traversed as one iteration of this `Meter`. The
+     * `Meter` is started now, if not started yet. If the size of the stream is known and no expected iterations were
+     * set, it becomes the expected number of iterations.
+     * <p>
+     * Progress is checked as described in {@link #wrap(Iterator)}. The `Meter` is finished with {@code OK} once the
+     * stream is exhausted, and with {@code FAIL} if the stream or any of its downstream stages throws. Short-circuiting
+     * operations that stop before exhausting the stream do not finish the `Meter`. Closing the returned stream closes
+     * {@code stream}.
+     *
+     * @param stream The elements to traverse.
+     * @param <E>    The type of the elements.
+     * @return A {@link Stream} that meters the traversal of {@code stream}.
+     */
+    public <E> Stream<E> stream(final @NonNull Stream<E> stream) {
+        final Spliterator<E> spliterator = stream.spliterator();
+        final long size = spliterator.getExactSizeIfKnown();
+        if (size > 0 && expectedIterations == 0) {
+            iterations(size);
+        }
+        if (!isStarted()) {
+            start();
+        }
+        return StreamSupport.stream(new MeterIteration.MeteredSpliterator<>(spliterator, new MeterIteration(this)), false)
+                .onClose(stream::close);
+    }
+
     /**
      * Sets the success path identifier for the operation. This is typically used with {@link #ok()} to distinguish
      * between different successful outcomes.
@@ -490,6 +785,7 @@ public class Meter extends MeterData implements MeterContext<Meter>, MeterExecut
             }
 
             stopTime = collectCurrentTime();
+            MeterLeakTracker.untrack(leakRecord);
             /* Auto-correct: if never started, use stopTime as startTime (Tier 3) */
             if (startTime == 0) {
                 startTime = stopTime;
@@ -501,27 +797,33 @@ public class Meter extends MeterData implements MeterContext<Meter>, MeterExecut
             if (pathId != null) {
                 okPath = toPath(pathId, true);
             }
-            localThreadInstance.set(previousInstance);
+            restorePreviousInstance();
+            MeterAggregator.record(this);
+            final boolean collected = collect();
 
-            if (messageLogger.isWarnEnabled()) { // Check warn enabled to cover info as well
-                SystemMetrics.getInstance().collectRuntimeStatus(this);
-                SystemMetrics.getInstance().collectPlatformStatus(this);
+            /* Check warn enabled to cover info as well; only fast executions are subject to sampling */
+            if (!collected && messageLogger.isWarnEnabled() && MeterSampler.admit(this, !isSlow())) {
+                SystemMetrics.collectStatus(this);
 
                 final boolean warnSlowness = isSlow();
-                final String message1 = readableMessage();
-                /* Log at WARN level for slow operations, INFO level otherwise */
-                if (warnSlowness) {
-                    messageLogger.warn(Markers.MSG_SLOW_OK, message1);
-                } else if (messageLogger.isInfoEnabled()) {
-                    messageLogger.info(Markers.MSG_OK, message1);
-                }
-                if (dataLogger.isTraceEnabled()) {
-                    final String message2 = json5Message();
-                    /* Use different marker for slow operations */
+                if (MeterEmitter.isEnabled()) {
+                    MeterEmitter.emit(this, warnSlowness ? MeterEmitter.SLOW_OK : MeterEmitter.OK, null);
+                } else {
+                    final String message1 = readableMessage();
+                    /* Log at WARN level for slow operations, INFO level otherwise */
                     if (warnSlowness) {
-                        dataLogger.trace(Markers.DATA_SLOW_OK, message2);
-                    } else {
-                        dataLogger.trace(Markers.DATA_OK, message2);
+                        messageLogger.warn(Markers.MSG_SLOW_OK, message1);
+                    } else if (messageLogger.isInfoEnabled()) {
+                        messageLogger.info(Markers.MSG_OK, message1);
+                    }
+                    if (dataLogger.isTraceEnabled()) {
+                        final String message2 = dataMessage();
+                        /* Use different marker for slow operations */
+                        if (warnSlowness) {
+                            dataLogger.trace(Markers.DATA_SLOW_OK, message2);
+                        } else {
+                            dataLogger.trace(Markers.DATA_OK, message2);
+                        }
                     }
                 }
                 clearContext();
@@ -529,20 +831,50 @@ public class Meter extends MeterData implements MeterContext<Meter>, MeterExecut
         } catch (final Exception t) {
             MeterValidator.logUnexpectedException(this, t);
         }
+        releaseIfBorrowed();
         return this;
     }
 
     /**
-     * Checks if this `Meter` instance is the current `Meter` associated with the current thread.
+     * Checks if this `Meter` instance is the current `Meter` associated with the current thread. A detached `Meter` is
+     * no longer expected to be the current instance of any thread.
      *
      * @return {@code true} if this `Meter` is not the current instance, {@code false} otherwise.
      */
     boolean checkCurrentInstance() {
+        if (detached) {
+            return false;
+        }
         final WeakReference<Meter> ref = localThreadInstance.get();
         /* Returns true if this meter is NOT the current one (inverse logic for validation purposes) */
         return ref == null || ref.get() != this;
     }
 
+    /**
+     * Removes this started `Meter` from the stack of `Meter` instances of the current thread, restoring the instance
+     * that was current before {@link #start()}. Used by {@link MeterExecutor#callAsync} and
+     * {@link MeterExecutor#runAsync}, whose terminal transition happens later, usually on another thread.
+     */
+    void detach() {
+        if (detached || startTime == 0 || stopTime != 0) {
+            return;
+        }
+        if (!checkCurrentInstance()) {
+            localThreadInstance.set(previousInstance);
+        }
+        detached = true;
+    }
+
+    /**
+     * Pops this `Meter` from the stack of `Meter` instances of the current thread on its terminal transition, unless it
+     * was detached from the thread that started it.
+     */
+    private void restorePreviousInstance() {
+        if (!detached) {
+            localThreadInstance.set(previousInstance);
+        }
+    }
+
     public Meter ok() {
         commonOk(null);
         return this;
@@ -610,6 +942,7 @@ public class Meter extends MeterData implements MeterContext<Meter>, MeterExecut
             }
 
             stopTime = collectCurrentTime();
+            MeterLeakTracker.untrack(leakRecord);
             /* Auto-correct: if never started, use stopTime as startTime (Tier 3) */
             if (startTime == 0) {
                 startTime = stopTime;
@@ -617,23 +950,29 @@ public class Meter extends MeterData implements MeterContext<Meter>, MeterExecut
             failPath = null;
             failMessage = null;
             okPath = null;
-            localThreadInstance.set(previousInstance);
+            restorePreviousInstance();
             rejectPath = toPath(cause, true);
+            MeterAggregator.record(this);
+            final boolean collected = collect();
 
-            if (messageLogger.isInfoEnabled()) {
-                SystemMetrics.getInstance().collectRuntimeStatus(this);
-                SystemMetrics.getInstance().collectPlatformStatus(this);
-                final String message1 = readableMessage();
-                messageLogger.info(Markers.MSG_REJECT, message1);
-                if (dataLogger.isTraceEnabled()) {
-                    final String message2 = json5Message();
-                    dataLogger.trace(Markers.DATA_REJECT, message2);
+            if (!collected && messageLogger.isInfoEnabled() && MeterSampler.admit(this, false)) {
+                SystemMetrics.collectStatus(this);
+                if (MeterEmitter.isEnabled()) {
+                    MeterEmitter.emit(this, MeterEmitter.REJECT, null);
+                } else {
+                    final String message1 = readableMessage();
+                    messageLogger.info(Markers.MSG_REJECT, message1);
+                    if (dataLogger.isTraceEnabled()) {
+                        final String message2 = dataMessage();
+                        dataLogger.trace(Markers.DATA_REJECT, message2);
+                    }
                 }
                 clearContext();
             }
         } catch (final Exception t) {
             MeterValidator.logUnexpectedException(this, t);
         }
+        releaseIfBorrowed();
         return this;
     }
 
@@ -657,57 +996,48 @@ public class Meter extends MeterData implements MeterContext<Meter>, MeterExecut
             }
 
             stopTime = collectCurrentTime();
+            MeterLeakTracker.untrack(leakRecord);
             /* Auto-correct: if never started, use stopTime as startTime (Tier 3) */
             if (startTime == 0) {
                 startTime = stopTime;
             }
             rejectPath = null;
             okPath = null;
-            localThreadInstance.set(previousInstance);
+            restorePreviousInstance();
             failPath = toPath(cause, false);
             /* Extract failure message from Throwable if applicable */
             if (cause instanceof Throwable) {
                 failMessage = ((Throwable)cause).getLocalizedMessage();
             }
+            MeterAggregator.record(this);
+            final boolean collected = collect();
 
-            if (messageLogger.isErrorEnabled()) {
-                SystemMetrics.getInstance().collectRuntimeStatus(this);
-                SystemMetrics.getInstance().collectPlatformStatus(this);
-                /* Include stack trace if cause is a Throwable */
-                if (cause instanceof Throwable) {
-                    messageLogger.error(Markers.MSG_FAIL, readableMessage(), (Throwable) cause);
+            if (!collected && messageLogger.isErrorEnabled() && MeterSampler.admit(this, false)) {
+                SystemMetrics.collectStatus(this);
+                if (MeterEmitter.isEnabled()) {
+                    MeterEmitter.emit(this, MeterEmitter.FAIL, cause instanceof Throwable ? (Throwable) cause : null);
                 } else {
-                    messageLogger.error(Markers.MSG_FAIL, readableMessage());
-                }
-                if (dataLogger.isTraceEnabled()) {
-                    dataLogger.trace(Markers.DATA_FAIL, json5Message());
+                    /* Include stack trace if cause is a Throwable */
+                    if (cause instanceof Throwable) {
+                        messageLogger.error(Markers.MSG_FAIL, readableMessage(), (Throwable) cause);
+                    } else {
+                        messageLogger.error(Markers.MSG_FAIL, readableMessage());
+                    }
+                    if (dataLogger.isTraceEnabled()) {
+                        dataLogger.trace(Markers.DATA_FAIL, dataMessage());
+                    }
                 }
                 clearContext();
             }
         } catch (final Exception t) {
             MeterValidator.logUnexpectedException(this, t);
         }
+        releaseIfBorrowed();
         return this;
     }
 
     // ========================================================================
 
-    /**
-     * Overrides the default `finalize()` method to detect `Meter` instances that were started but never explicitly
-     * stopped. If an unstopped `Meter` is garbage-collected, an error message is logged to indicate inconsistent API
-     * usage.
-     *
-     * @throws Throwable if an error occurs during finalization.
-     */
-    @SuppressWarnings("removal")
-    @Override
-    protected void finalize() throws Throwable {
-        MeterValidator.validateFinalize(this);
-        super.finalize();
-    }
-
-    // ========================================================================
-
     /**
      * Implements the {@link Closeable} interface. If the `Meter` has not been explicitly stopped (via `ok()`,
      * `reject()`, or `fail()`), this method automatically marks the operation as {@code FAIL} with the path
@@ -724,26 +1054,33 @@ public class Meter extends MeterData implements MeterContext<Meter>, MeterExecut
             MeterValidator.validateStopPrecondition(this);
 
             stopTime = collectCurrentTime();
+            MeterLeakTracker.untrack(leakRecord);
             /* Auto-correct: if never started, use stopTime as startTime (Tier 3) */
             if (startTime == 0) {
                 startTime = stopTime;
             }
             rejectPath = null;
             okPath = null;
-            localThreadInstance.set(previousInstance);
+            restorePreviousInstance();
             failPath = FAIL_PATH_TRY_WITH_RESOURCES;
+            MeterAggregator.record(this);
+            final boolean collected = collect();
 
-            if (messageLogger.isErrorEnabled()) {
-                SystemMetrics.getInstance().collectRuntimeStatus(this);
-                SystemMetrics.getInstance().collectPlatformStatus(this);
-                messageLogger.error(Markers.MSG_FAIL, readableMessage(), failPath);
-                if (dataLogger.isTraceEnabled()) {
-                    dataLogger.trace(Markers.DATA_FAIL, json5Message());
+            if (!collected && messageLogger.isErrorEnabled() && MeterSampler.admit(this, false)) {
+                SystemMetrics.collectStatus(this);
+                if (MeterEmitter.isEnabled()) {
+                    MeterEmitter.emit(this, MeterEmitter.CLOSE, null);
+                } else {
+                    messageLogger.error(Markers.MSG_FAIL, readableMessage(), failPath);
+                    if (dataLogger.isTraceEnabled()) {
+                        dataLogger.trace(Markers.DATA_FAIL, dataMessage());
+                    }
                 }
                 clearContext();
             }
         } catch (final Exception t) {
             MeterValidator.logUnexpectedException(this, t);
         }
+        releaseIfBorrowed();
     }
 }
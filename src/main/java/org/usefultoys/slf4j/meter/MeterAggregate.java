@@ -0,0 +1,351 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.usefultoys.slf4j.internal.EventData;
+import org.usefultoys.slf4j.internal.Json5Reader;
+
+/**
+ * Outcomes of all {@link Meter} instances of a category and operation that stopped within an interval, as merged by
+ * {@link MeterAggregator}.
+ * <p>
+ * Holds the number of successful, slow, rejected and failed operations, the minimum, maximum and total execution
+ * time, and a log-linear histogram of execution times. The histogram has four buckets per power of two between
+ * 1&nbsp;µs and about 4.9&nbsp;hours; the first bucket holds faster executions and the last bucket holds slower
+ * ones. Percentiles are therefore estimated within 25% of the execution time.
+ * <p>
+ * Like {@link MeterData}, this class is used both for reporting and for deserializing aggregate events.
+ *
+ * @author Daniel Felix Ferber
+ * @see MeterAggregator
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MeterAggregate extends EventData {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Number of linear sub-buckets within each power of two, as a power of two. */
+    static final int SUB_BUCKET_BITS = 2;
+    /** Number of linear sub-buckets within each power of two. */
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Power of two of the smallest execution time with its own bucket (1024&nbsp;ns). */
+    static final int MIN_EXPONENT = 10;
+    /** Power of two of the largest execution time with its own bucket (2^44&nbsp;ns, about 4.9&nbsp;hours). */
+    static final int MAX_EXPONENT = 43;
+    /** Number of buckets in the histogram. */
+    public static final int HISTOGRAM_BUCKETS = 1 + (MAX_EXPONENT - MIN_EXPONENT + 1) * SUB_BUCKETS;
+
+    /** Category of the aggregated operations. */
+    String category = null;
+    /** Operation name of the aggregated operations, or {@code null} for the category itself. */
+    String operation = null;
+    /** Timestamp (nanoseconds) when the interval started; the interval ends at {@link #getLastCurrentTime()}. */
+    long intervalStart = 0;
+    /** Number of operations that completed successfully within their time limit. */
+    long okCount = 0;
+    /** Number of operations that completed successfully, but exceeded their time limit. */
+    long slowCount = 0;
+    /** Number of operations that were rejected. */
+    long rejectCount = 0;
+    /** Number of operations that failed. */
+    long failCount = 0;
+    /** Shortest execution time (nanoseconds), or zero if there are no operations. */
+    long minTime = 0;
+    /** Longest execution time (nanoseconds), or zero if there are no operations. */
+    long maxTime = 0;
+    /** Sum of all execution times (nanoseconds). */
+    long totalTime = 0;
+    /** Number of operations per histogram bucket. */
+    @Getter(AccessLevel.NONE)
+    long[] histogram = new long[HISTOGRAM_BUCKETS];
+    /**
+     * Whether the aggregated operations stopped in more than one JVM session, whose stop times are not comparable, as
+     * when read from the log files of several nodes or of a restarted application.
+     */
+    boolean multipleSessions = false;
+
+    /**
+     * Creates an empty aggregate for a category and operation.
+     *
+     * @param sessionUuid   The unique identifier for the JVM session.
+     * @param position      The sequential position of this aggregate for its category and operation.
+     * @param intervalStart The timestamp (nanoseconds) when the interval started.
+     * @param intervalEnd   The timestamp (nanoseconds) when the interval ended.
+     * @param category      The category.
+     * @param operation     The operation name, or {@code null}.
+     */
+    protected MeterAggregate(final String sessionUuid, final long position, final long intervalStart,
+                             final long intervalEnd, final String category, final String operation) {
+        super(sessionUuid, position, intervalEnd);
+        this.intervalStart = intervalStart;
+        this.category = category;
+        this.operation = operation;
+    }
+
+    /**
+     * Returns the bucket that counts an execution time.
+     *
+     * @param time The execution time in nanoseconds.
+     * @return The bucket index, from {@code 0} to {@link #HISTOGRAM_BUCKETS}{@code - 1}.
+     */
+    static int bucketIndex(final long time) {
+        if (time < (1L << MIN_EXPONENT)) {
+            return 0;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(time);
+        if (exponent > MAX_EXPONENT) {
+            return HISTOGRAM_BUCKETS - 1;
+        }
+        final int subBucket = (int) (time >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return 1 + (exponent - MIN_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the smallest execution time counted by the bucket that follows a bucket.
+     *
+     * @param index The bucket index.
+     * @return The exclusive upper bound of the bucket in nanoseconds; {@link Long#MAX_VALUE} for the last bucket.
+     */
+    static long bucketUpperBound(final int index) {
+        if (index == 0) {
+            return 1L << MIN_EXPONENT;
+        }
+        if (index >= HISTOGRAM_BUCKETS - 1) {
+            return Long.MAX_VALUE;
+        }
+        final int exponent = MIN_EXPONENT + (index - 1) / SUB_BUCKETS;
+        final int subBucket = (index - 1) % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    /**
+     * Returns the number of operations counted by a histogram bucket.
+     *
+     * @param index The bucket index, from {@code 0} to {@link #HISTOGRAM_BUCKETS}{@code - 1}.
+     * @return The number of operations.
+     */
+    public long getHistogramCount(final int index) {
+        return histogram[index];
+    }
+
+    /**
+     * Returns the number of aggregated operations, regardless of outcome.
+     *
+     * @return The number of operations.
+     */
+    public long getCount() {
+        return okCount + slowCount + rejectCount + failCount;
+    }
+
+    /**
+     * Returns the average execution time.
+     *
+     * @return The average execution time in nanoseconds, or zero if there are no operations.
+     */
+    public double getAverageTime() {
+        final long count = getCount();
+        return count == 0 ? 0.0 : (double) totalTime / count;
+    }
+
+    /**
+     * Returns the number of aggregated operations per second over the interval. The interval is meaningless if the
+     * operations stopped in {@link #isMultipleSessions() more than one JVM session}, as each session measures time
+     * from its own origin.
+     *
+     * @return The throughput in operations per second, or zero if the interval is empty or spans several sessions.
+     */
+    public double getThroughput() {
+        final long interval = getLastCurrentTime() - intervalStart;
+        return interval <= 0 || multipleSessions ? 0.0 : getCount() * 1_000_000_000.0 / interval;
+    }
+
+    /**
+     * Estimates an execution time percentile from the histogram, as the upper bound of the bucket that holds it,
+     * limited to the range of observed execution times.
+     *
+     * @param percentile The percentile, from {@code 0} to {@code 100}.
+     * @return The estimated execution time in nanoseconds, or zero if there are no operations.
+     */
+    public long getPercentileTime(final double percentile) {
+        return percentileTime(histogram, minTime, maxTime, percentile);
+    }
+
+    /**
+     * Estimates an execution time percentile from a histogram, as the upper bound of the bucket that holds it,
+     * limited to the range of observed execution times.
+     *
+     * @param histogram  The number of operations per bucket.
+     * @param minTime    The shortest observed execution time.
+     * @param maxTime    The longest observed execution time.
+     * @param percentile The percentile, from {@code 0} to {@code 100}.
+     * @return The estimated execution time in nanoseconds, or zero if the histogram is empty.
+     */
+    static long percentileTime(final long[] histogram, final long minTime, final long maxTime, final double percentile) {
+        long total = 0;
+        for (final long count : histogram) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long accumulated = 0;
+        for (int index = 0; index < HISTOGRAM_BUCKETS; index++) {
+            accumulated += histogram[index];
+            if (accumulated >= rank) {
+                return Math.max(minTime, Math.min(maxTime, bucketUpperBound(index)));
+            }
+        }
+        return maxTime;
+    }
+
+    /**
+     * Merges counters recorded by one thread into this aggregate. Histogram buckets are merged separately.
+     *
+     * @param okCount     Number of successful operations.
+     * @param slowCount   Number of slow successful operations.
+     * @param rejectCount Number of rejected operations.
+     * @param failCount   Number of failed operations.
+     * @param minTime     Shortest execution time of these operations.
+     * @param maxTime     Longest execution time of these operations.
+     * @param totalTime   Sum of execution times of these operations.
+     */
+    void add(final long okCount, final long slowCount, final long rejectCount, final long failCount,
+             final long minTime, final long maxTime, final long totalTime) {
+        final boolean wasEmpty = getCount() == 0;
+        this.okCount += okCount;
+        this.slowCount += slowCount;
+        this.rejectCount += rejectCount;
+        this.failCount += failCount;
+        this.totalTime += totalTime;
+        if (wasEmpty || minTime < this.minTime) {
+            this.minTime = minTime;
+        }
+        if (wasEmpty || maxTime > this.maxTime) {
+            this.maxTime = maxTime;
+        }
+    }
+
+    /**
+     * Adds the outcome and execution time of one stopped operation to this aggregate, stretching the interval to its
+     * stop time.
+     *
+     * @param data The stopped operation.
+     */
+    void add(final MeterData data) {
+        if (!multipleSessions && !sameSession(data.getSessionUuid())) {
+            multipleSessions = true;
+        }
+        final long time = Math.max(0, data.getExecutionTime());
+        if (data.isFail()) {
+            add(0, 0, 0, 1, time, time, time);
+        } else if (data.isReject()) {
+            add(0, 0, 1, 0, time, time, time);
+        } else if (data.isSlow()) {
+            add(0, 1, 0, 0, time, time, time);
+        } else {
+            add(1, 0, 0, 0, time, time, time);
+        }
+        histogram[bucketIndex(time)]++;
+        if (data.getStopTime() < intervalStart) {
+            intervalStart = data.getStopTime();
+        }
+        if (data.getStopTime() > getLastCurrentTime()) {
+            setLastCurrentTime(data.getStopTime());
+        }
+    }
+
+    /**
+     * Adds the operations of another aggregate of the same category and operation to this aggregate, stretching the
+     * interval to cover both.
+     *
+     * @param other The aggregate whose operations are added.
+     */
+    void merge(final MeterAggregate other) {
+        if (other.getCount() == 0) {
+            return;
+        }
+        if (other.multipleSessions || !sameSession(other.getSessionUuid())) {
+            multipleSessions = true;
+        }
+        add(other.okCount, other.slowCount, other.rejectCount, other.failCount, other.minTime, other.maxTime, other.totalTime);
+        for (int index = 0; index < HISTOGRAM_BUCKETS; index++) {
+            histogram[index] += other.histogram[index];
+        }
+        if (other.intervalStart < intervalStart) {
+            intervalStart = other.intervalStart;
+        }
+        if (other.getLastCurrentTime() > getLastCurrentTime()) {
+            setLastCurrentTime(other.getLastCurrentTime());
+        }
+    }
+
+    private boolean sameSession(final String sessionUuid) {
+        return sessionUuid == null ? getSessionUuid() == null : sessionUuid.equals(getSessionUuid());
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        category = null;
+        operation = null;
+        intervalStart = 0;
+        okCount = 0;
+        slowCount = 0;
+        rejectCount = 0;
+        failCount = 0;
+        minTime = 0;
+        maxTime = 0;
+        totalTime = 0;
+        histogram = new long[HISTOGRAM_BUCKETS];
+        multipleSessions = false;
+    }
+
+    @Override
+    protected void writeJson5(final StringBuilder sb) {
+        super.writeJson5(sb);
+        MeterAggregateJson5.write(this, sb);
+    }
+
+    @Override
+    protected boolean readJson5Property(final Json5Reader reader) {
+        return MeterAggregateJson5.readProperty(this, reader) || super.readJson5Property(reader);
+    }
+
+    /**
+     * Generates a human-readable summary of the aggregate.
+     *
+     * @return A string containing the human-readable message.
+     */
+    public final String readableMessage() {
+        final StringBuilder builder = new StringBuilder(200);
+        MeterAggregateFormatter.readableStringBuilder(this, builder);
+        return builder.toString();
+    }
+
+    /**
+     * Returns the machine-parsable, JSON5-encoded representation of the aggregate.
+     *
+     * @return A string containing the JSON5-encoded message.
+     */
+    public final String json5Message() {
+        return encodeJson5();
+    }
+}
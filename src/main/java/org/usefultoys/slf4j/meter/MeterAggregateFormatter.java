@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import lombok.experimental.UtilityClass;
+import org.usefultoys.slf4j.utils.UnitFormatter;
+
+/**
+ * Formats {@link MeterAggregate} into a human-readable string representation.
+ *
+ * @author Daniel Felix Ferber
+ */
+@UtilityClass
+class MeterAggregateFormatter {
+    /**
+     * Appends a human-readable summary of the MeterAggregate to the provided StringBuilder, such as
+     * {@code AGGREGATE: a.b.Class/op; 120 ok, 3 slow, 0 reject, 1 fail; 1.2ms min, 3.4ms avg, 45ms max; 3.0ms p50, 8.0ms p90, 40ms p99}.
+     *
+     * @param data    The MeterAggregate object to format.
+     * @param builder The StringBuilder to which the readable message will be appended.
+     */
+    @SuppressWarnings("MagicCharacter")
+    void readableStringBuilder(final MeterAggregate data, final StringBuilder builder) {
+        builder.append("AGGREGATE: ").append(data.getCategory());
+        if (data.getOperation() != null) {
+            builder.append('/').append(data.getOperation());
+        }
+        builder.append("; ").append(data.getOkCount()).append(" ok, ")
+                .append(data.getSlowCount()).append(" slow, ")
+                .append(data.getRejectCount()).append(" reject, ")
+                .append(data.getFailCount()).append(" fail");
+        if (data.getCount() > 0) {
+            builder.append("; ");
+            UnitFormatter.nanoseconds(builder, data.getMinTime());
+            builder.append(" min, ");
+            UnitFormatter.nanoseconds(builder, data.getAverageTime());
+            builder.append(" avg, ");
+            UnitFormatter.nanoseconds(builder, data.getMaxTime());
+            builder.append(" max; ");
+            UnitFormatter.nanoseconds(builder, data.getPercentileTime(50));
+            builder.append(" p50, ");
+            UnitFormatter.nanoseconds(builder, data.getPercentileTime(90));
+            builder.append(" p90, ");
+            UnitFormatter.nanoseconds(builder, data.getPercentileTime(99));
+            builder.append(" p99");
+        }
+    }
+}
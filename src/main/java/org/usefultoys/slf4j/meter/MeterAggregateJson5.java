@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import lombok.experimental.UtilityClass;
+import org.usefultoys.slf4j.internal.Json5Reader;
+
+import java.util.Map;
+
+/**
+ * A package-private utility class responsible for serializing and deserializing
+ * {@link MeterAggregate} objects to and from a JSON5-like string format.
+ *
+ * @author Daniel Felix Ferber
+ */
+@UtilityClass
+class MeterAggregateJson5 {
+
+    /** JSON property key for event category. */
+    private static final String EVENT_CATEGORY = "c";
+    /** JSON property key for event name. */
+    private static final String EVENT_NAME = "n";
+    /** JSON property key for the timestamp when the interval started. */
+    private static final String PROP_INTERVAL_START = "ti";
+    /** JSON property key for the tuple of ok, slow, reject and fail counts. */
+    private static final String PROP_COUNTS = "ac";
+    /** JSON property key for the tuple of minimum, maximum and total execution time. */
+    private static final String PROP_TIMES = "at";
+    /** JSON property key for the map of non-empty histogram buckets to their counts. */
+    private static final String PROP_HISTOGRAM = "ah";
+
+    /**
+     * Serializes MeterAggregate attributes to JSON5-like format and appends them to the provided StringBuilder.
+     * Only non-empty histogram buckets are serialized.
+     *
+     * @param data The MeterAggregate object to serialize.
+     * @param sb   The StringBuilder to append the serialized data to.
+     */
+    @SuppressWarnings("MagicCharacter")
+    void write(final MeterAggregate data, final StringBuilder sb) {
+        if (data.category != null) {
+            sb.append(',').append(EVENT_CATEGORY).append(':').append(data.category);
+        }
+        if (data.operation != null) {
+            sb.append(',').append(EVENT_NAME).append(':').append(data.operation);
+        }
+        if (data.intervalStart != 0) {
+            sb.append(',').append(PROP_INTERVAL_START).append(':').append(data.intervalStart);
+        }
+        sb.append(',').append(PROP_COUNTS).append(":[")
+                .append(data.okCount).append(',')
+                .append(data.slowCount).append(',')
+                .append(data.rejectCount).append(',')
+                .append(data.failCount).append(']');
+        sb.append(',').append(PROP_TIMES).append(":[")
+                .append(data.minTime).append(',')
+                .append(data.maxTime).append(',')
+                .append(data.totalTime).append(']');
+        boolean separatorNeeded = false;
+        for (int index = 0; index < MeterAggregate.HISTOGRAM_BUCKETS; index++) {
+            final long count = data.histogram[index];
+            if (count == 0) {
+                continue;
+            }
+            if (separatorNeeded) {
+                sb.append(',');
+            } else {
+                sb.append(',').append(PROP_HISTOGRAM).append(":{");
+                separatorNeeded = true;
+            }
+            sb.append(index).append(':').append(count);
+        }
+        if (separatorNeeded) {
+            sb.append('}');
+        }
+    }
+
+    /**
+     * Populates the MeterAggregate attribute that corresponds to the current property of the reader.
+     *
+     * @param data   The MeterAggregate object to populate.
+     * @param reader The reader positioned on a property.
+     * @return {@code true} if the property is a MeterAggregate attribute.
+     */
+    boolean readProperty(final MeterAggregate data, final Json5Reader reader) {
+        if (reader.isKey(EVENT_CATEGORY)) {
+            data.category = reader.wordValue(data.category);
+        } else if (reader.isKey(EVENT_NAME)) {
+            data.operation = reader.wordValue(data.operation);
+        } else if (reader.isKey(PROP_INTERVAL_START)) {
+            data.intervalStart = reader.longValue(data.intervalStart);
+        } else if (reader.isKey(PROP_COUNTS)) {
+            if (reader.tupleValue(4)) {
+                data.okCount = reader.tupleElement(0);
+                data.slowCount = reader.tupleElement(1);
+                data.rejectCount = reader.tupleElement(2);
+                data.failCount = reader.tupleElement(3);
+            }
+        } else if (reader.isKey(PROP_TIMES)) {
+            if (reader.tupleValue(3)) {
+                data.minTime = reader.tupleElement(0);
+                data.maxTime = reader.tupleElement(1);
+                data.totalTime = reader.tupleElement(2);
+            }
+        } else if (reader.isKey(PROP_HISTOGRAM)) {
+            final Map<String, String> buckets = reader.mapValue(null);
+            if (buckets != null) {
+                for (final Map.Entry<String, String> entry : buckets.entrySet()) {
+                    readBucket(data, entry.getKey(), entry.getValue());
+                }
+            }
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private void readBucket(final MeterAggregate data, final String index, final String count) {
+        final int bucket = Integer.parseInt(index);
+        if (count != null && bucket >= 0 && bucket < MeterAggregate.HISTOGRAM_BUCKETS) {
+            data.histogram[bucket] = Long.parseLong(count);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import lombok.experimental.UtilityClass;
+import org.usefultoys.slf4j.Session;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Aggregates the outcomes of {@link Meter} instances per category and operation, so that statistics remain visible
+ * when per-event messages are disabled or logged at a coarser level.
+ * <p>
+ * If {@link MeterConfig#aggregationEnabled} is set, every terminal transition ({@code ok()}, {@code reject()},
+ * {@code fail()} and {@code close()}) is counted, regardless of the level enabled for the meter loggers. Each thread
+ * records into cells of its own, so recording never contends with other threads nor takes a lock. {@link #drain()}
+ * merges and resets the cells of all threads into one {@link MeterAggregate} per category and operation that
+ * stopped since the previous call; the {@link org.usefultoys.slf4j.watcher.Watcher} calls it on each run and
+ * reports the aggregates on its own loggers.
+ * <p>
+ * Cells are merged without stopping recording threads: an operation that stops while its cell is being merged is
+ * still counted exactly once, but may have its count reported in one interval and its execution time in the next.
+ * Cells of terminated threads are discarded once merged.
+ *
+ * @author Daniel Felix Ferber
+ * @see MeterAggregate
+ */
+@UtilityClass
+public class MeterAggregator {
+
+    /* Slots of the counters of a cell. */
+    private final int SLOT_OK = 0;
+    private final int SLOT_SLOW = 1;
+    private final int SLOT_REJECT = 2;
+    private final int SLOT_FAIL = 3;
+    private final int SLOT_MIN = 4;
+    private final int SLOT_MAX = 5;
+    private final int SLOT_TOTAL = 6;
+    private final int SLOT_HISTOGRAM = 7;
+
+    /** Cells of all threads, as visited by {@link #drain()}. */
+    private final Queue<Cell> CELLS = new ConcurrentLinkedQueue<>();
+    /** Cells of the current thread, looked up by category and then by operation. */
+    private final ThreadLocal<Recorder> RECORDER = ThreadLocal.withInitial(Recorder::new);
+    /** Incremented by {@link #clear()}, so that threads stop recording into cells that were discarded. */
+    private volatile int generation = 0;
+
+    /** Guards the state of the merging thread. */
+    private final Object DRAIN_LOCK = new Object();
+    /** Position of the last aggregate reported for each category and operation. */
+    private final Map<String, Long> POSITIONS = new HashMap<>();
+    /** Timestamp (nanoseconds) of the previous merge. */
+    private long intervalStart = System.nanoTime();
+
+    /**
+     * Counters of one category and operation, written only by the owner thread and merged by {@link #drain()}.
+     */
+    static final class Cell {
+        final String category;
+        final String operation;
+        private final WeakReference<Thread> owner;
+        private final AtomicLongArray slots = new AtomicLongArray(SLOT_HISTOGRAM + MeterAggregate.HISTOGRAM_BUCKETS);
+
+        Cell(final String category, final String operation) {
+            this.category = category;
+            this.operation = operation;
+            owner = new WeakReference<>(Thread.currentThread());
+            slots.set(SLOT_MIN, Long.MAX_VALUE);
+        }
+
+        void record(final int outcome, final long time) {
+            slots.getAndIncrement(outcome);
+            slots.getAndAdd(SLOT_TOTAL, time);
+            long min = slots.get(SLOT_MIN);
+            while (time < min && !slots.compareAndSet(SLOT_MIN, min, time)) {
+                min = slots.get(SLOT_MIN);
+            }
+            long max = slots.get(SLOT_MAX);
+            while (time > max && !slots.compareAndSet(SLOT_MAX, max, time)) {
+                max = slots.get(SLOT_MAX);
+            }
+            slots.getAndIncrement(SLOT_HISTOGRAM + MeterAggregate.bucketIndex(time));
+        }
+
+        /**
+         * Moves the counters of this cell into an aggregate, leaving the cell empty.
+         *
+         * @param aggregate The aggregate that receives the counters.
+         * @return {@code true} if the cell had counted any operation.
+         */
+        boolean drainTo(final MeterAggregate aggregate) {
+            final long ok = slots.getAndSet(SLOT_OK, 0);
+            final long slow = slots.getAndSet(SLOT_SLOW, 0);
+            final long reject = slots.getAndSet(SLOT_REJECT, 0);
+            final long fail = slots.getAndSet(SLOT_FAIL, 0);
+            final long min = slots.getAndSet(SLOT_MIN, Long.MAX_VALUE);
+            final long max = slots.getAndSet(SLOT_MAX, 0);
+            final long total = slots.getAndSet(SLOT_TOTAL, 0);
+            boolean drained = false;
+            for (int index = 0; index < MeterAggregate.HISTOGRAM_BUCKETS; index++) {
+                if (slots.get(SLOT_HISTOGRAM + index) != 0) {
+                    aggregate.histogram[index] += slots.getAndSet(SLOT_HISTOGRAM + index, 0);
+                    drained = true;
+                }
+            }
+            if (ok + slow + reject + fail == 0) {
+                /* An operation stopping right now may have its histogram bucket drained before its count. */
+                return drained;
+            }
+            aggregate.add(ok, slow, reject, fail, min == Long.MAX_VALUE ? 0 : min, max, total);
+            return true;
+        }
+
+        boolean isOwnerTerminated() {
+            final Thread thread = owner.get();
+            return thread == null || !thread.isAlive();
+        }
+    }
+
+    /**
+     * Cells of one thread.
+     */
+    private static final class Recorder {
+        private int generation = MeterAggregator.generation;
+        private Map<String, Map<String, Cell>> categories = new HashMap<>();
+
+        Cell cell(final String category, final String operation) {
+            final int current = MeterAggregator.generation;
+            if (generation != current) {
+                generation = current;
+                categories = new HashMap<>();
+            }
+            Map<String, Cell> operations = categories.get(category);
+            if (operations == null) {
+                operations = new HashMap<>();
+                categories.put(category, operations);
+            }
+            Cell cell = operations.get(operation);
+            if (cell == null) {
+                cell = new Cell(category, operation);
+                operations.put(operation, cell);
+                CELLS.add(cell);
+            }
+            return cell;
+        }
+    }
+
+    /**
+     * Counts the outcome of a meter that has just stopped, if aggregation is enabled.
+     *
+     * @param meter The meter.
+     */
+    void record(final Meter meter) {
+        if (!MeterConfig.aggregationEnabled) {
+            return;
+        }
+        final int outcome;
+        if (meter.isFail()) {
+            outcome = SLOT_FAIL;
+        } else if (meter.isReject()) {
+            outcome = SLOT_REJECT;
+        } else if (meter.isSlow()) {
+            outcome = SLOT_SLOW;
+        } else {
+            outcome = SLOT_OK;
+        }
+        RECORDER.get().cell(meter.getCategory(), meter.getOperation())
+                .record(outcome, Math.max(0, meter.getExecutionTime()));
+    }
+
+    /**
+     * Merges and resets the outcomes recorded by all threads since the previous call.
+     *
+     * @return One aggregate per category and operation with at least one outcome, ordered by category and operation.
+     */
+    public List<MeterAggregate> drain() {
+        synchronized (DRAIN_LOCK) {
+            final String sessionUuid = Session.shortSessionUuid();
+            final long now = System.nanoTime();
+            final Map<String, MeterAggregate> aggregates = new HashMap<>();
+            final Iterator<Cell> iterator = CELLS.iterator();
+            while (iterator.hasNext()) {
+                final Cell cell = iterator.next();
+                /* Checked before draining, so that nothing recorded after the check is discarded. */
+                final boolean terminated = cell.isOwnerTerminated();
+                final String key = cell.operation == null ? cell.category : cell.category + '/' + cell.operation;
+                MeterAggregate aggregate = aggregates.get(key);
+                if (aggregate == null) {
+                    final Long previous = POSITIONS.get(key);
+                    final long position = previous == null ? 1 : previous + 1;
+                    aggregate = new MeterAggregate(sessionUuid, position, intervalStart, now, cell.category, cell.operation);
+                }
+                if (cell.drainTo(aggregate) && aggregates.put(key, aggregate) == null) {
+                    POSITIONS.put(key, aggregate.getPosition());
+                }
+                if (terminated) {
+                    iterator.remove();
+                }
+            }
+            intervalStart = now;
+            final List<MeterAggregate> result = new ArrayList<>(aggregates.values());
+            result.sort(Comparator.comparing(MeterAggregate::getCategory)
+                    .thenComparing(MeterAggregate::getOperation, Comparator.nullsFirst(Comparator.naturalOrder())));
+            return result;
+        }
+    }
+
+    /**
+     * Discards all recorded outcomes and positions. Intended for tests.
+     */
+    public void clear() {
+        synchronized (DRAIN_LOCK) {
+            generation++;
+            CELLS.clear();
+            POSITIONS.clear();
+            intervalStart = System.nanoTime();
+        }
+    }
+}
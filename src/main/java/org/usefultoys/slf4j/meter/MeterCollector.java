@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A package-private accumulator of the outcomes of the sub-operations of a collecting {@link Meter} (see
+ * {@link Meter#collecting()}).
+ * <p>
+ * Sub-operations may stop concurrently on any thread, for example on the workers of a
+ * {@link java.util.concurrent.ForkJoinPool}. Each one is folded into striped adders and atomic counters without
+ * taking a lock. Execution times are counted in the log-linear histogram of {@link MeterAggregate}, from which the
+ * parent estimates percentiles when it stops.
+ *
+ * @author Daniel Felix Ferber
+ */
+final class MeterCollector {
+
+    private final LongAdder okCount = new LongAdder();
+    private final LongAdder slowCount = new LongAdder();
+    private final LongAdder rejectCount = new LongAdder();
+    private final LongAdder failCount = new LongAdder();
+    private final LongAdder iterations = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+    private final AtomicLong minTime = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLongArray histogram = new AtomicLongArray(MeterAggregate.HISTOGRAM_BUCKETS);
+    /** Longest sub-operation so far; replaced only when a longer one stops, so that fast ones allocate nothing. */
+    private final AtomicReference<Slowest> slowest = new AtomicReference<>(new Slowest(0, null));
+
+    /**
+     * Execution time and full ID of the longest sub-operation.
+     */
+    private static final class Slowest {
+        final long time;
+        final String fullId;
+
+        Slowest(final long time, final String fullId) {
+            this.time = time;
+            this.fullId = fullId;
+        }
+    }
+
+    /**
+     * Folds the outcome of a sub-operation that has just stopped.
+     *
+     * @param child The sub-operation.
+     */
+    void record(final Meter child) {
+        if (child.isFail()) {
+            failCount.increment();
+        } else if (child.isReject()) {
+            rejectCount.increment();
+        } else if (child.isSlow()) {
+            slowCount.increment();
+        } else {
+            okCount.increment();
+        }
+        final long iterationCount = child.getCurrentIteration();
+        if (iterationCount != 0) {
+            iterations.add(iterationCount);
+        }
+        final long time = Math.max(0, child.getExecutionTime());
+        totalTime.add(time);
+        histogram.getAndIncrement(MeterAggregate.bucketIndex(time));
+        long min = minTime.get();
+        while (time < min && !minTime.compareAndSet(min, time)) {
+            min = minTime.get();
+        }
+        Slowest current = slowest.get();
+        if (time > current.time) {
+            final Slowest candidate = new Slowest(time, child.getFullID());
+            while (time > current.time && !slowest.compareAndSet(current, candidate)) {
+                current = slowest.get();
+            }
+        }
+    }
+
+    /**
+     * Copies the accumulated outcomes into the data of the parent, as it stops.
+     *
+     * @param parent The collecting meter.
+     */
+    void reportTo(final MeterData parent) {
+        parent.childOkCount = okCount.sum();
+        parent.childSlowCount = slowCount.sum();
+        parent.childRejectCount = rejectCount.sum();
+        parent.childFailCount = failCount.sum();
+        parent.childIterations = iterations.sum();
+        if (parent.getChildCount() == 0) {
+            return;
+        }
+        final long[] counts = new long[MeterAggregate.HISTOGRAM_BUCKETS];
+        for (int index = 0; index < counts.length; index++) {
+            counts[index] = histogram.get(index);
+        }
+        final Slowest longest = slowest.get();
+        final long min = minTime.get();
+        parent.childMinTime = min == Long.MAX_VALUE ? 0 : min;
+        parent.childMaxTime = longest.time;
+        parent.childTotalTime = totalTime.sum();
+        parent.childMedianTime = MeterAggregate.percentileTime(counts, parent.childMinTime, longest.time, 50);
+        parent.childP90Time = MeterAggregate.percentileTime(counts, parent.childMinTime, longest.time, 90);
+        parent.childP99Time = MeterAggregate.percentileTime(counts, parent.childMinTime, longest.time, 99);
+        parent.slowestChild = longest.fullId;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * A package-private helper that ties the terminal transition of a started {@link MeterExecutor} to the completion of a
+ * {@link CompletableFuture}, for {@link MeterExecutor#callAsync} and {@link MeterExecutor#runAsync}.
+ * <p>
+ * The future is obtained on the calling thread, while the meter is still its current instance, so that sub-operations
+ * started by the supplier become children of the meter. The meter is then detached from the calling thread. Its
+ * terminal transition runs on whatever thread completes the future and leaves the current instance of that thread
+ * untouched. Nothing here waits for the future.
+ *
+ * @author Daniel Felix Ferber
+ */
+@UtilityClass
+class MeterCompletion {
+
+    /**
+     * Obtains the future from the supplier and attaches the handler that completes the meter.
+     *
+     * @param executor           The started meter.
+     * @param supplier           Supplies the future of the asynchronous operation.
+     * @param keepResult         {@code true} to store the result in the context under
+     *                           {@link MeterExecutor#CONTEXT_RESULT}.
+     * @param exceptionsToReject Exception classes that result in {@code REJECT} instead of {@code FAIL}.
+     * @param <T>                The type of the result of the future.
+     * @return A future that completes like the supplied one, after the meter has completed.
+     */
+    <T> CompletableFuture<T> attach(final MeterExecutor<?> executor, final Supplier<CompletableFuture<T>> supplier,
+                                    final boolean keepResult, final Class<? extends Exception>[] exceptionsToReject) {
+        CompletableFuture<T> future;
+        try {
+            future = supplier.get();
+            if (future == null) {
+                future = failedFuture(new NullPointerException("Supplier returned no future."));
+            }
+        } catch (final RuntimeException e) {
+            /* Report a synchronous failure through the future as well, so that callers handle a single path. */
+            future = failedFuture(e);
+        } catch (final Error e) {
+            /* Not turned into a failed future, but the meter must not remain started. */
+            executor.fail(e);
+            throw e;
+        } finally {
+            if (executor instanceof Meter) {
+                ((Meter) executor).detach();
+            }
+        }
+        return future.whenComplete((result, failure) -> {
+            if (failure == null) {
+                /* Only add result context if meter is not yet stopped, as in MeterExecutor.call(). */
+                if (!executor.isStopped()) {
+                    if (keepResult) {
+                        executor.putContext(MeterExecutor.CONTEXT_RESULT, result);
+                    }
+                    executor.ok();
+                }
+                return;
+            }
+            final Throwable cause = unwrap(failure);
+            for (final Class<? extends Exception> exceptionClass : exceptionsToReject) {
+                if (exceptionClass.isInstance(cause)) {
+                    executor.reject(cause);
+                    return;
+                }
+            }
+            executor.fail(cause);
+        });
+    }
+
+    /**
+     * Removes the {@link CompletionException} or {@link ExecutionException} layers that dependent stages add around
+     * the exception that actually failed the operation.
+     *
+     * @param failure The exception that completed the future.
+     * @return The innermost cause.
+     */
+    Throwable unwrap(final Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private <T> CompletableFuture<T> failedFuture(final Throwable failure) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(failure);
+        return future;
+    }
+}
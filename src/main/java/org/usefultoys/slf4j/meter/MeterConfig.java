@@ -62,6 +62,22 @@ public class MeterConfig {
     public final String PROP_PRINT_POSITION = "slf4jtoys.meter.print.position";
     /** System property key for enabling/disabling status printing in readable messages. */
     public final String PROP_PRINT_STATUS = "slf4jtoys.meter.print.status";
+    /** System property key for the sample of started meters tracked for leaks. */
+    public final String PROP_LEAK_TRACKING_SAMPLE = "slf4jtoys.meter.leak.sample";
+    /** System property key for the number of positions reserved at once by each thread. */
+    public final String PROP_POSITION_BLOCK_SIZE = "slf4jtoys.meter.position.block";
+    /** System property key for the number of borrowed meters kept for reuse by each thread. */
+    public final String PROP_POOL_CAPACITY = "slf4jtoys.meter.pool.capacity";
+    /** System property key for enabling/disabling aggregation of meter outcomes. */
+    public final String PROP_AGGREGATION_ENABLED = "slf4jtoys.meter.aggregation.enabled";
+    /** System property key for the capacity of the asynchronous emission buffer. */
+    public final String PROP_ASYNC_CAPACITY = "slf4jtoys.meter.async.capacity";
+    /** System property key for blocking instead of dropping when the asynchronous emission buffer is full. */
+    public final String PROP_ASYNC_BLOCK = "slf4jtoys.meter.async.block";
+    /** System property key for the sampling rules of successful operation messages. */
+    public final String PROP_SAMPLING = "slf4jtoys.meter.sampling";
+    /** System property key for writing data channel messages in the compact binary encoding. */
+    public final String PROP_DATA_BINARY = "slf4jtoys.meter.data.binary";
 
     static {
         init();
@@ -168,6 +184,92 @@ public class MeterConfig {
      */
     public String messageSuffix;
 
+    /**
+     * Tracks one in every N started {@link Meter} instances to report those that are garbage-collected without having
+     * been stopped. Zero disables tracking; one tracks every started meter.
+     * <p>
+     * Tracking has a small cost per tracked meter, so large values are recommended for production, where a sample is
+     * enough to reveal a forgotten {@code ok()}/{@code reject()}/{@code fail()}.
+     * <p>
+     * Value is read from system property {@code slf4jtoys.meter.leak.sample}, defaulting to {@code 0} (disabled).
+     * Can be assigned a new value at runtime.
+     */
+    public int leakTrackingSample;
+
+    /**
+     * Number of positions each thread reserves at once from the counter of a category and operation. One assigns
+     * positions strictly in the order meters are created. Larger values let many threads create meters for the same
+     * operation without contending on its counter; positions stay unique, but are no longer ordered across threads.
+     * <p>
+     * Value is read from system property {@code slf4jtoys.meter.position.block}, defaulting to {@code 1}.
+     * Can be assigned a new value at runtime.
+     */
+    public int positionBlockSize;
+
+    /**
+     * Number of meters borrowed by {@link MeterFactory#borrow(org.slf4j.Logger)} that each thread keeps for reuse
+     * after their terminal transition. Zero disables reuse: every borrow creates a new meter.
+     * <p>
+     * Value is read from system property {@code slf4jtoys.meter.pool.capacity}, defaulting to {@code 8}.
+     * Can be assigned a new value at runtime.
+     */
+    public int poolCapacity;
+
+    /**
+     * Determines if the outcome of every stopped {@link Meter} is aggregated per category and operation by
+     * {@link MeterAggregator}, independently of the levels enabled for the meter loggers. The aggregates are reported
+     * by each run of the {@link org.usefultoys.slf4j.watcher.Watcher}.
+     * <p>
+     * Value is read from system property {@code slf4jtoys.meter.aggregation.enabled}, defaulting to {@code false}.
+     * Can be assigned a new value at runtime.
+     */
+    public boolean aggregationEnabled;
+
+    /**
+     * Number of terminal events of {@link Meter} instances buffered for emission by a background thread, as
+     * described by {@link MeterEmitter}. Zero emits terminal messages synchronously, on the thread that stops the
+     * meter. The capacity is rounded up to a power of two, at least two, and applies to the buffer created by the next
+     * event emitted after start or after {@link MeterEmitter#stop(long)}.
+     * <p>
+     * Value is read from system property {@code slf4jtoys.meter.async.capacity}, defaulting to {@code 0} (synchronous).
+     * Can be assigned a new value at runtime.
+     */
+    public int asyncCapacity;
+
+    /**
+     * Determines if a thread stopping a {@link Meter} waits for room when the asynchronous emission buffer is full.
+     * If disabled, data messages are discarded when the buffer is three quarters full and whole events when it is
+     * full; both are counted and reported with the next message.
+     * <p>
+     * Value is read from system property {@code slf4jtoys.meter.async.block}, defaulting to {@code false}.
+     * Can be assigned a new value at runtime.
+     */
+    public boolean asyncBlockOnOverflow;
+
+    /**
+     * Comma-separated rules that limit how many messages of fast successful operations are logged, as described by
+     * {@link MeterSampler}. Each rule is {@code prefix=policy}, where the prefix matches the start of the category, or
+     * of the operation when written as {@code category/operation}, and the policy is {@code 1/N} (one in every N),
+     * {@code K/s} (at most K per second) or {@code all}. Slow, rejected and failed operations are always logged.
+     * Empty logs every message.
+     * <p>
+     * Value is read from system property {@code slf4jtoys.meter.sampling}, defaulting to an empty string.
+     * Can be assigned a new value at runtime.
+     */
+    public String samplingRules;
+
+    /**
+     * Determines if the data channel receives the compact binary encoding of {@link MeterData} instead of the JSON5
+     * encoding. The binary message is a single line starting with {@code ~}. Numeric attributes, as system metrics and
+     * timestamps, take about half of their JSON5 size; strings, as category and context, take the same size. The
+     * binary message is not readable without decoding; both encodings are read back by
+     * {@link MeterData#readMessage(String)}.
+     * <p>
+     * Value is read from system property {@code slf4jtoys.meter.data.binary}, defaulting to {@code false}.
+     * Can be assigned a new value at runtime.
+     */
+    public boolean dataBinary;
+
     /**
      * Initializes the configuration attributes by reading the corresponding system properties.
      * This method should be called at application startup to ensure they are properly initialized.
@@ -183,6 +285,16 @@ public class MeterConfig {
         dataSuffix = ConfigParser.getProperty(PROP_DATA_SUFFIX, "");
         messagePrefix = ConfigParser.getProperty(PROP_MESSAGE_PREFIX, "");
         messageSuffix = ConfigParser.getProperty(PROP_MESSAGE_SUFFIX, "");
+        leakTrackingSample = ConfigParser.getRangeProperty(PROP_LEAK_TRACKING_SAMPLE, 0, 0, Integer.MAX_VALUE);
+        positionBlockSize = ConfigParser.getRangeProperty(PROP_POSITION_BLOCK_SIZE, 1, 1, 65536);
+        poolCapacity = ConfigParser.getRangeProperty(PROP_POOL_CAPACITY, 8, 0, 1024);
+        aggregationEnabled = ConfigParser.getProperty(PROP_AGGREGATION_ENABLED, false);
+        asyncCapacity = ConfigParser.getRangeProperty(PROP_ASYNC_CAPACITY, 0, 0, 1 << 20);
+        asyncBlockOnOverflow = ConfigParser.getProperty(PROP_ASYNC_BLOCK, false);
+        samplingRules = ConfigParser.getProperty(PROP_SAMPLING, "");
+        dataBinary = ConfigParser.getProperty(PROP_DATA_BINARY, false);
+        MeterSampler.configure(samplingRules);
+        MeterLoggerCache.clear();
     }
 
     /**
@@ -200,6 +312,14 @@ public class MeterConfig {
         System.clearProperty(PROP_DATA_SUFFIX);
         System.clearProperty(PROP_MESSAGE_PREFIX);
         System.clearProperty(PROP_MESSAGE_SUFFIX);
+        System.clearProperty(PROP_LEAK_TRACKING_SAMPLE);
+        System.clearProperty(PROP_POSITION_BLOCK_SIZE);
+        System.clearProperty(PROP_POOL_CAPACITY);
+        System.clearProperty(PROP_AGGREGATION_ENABLED);
+        System.clearProperty(PROP_ASYNC_CAPACITY);
+        System.clearProperty(PROP_ASYNC_BLOCK);
+        System.clearProperty(PROP_SAMPLING);
+        System.clearProperty(PROP_DATA_BINARY);
         init();
     }
 }
@@ -18,6 +18,9 @@ package org.usefultoys.slf4j.meter;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.usefultoys.slf4j.internal.BinaryReader;
+import org.usefultoys.slf4j.internal.BinaryWriter;
+import org.usefultoys.slf4j.internal.Json5Reader;
 import org.usefultoys.slf4j.internal.SystemData;
 
 import java.util.Collections;
@@ -57,6 +60,19 @@ public class MeterData extends SystemData implements MeterAnalysis {
         createTime = collectCurrentTime();
     }
 
+    /**
+     * Constructs a MeterData instance for a new operation, sharing the identity fragments of the operation.
+     *
+     * @param uuid     The session UUID.
+     * @param position The sequential position of the operation.
+     * @param identity The identity shared by all meters of the category and operation.
+     * @param parent   The full ID of the parent operation, if this is a sub-operation.
+     */
+    MeterData(final String uuid, final long position, final MeterIdentity identity, final String parent) {
+        this(uuid, position, identity.category, identity.operation, parent);
+        this.identity = identity;
+    }
+
     /**
      * Constructs a MeterData instance with all fields, primarily for testing or deserialization.
      *
@@ -128,6 +144,15 @@ public class MeterData extends SystemData implements MeterAnalysis {
      * The full ID of the parent operation if this Meter was created as a sub-operation. {@code null} otherwise.
      */
     String parent = null;
+    /**
+     * Identity fragments, shared by all meters of the operation, or derived for this instance alone. Validated against
+     * {@link #category} and {@link #operation} on each use.
+     */
+    @Getter(AccessLevel.NONE)
+    private transient MeterIdentity identity = null;
+    /** Cached full ID, validated against {@link #identity} and the position on each use. */
+    @Getter(AccessLevel.NONE)
+    private transient MeterIdentity.FullId fullId = null;
     /**
      * An arbitrary short, human-readable message describing the operation.
      */
@@ -179,6 +204,45 @@ public class MeterData extends SystemData implements MeterAnalysis {
      * exception. Only set in conjunction with {@link #failPath}.
      */
     String failMessage = null;
+    /**
+     * The number of executions suppressed by the sampling rule of the operation (see {@link MeterSampler}) since the
+     * previous message logged under the same rule. Zero if no execution was suppressed.
+     */
+    long suppressedCount = 0;
+    /**
+     * The number of sub-operations collected by this operation (see {@link Meter#collecting()}) that completed
+     * successfully within their time limit. Zero if no sub-operation was collected.
+     */
+    long childOkCount = 0;
+    /** The number of collected sub-operations that completed successfully, but exceeded their time limit. */
+    long childSlowCount = 0;
+    /** The number of collected sub-operations that were rejected. */
+    long childRejectCount = 0;
+    /** The number of collected sub-operations that failed. */
+    long childFailCount = 0;
+    /** The sum of iterations of all collected sub-operations. */
+    long childIterations = 0;
+    /** The shortest execution time (nanoseconds) of the collected sub-operations. */
+    long childMinTime = 0;
+    /** The estimated median execution time (nanoseconds) of the collected sub-operations. */
+    long childMedianTime = 0;
+    /** The estimated 90th percentile execution time (nanoseconds) of the collected sub-operations. */
+    long childP90Time = 0;
+    /** The estimated 99th percentile execution time (nanoseconds) of the collected sub-operations. */
+    long childP99Time = 0;
+    /** The longest execution time (nanoseconds) of the collected sub-operations. */
+    long childMaxTime = 0;
+    /** The sum of execution times (nanoseconds) of the collected sub-operations. */
+    long childTotalTime = 0;
+    /** The full ID of the collected sub-operation with the longest execution time, or {@code null} if none. */
+    String slowestChild = null;
+    /**
+     * The number of sub-operations created by {@link Meter#sub(String)} that stopped while this operation was running,
+     * whether collected or not. Volatile, as sub-operations may stop on other threads.
+     */
+    volatile long subCount = 0;
+    /** The sum of execution times (nanoseconds) of the sub-operations counted by {@link #subCount}. */
+    volatile long subTime = 0;
 
     /**
      * Additional key-value pairs providing context for the operation.
@@ -246,12 +310,30 @@ public class MeterData extends SystemData implements MeterAnalysis {
      *
      * @return A string representing the full ID of the MeterData.
      */
-    @SuppressWarnings("MagicCharacter")
     public String getFullID() {
-        if (operation == null) {
-            return category + '#' + getPosition();
+        final MeterIdentity current = identity();
+        final long position = getPosition();
+        MeterIdentity.FullId id = fullId;
+        if (id == null || id.identity != current || id.position != position) {
+            id = new MeterIdentity.FullId(current, position);
+            fullId = id;
+        }
+        return id.value;
+    }
+
+    /**
+     * Returns the text fragments that identify the operation, deriving them again only if the category or operation
+     * changed since they were last derived.
+     *
+     * @return The identity fragments for the current category and operation.
+     */
+    final MeterIdentity identity() {
+        MeterIdentity current = identity;
+        if (current == null || !current.matches(category, operation)) {
+            current = new MeterIdentity(category, operation);
+            identity = current;
         }
-        return String.format("%s/%s#%d", category, operation, getPosition());
+        return current;
     }
 
     /**
@@ -302,17 +384,146 @@ public class MeterData extends SystemData implements MeterAnalysis {
         failPath = null;
         failMessage = null;
         timeLimit = 0;
+        suppressedCount = 0;
+        resetChildren();
         context = null;
     }
 
+    private void resetChildren() {
+        childOkCount = 0;
+        childSlowCount = 0;
+        childRejectCount = 0;
+        childFailCount = 0;
+        childIterations = 0;
+        childMinTime = 0;
+        childMedianTime = 0;
+        childP90Time = 0;
+        childP99Time = 0;
+        childMaxTime = 0;
+        childTotalTime = 0;
+        slowestChild = null;
+        subCount = 0;
+        subTime = 0;
+    }
+
+    /**
+     * Returns the time spent by this operation in its own code, that is, its execution time minus the execution time
+     * of its sub-operations. Sub-operations that run in parallel may add up to more than the execution time; the self
+     * time is then zero.
+     *
+     * @return The self time in nanoseconds.
+     */
+    public long getSelfTime() {
+        return Math.max(0, getExecutionTime() - subTime);
+    }
+
+    /**
+     * Returns the number of sub-operations collected by this operation, regardless of outcome.
+     *
+     * @return The number of collected sub-operations.
+     */
+    public long getChildCount() {
+        return childOkCount + childSlowCount + childRejectCount + childFailCount;
+    }
+
+    /**
+     * Reverts all attributes to their initial values and assigns a new identity, as if newly constructed for a new
+     * operation. The context map, if any, is emptied and kept for reuse.
+     *
+     * @param uuid      The session UUID.
+     * @param position  The sequential position of the operation.
+     * @param category  The category name of the operation.
+     * @param operation The name of the operation.
+     * @param parent    The full ID of the parent operation, if this is a sub-operation.
+     */
+    protected final void reset(final String uuid, final long position, final String category, final String operation, final String parent) {
+        final Map<String, String> reusableContext = context;
+        reset(uuid, position);
+        if (reusableContext != null) {
+            reusableContext.clear();
+            context = reusableContext;
+        }
+        this.category = category;
+        this.operation = operation;
+        this.parent = parent;
+        createTime = collectCurrentTime();
+    }
+
+    /**
+     * Reverts all attributes to their initial values and assigns a new identity, sharing the identity fragments of
+     * the operation.
+     *
+     * @param uuid     The session UUID.
+     * @param position The sequential position of the operation.
+     * @param identity The identity shared by all meters of the category and operation.
+     * @param parent   The full ID of the parent operation, if this is a sub-operation.
+     */
+    final void reset(final String uuid, final long position, final MeterIdentity identity, final String parent) {
+        reset(uuid, position, identity.category, identity.operation, parent);
+        this.identity = identity;
+    }
+
+    /**
+     * Copies all attributes from another instance, so that the copy can be reported after the source has moved on.
+     * The context entries are copied into the context map of this instance, which is kept for reuse.
+     *
+     * @param source The instance to copy from.
+     */
+    final void copyFrom(final MeterData source) {
+        copyFrom((SystemData) source);
+        category = source.category;
+        operation = source.operation;
+        parent = source.parent;
+        identity = source.identity;
+        fullId = source.fullId;
+        description = source.description;
+        okPath = source.okPath;
+        rejectPath = source.rejectPath;
+        createTime = source.createTime;
+        startTime = source.startTime;
+        stopTime = source.stopTime;
+        currentIteration = source.currentIteration;
+        expectedIterations = source.expectedIterations;
+        failPath = source.failPath;
+        failMessage = source.failMessage;
+        timeLimit = source.timeLimit;
+        suppressedCount = source.suppressedCount;
+        childOkCount = source.childOkCount;
+        childSlowCount = source.childSlowCount;
+        childRejectCount = source.childRejectCount;
+        childFailCount = source.childFailCount;
+        childIterations = source.childIterations;
+        childMinTime = source.childMinTime;
+        childMedianTime = source.childMedianTime;
+        childP90Time = source.childP90Time;
+        childP99Time = source.childP99Time;
+        childMaxTime = source.childMaxTime;
+        childTotalTime = source.childTotalTime;
+        slowestChild = source.slowestChild;
+        subCount = source.subCount;
+        subTime = source.subTime;
+        if (context != null) {
+            context.clear();
+        }
+        if (source.context != null && !source.context.isEmpty()) {
+            if (context == null) {
+                context = new LinkedHashMap<>(source.context);
+            } else {
+                context.putAll(source.context);
+            }
+        }
+    }
+
     /**
      * Generates a human-readable string representation.
      *
      * @return A string containing the human-readable message.
      */
     public final String readableMessage() {
-        final StringBuilder builder = new StringBuilder(200);
+        final MeterIdentity current = identity();
+        final StringBuilder builder = new StringBuilder(current.readableCapacity());
         MeterDataFormatter.readableStringBuilder(this, builder);
+        current.readableLength = builder.length();
         return builder.toString();
     }
 
@@ -322,11 +533,28 @@ public class MeterData extends SystemData implements MeterAnalysis {
      * @return A string containing the JSON5-encoded message.
      */
     public final String json5Message() {
-        final StringBuilder sb = new StringBuilder(200);
-        sb.append("{");
-        writeJson5(sb);
-        sb.append("}");
-        return sb.toString();
+        return encodeJson5();
+    }
+
+    /**
+     * Returns the machine-parsable, compact binary representation of the event, as described by
+     * {@link BinaryWriter}. It is read back by {@link #readBinary(String)}.
+     *
+     * @return A string containing the binary message.
+     */
+    public final String binaryMessage() {
+        return encodeBinary();
+    }
+
+    /**
+     * Returns the machine-parsable representation of the event written to the data channel: the binary message if
+     * {@link MeterConfig#dataBinary} is enabled, or the JSON5 message otherwise. Either is read back by
+     * {@link #readMessage(String)}.
+     *
+     * @return A string containing the data channel message.
+     */
+    public final String dataMessage() {
+        return MeterConfig.dataBinary ? encodeBinary() : encodeJson5();
     }
 
     /**
@@ -369,8 +597,19 @@ public class MeterData extends SystemData implements MeterAnalysis {
     }
 
     @Override
-    public void readJson5(final String json5) {
-        super.readJson5(json5);
-        MeterDataJson5.read(this, json5);
+    protected boolean readJson5Property(final Json5Reader reader) {
+        return MeterDataJson5.readProperty(this, reader) || super.readJson5Property(reader);
+    }
+
+    @Override
+    protected void writeBinary(final BinaryWriter writer) {
+        super.writeBinary(writer);
+        MeterDataBinary.write(this, writer);
+    }
+
+    @Override
+    protected void readBinaryFields(final BinaryReader reader) {
+        super.readBinaryFields(reader);
+        MeterDataBinary.read(this, reader);
     }
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import lombok.experimental.UtilityClass;
+import org.usefultoys.slf4j.internal.BinaryReader;
+import org.usefultoys.slf4j.internal.BinaryWriter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A package-private utility class responsible for serializing and deserializing
+ * {@link MeterData} objects to and from the compact binary record read by {@link BinaryReader}.
+ * <p>
+ * The attributes are written as a variable-length integer whose bits tell which attributes are present, followed by
+ * the values of the present attributes, in the order of the bits. An attribute is present under the same conditions
+ * as the corresponding JSON5 property written by {@link MeterDataJson5}. Timestamps are written as the difference to
+ * the preceding one (the creation time relative to the event time, the start time relative to the creation time and
+ * the stop time relative to the start time), which takes a few bytes instead of the nine needed by a nanosecond
+ * timestamp.
+ *
+ * @author Daniel Felix Ferber
+ */
+@UtilityClass
+class MeterDataBinary {
+
+    private static final int HAS_DESCRIPTION = 1;
+    private static final int HAS_REJECT_PATH = 1 << 1;
+    private static final int HAS_OK_PATH = 1 << 2;
+    private static final int HAS_FAIL_PATH = 1 << 3;
+    private static final int HAS_FAIL_MESSAGE = 1 << 4;
+    private static final int HAS_CATEGORY = 1 << 5;
+    private static final int HAS_OPERATION = 1 << 6;
+    private static final int HAS_PARENT = 1 << 7;
+    private static final int HAS_CREATE_TIME = 1 << 8;
+    private static final int HAS_START_TIME = 1 << 9;
+    private static final int HAS_STOP_TIME = 1 << 10;
+    private static final int HAS_ITERATION = 1 << 11;
+    private static final int HAS_EXPECTED_ITERATION = 1 << 12;
+    private static final int HAS_LIMIT_TIME = 1 << 13;
+    private static final int HAS_SUPPRESSED = 1 << 14;
+    private static final int HAS_CHILDREN = 1 << 15;
+    private static final int HAS_CHILD_ITERATIONS = 1 << 16;
+    private static final int HAS_SLOWEST_CHILD = 1 << 17;
+    private static final int HAS_CONTEXT = 1 << 18;
+    private static final int HAS_SUB_OPERATIONS = 1 << 19;
+
+    /**
+     * Serializes MeterData attributes to the binary record.
+     * Only non-null and non-zero values are written, as for the JSON5 message.
+     *
+     * @param data   The MeterData object to serialize.
+     * @param writer The writer to which the attributes are written.
+     */
+    void write(final MeterData data, final BinaryWriter writer) {
+        int mask = 0;
+        if (data.description != null) mask |= HAS_DESCRIPTION;
+        if (data.rejectPath != null) mask |= HAS_REJECT_PATH;
+        if (data.okPath != null) mask |= HAS_OK_PATH;
+        if (data.failPath != null) mask |= HAS_FAIL_PATH;
+        if (data.failMessage != null) mask |= HAS_FAIL_MESSAGE;
+        if (data.category != null) mask |= HAS_CATEGORY;
+        if (data.operation != null) mask |= HAS_OPERATION;
+        if (data.parent != null) mask |= HAS_PARENT;
+        if (data.createTime != 0) mask |= HAS_CREATE_TIME;
+        if (data.startTime != 0) mask |= HAS_START_TIME;
+        if (data.stopTime != 0) mask |= HAS_STOP_TIME;
+        if (data.currentIteration != 0) mask |= HAS_ITERATION;
+        if (data.expectedIterations != 0) mask |= HAS_EXPECTED_ITERATION;
+        if (data.timeLimit != 0) mask |= HAS_LIMIT_TIME;
+        if (data.suppressedCount != 0) mask |= HAS_SUPPRESSED;
+        if (data.getChildCount() != 0) mask |= HAS_CHILDREN;
+        if (data.childIterations != 0) mask |= HAS_CHILD_ITERATIONS;
+        if (data.slowestChild != null) mask |= HAS_SLOWEST_CHILD;
+        if (data.context != null && !data.context.isEmpty()) mask |= HAS_CONTEXT;
+        if (data.subCount != 0) mask |= HAS_SUB_OPERATIONS;
+
+        writer.writeUnsigned(mask);
+        if ((mask & HAS_DESCRIPTION) != 0) writer.writeString(data.description);
+        if ((mask & HAS_REJECT_PATH) != 0) writer.writeString(data.rejectPath);
+        if ((mask & HAS_OK_PATH) != 0) writer.writeString(data.okPath);
+        if ((mask & HAS_FAIL_PATH) != 0) writer.writeString(data.failPath);
+        if ((mask & HAS_FAIL_MESSAGE) != 0) writer.writeString(data.failMessage);
+        if ((mask & HAS_CATEGORY) != 0) writer.writeString(data.category);
+        if ((mask & HAS_OPERATION) != 0) writer.writeString(data.operation);
+        if ((mask & HAS_PARENT) != 0) writer.writeString(data.parent);
+        if ((mask & HAS_CREATE_TIME) != 0) writer.writeSigned(data.createTime - data.getLastCurrentTime());
+        if ((mask & HAS_START_TIME) != 0) writer.writeSigned(data.startTime - data.createTime);
+        if ((mask & HAS_STOP_TIME) != 0) writer.writeSigned(data.stopTime - data.startTime);
+        if ((mask & HAS_ITERATION) != 0) writer.writeSigned(data.currentIteration);
+        if ((mask & HAS_EXPECTED_ITERATION) != 0) writer.writeSigned(data.expectedIterations);
+        if ((mask & HAS_LIMIT_TIME) != 0) writer.writeSigned(data.timeLimit);
+        if ((mask & HAS_SUPPRESSED) != 0) writer.writeSigned(data.suppressedCount);
+        if ((mask & HAS_CHILDREN) != 0) {
+            writer.writeSigned(data.childOkCount);
+            writer.writeSigned(data.childSlowCount);
+            writer.writeSigned(data.childRejectCount);
+            writer.writeSigned(data.childFailCount);
+            writer.writeSigned(data.childMinTime);
+            writer.writeSigned(data.childMedianTime);
+            writer.writeSigned(data.childP90Time);
+            writer.writeSigned(data.childP99Time);
+            writer.writeSigned(data.childMaxTime);
+            writer.writeSigned(data.childTotalTime);
+        }
+        if ((mask & HAS_CHILD_ITERATIONS) != 0) writer.writeSigned(data.childIterations);
+        if ((mask & HAS_SLOWEST_CHILD) != 0) writer.writeString(data.slowestChild);
+        if ((mask & HAS_CONTEXT) != 0) {
+            writer.writeUnsigned(data.context.size());
+            for (final Map.Entry<String, String> entry : data.context.entrySet()) {
+                writer.writeString(entry.getKey());
+                writer.writeString(entry.getValue());
+            }
+        }
+        if ((mask & HAS_SUB_OPERATIONS) != 0) {
+            writer.writeSigned(data.subCount);
+            writer.writeSigned(data.subTime);
+        }
+    }
+
+    /**
+     * Deserializes the binary record and populates the provided MeterData object.
+     * Only attributes present in the record are set; absent attributes remain unchanged, as for the JSON5 message.
+     *
+     * @param data   The MeterData object to populate with deserialized values.
+     * @param reader The reader positioned on the MeterData attributes.
+     */
+    void read(final MeterData data, final BinaryReader reader) {
+        final long mask = reader.readUnsigned();
+        if ((mask & HAS_DESCRIPTION) != 0) data.description = reader.readString();
+        if ((mask & HAS_REJECT_PATH) != 0) data.rejectPath = reader.readString();
+        if ((mask & HAS_OK_PATH) != 0) data.okPath = reader.readString();
+        if ((mask & HAS_FAIL_PATH) != 0) data.failPath = reader.readString();
+        if ((mask & HAS_FAIL_MESSAGE) != 0) data.failMessage = reader.readString();
+        if ((mask & HAS_CATEGORY) != 0) data.category = reader.readString();
+        if ((mask & HAS_OPERATION) != 0) data.operation = reader.readString();
+        if ((mask & HAS_PARENT) != 0) data.parent = reader.readString();
+        /* Each timestamp was written relative to the preceding one as it was, zero if absent. */
+        final long createTime = (mask & HAS_CREATE_TIME) != 0 ? data.getLastCurrentTime() + reader.readSigned() : 0;
+        final long startTime = (mask & HAS_START_TIME) != 0 ? createTime + reader.readSigned() : 0;
+        final long stopTime = (mask & HAS_STOP_TIME) != 0 ? startTime + reader.readSigned() : 0;
+        if ((mask & HAS_CREATE_TIME) != 0) data.createTime = createTime;
+        if ((mask & HAS_START_TIME) != 0) data.startTime = startTime;
+        if ((mask & HAS_STOP_TIME) != 0) data.stopTime = stopTime;
+        if ((mask & HAS_ITERATION) != 0) data.currentIteration = reader.readSigned();
+        if ((mask & HAS_EXPECTED_ITERATION) != 0) data.expectedIterations = reader.readSigned();
+        if ((mask & HAS_LIMIT_TIME) != 0) data.timeLimit = reader.readSigned();
+        if ((mask & HAS_SUPPRESSED) != 0) data.suppressedCount = reader.readSigned();
+        if ((mask & HAS_CHILDREN) != 0) {
+            data.childOkCount = reader.readSigned();
+            data.childSlowCount = reader.readSigned();
+            data.childRejectCount = reader.readSigned();
+            data.childFailCount = reader.readSigned();
+            data.childMinTime = reader.readSigned();
+            data.childMedianTime = reader.readSigned();
+            data.childP90Time = reader.readSigned();
+            data.childP99Time = reader.readSigned();
+            data.childMaxTime = reader.readSigned();
+            data.childTotalTime = reader.readSigned();
+        }
+        if ((mask & HAS_CHILD_ITERATIONS) != 0) data.childIterations = reader.readSigned();
+        if ((mask & HAS_SLOWEST_CHILD) != 0) data.slowestChild = reader.readString();
+        if ((mask & HAS_CONTEXT) != 0) {
+            final long size = reader.readUnsigned();
+            final Map<String, String> context = new LinkedHashMap<>();
+            for (long i = 0; i < size; i++) {
+                context.put(reader.readString(), reader.readString());
+            }
+            data.context = context;
+        }
+        if ((mask & HAS_SUB_OPERATIONS) != 0) {
+            data.subCount = reader.readSigned();
+            data.subTime = reader.readSigned();
+        }
+    }
+}
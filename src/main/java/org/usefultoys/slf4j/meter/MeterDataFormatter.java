@@ -73,9 +73,7 @@ final class MeterDataFormatter {
         /* Identification. */
         boolean hasId = false;
         if (MeterConfig.printCategory) {
-            /* Extract simple class name after last dot */
-            final int index = data.getCategory().lastIndexOf('.') + 1;
-            builder.append(data.getCategory().substring(index));
+            builder.append(data.identity().simpleCategory);
             hasId = true;
         }
         if (data.getOperation() != null) {
@@ -113,10 +111,10 @@ final class MeterDataFormatter {
         boolean hasPrevious = false;
         if (data.isStarted() && data.getCurrentIteration() > 0) {
             hasPrevious = separator(builder, hasPrevious);
-            builder.append(UnitFormatter.iterations(data.getCurrentIteration()));
+            UnitFormatter.iterations(builder, data.getCurrentIteration());
             if (data.getExpectedIterations() > 0) {
                 builder.append('/');
-                builder.append(UnitFormatter.iterations(data.getExpectedIterations()));
+                UnitFormatter.iterations(builder, data.getExpectedIterations());
             }
         }
 
@@ -124,23 +122,61 @@ final class MeterDataFormatter {
         if (!data.isStarted()) {
             /* For not-yet-started operations, show waiting time */
             hasPrevious = separator(builder, hasPrevious);
-            builder.append(UnitFormatter.nanoseconds(data.getWaitingTime()));
+            UnitFormatter.nanoseconds(builder, data.getWaitingTime());
         } else {
             /* Show execution time for stopped operations or when progress info is required */
             if (data.isStopped() || progressInfoRequired) {
                 hasPrevious = separator(builder, hasPrevious);
-                builder.append(UnitFormatter.nanoseconds(executionTime));
+                UnitFormatter.nanoseconds(builder, executionTime);
+            }
+
+            /* Split of the execution time between this operation and its sub-operations. */
+            if (data.getSubCount() > 0 && (data.isStopped() || progressInfoRequired)) {
+                hasPrevious = separator(builder, hasPrevious);
+                UnitFormatter.nanoseconds(builder, data.getSelfTime());
+                builder.append(" self, ");
+                UnitFormatter.nanoseconds(builder, data.getSubTime());
+                builder.append(" in ").append(data.getSubCount()).append(" sub-operations");
             }
 
             /* Show throughput metrics for operations with iterations */
             if (data.getCurrentIteration() > 0 && (data.isStopped() || progressInfoRequired)) {
                 hasPrevious = separator(builder, hasPrevious);
                 final double iterationsPerSecond = data.getIterationsPerSecond();
-                builder.append(UnitFormatter.iterationsPerSecond(iterationsPerSecond));
+                UnitFormatter.iterationsPerSecond(builder, iterationsPerSecond);
                 builder.append(' ');
                 /* Calculate inverse metric: time per iteration */
                 final double nanoSecondsPerIteration = 1.0F / iterationsPerSecond * 1000000000;
-                builder.append(UnitFormatter.nanoseconds(nanoSecondsPerIteration));
+                UnitFormatter.nanoseconds(builder, nanoSecondsPerIteration);
+            }
+        }
+
+        /* Executions suppressed by sampling since the previous message. */
+        if (data.getSuppressedCount() > 0) {
+            hasPrevious = separator(builder, hasPrevious);
+            builder.append(data.getSuppressedCount());
+            builder.append(" suppressed");
+        }
+
+        /* Sub-operations collected by this operation. */
+        if (data.getChildCount() > 0) {
+            hasPrevious = separator(builder, hasPrevious);
+            builder.append(data.getChildCount()).append(" children (")
+                    .append(data.getChildOkCount()).append(" ok, ")
+                    .append(data.getChildSlowCount()).append(" slow, ")
+                    .append(data.getChildRejectCount()).append(" reject, ")
+                    .append(data.getChildFailCount()).append(" fail)");
+            hasPrevious = separator(builder, hasPrevious);
+            UnitFormatter.nanoseconds(builder, data.getChildMedianTime());
+            builder.append(" p50, ");
+            UnitFormatter.nanoseconds(builder, data.getChildP90Time());
+            builder.append(" p90, ");
+            UnitFormatter.nanoseconds(builder, data.getChildP99Time());
+            builder.append(" p99, ");
+            UnitFormatter.nanoseconds(builder, data.getChildMaxTime());
+            builder.append(" max");
+            if (data.getSlowestChild() != null) {
+                builder.append(" (").append(data.getSlowestChild()).append(')');
             }
         }
 
@@ -167,7 +203,7 @@ final class MeterDataFormatter {
         /* System Info */
         if (MeterConfig.printMemory && data.getRuntime_maxMemory() > 0) {
             hasPrevious = MeterDataFormatter.separator(builder, hasPrevious);
-            builder.append(UnitFormatter.bytes(data.getRuntime_usedMemory()));
+            UnitFormatter.bytes(builder, data.getRuntime_usedMemory());
         }
         if (MeterConfig.printLoad && data.getSystemLoad() > 0) {
             hasPrevious = MeterDataFormatter.separator(builder, hasPrevious);
@@ -16,11 +16,9 @@
 package org.usefultoys.slf4j.meter;
 
 import lombok.experimental.UtilityClass;
+import org.usefultoys.slf4j.internal.Json5Reader;
 
-import java.util.HashMap;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * A package-private utility class responsible for serializing and deserializing
@@ -56,6 +54,18 @@ class MeterDataJson5 {
     private static final String PROP_LIMIT_TIME = "tl";
     /** JSON property key for context map. */
     private static final String PROP_CONTEXT = "ctx";
+    /** JSON property key for the number of executions suppressed by sampling. */
+    private static final String PROP_SUPPRESSED = "sc";
+    /** JSON property key for the tuple of ok, slow, reject and fail counts of collected sub-operations. */
+    private static final String PROP_CHILD_COUNTS = "cc";
+    /** JSON property key for the tuple of minimum, median, 90th, 99th percentile, maximum and total child time. */
+    private static final String PROP_CHILD_TIMES = "cd";
+    /** JSON property key for the sum of iterations of collected sub-operations. */
+    private static final String PROP_CHILD_ITERATIONS = "ci";
+    /** JSON property key for the full ID of the slowest collected sub-operation. */
+    private static final String PROP_SLOWEST_CHILD = "cs";
+    /** JSON property key for the tuple of count and total execution time of sub-operations. */
+    private static final String PROP_SUB_OPERATIONS = "so";
     /** JSON property key for event category. */
     private static final String EVENT_CATEGORY = "c";
     /** JSON property key for event name. */
@@ -63,95 +73,85 @@ class MeterDataJson5 {
     /** JSON property key for parent event identifier. */
     private static final String EVENT_PARENT = "ep";
 
-    /** Regex pattern matching JSON property start (after '{' or ','). */
-    private static final String REGEX_START = "[{,]";
-    /** Regex pattern for extracting quoted string values. */
-    private static final String REGEX_STRING_VALUE = "\\s*:\\s*'([^']*)'";
-    /** Regex pattern for extracting unquoted word values. */
-    private static final String REGEX_WORD_VALUE = "\\s*:\\s*([^,}\\s]+)";
-
-    /** Pattern for parsing description property from JSON. */
-    private static final Pattern PATTERN_DESCRIPTION = Pattern.compile(REGEX_START + PROP_DESCRIPTION + REGEX_STRING_VALUE);
-    /** Pattern for parsing success path identifier from JSON. */
-    private static final Pattern PATTERN_PATH_ID = Pattern.compile(REGEX_START + PROP_PATH_ID + REGEX_WORD_VALUE);
-    /** Pattern for parsing rejection path identifier from JSON. */
-    private static final Pattern PATTERN_REJECT_ID = Pattern.compile(REGEX_START + PROP_REJECT_ID + REGEX_WORD_VALUE);
-    /** Pattern for parsing failure path identifier from JSON. */
-    private static final Pattern PATTERN_FAIL_ID = Pattern.compile(REGEX_START + PROP_FAIL_ID + REGEX_WORD_VALUE);
-    /** Pattern for parsing failure message from JSON. */
-    private static final Pattern PATTERN_FAIL_MESSAGE = Pattern.compile(REGEX_START + PROP_FAIL_MESSAGE + REGEX_STRING_VALUE);
-    /** Pattern for parsing creation timestamp from JSON. */
-    private static final Pattern PATTERN_CREATE_TIME = Pattern.compile(REGEX_START + PROP_CREATE_TIME + REGEX_WORD_VALUE);
-    /** Pattern for parsing start timestamp from JSON. */
-    private static final Pattern PATTERN_START_TIME = Pattern.compile(REGEX_START + PROP_START_TIME + REGEX_WORD_VALUE);
-    /** Pattern for parsing stop timestamp from JSON. */
-    private static final Pattern PATTERN_STOP_TIME = Pattern.compile(REGEX_START + PROP_STOP_TIME + REGEX_WORD_VALUE);
-    /** Pattern for parsing current iteration from JSON. */
-    private static final Pattern PATTERN_ITERATION = Pattern.compile(REGEX_START + PROP_ITERATION + REGEX_WORD_VALUE);
-    /** Pattern for parsing expected iterations from JSON. */
-    private static final Pattern PATTERN_EXPECTED_ITERATION = Pattern.compile(REGEX_START + PROP_EXPECTED_ITERATION + REGEX_WORD_VALUE);
-    /** Pattern for parsing time limit from JSON. */
-    private static final Pattern PATTERN_LIMIT_TIME = Pattern.compile(REGEX_START + PROP_LIMIT_TIME + REGEX_WORD_VALUE);
-    /** Pattern for parsing event category from JSON. */
-    private static final Pattern PATTERN_EVENT_CATEGORY = Pattern.compile(REGEX_START + EVENT_CATEGORY + REGEX_WORD_VALUE);
-    /** Pattern for parsing event name from JSON. */
-    private static final Pattern PATTERN_EVENT_NAME = Pattern.compile(REGEX_START + EVENT_NAME + REGEX_WORD_VALUE);
-    /** Pattern for parsing parent event identifier from JSON. */
-    private static final Pattern PATTERN_EVENT_PARENT = Pattern.compile(REGEX_START + EVENT_PARENT + REGEX_WORD_VALUE);
-    /** Pattern for parsing context map from JSON. */
-    private static final Pattern PATTERN_CONTEXT = Pattern.compile(REGEX_START + PROP_CONTEXT + "\\s*:\\s*\\{([^}]*)\\}");
-
     /**
      * Serializes MeterData attributes to JSON5-like format and appends them to the provided StringBuilder.
      * Only non-null and non-zero values are serialized to minimize output size.
+     * Values are appended directly to the builder, without intermediate strings, as this runs for every data message.
      *
      * @param data The MeterData object to serialize.
      * @param sb   The StringBuilder to append the serialized data to.
      */
-    
     @SuppressWarnings("MagicCharacter")
     void write(final MeterData data, final StringBuilder sb) {
         if (data.description != null) {
-            sb.append(String.format(",%s:'%s'", PROP_DESCRIPTION, data.description));
+            sb.append(',').append(PROP_DESCRIPTION).append(":'").append(data.description).append('\'');
         }
         if (data.rejectPath != null) {
-            sb.append(String.format(",%s:%s", PROP_REJECT_ID, data.rejectPath));
+            sb.append(',').append(PROP_REJECT_ID).append(':').append(data.rejectPath);
         }
         if (data.okPath != null) {
-            sb.append(String.format(",%s:%s", PROP_PATH_ID, data.okPath));
+            sb.append(',').append(PROP_PATH_ID).append(':').append(data.okPath);
         }
         if (data.failPath != null) {
-            sb.append(String.format(",%s:%s", PROP_FAIL_ID, data.failPath));
+            sb.append(',').append(PROP_FAIL_ID).append(':').append(data.failPath);
         }
         if (data.failMessage != null) {
-            sb.append(String.format(",%s:'%s'", PROP_FAIL_MESSAGE, data.failMessage));
+            sb.append(',').append(PROP_FAIL_MESSAGE).append(":'").append(data.failMessage).append('\'');
         }
         if (data.category != null) {
-            sb.append(String.format(",%s:%s", EVENT_CATEGORY, data.category));
+            sb.append(',').append(EVENT_CATEGORY).append(':').append(data.category);
         }
         if (data.operation != null) {
-            sb.append(String.format(",%s:%s", EVENT_NAME, data.operation));
+            sb.append(',').append(EVENT_NAME).append(':').append(data.operation);
         }
         if (data.parent != null) {
-            sb.append(String.format(",%s:%s", EVENT_PARENT, data.parent));
+            sb.append(',').append(EVENT_PARENT).append(':').append(data.parent);
         }
         if (data.createTime != 0) {
-            sb.append(String.format(",%s:%d", PROP_CREATE_TIME, data.createTime));
+            sb.append(',').append(PROP_CREATE_TIME).append(':').append(data.createTime);
         }
         if (data.startTime != 0) {
-            sb.append(String.format(",%s:%d", PROP_START_TIME, data.startTime));
+            sb.append(',').append(PROP_START_TIME).append(':').append(data.startTime);
         }
         if (data.stopTime != 0) {
-            sb.append(String.format(",%s:%d", PROP_STOP_TIME, data.stopTime));
+            sb.append(',').append(PROP_STOP_TIME).append(':').append(data.stopTime);
         }
         if (data.currentIteration != 0) {
-            sb.append(String.format(",%s:%d", PROP_ITERATION, data.currentIteration));
+            sb.append(',').append(PROP_ITERATION).append(':').append(data.currentIteration);
         }
         if (data.expectedIterations != 0) {
-            sb.append(String.format(",%s:%d", PROP_EXPECTED_ITERATION, data.expectedIterations));
+            sb.append(',').append(PROP_EXPECTED_ITERATION).append(':').append(data.expectedIterations);
         }
         if (data.timeLimit != 0) {
-            sb.append(String.format(",%s:%d", PROP_LIMIT_TIME, data.timeLimit));
+            sb.append(',').append(PROP_LIMIT_TIME).append(':').append(data.timeLimit);
+        }
+        if (data.suppressedCount != 0) {
+            sb.append(',').append(PROP_SUPPRESSED).append(':').append(data.suppressedCount);
+        }
+        if (data.getChildCount() != 0) {
+            sb.append(',').append(PROP_CHILD_COUNTS).append(":[")
+                    .append(data.childOkCount).append(',')
+                    .append(data.childSlowCount).append(',')
+                    .append(data.childRejectCount).append(',')
+                    .append(data.childFailCount).append(']');
+            sb.append(',').append(PROP_CHILD_TIMES).append(":[")
+                    .append(data.childMinTime).append(',')
+                    .append(data.childMedianTime).append(',')
+                    .append(data.childP90Time).append(',')
+                    .append(data.childP99Time).append(',')
+                    .append(data.childMaxTime).append(',')
+                    .append(data.childTotalTime).append(']');
+        }
+        if (data.childIterations != 0) {
+            sb.append(',').append(PROP_CHILD_ITERATIONS).append(':').append(data.childIterations);
+        }
+        if (data.slowestChild != null) {
+            sb.append(',').append(PROP_SLOWEST_CHILD).append(':').append(data.slowestChild);
+        }
+        if (data.subCount != 0) {
+            sb.append(',').append(PROP_SUB_OPERATIONS).append(":[")
+                    .append(data.subCount).append(',')
+                    .append(data.subTime).append(']');
         }
         if (data.context != null && !data.context.isEmpty()) {
             sb.append(',');
@@ -181,80 +181,81 @@ class MeterDataJson5 {
      * @param data  The MeterData object to populate with deserialized values.
      * @param json5 The JSON5-like string to parse.
      */
-    /* Suppressed warning: String.equals() is intentionally used for pattern matching */
-    @SuppressWarnings("CallToSuspiciousStringMethod")
     void read(final MeterData data, final String json5) {
-        final Matcher matcherDescription = PATTERN_DESCRIPTION.matcher(json5);
-        if (matcherDescription.find()) {
-            data.description = matcherDescription.group(1);
-        }
-        final Matcher matcherPathId = PATTERN_PATH_ID.matcher(json5);
-        if (matcherPathId.find()) {
-            data.okPath = matcherPathId.group(1);
-        }
-        final Matcher matcherRejectId = PATTERN_REJECT_ID.matcher(json5);
-        if (matcherRejectId.find()) {
-            data.rejectPath = matcherRejectId.group(1);
-        }
-        final Matcher matcherFailId = PATTERN_FAIL_ID.matcher(json5);
-        if (matcherFailId.find()) {
-            data.failPath = matcherFailId.group(1);
-        }
-        final Matcher matcherFailMessage = PATTERN_FAIL_MESSAGE.matcher(json5);
-        if (matcherFailMessage.find()) {
-            data.failMessage = matcherFailMessage.group(1);
-        }
-        final Matcher matcherCreateTime = PATTERN_CREATE_TIME.matcher(json5);
-        if (matcherCreateTime.find()) {
-            data.createTime = Long.parseLong(matcherCreateTime.group(1));
-        }
-        final Matcher matcherStartTime = PATTERN_START_TIME.matcher(json5);
-        if (matcherStartTime.find()) {
-            data.startTime = Long.parseLong(matcherStartTime.group(1));
-        }
-        final Matcher matcherStopTime = PATTERN_STOP_TIME.matcher(json5);
-        if (matcherStopTime.find()) {
-            data.stopTime = Long.parseLong(matcherStopTime.group(1));
+        final Json5Reader reader = new Json5Reader(json5);
+        while (reader.nextProperty()) {
+            readProperty(data, reader);
         }
-        final Matcher matcherIteration = PATTERN_ITERATION.matcher(json5);
-        if (matcherIteration.find()) {
-            data.currentIteration = Long.parseLong(matcherIteration.group(1));
-        }
-        final Matcher matcherExpectedIteration = PATTERN_EXPECTED_ITERATION.matcher(json5);
-        if (matcherExpectedIteration.find()) {
-            data.expectedIterations = Long.parseLong(matcherExpectedIteration.group(1));
-        }
-        final Matcher matcherLimitTime = PATTERN_LIMIT_TIME.matcher(json5);
-        if (matcherLimitTime.find()) {
-            data.timeLimit = Long.parseLong(matcherLimitTime.group(1));
-        }
-        final Matcher matcherEventCategory = PATTERN_EVENT_CATEGORY.matcher(json5);
-        if (matcherEventCategory.find()) {
-            data.category = matcherEventCategory.group(1);
-        }
-        final Matcher matcherEventName = PATTERN_EVENT_NAME.matcher(json5);
-        if (matcherEventName.find()) {
-            data.operation = matcherEventName.group(1);
-        }
-        final Matcher matcherEventParent = PATTERN_EVENT_PARENT.matcher(json5);
-        if (matcherEventParent.find()) {
-            data.parent = matcherEventParent.group(1);
-        }
-        final Matcher matcherContext = PATTERN_CONTEXT.matcher(json5);
-        if (matcherContext.find()) {
-            final String contextString = matcherContext.group(1);
-            if (contextString != null && !contextString.isEmpty()) {
-                final String[] contextEntries = contextString.split(",");
-                data.context = new HashMap<>(10);
-                for (final String entry : contextEntries) {
-                    final String[] keyValue = entry.split(":");
-                    if (keyValue.length >= 1) {
-                        final String key = keyValue[0].trim();
-                        final String value = (keyValue.length > 1) ? keyValue[1].trim() : null;
-                        data.context.put(key, value);
-                    }
-                }
+    }
+
+    /**
+     * Populates the MeterData attribute that corresponds to the current property of the reader.
+     *
+     * @param data   The MeterData object to populate.
+     * @param reader The reader positioned on a property.
+     * @return {@code true} if the property is a MeterData attribute.
+     */
+    boolean readProperty(final MeterData data, final Json5Reader reader) {
+        if (reader.isKey(PROP_DESCRIPTION)) {
+            data.description = reader.stringValue(data.description);
+        } else if (reader.isKey(PROP_PATH_ID)) {
+            data.okPath = reader.wordValue(data.okPath);
+        } else if (reader.isKey(PROP_REJECT_ID)) {
+            data.rejectPath = reader.wordValue(data.rejectPath);
+        } else if (reader.isKey(PROP_FAIL_ID)) {
+            data.failPath = reader.wordValue(data.failPath);
+        } else if (reader.isKey(PROP_FAIL_MESSAGE)) {
+            data.failMessage = reader.stringValue(data.failMessage);
+        } else if (reader.isKey(PROP_CREATE_TIME)) {
+            data.createTime = reader.longValue(data.createTime);
+        } else if (reader.isKey(PROP_START_TIME)) {
+            data.startTime = reader.longValue(data.startTime);
+        } else if (reader.isKey(PROP_STOP_TIME)) {
+            data.stopTime = reader.longValue(data.stopTime);
+        } else if (reader.isKey(PROP_ITERATION)) {
+            data.currentIteration = reader.longValue(data.currentIteration);
+        } else if (reader.isKey(PROP_EXPECTED_ITERATION)) {
+            data.expectedIterations = reader.longValue(data.expectedIterations);
+        } else if (reader.isKey(PROP_LIMIT_TIME)) {
+            data.timeLimit = reader.longValue(data.timeLimit);
+        } else if (reader.isKey(EVENT_CATEGORY)) {
+            data.category = reader.wordValue(data.category);
+        } else if (reader.isKey(EVENT_NAME)) {
+            data.operation = reader.wordValue(data.operation);
+        } else if (reader.isKey(EVENT_PARENT)) {
+            data.parent = reader.wordValue(data.parent);
+        } else if (reader.isKey(PROP_SUPPRESSED)) {
+            data.suppressedCount = reader.longValue(data.suppressedCount);
+        } else if (reader.isKey(PROP_CHILD_COUNTS)) {
+            if (reader.tupleValue(4)) {
+                data.childOkCount = reader.tupleElement(0);
+                data.childSlowCount = reader.tupleElement(1);
+                data.childRejectCount = reader.tupleElement(2);
+                data.childFailCount = reader.tupleElement(3);
+            }
+        } else if (reader.isKey(PROP_CHILD_TIMES)) {
+            if (reader.tupleValue(6)) {
+                data.childMinTime = reader.tupleElement(0);
+                data.childMedianTime = reader.tupleElement(1);
+                data.childP90Time = reader.tupleElement(2);
+                data.childP99Time = reader.tupleElement(3);
+                data.childMaxTime = reader.tupleElement(4);
+                data.childTotalTime = reader.tupleElement(5);
+            }
+        } else if (reader.isKey(PROP_CHILD_ITERATIONS)) {
+            data.childIterations = reader.longValue(data.childIterations);
+        } else if (reader.isKey(PROP_SLOWEST_CHILD)) {
+            data.slowestChild = reader.wordValue(data.slowestChild);
+        } else if (reader.isKey(PROP_SUB_OPERATIONS)) {
+            if (reader.tupleValue(2)) {
+                data.subCount = reader.tupleElement(0);
+                data.subTime = reader.tupleElement(1);
             }
+        } else if (reader.isKey(PROP_CONTEXT)) {
+            data.context = reader.mapValue(data.context);
+        } else {
+            return false;
         }
+        return true;
     }
 }
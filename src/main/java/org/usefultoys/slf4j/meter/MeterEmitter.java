@@ -0,0 +1,416 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import lombok.experimental.UtilityClass;
+import org.slf4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Emits the terminal messages of {@link Meter} instances on a background thread, so that formatting the readable
+ * and JSON5 messages and calling the loggers no longer happens on the thread that stops the operation.
+ * <p>
+ * Enabled when {@link MeterConfig#asyncCapacity} is greater than zero. {@code ok()}, {@code reject()},
+ * {@code fail()} and {@code close()} then copy the meter attributes into a slot of a bounded ring buffer, allocated
+ * once, that many threads fill concurrently. A single daemon thread, {@value #THREAD_NAME}, formats and logs each
+ * copied event, honoring the logger levels as synchronous emission does. Start and progress messages, as well as
+ * validation messages, are still logged synchronously, so they may appear before the terminal message of an
+ * earlier operation.
+ * <p>
+ * If the buffer is full and {@link MeterConfig#asyncBlockOnOverflow} is set, the stopping thread waits for a free
+ * slot. Otherwise, data messages are discarded first, as soon as the buffer is three quarters full, and whole
+ * events only when it is full. Discarded events and data messages are counted, and the count is logged as a warning
+ * with the next message emitted.
+ * <p>
+ * The buffer is created with the capacity configured when the first event is emitted, rounded up to a power of two
+ * (at least two).
+ * Events still in the buffer are emitted when the JVM shuts down.
+ *
+ * @author Daniel Felix Ferber
+ */
+@UtilityClass
+public class MeterEmitter {
+
+    /** Name of the thread that emits the messages. */
+    public final String THREAD_NAME = "slf4j-toys-meter-emitter";
+
+    /* Kinds of terminal event. */
+    final int OK = 0;
+    final int SLOW_OK = 1;
+    final int REJECT = 2;
+    final int FAIL = 3;
+    final int CLOSE = 4;
+
+    private final LongAdder DROPPED_EVENTS = new LongAdder();
+    private final LongAdder DROPPED_DATA = new LongAdder();
+
+    /* Drops already reported by the emitter thread. */
+    private long reportedDroppedEvents = 0;
+    private long reportedDroppedData = 0;
+
+    /** The buffer in use, or {@code null} if no event was emitted since start or since {@link #stop(long)}. */
+    private volatile RingBuffer buffer = null;
+
+    /**
+     * Emits the events still in the buffer in use when the JVM shuts down. Registered once, with the first buffer, so
+     * that restarting the emitter neither adds hooks nor keeps stopped buffers reachable. Guarded by the class lock.
+     */
+    private Thread shutdownHook = null;
+
+    /**
+     * One event waiting to be emitted. Attributes are written by the producer that claimed the slot before its
+     * sequence is published, and read by the emitter thread only after.
+     */
+    static final class Slot {
+        private static final AtomicLongFieldUpdater<Slot> SEQUENCE = AtomicLongFieldUpdater.newUpdater(Slot.class, "sequence");
+
+        /** Equals the position of the slot when free, and the position plus one when holding an event. */
+        volatile long sequence;
+        final MeterData data = new MeterData();
+        Logger messageLogger;
+        Logger dataLogger;
+        int kind;
+        Throwable throwable;
+        boolean dataIncluded;
+
+        Slot(final long sequence) {
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * Bounded multi-producer, single-consumer ring buffer of slots.
+     */
+    static final class RingBuffer implements Runnable {
+        private static final long CLOSED = Long.MIN_VALUE;
+
+        private final Slot[] slots;
+        private final int mask;
+        private final int dataThreshold;
+        /**
+         * Position of the next slot to claim by producers, with {@link #CLOSED} set once stopped, so that no slot is
+         * claimed after the emitter thread decided which events remain to be emitted.
+         */
+        private final AtomicLong tail = new AtomicLong();
+        /** Position of the next slot to emit; written only by the emitter thread. */
+        private volatile long head = 0;
+        private volatile boolean sleeping = false;
+        final Thread thread;
+
+        RingBuffer(final int requestedCapacity) {
+            /* At least two slots, so that a published slot is never mistaken for a free one. */
+            final int capacity = requestedCapacity <= 2 ? 2 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+            slots = new Slot[capacity];
+            for (int index = 0; index < capacity; index++) {
+                slots[index] = new Slot(index);
+            }
+            mask = capacity - 1;
+            dataThreshold = capacity - capacity / 4;
+            thread = new Thread(this, THREAD_NAME);
+            thread.setDaemon(true);
+        }
+
+        int capacity() {
+            return slots.length;
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        /**
+         * Copies a stopped meter into a free slot.
+         *
+         * @return {@code true} if the meter was copied; {@code false} if the buffer is stopped, or full and blocking is
+         * disabled.
+         */
+        boolean offer(final Meter meter, final int kind, final Throwable throwable) {
+            while (true) {
+                final long position = tail.get();
+                if ((position & CLOSED) != 0) {
+                    return false;
+                }
+                final Slot slot = slots[(int) position & mask];
+                final long sequence = slot.sequence;
+                if (sequence == position) {
+                    if (tail.compareAndSet(position, position + 1)) {
+                        fill(slot, position, meter, kind, throwable);
+                        return true;
+                    }
+                } else if (sequence < position) {
+                    if (!MeterConfig.asyncBlockOnOverflow) {
+                        return false;
+                    }
+                    wakeUp();
+                    LockSupport.parkNanos(this, 1000);
+                }
+            }
+        }
+
+        private void fill(final Slot slot, final long position, final Meter meter, final int kind, final Throwable throwable) {
+            slot.data.copyFrom(meter);
+            slot.messageLogger = meter.getMessageLogger();
+            slot.dataLogger = meter.getDataLogger();
+            slot.kind = kind;
+            slot.throwable = throwable;
+            slot.dataIncluded = true;
+            if (!MeterConfig.asyncBlockOnOverflow && position - head >= dataThreshold && slot.dataLogger.isTraceEnabled()) {
+                slot.dataIncluded = false;
+                DROPPED_DATA.increment();
+            }
+            /* Volatile store, so that it is not reordered after reading whether the emitter thread went to sleep. */
+            slot.sequence = position + 1;
+            if (sleeping) {
+                wakeUp();
+            }
+        }
+
+        private void wakeUp() {
+            LockSupport.unpark(thread);
+        }
+
+        /**
+         * Emits events until stopped and all slots claimed before are emitted.
+         */
+        @Override
+        public void run() {
+            while (true) {
+                final long position = head;
+                final Slot slot = slots[(int) position & mask];
+                if (slot.sequence == position + 1) {
+                    try {
+                        emit(slot);
+                    } catch (final RuntimeException ignored) {
+                        // A failing logger must not stop emission of the remaining events.
+                    }
+                    slot.messageLogger = null;
+                    slot.dataLogger = null;
+                    slot.throwable = null;
+                    Slot.SEQUENCE.lazySet(slot, position + slots.length);
+                    head = position + 1;
+                } else if (tail.get() == (position | CLOSED)) {
+                    return;
+                } else {
+                    /* Either the producer sees sleeping and wakes this thread, or this thread sees the published slot. */
+                    sleeping = true;
+                    if (slot.sequence != position + 1 && tail.get() != (position | CLOSED)) {
+                        LockSupport.park(this);
+                    }
+                    sleeping = false;
+                }
+            }
+        }
+
+        private void emit(final Slot slot) {
+            final MeterData data = slot.data;
+            final Logger messageLogger = slot.messageLogger;
+            final Logger dataLogger = slot.dataLogger;
+            reportDrops(messageLogger, data);
+            switch (slot.kind) {
+                case SLOW_OK:
+                    messageLogger.warn(Markers.MSG_SLOW_OK, data.readableMessage());
+                    if (slot.dataIncluded && dataLogger.isTraceEnabled()) {
+                        dataLogger.trace(Markers.DATA_SLOW_OK, data.dataMessage());
+                    }
+                    break;
+                case REJECT:
+                    messageLogger.info(Markers.MSG_REJECT, data.readableMessage());
+                    if (slot.dataIncluded && dataLogger.isTraceEnabled()) {
+                        dataLogger.trace(Markers.DATA_REJECT, data.dataMessage());
+                    }
+                    break;
+                case FAIL:
+                    if (slot.throwable != null) {
+                        messageLogger.error(Markers.MSG_FAIL, data.readableMessage(), slot.throwable);
+                    } else {
+                        messageLogger.error(Markers.MSG_FAIL, data.readableMessage());
+                    }
+                    if (slot.dataIncluded && dataLogger.isTraceEnabled()) {
+                        dataLogger.trace(Markers.DATA_FAIL, data.dataMessage());
+                    }
+                    break;
+                case CLOSE:
+                    messageLogger.error(Markers.MSG_FAIL, data.readableMessage(), data.getFailPath());
+                    if (slot.dataIncluded && dataLogger.isTraceEnabled()) {
+                        dataLogger.trace(Markers.DATA_FAIL, data.dataMessage());
+                    }
+                    break;
+                default:
+                    if (messageLogger.isInfoEnabled()) {
+                        messageLogger.info(Markers.MSG_OK, data.readableMessage());
+                    }
+                    if (slot.dataIncluded && dataLogger.isTraceEnabled()) {
+                        dataLogger.trace(Markers.DATA_OK, data.dataMessage());
+                    }
+                    break;
+            }
+        }
+
+        private void reportDrops(final Logger messageLogger, final MeterData data) {
+            final long droppedEvents = DROPPED_EVENTS.sum();
+            final long droppedData = DROPPED_DATA.sum();
+            if (droppedEvents != reportedDroppedEvents || droppedData != reportedDroppedData) {
+                messageLogger.warn(Markers.ASYNC_OVERFLOW, "Meter emission buffer overflow; droppedEvents={}; droppedData={}; id={}",
+                        droppedEvents - reportedDroppedEvents, droppedData - reportedDroppedData, data.getFullID());
+                reportedDroppedEvents = droppedEvents;
+                reportedDroppedData = droppedData;
+            }
+        }
+
+        boolean awaitEmitted(final long position, final long deadline) {
+            while (head < position) {
+                if (System.nanoTime() - deadline > 0 || !thread.isAlive()) {
+                    return false;
+                }
+                wakeUp();
+                LockSupport.parkNanos(this, 100_000);
+            }
+            return true;
+        }
+
+        /**
+         * Returns the position of the next slot to claim.
+         */
+        long claimed() {
+            return tail.get() & ~CLOSED;
+        }
+
+        boolean stop(final long timeoutMilliseconds) {
+            tail.getAndUpdate(position -> position | CLOSED);
+            wakeUp();
+            try {
+                thread.join(timeoutMilliseconds);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return !thread.isAlive();
+        }
+    }
+
+    /**
+     * Tells whether terminal messages are emitted asynchronously.
+     *
+     * @return {@code true} if {@link MeterConfig#asyncCapacity} is greater than zero.
+     */
+    boolean isEnabled() {
+        return MeterConfig.asyncCapacity > 0;
+    }
+
+    /**
+     * Hands the terminal messages of a stopped meter to the emitter thread. The meter may be reused or modified as
+     * soon as this method returns.
+     *
+     * @param meter     The stopped meter.
+     * @param kind      The kind of terminal event.
+     * @param throwable The cause of failure, to be logged with its stack trace, or {@code null}.
+     */
+    void emit(final Meter meter, final int kind, final Throwable throwable) {
+        if (kind == OK && !meter.getMessageLogger().isInfoEnabled() && !meter.getDataLogger().isTraceEnabled()) {
+            return;
+        }
+        RingBuffer current = buffer;
+        if (current == null) {
+            current = start();
+        }
+        if (!current.offer(meter, kind, throwable)) {
+            DROPPED_EVENTS.increment();
+        }
+    }
+
+    private synchronized RingBuffer start() {
+        if (buffer == null) {
+            final RingBuffer created = new RingBuffer(Math.max(1, MeterConfig.asyncCapacity));
+            created.start();
+            if (shutdownHook == null) {
+                shutdownHook = new Thread(() -> stop(TimeUnit.SECONDS.toMillis(10)), THREAD_NAME + "-shutdown");
+                Runtime.getRuntime().addShutdownHook(shutdownHook);
+            }
+            buffer = created;
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns the registered shutdown hook, or {@code null} if no buffer was created yet.
+     */
+    synchronized Thread shutdownHook() {
+        return shutdownHook;
+    }
+
+    /**
+     * Waits until all events handed to the emitter thread before this call have been emitted.
+     *
+     * @param timeoutMilliseconds Maximum time to wait.
+     * @return {@code true} if all events were emitted; {@code false} if the timeout elapsed first.
+     */
+    public boolean flush(final long timeoutMilliseconds) {
+        final RingBuffer current = buffer;
+        if (current == null) {
+            return true;
+        }
+        return current.awaitEmitted(current.claimed(), System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMilliseconds));
+    }
+
+    /**
+     * Emits all pending events, stops the emitter thread and discards the buffer. Events handed to the discarded
+     * buffer while it stops are counted as discarded. The next event emitted asynchronously creates a new buffer with
+     * the capacity configured at that time.
+     *
+     * @param timeoutMilliseconds Maximum time to wait for the pending events to be emitted.
+     * @return {@code true} if the emitter thread stopped; {@code false} if the timeout elapsed first.
+     */
+    public synchronized boolean stop(final long timeoutMilliseconds) {
+        final RingBuffer current = buffer;
+        if (current == null) {
+            return true;
+        }
+        buffer = null;
+        return current.stop(timeoutMilliseconds);
+    }
+
+    /**
+     * Returns the number of terminal events discarded because the buffer was full or stopping.
+     *
+     * @return The number of discarded events since the JVM started.
+     */
+    public long getDroppedEvents() {
+        return DROPPED_EVENTS.sum();
+    }
+
+    /**
+     * Returns the number of data messages discarded because the buffer was nearly full.
+     *
+     * @return The number of discarded data messages since the JVM started.
+     */
+    public long getDroppedData() {
+        return DROPPED_DATA.sum();
+    }
+
+    /**
+     * Returns the capacity of the buffer in use.
+     *
+     * @return The number of slots, or zero if no buffer has been created.
+     */
+    int capacity() {
+        final RingBuffer current = buffer;
+        return current == null ? 0 : current.capacity();
+    }
+}
@@ -20,6 +20,8 @@ import lombok.SneakyThrows;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 
@@ -326,6 +328,48 @@ public interface MeterExecutor<T> extends MeterAnalysis {
         }
     }
 
+    /**
+     * Executes an asynchronous task within the Meter's lifecycle control, without blocking.
+     * The operation is automatically started before the supplier is invoked, and marked as {@code OK}
+     * when the returned future completes normally. The result of the future is stored in the context
+     * under {@link #CONTEXT_RESULT}. If the future completes exceptionally with an exception that matches
+     * one of {@code exceptionsToReject}, the operation is marked as {@code REJECT}. Otherwise, it's marked
+     * as {@code FAIL}. {@link java.util.concurrent.CompletionException} wrappers are removed before
+     * matching. An exception thrown by the supplier itself is handled the same way and reported through
+     * the returned future. An {@link Error} thrown by the supplier marks the operation as {@code FAIL}
+     * and is rethrown.
+     * <p>
+     * While the supplier runs, the meter is the current instance of the calling thread. Afterwards, it is
+     * removed from the calling thread, and its terminal transition runs on the thread that completes the
+     * future without changing that thread's current instance.
+     *
+     * @param supplier           Supplies the future of the asynchronous task.
+     * @param exceptionsToReject Exception classes that should result in a {@code REJECT} status.
+     * @param <T>                The type of the result of the future.
+     * @return A future that completes like the supplied one, after the meter has completed.
+     */
+    @SuppressWarnings("unchecked")
+    default <T> CompletableFuture<T> callAsync(@NonNull final Supplier<CompletableFuture<T>> supplier, @NonNull final Class<? extends Exception>... exceptionsToReject) {
+        if (! isStarted()) start();
+        return MeterCompletion.attach(this, supplier, true, exceptionsToReject);
+    }
+
+    /**
+     * Executes an asynchronous task within the Meter's lifecycle control, without blocking.
+     * Behaves like {@link #callAsync(Supplier, Class[])}, but does not store the result of the future
+     * in the context.
+     *
+     * @param supplier           Supplies the future of the asynchronous task.
+     * @param exceptionsToReject Exception classes that should result in a {@code REJECT} status.
+     * @param <T>                The type of the result of the future.
+     * @return A future that completes like the supplied one, after the meter has completed.
+     */
+    @SuppressWarnings("unchecked")
+    default <T> CompletableFuture<T> runAsync(@NonNull final Supplier<CompletableFuture<T>> supplier, @NonNull final Class<? extends Exception>... exceptionsToReject) {
+        if (! isStarted()) start();
+        return MeterCompletion.attach(this, supplier, false, exceptionsToReject);
+    }
+
     /**
      * Converts a given {@link Exception} into a specified {@link RuntimeException} subclass. This method attempts to
      * create an instance of `exceptionClass` using a constructor that accepts a `String` message and a `Throwable`
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Propagates the current {@link Meter} to tasks that run on other threads.
+ * <p>
+ * The current `Meter` (see {@link MeterFactory#getCurrentMeter()}) is tracked per thread, so sub-operations created
+ * by a task submitted to a thread pool would otherwise not link to the operation that submitted it. The decorators
+ * of this class ({@link #runnable(Runnable)}, {@link #callable(Callable)}, {@link #supplier(Supplier)} and the
+ * executors returned by {@code wrap}) capture the current `Meter` when the task is decorated (or, for a wrapped
+ * executor, when it is submitted) and install it as the current `Meter` of the thread that runs the task, restoring
+ * that thread's own current `Meter` afterwards. Meters started within the task, including
+ * {@link MeterFactory#getCurrentSubMeter(String)}, then report the captured `Meter` as their parent.
+ * <p>
+ * If no `Meter` is active when a task is decorated, the task is returned unchanged, so propagation costs nothing
+ * outside of measured operations. Wrap the executor passed to the {@code *Async} methods of
+ * {@link java.util.concurrent.CompletableFuture} to propagate across asynchronous pipelines.
+ *
+ * @author Daniel Felix Ferber
+ */
+@UtilityClass
+public class MeterExecutors {
+
+    /**
+     * Decorates a task to run with the `Meter` that is current on the calling thread.
+     *
+     * @param task The task to decorate.
+     * @return The decorated task, or the task itself if no `Meter` is active.
+     */
+    @NonNull
+    public Runnable runnable(@NonNull final Runnable task) {
+        final WeakReference<Meter> captured = capture();
+        if (captured == null) {
+            return task;
+        }
+        return () -> {
+            final WeakReference<Meter> previous = Meter.installReference(captured);
+            try {
+                task.run();
+            } finally {
+                Meter.installReference(previous);
+            }
+        };
+    }
+
+    /**
+     * Decorates a task to run with the `Meter` that is current on the calling thread.
+     *
+     * @param task The task to decorate.
+     * @param <T>  The result type of the task.
+     * @return The decorated task, or the task itself if no `Meter` is active.
+     */
+    @NonNull
+    public <T> Callable<T> callable(@NonNull final Callable<T> task) {
+        final WeakReference<Meter> captured = capture();
+        if (captured == null) {
+            return task;
+        }
+        return () -> {
+            final WeakReference<Meter> previous = Meter.installReference(captured);
+            try {
+                return task.call();
+            } finally {
+                Meter.installReference(previous);
+            }
+        };
+    }
+
+    /**
+     * Decorates a supplier to run with the `Meter` that is current on the calling thread, typically for
+     * {@link java.util.concurrent.CompletableFuture#supplyAsync(Supplier, Executor)}.
+     *
+     * @param supplier The supplier to decorate.
+     * @param <T>      The result type of the supplier.
+     * @return The decorated supplier, or the supplier itself if no `Meter` is active.
+     */
+    @NonNull
+    public <T> Supplier<T> supplier(@NonNull final Supplier<T> supplier) {
+        final WeakReference<Meter> captured = capture();
+        if (captured == null) {
+            return supplier;
+        }
+        return () -> {
+            final WeakReference<Meter> previous = Meter.installReference(captured);
+            try {
+                return supplier.get();
+            } finally {
+                Meter.installReference(previous);
+            }
+        };
+    }
+
+    /**
+     * Wraps an executor so that every task runs with the `Meter` that was current on the thread that submitted it.
+     *
+     * @param executor The executor to wrap.
+     * @return The wrapping executor.
+     */
+    @NonNull
+    public Executor wrap(@NonNull final Executor executor) {
+        if (executor instanceof PropagatingExecutor) {
+            return executor;
+        }
+        if (executor instanceof ExecutorService) {
+            return wrap((ExecutorService) executor);
+        }
+        return new PropagatingExecutor(executor);
+    }
+
+    /**
+     * Wraps an executor service so that every task runs with the `Meter` that was current on the thread that
+     * submitted it. Shutdown and termination are delegated to the wrapped executor service.
+     *
+     * @param executorService The executor service to wrap.
+     * @return The wrapping executor service.
+     */
+    @NonNull
+    public ExecutorService wrap(@NonNull final ExecutorService executorService) {
+        if (executorService instanceof PropagatingExecutorService) {
+            return executorService;
+        }
+        return new PropagatingExecutorService(executorService);
+    }
+
+    /**
+     * Returns the reference to the current `Meter`, or {@code null} if no `Meter` is active on the calling thread.
+     */
+    private WeakReference<Meter> capture() {
+        final WeakReference<Meter> reference = Meter.currentReference();
+        return reference == null || reference.get() == null ? null : reference;
+    }
+
+    private <T> List<Callable<T>> wrapAll(final Collection<? extends Callable<T>> tasks) {
+        final List<Callable<T>> wrapped = new ArrayList<>(tasks.size());
+        for (final Callable<T> task : tasks) {
+            wrapped.add(callable(task));
+        }
+        return wrapped;
+    }
+
+    /**
+     * Executor that decorates each task when it is submitted.
+     */
+    private static final class PropagatingExecutor implements Executor {
+        private final Executor delegate;
+
+        PropagatingExecutor(final Executor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(@NonNull final Runnable command) {
+            delegate.execute(runnable(command));
+        }
+    }
+
+    /**
+     * Executor service that decorates each task when it is submitted.
+     */
+    private static final class PropagatingExecutorService implements ExecutorService {
+        private final ExecutorService delegate;
+
+        PropagatingExecutorService(final ExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(@NonNull final Runnable command) {
+            delegate.execute(runnable(command));
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+
+        @Override
+        public <T> Future<T> submit(@NonNull final Callable<T> task) {
+            return delegate.submit(callable(task));
+        }
+
+        @Override
+        public <T> Future<T> submit(@NonNull final Runnable task, final T result) {
+            return delegate.submit(runnable(task), result);
+        }
+
+        @Override
+        public Future<?> submit(@NonNull final Runnable task) {
+            return delegate.submit(runnable(task));
+        }
+
+        @Override
+        public <T> List<Future<T>> invokeAll(final Collection<? extends Callable<T>> tasks) throws InterruptedException {
+            return delegate.invokeAll(wrapAll(tasks));
+        }
+
+        @Override
+        public <T> List<Future<T>> invokeAll(final Collection<? extends Callable<T>> tasks, final long timeout,
+                                             final TimeUnit unit) throws InterruptedException {
+            return delegate.invokeAll(wrapAll(tasks), timeout, unit);
+        }
+
+        @Override
+        public <T> T invokeAny(final Collection<? extends Callable<T>> tasks)
+                throws InterruptedException, ExecutionException {
+            return delegate.invokeAny(wrapAll(tasks));
+        }
+
+        @Override
+        public <T> T invokeAny(final Collection<? extends Callable<T>> tasks, final long timeout, final TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            return delegate.invokeAny(wrapAll(tasks), timeout, unit);
+        }
+    }
+}
@@ -93,6 +93,116 @@ public final class MeterFactory {
         return new Meter(logger, operationName);
     }
 
+    /**
+     * Creates a Meter for a batch operation whose iterations are reported concurrently by several worker threads,
+     * using the provided logger, with an operation name. See {@link ConcurrentMeter}.
+     *
+     * @param logger        The logger used to report messages.
+     * @param operationName Additional identification to distinguish operations reported on the same logger.
+     * @return A new ConcurrentMeter instance.
+     */
+    @NonNull
+    public static ConcurrentMeter getConcurrentMeter(@NonNull final Logger logger, final String operationName) {
+        return new ConcurrentMeter(logger, operationName);
+    }
+
+    /**
+     * Creates a Meter for a batch operation whose iterations are reported concurrently by several worker threads,
+     * using the class name as category and logger name, with an operation name. See {@link ConcurrentMeter}.
+     *
+     * @param clazz         The class whose name is used as category and logger name.
+     * @param operationName Additional identification to distinguish operations reported on the same logger.
+     * @return A new ConcurrentMeter instance.
+     */
+    @NonNull
+    public static ConcurrentMeter getConcurrentMeter(@NonNull final Class<?> clazz, final String operationName) {
+        return new ConcurrentMeter(LoggerFactory.getLogger(clazz), operationName);
+    }
+
+    /**
+     * Borrows a reusable Meter using the provided logger's name as the meter category.
+     * <p>
+     * The Meter behaves as a new one, but returns to a pool of the current thread right after its terminal transition
+     * ({@code ok()}, {@code reject()}, {@code fail()}, {@code success()} or {@code close()}), to be handed out again by
+     * the next borrow. This avoids creating a Meter per call in tight loops.
+     * <p>
+     * The borrowed Meter must not be referenced after its terminal transition: any further call is logged as an error
+     * and ignored, but once borrowed again, the instance measures another operation. Do not keep it, do not share it
+     * with other threads and do not read its attributes after it is released.
+     *
+     * @param logger The logger used to report messages.
+     * @return A borrowed Meter instance.
+     * @see MeterConfig#poolCapacity
+     */
+    @NonNull
+    public static Meter borrow(@NonNull final Logger logger) {
+        return MeterPool.borrow(logger, null);
+    }
+
+    /**
+     * Borrows a reusable Meter using the provided logger, with an operation name.
+     * See {@link #borrow(Logger)} for the rules that apply to borrowed meters.
+     *
+     * @param logger        The logger used to report messages.
+     * @param operationName Additional identification to distinguish operations reported on the same logger.
+     * @return A borrowed Meter instance.
+     */
+    @NonNull
+    public static Meter borrow(@NonNull final Logger logger, final String operationName) {
+        return MeterPool.borrow(logger, operationName);
+    }
+
+    /**
+     * Borrows a reusable Meter using the class name as category and logger name, with an operation name.
+     * See {@link #borrow(Logger)} for the rules that apply to borrowed meters.
+     *
+     * @param clazz         The class whose name is used as category and logger name.
+     * @param operationName Additional identification to distinguish operations reported on the same logger.
+     * @return A borrowed Meter instance.
+     */
+    @NonNull
+    public static Meter borrow(@NonNull final Class<?> clazz, final String operationName) {
+        return MeterPool.borrow(LoggerFactory.getLogger(clazz), operationName);
+    }
+
+    /**
+     * Creates a template for operations reported on the provided logger, using the logger's name as category.
+     * Meters created by the template skip resolving the category, loggers and position counter on each call.
+     *
+     * @param logger The logger used to report messages.
+     * @return A new MeterTemplate instance.
+     */
+    @NonNull
+    public static MeterTemplate template(@NonNull final Logger logger) {
+        return new MeterTemplate(logger, null);
+    }
+
+    /**
+     * Creates a template for an operation reported on the provided logger.
+     * Meters created by the template skip resolving the category, loggers and position counter on each call.
+     *
+     * @param logger        The logger used to report messages.
+     * @param operationName Additional identification to distinguish operations reported on the same logger.
+     * @return A new MeterTemplate instance.
+     */
+    @NonNull
+    public static MeterTemplate template(@NonNull final Logger logger, final String operationName) {
+        return new MeterTemplate(logger, operationName);
+    }
+
+    /**
+     * Creates a template for an operation, using the class name as category and logger name.
+     * Meters created by the template skip resolving the category, loggers and position counter on each call.
+     *
+     * @param clazz         The class whose name is used as category and logger name.
+     * @param operationName Additional identification to distinguish operations reported on the same logger.
+     * @return A new MeterTemplate instance.
+     */
+    @NonNull
+    public static MeterTemplate template(@NonNull final Class<?> clazz, final String operationName) {
+        return new MeterTemplate(LoggerFactory.getLogger(clazz), operationName);
+    }
+
     /**
      * Retrieves the most recently started Meter on the current thread.
      *
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+/**
+ * A package-private cache of the text fragments that identify the operation of a {@link MeterData}, derived once
+ * from its category and operation instead of on every message.
+ * <p>
+ * {@link MeterPositions} keeps one instance per category and operation, next to its position counter, and every
+ * {@link Meter} created for the operation shares it. Other instances of {@link MeterData}, such as those read from
+ * messages, derive their own. Instances are immutable, except for the length hint of the readable message, so that
+ * they may be read by any thread. The full ID, which also depends on the position, is cached by {@link FullId}.
+ *
+ * @author Daniel Felix Ferber
+ */
+final class MeterIdentity {
+
+    /** Initial capacity of the builder of the readable message, before the length of a message is known. */
+    static final int DEFAULT_READABLE_LENGTH = 200;
+    /** Capacity added to the length of the previous readable message, as later messages tend to be longer. */
+    private static final int READABLE_LENGTH_MARGIN = 32;
+
+    final String category;
+    final String operation;
+    /** The category without package, as printed by the readable message. */
+    final String simpleCategory;
+    /** The category and operation separated by {@code /}, or the category alone if there is no operation. */
+    final String prefix;
+    /**
+     * Length of the previous readable message of the operation, written by any meter that shares this instance.
+     * Written without synchronization: a stale value only costs a larger or smaller builder.
+     */
+    int readableLength = 0;
+
+    MeterIdentity(final String category, final String operation) {
+        this.category = category;
+        this.operation = operation;
+        simpleCategory = category == null ? null : category.substring(category.lastIndexOf('.') + 1);
+        prefix = operation == null ? category : category + '/' + operation;
+    }
+
+    /**
+     * Tells whether these fragments were derived from a category and operation. Reference comparison is intended:
+     * meters adopt the strings of their shared identity, and any other string derives new fragments.
+     *
+     * @param category  The category.
+     * @param operation The operation.
+     * @return {@code true} if the fragments were derived from the same strings.
+     */
+    @SuppressWarnings("StringEquality")
+    boolean matches(final String category, final String operation) {
+        return this.category == category && this.operation == operation;
+    }
+
+    /**
+     * Returns the capacity of the builder for the next readable message of the operation.
+     *
+     * @return The capacity.
+     */
+    int readableCapacity() {
+        final int length = readableLength;
+        return length == 0 ? DEFAULT_READABLE_LENGTH : length + READABLE_LENGTH_MARGIN;
+    }
+
+    /**
+     * The full ID of a meter, with the identity and position it was built from.
+     */
+    static final class FullId {
+        final MeterIdentity identity;
+        final long position;
+        final String value;
+
+        FullId(final MeterIdentity identity, final long position) {
+            this.identity = identity;
+            this.position = position;
+            value = identity.prefix + '#' + position;
+        }
+    }
+}
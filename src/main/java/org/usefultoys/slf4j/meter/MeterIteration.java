@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A package-private helper that counts the elements traversed by the adapters returned by {@link Meter#iterate},
+ * {@link Meter#wrap} and {@link Meter#stream}, and finishes the {@link Meter} when the traversal ends.
+ * <p>
+ * Traversing an element only bumps a local counter. Every {@code stride} elements, the counter is added to the meter
+ * and {@link Meter#progress()} is called, so the time source is read only once per stride. The stride adapts to the
+ * observed throughput: it doubles while a stride takes much less than a sixteenth of
+ * {@link MeterConfig#progressPeriodMilliseconds} and halves while it takes much more. Progress messages are therefore
+ * delayed by a small fraction of the period at most.
+ *
+ * @author Daniel Felix Ferber
+ */
+final class MeterIteration {
+
+    /** Upper bound for the number of elements between two progress checks. */
+    static final int MAX_STRIDE = 1 << 16;
+
+    private final Meter meter;
+    /** Elements traversed since the last progress check, not yet added to the meter. */
+    private long pending = 0;
+    /** Elements left until the next progress check. */
+    private int countdown = 1;
+    /** Elements between two progress checks. */
+    private int stride = 1;
+    /** System time of the last progress check, to adapt the stride. */
+    private long lastCheckTime = System.nanoTime();
+    private boolean finished = false;
+
+    MeterIteration(final Meter meter) {
+        this.meter = meter;
+    }
+
+    /**
+     * Counts one traversed element, checking progress at the end of each stride.
+     */
+    void count() {
+        pending++;
+        if (--countdown == 0) {
+            check();
+        }
+    }
+
+    private void check() {
+        flush();
+        if (!meter.isStopped()) {
+            meter.progress();
+        }
+        final long targetNanos = MeterConfig.progressPeriodMilliseconds * 1000 * 1000 / 16;
+        if (targetNanos > 0) {
+            final long now = System.nanoTime();
+            final long elapsed = now - lastCheckTime;
+            lastCheckTime = now;
+            if (elapsed < targetNanos / 2 && stride < MAX_STRIDE) {
+                stride <<= 1;
+            } else if (elapsed > targetNanos * 2 && stride > 1) {
+                stride >>= 1;
+            }
+        }
+        countdown = stride;
+    }
+
+    private void flush() {
+        if (pending > 0 && !meter.isStopped()) {
+            meter.incBy(pending);
+        }
+        pending = 0;
+    }
+
+    /**
+     * Finishes the meter with {@code OK} once the traversal is exhausted, unless the meter was already stopped.
+     */
+    void exhausted() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        flush();
+        if (!meter.isStopped()) {
+            meter.ok();
+        }
+    }
+
+    /**
+     * Finishes the meter with {@code FAIL} when the traversal throws, unless the meter was already stopped.
+     *
+     * @param e The exception thrown by the traversal.
+     */
+    void failed(final RuntimeException e) {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        flush();
+        if (!meter.isStopped()) {
+            meter.fail(e);
+        }
+    }
+
+    /**
+     * Counts the elements returned by an {@link Iterator}.
+     */
+    static final class MeteredIterator<E> implements Iterator<E> {
+        private final Iterator<E> source;
+        private final MeterIteration iteration;
+
+        MeteredIterator(final Iterator<E> source, final MeterIteration iteration) {
+            this.source = source;
+            this.iteration = iteration;
+        }
+
+        @Override
+        public boolean hasNext() {
+            final boolean hasNext;
+            try {
+                hasNext = source.hasNext();
+            } catch (final RuntimeException e) {
+                iteration.failed(e);
+                throw e;
+            }
+            if (!hasNext) {
+                iteration.exhausted();
+            }
+            return hasNext;
+        }
+
+        @Override
+        public E next() {
+            final E element;
+            try {
+                element = source.next();
+            } catch (final RuntimeException e) {
+                iteration.failed(e);
+                throw e;
+            }
+            iteration.count();
+            return element;
+        }
+
+        @Override
+        public void remove() {
+            source.remove();
+        }
+    }
+
+    /**
+     * Counts the elements traversed by a {@link Spliterator}. Exceptions thrown by the action, that is, by the
+     * downstream stages of a stream pipeline, also fail the meter. Not splittable, so the stream runs sequentially.
+     * Not sized either, so that operations like {@link java.util.stream.Stream#count()} traverse the elements instead
+     * of returning the known size, and exhaust the traversal.
+     */
+    static final class MeteredSpliterator<E> implements Spliterator<E> {
+        private final Spliterator<E> source;
+        private final MeterIteration iteration;
+
+        MeteredSpliterator(final Spliterator<E> source, final MeterIteration iteration) {
+            this.source = source;
+            this.iteration = iteration;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super E> action) {
+            final boolean advanced;
+            try {
+                advanced = source.tryAdvance(action);
+            } catch (final RuntimeException e) {
+                iteration.failed(e);
+                throw e;
+            }
+            if (advanced) {
+                iteration.count();
+            } else {
+                iteration.exhausted();
+            }
+            return advanced;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics() & ~(SIZED | SUBSIZED);
+        }
+
+        @Override
+        public Comparator<? super E> getComparator() {
+            return source.getComparator();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import lombok.experimental.UtilityClass;
+import org.slf4j.Logger;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A package-private, opt-in detector of {@link Meter} instances that were started but never stopped.
+ * <p>
+ * When enabled by {@link MeterConfig#leakTrackingSample}, a sample of the started meters is tracked by a
+ * {@link PhantomReference}. Stopping the meter discards its record. If the garbage collector reclaims a meter whose
+ * record is still pending, a daemon thread reports "Meter never stopped" with the full ID of the meter, which is
+ * captured when tracking starts because the meter is no longer reachable at report time.
+ * <p>
+ * Meters that are not sampled are plain objects, without the allocation and collection costs of finalizable objects.
+ *
+ * @author Daniel Felix Ferber
+ */
+@UtilityClass
+class MeterLeakTracker {
+
+    /** Name of the daemon thread that reports reclaimed meters. */
+    final String REPORTER_THREAD_NAME = "slf4j-toys-meter-leak-tracker";
+
+    private final ReferenceQueue<Meter> QUEUE = new ReferenceQueue<>();
+    /** Keeps pending records strongly reachable, as required for them to be enqueued. */
+    private final Set<Record> PENDING = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private volatile Thread reporter = null;
+
+    /**
+     * What is needed to report a meter that was reclaimed while still started.
+     */
+    static final class Record extends PhantomReference<Meter> {
+        final Logger messageLogger;
+        final String fullID;
+
+        private Record(final Meter meter) {
+            super(meter, QUEUE);
+            messageLogger = meter.getMessageLogger();
+            fullID = meter.getFullID();
+        }
+    }
+
+    /**
+     * Starts tracking a started meter, if it is selected by the sample configured in {@link MeterConfig}.
+     *
+     * @param meter The meter that has just been started.
+     * @return The record tracking the meter, or {@code null} if the meter is not tracked.
+     */
+    Record track(final Meter meter) {
+        final int sample = MeterConfig.leakTrackingSample;
+        if (sample <= 0 || (sample > 1 && ThreadLocalRandom.current().nextInt(sample) != 0)) {
+            return null;
+        }
+        if (Meter.UNKNOWN_LOGGER_NAME.equals(meter.getCategory())) {
+            return null;
+        }
+        final Record record = new Record(meter);
+        PENDING.add(record);
+        startReporter();
+        return record;
+    }
+
+    /**
+     * Stops tracking a meter that has been stopped.
+     *
+     * @param record The record returned by {@link #track(Meter)}, or {@code null} if the meter was not tracked.
+     */
+    void untrack(final Record record) {
+        if (record != null) {
+            PENDING.remove(record);
+            record.clear();
+        }
+    }
+
+    /**
+     * Reports all tracked meters already reclaimed by the garbage collector, without waiting for the reporter thread.
+     *
+     * @return The number of meters reported.
+     */
+    int drain() {
+        int count = 0;
+        Reference<? extends Meter> reference;
+        while ((reference = QUEUE.poll()) != null) {
+            if (report((Record) reference)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of tracked meters that were neither stopped nor reported yet.
+     *
+     * @return The number of pending records.
+     */
+    int pendingCount() {
+        return PENDING.size();
+    }
+
+    private boolean report(final Record record) {
+        /* Removal decides between the reporter thread and drain(), so that each meter is reported only once. */
+        if (!PENDING.remove(record)) {
+            return false;
+        }
+        MeterValidator.logNeverStopped(record.messageLogger, record.fullID);
+        return true;
+    }
+
+    private void startReporter() {
+        if (reporter != null) {
+            return;
+        }
+        synchronized (PENDING) {
+            if (reporter == null) {
+                final Thread thread = new Thread(MeterLeakTracker::reportReclaimed, REPORTER_THREAD_NAME);
+                thread.setDaemon(true);
+                thread.start();
+                reporter = thread;
+            }
+        }
+    }
+
+    private void reportReclaimed() {
+        while (true) {
+            try {
+                report((Record) QUEUE.remove());
+            } catch (final InterruptedException e) {
+                reporter = null;
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final RuntimeException e) {
+                /* Reporting must never kill the reporter thread; logging failures are not actionable here. */
+            }
+        }
+    }
+}
@@ -0,0 +1,615 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.usefultoys.slf4j.utils.UnitFormatter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Offline analyzer of log files that contain the data channel messages written by {@link Meter}.
+ * <p>
+ * The analyzer reads each line once, looking for a JSON5 message ({@code {_:...}}) anywhere in the line, whatever the
+ * layout of the logging framework around it, or else for a binary message ({@code ~...}, see
+ * {@link MeterConfig#dataBinary}) standing as a word of its own, between blanks or the line ends. Each message is read
+ * by {@link MeterData#readMessage(String)}. Messages of stopped meters ({@code METER_DATA_OK},
+ * {@code METER_DATA_SLOW_OK}, {@code METER_DATA_REJECT} and {@code METER_DATA_FAIL}) are merged into one
+ * {@link MeterAggregate} per category and operation, holding the outcome counts, execution time histogram,
+ * percentiles and throughput. Start and progress messages, and the messages of the
+ * {@link org.usefultoys.slf4j.watcher.Watcher}, are recognized and skipped.
+ * <p>
+ * Files are read through memory-mapped windows of {@value #MAP_WINDOW} bytes, copied in blocks to be scanned as
+ * arrays, without decoding lines that hold no message into strings. Memory is bounded by the number of distinct
+ * operations, each taking a fixed-size histogram; operations beyond the limit given to the constructor are counted by
+ * {@link #getDroppedCount()} instead of aggregated. Throughput is computed from the stop times of the first and last
+ * operation, which are only comparable within the same JVM session; it is not reported for operations that stopped in
+ * several sessions, as when reading the logs of several nodes or of a restarted application.
+ * <p>
+ * Optionally, {@link #reconstructTrees()} rebuilds the tree of sub-operations of each top-level operation, linked by
+ * the {@link MeterData#getParent() parent} of each sub-operation and the session, and summarizes the trees per
+ * top-level operation into a {@link MeterTreeAggregate}, with self time, child time and critical path. A tree is
+ * discarded as soon as its top-level operation stops; memory is bounded by the number of sub-operations still waiting
+ * for their parent.
+ * <p>
+ * Large files are read in parallel by {@link #analyze(Path, ForkJoinPool)}, with the same result as reading them in
+ * order. Instances are not thread-safe. The analyzer can also be run from the command line, reading files in parallel
+ * on the common pool and printing one line per operation, and one line per top-level operation with option
+ * {@code --trees}:
+ * {@code java -cp slf4j-toys.jar org.usefultoys.slf4j.meter.MeterLogAnalyzer [--trees] app.log ...}
+ *
+ * @author Daniel Felix Ferber
+ */
+public final class MeterLogAnalyzer {
+
+    /** Default largest number of distinct category and operation pairs that are aggregated. */
+    public static final int DEFAULT_MAX_OPERATIONS = 10_000;
+    /** Number of bytes of a file mapped at once. */
+    static final int MAP_WINDOW = 1 << 28;
+    /** Number of bytes copied at once from the mapped window, to be scanned as an array. */
+    private static final int BLOCK = 1 << 16;
+    /** Largest number of bytes of a single line read at once; longer lines are read in pieces. */
+    private static final int MAX_BLOCK = 1 << 24;
+    /** Number of bytes of a file read by each task of {@link #analyze(Path, ForkJoinPool)}. */
+    static final int CHUNK = 1 << 24;
+
+    private final int maxOperations;
+    private final int mapWindow;
+    private final int chunkSize;
+    /** Kept in order of first occurrence, so that merging analyzers drops the same operations as reading in order. */
+    private final Map<String, MeterAggregate> aggregates = new LinkedHashMap<>();
+    /** Reused for every message, as messages are aggregated and not kept. */
+    private final MeterData data = new MeterData();
+    /** If not {@code null}, the only operations aggregated; others are dropped. */
+    private Set<String> allowed = null;
+    /** Bytes copied from the mapped window, starting with the incomplete line left by the previous copy. */
+    private byte[] block = new byte[BLOCK];
+    /** If not {@code null}, reconstructs the trees of sub-operations. */
+    private MeterTreeAnalyzer trees = null;
+
+    private long lineCount = 0;
+    private long messageCount = 0;
+    private long operationCount = 0;
+    private long invalidCount = 0;
+    private long droppedCount = 0;
+
+    /**
+     * Creates an analyzer that aggregates up to {@link #DEFAULT_MAX_OPERATIONS} distinct operations.
+     */
+    public MeterLogAnalyzer() {
+        this(DEFAULT_MAX_OPERATIONS);
+    }
+
+    /**
+     * Creates an analyzer that aggregates up to a number of distinct operations.
+     *
+     * @param maxOperations The largest number of distinct category and operation pairs that are aggregated.
+     */
+    public MeterLogAnalyzer(final int maxOperations) {
+        this(maxOperations, MAP_WINDOW, CHUNK);
+    }
+
+    MeterLogAnalyzer(final int maxOperations, final int mapWindow, final int chunkSize) {
+        this.maxOperations = maxOperations;
+        this.mapWindow = mapWindow;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Enables the reconstruction of operation trees, keeping up to {@value MeterTreeAnalyzer#DEFAULT_MAX_PENDING_NODES}
+     * stopped sub-operations waiting for their parent.
+     *
+     * @return This analyzer.
+     */
+    public MeterLogAnalyzer reconstructTrees() {
+        return reconstructTrees(MeterTreeAnalyzer.DEFAULT_MAX_PENDING_NODES);
+    }
+
+    /**
+     * Enables the reconstruction of operation trees. Must be called before reading any line.
+     *
+     * @param maxPendingNodes The largest number of stopped sub-operations that wait for their parent; beyond that,
+     *                        those waiting longest are discarded as orphans.
+     * @return This analyzer.
+     */
+    public MeterLogAnalyzer reconstructTrees(final int maxPendingNodes) {
+        trees = new MeterTreeAnalyzer(maxPendingNodes, maxOperations);
+        return this;
+    }
+
+    /**
+     * Reads all lines of a log file.
+     *
+     * @param file The log file.
+     * @throws IOException if the file cannot be read.
+     */
+    public void analyze(final Path file) throws IOException {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            analyzeRange(channel, 0, channel.size());
+        }
+    }
+
+    /**
+     * Reads all lines of a log file in parallel. The file is split at line boundaries into chunks of about
+     * {@value #CHUNK} bytes, each chunk is read by its own analyzer on the pool, and the analyzers are merged in file
+     * order. The result is identical to {@link #analyze(Path)}, including which operations are dropped when there
+     * are more than allowed; in that case, the chunks are read twice. If trees are {@link #reconstructTrees()
+     * reconstructed}, the file is read in order instead, as a tree may span chunks.
+     *
+     * @param file The log file.
+     * @param pool The pool that reads the chunks.
+     * @throws IOException if the file cannot be read.
+     */
+    public void analyze(final Path file, final ForkJoinPool pool) throws IOException {
+        if (trees != null) {
+            analyze(file);
+            return;
+        }
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long[] bounds = chunkBounds(channel);
+            if (bounds.length < 2) {
+                return;
+            }
+            try {
+                final MeterLogAnalyzer result = pool.invoke(new ChunkTask(channel, bounds, 0, bounds.length - 1, null));
+                if (result.droppedCount == 0) {
+                    merge(result);
+                    return;
+                }
+                /*
+                 * A chunk may have dropped an operation that reading in order would have kept, because it met more
+                 * distinct operations than allowed before its first occurrence in that chunk. The operations kept by
+                 * the merge are nevertheless the first ones of the file, so the chunks are read again, aggregating
+                 * exactly those.
+                 */
+                final Set<String> allowed = new HashSet<>(aggregates.keySet());
+                for (final String key : result.aggregates.keySet()) {
+                    if (allowed.size() >= maxOperations) {
+                        break;
+                    }
+                    allowed.add(key);
+                }
+                merge(pool.invoke(new ChunkTask(channel, bounds, 0, bounds.length - 1, allowed)));
+            } catch (final UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Reads the lines of a range of a file.
+     *
+     * @param channel The file.
+     * @param start   The position of the first byte of the range, which starts a line.
+     * @param end     The position after the last byte of the range.
+     */
+    private void analyzeRange(final FileChannel channel, final long start, final long end) throws IOException {
+        int carry = 0;
+        for (long offset = start; offset < end; offset += mapWindow) {
+            final ByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(mapWindow, end - offset));
+            while (window.hasRemaining()) {
+                final int length = Math.min(block.length - carry, window.remaining());
+                window.get(block, carry, length);
+                carry = analyzeBlock(carry, carry + length);
+            }
+        }
+        if (carry > 0) {
+            /* Last line without terminator. */
+            analyzeLine(block, 0, carry);
+        }
+    }
+
+    /**
+     * Splits a file into chunks that start at line boundaries.
+     *
+     * @param channel The file.
+     * @return The position of the first byte of each chunk, followed by the size of the file.
+     */
+    private long[] chunkBounds(final FileChannel channel) throws IOException {
+        final long size = channel.size();
+        final List<Long> bounds = new ArrayList<>();
+        final ByteBuffer buffer = ByteBuffer.allocate(BLOCK);
+        long position = 0;
+        while (position < size) {
+            bounds.add(position);
+            position += chunkSize;
+            /* Extends the chunk to the end of the line that holds its last byte. */
+            while (position < size) {
+                buffer.clear();
+                final int read = channel.read(buffer, position - 1);
+                if (read <= 0) {
+                    position = size;
+                    break;
+                }
+                int i = 0;
+                while (i < read && buffer.get(i) != '\n') {
+                    i++;
+                }
+                if (i < read) {
+                    position += i;
+                    break;
+                }
+                position += read;
+            }
+        }
+        bounds.add(size);
+        final long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bounds.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Adds the lines, messages and operations read by another analyzer that read the lines that follow those read by
+     * this analyzer. Operations of the other analyzer are added in order of first occurrence, and dropped once there
+     * are as many distinct operations as allowed, as if this analyzer had read the lines itself.
+     *
+     * @param other The analyzer that read the following lines.
+     */
+    private void merge(final MeterLogAnalyzer other) {
+        lineCount += other.lineCount;
+        messageCount += other.messageCount;
+        invalidCount += other.invalidCount;
+        droppedCount += other.droppedCount;
+        for (final Map.Entry<String, MeterAggregate> entry : other.aggregates.entrySet()) {
+            final MeterAggregate aggregate = aggregates.get(entry.getKey());
+            final long count = entry.getValue().getCount();
+            if (aggregate != null) {
+                aggregate.merge(entry.getValue());
+                operationCount += count;
+            } else if (aggregates.size() < maxOperations) {
+                aggregates.put(entry.getKey(), entry.getValue());
+                operationCount += count;
+            } else {
+                droppedCount += count;
+            }
+        }
+    }
+
+    /**
+     * Reads a range of chunks, splitting it in halves read in parallel and merged in order.
+     */
+    private final class ChunkTask extends RecursiveTask<MeterLogAnalyzer> {
+        private static final long serialVersionUID = 1L;
+        private final transient FileChannel channel;
+        private final long[] bounds;
+        private final int from;
+        private final int to;
+        private final transient Set<String> allowed;
+
+        ChunkTask(final FileChannel channel, final long[] bounds, final int from, final int to, final Set<String> allowed) {
+            this.channel = channel;
+            this.bounds = bounds;
+            this.from = from;
+            this.to = to;
+            this.allowed = allowed;
+        }
+
+        @Override
+        protected MeterLogAnalyzer compute() {
+            if (to - from == 1) {
+                final MeterLogAnalyzer analyzer = new MeterLogAnalyzer(maxOperations, mapWindow, chunkSize);
+                analyzer.allowed = allowed;
+                try {
+                    analyzer.analyzeRange(channel, bounds[from], bounds[to]);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return analyzer;
+            }
+            final int middle = (from + to) >>> 1;
+            final ChunkTask first = new ChunkTask(channel, bounds, from, middle, allowed);
+            first.fork();
+            final MeterLogAnalyzer second = new ChunkTask(channel, bounds, middle, to, allowed).compute();
+            final MeterLogAnalyzer result = first.join();
+            result.merge(second);
+            return result;
+        }
+    }
+
+    /**
+     * Reads a single log line, for logs that are not read from a file.
+     *
+     * @param line The log line, without line terminator.
+     */
+    public void analyzeLine(final String line) {
+        final byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        analyzeLine(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Reads the complete lines held by the block and moves the incomplete last line to its beginning.
+     *
+     * @param scanned Number of bytes at the beginning of the block already known to hold no line terminator.
+     * @param end     Number of bytes held by the block.
+     * @return The number of bytes of the incomplete last line, now at the beginning of the block.
+     */
+    private int analyzeBlock(final int scanned, final int end) {
+        int lineStart = 0;
+        for (int i = scanned; i < end; i++) {
+            if (block[i] == '\n') {
+                analyzeLine(block, lineStart, i);
+                lineStart = i + 1;
+            }
+        }
+        final int carry = end - lineStart;
+        if (lineStart == 0 && carry == block.length) {
+            if (block.length < MAX_BLOCK) {
+                block = Arrays.copyOf(block, block.length * 2);
+                return carry;
+            }
+            /* A line longer than the largest block is read in pieces. */
+            analyzeLine(block, 0, carry);
+            return 0;
+        }
+        System.arraycopy(block, lineStart, block, 0, carry);
+        return carry;
+    }
+
+    private void analyzeLine(final byte[] bytes, final int start, final int end) {
+        lineCount++;
+        for (int i = start; i < end - 2; i++) {
+            if (bytes[i] == '{' && bytes[i + 1] == '_' && bytes[i + 2] == ':') {
+                int last = end - 1;
+                while (last > i && bytes[last] != '}') {
+                    last--;
+                }
+                /* Without closing brace, the message was truncated; the reader keeps what it can. */
+                if (!readMessage(bytes, i, last > i ? last + 1 : end)) {
+                    invalidCount++;
+                }
+                return;
+            }
+        }
+        /* A '~' may also appear in the layout before the message (a path, a thread name, an MDC value). Only whole
+           words are candidates, and a candidate that cannot be read is skipped in favor of the next one. */
+        boolean rejected = false;
+        for (int i = start; i < end - 1; i++) {
+            if (bytes[i] == '~' && (i == start || isBlank(bytes[i - 1])) && isBase64(bytes[i + 1])) {
+                int last = i + 1;
+                while (last < end && isBase64(bytes[last])) {
+                    last++;
+                }
+                if (last == end || isBlank(bytes[last])) {
+                    if (readMessage(bytes, i, last)) {
+                        return;
+                    }
+                    rejected = true;
+                }
+                i = last;
+            }
+        }
+        if (rejected) {
+            invalidCount++;
+        }
+    }
+
+    private static boolean isBase64(final byte b) {
+        return (b >= 'A' && b <= 'Z') || (b >= 'a' && b <= 'z') || (b >= '0' && b <= '9') || b == '-' || b == '_';
+    }
+
+    private static boolean isBlank(final byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    /* Returns false if the message could not be read. */
+    private boolean readMessage(final byte[] bytes, final int start, final int end) {
+        data.reset();
+        try {
+            data.readMessage(new String(bytes, start, end - start, StandardCharsets.UTF_8));
+        } catch (final IllegalArgumentException e) {
+            return false;
+        }
+        messageCount++;
+        if (data.getCategory() != null && data.getStopTime() != 0) {
+            final String key = data.getOperation() == null ? data.getCategory() : data.getCategory() + '/' + data.getOperation();
+            aggregate(key);
+            if (trees != null) {
+                trees.add(data, key);
+            }
+        }
+        return true;
+    }
+
+    private void aggregate(final String key) {
+        MeterAggregate aggregate = aggregates.get(key);
+        if (aggregate == null) {
+            if (aggregates.size() >= maxOperations || (allowed != null && !allowed.contains(key))) {
+                droppedCount++;
+                return;
+            }
+            aggregate = new MeterAggregate(data.getSessionUuid(), 0, data.getStopTime(), data.getStopTime(),
+                    data.getCategory(), data.getOperation());
+            aggregates.put(key, aggregate);
+        }
+        aggregate.add(data);
+        operationCount++;
+    }
+
+    /**
+     * Returns the aggregated operations.
+     *
+     * @return One aggregate per category and operation, ordered by category and operation.
+     */
+    public List<MeterAggregate> getAggregates() {
+        final List<MeterAggregate> result = new ArrayList<>(aggregates.values());
+        result.sort(Comparator.comparing(MeterAggregate::getCategory)
+                .thenComparing(MeterAggregate::getOperation, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return result;
+    }
+
+    /**
+     * Returns the summaries of the operation trees.
+     *
+     * @return One summary per top-level category and operation, ordered by category and operation; empty if trees
+     * are not {@link #reconstructTrees() reconstructed}.
+     */
+    public List<MeterTreeAggregate> getTrees() {
+        if (trees == null) {
+            return new ArrayList<>();
+        }
+        final List<MeterTreeAggregate> result = trees.getAggregates();
+        result.sort(Comparator.comparing(MeterTreeAggregate::getCategory)
+                .thenComparing(MeterTreeAggregate::getOperation, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return result;
+    }
+
+    /**
+     * Returns the number of complete operation trees, that is, of stopped top-level operations.
+     *
+     * @return The number of trees, or zero if trees are not {@link #reconstructTrees() reconstructed}.
+     */
+    public long getTreeCount() {
+        return trees == null ? 0 : trees.getTreeCount();
+    }
+
+    /**
+     * Returns the number of stopped sub-operations discarded while waiting for their parent, because too many were
+     * waiting.
+     *
+     * @return The number of orphan sub-operations.
+     */
+    public long getOrphanCount() {
+        return trees == null ? 0 : trees.getOrphanCount();
+    }
+
+    /**
+     * Returns the number of stopped sub-operations still waiting for their parent.
+     *
+     * @return The number of pending sub-operations.
+     */
+    public long getPendingCount() {
+        return trees == null ? 0 : trees.getPendingCount();
+    }
+
+    /**
+     * Returns the number of lines read.
+     *
+     * @return The number of lines.
+     */
+    public long getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * Returns the number of data channel messages read, of any kind.
+     *
+     * @return The number of messages.
+     */
+    public long getMessageCount() {
+        return messageCount;
+    }
+
+    /**
+     * Returns the number of stopped operations that were aggregated.
+     *
+     * @return The number of operations.
+     */
+    public long getOperationCount() {
+        return operationCount;
+    }
+
+    /**
+     * Returns the number of messages that could not be read.
+     *
+     * @return The number of invalid messages.
+     */
+    public long getInvalidCount() {
+        return invalidCount;
+    }
+
+    /**
+     * Returns the number of stopped operations that were not aggregated because there were already as many distinct
+     * operations as allowed.
+     *
+     * @return The number of discarded operations.
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Prints one line per aggregated operation, with its throughput unless it spans several sessions, followed by a
+     * summary. If trees are {@link #reconstructTrees() reconstructed}, also prints one line per top-level operation
+     * and a summary of the trees.
+     *
+     * @param out The stream that receives the report.
+     */
+    public void report(final PrintStream out) {
+        for (final MeterAggregate aggregate : getAggregates()) {
+            if (aggregate.isMultipleSessions()) {
+                out.println(aggregate.readableMessage() + "; several sessions");
+            } else {
+                out.println(aggregate.readableMessage() + "; "
+                        + String.format(Locale.ROOT, "%.1f", aggregate.getThroughput()) + "/s");
+            }
+        }
+        out.println(lineCount + " lines, " + messageCount + " messages, " + operationCount + " operations, "
+                + invalidCount + " invalid, " + droppedCount + " dropped; "
+                + aggregates.size() + " distinct operations");
+        if (trees != null) {
+            for (final MeterTreeAggregate tree : getTrees()) {
+                out.println(tree.readableMessage());
+            }
+            out.println(trees.getTreeCount() + " trees, " + trees.getOrphanCount() + " orphans, "
+                    + trees.getPendingCount() + " pending, " + trees.getDroppedCount() + " dropped");
+        }
+    }
+
+    /**
+     * Analyzes the log files given as arguments and prints the report to standard output.
+     *
+     * @param args The paths of the log files, optionally preceded by {@code --trees}.
+     * @throws IOException if a file cannot be read.
+     */
+    public static void main(final String[] args) throws IOException {
+        final boolean withTrees = args.length > 0 && "--trees".equals(args[0]);
+        final int first = withTrees ? 1 : 0;
+        if (args.length == first) {
+            System.err.println("Usage: MeterLogAnalyzer [--trees] <log file>...");
+            return;
+        }
+        final MeterLogAnalyzer analyzer = new MeterLogAnalyzer();
+        if (withTrees) {
+            analyzer.reconstructTrees();
+        }
+        final long start = System.nanoTime();
+        for (int i = first; i < args.length; i++) {
+            analyzer.analyze(Paths.get(args[i]), ForkJoinPool.commonPool());
+        }
+        analyzer.report(System.out);
+        System.out.println("Analyzed in " + UnitFormatter.nanoseconds(System.nanoTime() - start));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import lombok.experimental.UtilityClass;
+import org.slf4j.Logger;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A package-private cache of the message and data loggers used by {@link Meter}, resolved per category.
+ * <p>
+ * Resolving the loggers requires concatenating the prefixes and suffixes from {@link MeterConfig} with the category
+ * and looking up the logger factory twice. Caching the pair makes creating a meter for a known category free of both.
+ * <p>
+ * Each entry remembers the prefixes and suffixes it was resolved with. An entry is resolved again if the
+ * configuration changed since, either by {@link MeterConfig#init()}, which also clears the cache, or by assigning
+ * the public configuration fields directly.
+ *
+ * @author Daniel Felix Ferber
+ */
+@UtilityClass
+class MeterLoggerCache {
+
+    /**
+     * Number of cached categories above which the cache is cleared, protecting memory from applications that create
+     * meters for an unbounded number of categories.
+     */
+    final int MAX_CATEGORIES = 4096;
+
+    private final ConcurrentMap<String, Entry> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Message and data loggers resolved for a category, with the configuration they were resolved with.
+     */
+    static final class Entry {
+        final Logger messageLogger;
+        final Logger dataLogger;
+        private final String messagePrefix;
+        private final String messageSuffix;
+        private final String dataPrefix;
+        private final String dataSuffix;
+
+        private Entry(final String category) {
+            messagePrefix = MeterConfig.messagePrefix;
+            messageSuffix = MeterConfig.messageSuffix;
+            dataPrefix = MeterConfig.dataPrefix;
+            dataSuffix = MeterConfig.dataSuffix;
+            messageLogger = org.slf4j.LoggerFactory.getLogger(messagePrefix + category + messageSuffix);
+            dataLogger = org.slf4j.LoggerFactory.getLogger(dataPrefix + category + dataSuffix);
+        }
+
+        /* Reference comparison is intended: any assignment to the configuration invalidates the entry. */
+        @SuppressWarnings("StringEquality")
+        boolean isCurrent() {
+            return messagePrefix == MeterConfig.messagePrefix && messageSuffix == MeterConfig.messageSuffix
+                    && dataPrefix == MeterConfig.dataPrefix && dataSuffix == MeterConfig.dataSuffix;
+        }
+    }
+
+    /**
+     * Returns the message and data loggers for a category, resolving them if not cached or if the configuration
+     * changed.
+     *
+     * @param category The category, that is, the name of the logger given to the meter.
+     * @return The loggers for the category.
+     */
+    Entry get(final String category) {
+        final Entry entry = CACHE.get(category);
+        if (entry != null && entry.isCurrent()) {
+            return entry;
+        }
+        if (CACHE.size() >= MAX_CATEGORIES) {
+            CACHE.clear();
+        }
+        final Entry resolved = new Entry(category);
+        CACHE.put(category, resolved);
+        return resolved;
+    }
+
+    /**
+     * Discards all cached loggers.
+     */
+    void clear() {
+        CACHE.clear();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import lombok.experimental.UtilityClass;
+import org.slf4j.Logger;
+
+/**
+ * A package-private, per-thread pool of {@link Meter} instances handed out by {@link MeterFactory#borrow(Logger)}.
+ * <p>
+ * A borrowed meter returns to the pool of the thread that completes its terminal transition ({@code ok()},
+ * {@code reject()}, {@code fail()}, {@code success()} or {@code close()}), after its messages were logged. The next
+ * borrow on that thread reverts the instance to a newly created meter, reusing the object and its context map.
+ * <p>
+ * Each thread keeps at most {@link MeterConfig#poolCapacity} meters. Meters released to a full pool are left to the
+ * garbage collector. A capacity of zero disables pooling: every borrow creates a new meter.
+ *
+ * @author Daniel Felix Ferber
+ */
+@UtilityClass
+class MeterPool {
+
+    private final ThreadLocal<Pool> POOL = ThreadLocal.withInitial(Pool::new);
+
+    /**
+     * Stack of meters released on a thread.
+     */
+    static final class Pool {
+        private Meter[] meters = new Meter[0];
+        private int size = 0;
+    }
+
+    /**
+     * Returns a meter for an operation, reusing a meter released on the current thread, if available.
+     *
+     * @param logger    The SLF4J logger that will report messages.
+     * @param operation The name of the operation, or {@code null}.
+     * @return A meter in the same state as a newly created one, that returns to the pool after its terminal
+     * transition.
+     */
+    Meter borrow(final Logger logger, final String operation) {
+        final Pool pool = POOL.get();
+        if (pool.size == 0) {
+            return new Meter(logger, operation).borrowed();
+        }
+        final Meter meter = pool.meters[--pool.size];
+        pool.meters[pool.size] = null;
+        meter.recycle(logger, operation);
+        return meter;
+    }
+
+    /**
+     * Returns a meter for the operation described by a template, reusing a meter released on the current thread, if
+     * available.
+     *
+     * @param template The template describing the operation.
+     * @return A meter in the same state as a newly created one, that returns to the pool after its terminal
+     * transition.
+     */
+    Meter borrow(final MeterTemplate template) {
+        final Pool pool = POOL.get();
+        if (pool.size == 0) {
+            return Meter.fromTemplate(template).borrowed();
+        }
+        final Meter meter = pool.meters[--pool.size];
+        pool.meters[pool.size] = null;
+        meter.recycle(template);
+        return meter;
+    }
+
+    /**
+     * Returns a meter to the pool of the current thread, if there is room.
+     *
+     * @param meter The meter that has just completed its terminal transition.
+     */
+    void release(final Meter meter) {
+        final Pool pool = POOL.get();
+        final int capacity = MeterConfig.poolCapacity;
+        if (pool.size >= capacity) {
+            return;
+        }
+        if (pool.meters.length < capacity) {
+            final Meter[] grown = new Meter[capacity];
+            System.arraycopy(pool.meters, 0, grown, 0, pool.size);
+            pool.meters = grown;
+        }
+        pool.meters[pool.size++] = meter;
+    }
+
+    /**
+     * Returns the number of meters currently pooled on the current thread.
+     *
+     * @return The number of pooled meters.
+     */
+    int size() {
+        return POOL.get().size;
+    }
+
+    /**
+     * Discards all meters pooled on the current thread.
+     */
+    void clear() {
+        POOL.remove();
+    }
+}
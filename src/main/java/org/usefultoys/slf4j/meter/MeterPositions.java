@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * A package-private registry of the sequence counters that assign the position of each {@link Meter}, one counter
+ * per category and operation. Each counter also holds the {@link MeterIdentity} shared by all meters of its operation.
+ * <p>
+ * Counters are looked up by category and then by operation, so creating a meter never builds a composite key.
+ * Each counter lives on its own cache line, so meters for distinct operations created on distinct threads do not
+ * invalidate each other's counters.
+ * <p>
+ * By default, each position is taken from the shared counter and positions follow the order in which meters are
+ * created. If {@link MeterConfig#positionBlockSize} is greater than one, each thread reserves a block of positions at
+ * once and assigns them locally, touching the shared counter only once per block. Positions remain unique per
+ * category and operation, but are no longer ordered across threads, and positions left unused in the block of a
+ * terminated thread are skipped.
+ *
+ * @author Daniel Felix Ferber
+ */
+@UtilityClass
+class MeterPositions {
+
+    private final ConcurrentMap<String, Category> CATEGORIES = new ConcurrentHashMap<>();
+
+    /**
+     * Counters of a category: one for meters without operation and one per operation.
+     */
+    static final class Category {
+        private final String name;
+        private volatile Counter counter;
+        private final ConcurrentMap<String, Counter> operations = new ConcurrentHashMap<>();
+
+        Category(final String name) {
+            this.name = name;
+            counter = new Counter(new MeterIdentity(name, null), 0);
+        }
+
+        private Counter counter(final String operation) {
+            if (operation == null) {
+                return counter;
+            }
+            final Counter existing = operations.get(operation);
+            return existing != null ? existing : operations.computeIfAbsent(operation, key -> new Counter(new MeterIdentity(name, key), 0));
+        }
+
+        private void seed(final String operation, final long value) {
+            final MeterIdentity identity = counter(operation).identity;
+            if (operation == null) {
+                counter = new Counter(identity, value);
+            } else {
+                operations.put(operation, new Counter(identity, value));
+            }
+        }
+    }
+
+    /** Left padding, keeps the counter value apart from the fields of the preceding object. */
+    abstract static class LeftPadding {
+        long p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    /** The counter value, between paddings. */
+    abstract static class Value extends LeftPadding {
+        volatile long last;
+    }
+
+    /** Right padding, keeps the counter value apart from the fields of the following object. */
+    abstract static class RightPadding extends Value {
+        long p11, p12, p13, p14, p15, p16, p17;
+    }
+
+    /**
+     * Sequence counter for one category and operation, holding the last position handed out, either directly or as
+     * the end of a block.
+     */
+    static final class Counter extends RightPadding {
+        private static final AtomicLongFieldUpdater<Value> LAST = AtomicLongFieldUpdater.newUpdater(Value.class, "last");
+
+        /** Block of positions reserved by the current thread; cleared together with the counter. */
+        private final ThreadLocal<Block> block = new ThreadLocal<>();
+        /** Identity shared by all meters of the category and operation; kept when the counter is seeded. */
+        final MeterIdentity identity;
+
+        Counter(final MeterIdentity identity, final long last) {
+            this.identity = identity;
+            this.last = last;
+        }
+
+        /**
+         * Reserves the next positions from this counter. Fewer positions than requested are reserved just before the
+         * counter wraps.
+         *
+         * @param size   Number of positions to reserve.
+         * @param target Block to receive the reserved positions, or {@code null} if reserving a single position.
+         * @return The first position reserved.
+         */
+        private long reserve(final long size, final Block target) {
+            while (true) {
+                final long current = last;
+                /* Reset counter when it reaches maximum value to prevent overflow */
+                final long start = current == Long.MAX_VALUE ? 0 : current;
+                final long end = start + Math.min(size, Long.MAX_VALUE - start);
+                if (LAST.compareAndSet(this, current, end)) {
+                    if (target != null) {
+                        target.next = start + 1;
+                        target.remaining = end - start;
+                    }
+                    return start + 1;
+                }
+            }
+        }
+
+        /**
+         * Returns the next position from this counter, honoring {@link MeterConfig#positionBlockSize}.
+         *
+         * @return The next position, always greater than zero.
+         */
+        long next() {
+            return next(MeterConfig.positionBlockSize);
+        }
+
+        private long next(final int blockSize) {
+            if (blockSize <= 1) {
+                return reserve(1, null);
+            }
+            Block local = block.get();
+            if (local == null) {
+                local = new Block();
+                block.set(local);
+            }
+            if (local.remaining == 0) {
+                reserve(blockSize, local);
+            }
+            local.remaining--;
+            return local.next++;
+        }
+    }
+
+    /**
+     * Positions reserved by a thread: {@code remaining} positions starting at {@code next}.
+     */
+    static final class Block {
+        long next;
+        long remaining;
+    }
+
+    /**
+     * Returns the next position for a category and operation.
+     *
+     * @param category  The category.
+     * @param operation The operation, or {@code null}.
+     * @return The next position, unique for the category and operation, always greater than zero.
+     */
+    long next(final String category, final String operation) {
+        return category(category).counter(operation).next(MeterConfig.positionBlockSize);
+    }
+
+    /**
+     * Returns the counter of a category and operation, for callers that take many positions for the same operation
+     * and want to skip the lookup. The counter is replaced by {@link #seed(String, String, long)} and forgotten by
+     * {@link #clear()}.
+     *
+     * @param category  The category.
+     * @param operation The operation, or {@code null}.
+     * @return The counter.
+     */
+    Counter counter(final String category, final String operation) {
+        return category(category).counter(operation);
+    }
+
+    /**
+     * Replaces the counter of a category and operation, discarding blocks already reserved by threads. Intended for
+     * tests that depend on known positions.
+     *
+     * @param category  The category.
+     * @param operation The operation, or {@code null}.
+     * @param last      The position considered as last handed out; the next position will be this value plus one.
+     */
+    void seed(final String category, final String operation, final long last) {
+        category(category).seed(operation, last);
+    }
+
+    /**
+     * Discards all counters, restarting every sequence and forgetting the shared identities.
+     */
+    void clear() {
+        CATEGORIES.clear();
+    }
+
+    private Category category(final String category) {
+        final Category existing = CATEGORIES.get(category);
+        return existing != null ? existing : CATEGORIES.computeIfAbsent(category, Category::new);
+    }
+}
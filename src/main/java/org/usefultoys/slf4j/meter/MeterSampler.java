@@ -0,0 +1,278 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import lombok.experimental.UtilityClass;
+import org.usefultoys.slf4j.utils.ConfigParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides which terminal messages of {@link Meter} instances are logged, according to the rules of
+ * {@link MeterConfig#samplingRules}, so that high-traffic operations may log only a sample of their successful
+ * executions.
+ * <p>
+ * Each rule applies to the categories that start with its prefix, or, if the prefix is written as
+ * {@code category/operation}, to the operations of that exact category that start with the operation prefix. The most
+ * specific rule wins: operation rules before category rules, and longer prefixes before shorter ones. The policy of a
+ * rule is one of:
+ * <ul>
+ *   <li>{@code 1/N}: logs the first of every N successful executions;</li>
+ *   <li>{@code K/s}: logs at most K successful executions per second, with bursts of up to K (token bucket);</li>
+ *   <li>{@code all}: logs every execution, overriding a broader rule.</li>
+ * </ul>
+ * Only fast successful executions are sampled; slow, rejected and failed executions are always logged. The decision is
+ * taken before system status is collected or any message is formatted, so suppressed executions cost only a counter
+ * update. The number of executions suppressed by a rule since its previous logged message is reported in the next
+ * message logged under the same rule (see {@link MeterData#getSuppressedCount()}), so that rates derived from logs
+ * can be corrected. Outcome aggregation by {@link MeterAggregator} is not affected by sampling.
+ *
+ * @author Daniel Felix Ferber
+ */
+@UtilityClass
+public class MeterSampler {
+
+    private final long NANOSECONDS_PER_SECOND = 1_000_000_000L;
+    /** Rate of a rule that is not rate limited. */
+    final long UNLIMITED = -1;
+
+    /**
+     * A parsed sampling rule and its state, shared by all threads.
+     */
+    static final class Rule {
+        /** Prefix of the category, or the whole category if {@link #operationPrefix} is set. */
+        final String categoryPrefix;
+        /** Prefix of the operation, or {@code null} if the rule applies to the whole category. */
+        final String operationPrefix;
+        /** Logs one in every {@code oneIn} executions, or zero if the rule is not 1-in-N. */
+        final long oneIn;
+        /** Executions logged per second, or {@link #UNLIMITED} if the rule is not rate limited. */
+        final long perSecond;
+        /** Nanoseconds between tokens, or zero if the rule is not rate limited. */
+        final long intervalNanos;
+        /** How far (nanoseconds) the bucket may be ahead of the current time, allowing bursts. */
+        final long burstNanos;
+        /** Executions counted by a 1-in-N rule. */
+        final AtomicLong counter = new AtomicLong();
+        /** Theoretical time (nanoseconds) at which the bucket is full again. */
+        final AtomicLong bucketTime = new AtomicLong(Long.MIN_VALUE);
+        /** Executions suppressed since the previous logged message. */
+        final AtomicLong suppressed = new AtomicLong();
+
+        Rule(final String categoryPrefix, final String operationPrefix, final long oneIn, final long perSecond) {
+            this.categoryPrefix = categoryPrefix;
+            this.operationPrefix = operationPrefix;
+            this.oneIn = oneIn;
+            this.perSecond = perSecond;
+            if (perSecond > 0) {
+                intervalNanos = NANOSECONDS_PER_SECOND / perSecond;
+                burstNanos = (perSecond - 1) * intervalNanos;
+            } else {
+                intervalNanos = 0;
+                burstNanos = 0;
+            }
+        }
+
+        boolean matches(final String category, final String operation) {
+            if (category == null) {
+                return false;
+            }
+            if (operationPrefix == null) {
+                return category.startsWith(categoryPrefix);
+            }
+            return operation != null && category.equals(categoryPrefix) && operation.startsWith(operationPrefix);
+        }
+
+        /**
+         * Tells whether a successful execution stopped at the given time is logged, consuming its share of the rule.
+         *
+         * @param now Stop time of the execution, in nanoseconds.
+         * @return {@code true} if the execution is logged.
+         */
+        boolean admit(final long now) {
+            if (oneIn > 0) {
+                return counter.getAndIncrement() % oneIn == 0;
+            }
+            if (intervalNanos > 0) {
+                while (true) {
+                    final long current = bucketTime.get();
+                    final long base = Math.max(current, now);
+                    if (base - now > burstNanos) {
+                        return false;
+                    }
+                    if (bucketTime.compareAndSet(current, base + intervalNanos)) {
+                        return true;
+                    }
+                }
+            }
+            /* "0/s" suppresses every execution, "all" logs every execution. */
+            return perSecond != 0;
+        }
+    }
+
+    /**
+     * Rules parsed from one value of {@link MeterConfig#samplingRules}.
+     */
+    private static final class Rules {
+        final String source;
+        final Rule[] rules;
+
+        Rules(final String source, final Rule[] rules) {
+            this.source = source;
+            this.rules = rules;
+        }
+    }
+
+    private volatile Rules current = new Rules("", new Rule[0]);
+
+    /**
+     * Decides whether the terminal messages of a stopped meter are logged. If a rule applies and the messages are
+     * logged, the number of executions suppressed by the rule is moved into the meter.
+     *
+     * @param meter     The stopped meter.
+     * @param samplable {@code true} for a fast successful execution, which the rule may suppress; {@code false} for
+     *                  executions that are always logged.
+     * @return {@code true} if the messages are logged.
+     */
+    boolean admit(final Meter meter, final boolean samplable) {
+        final String source = MeterConfig.samplingRules;
+        if (source == null || source.isEmpty()) {
+            return true;
+        }
+        final Rule rule = find(configure(source).rules, meter.getCategory(), meter.getOperation());
+        if (rule == null) {
+            return true;
+        }
+        if (samplable && !rule.admit(meter.getStopTime())) {
+            rule.suppressed.incrementAndGet();
+            return false;
+        }
+        if (rule.suppressed.get() != 0) {
+            meter.suppressedCount = rule.suppressed.getAndSet(0);
+        }
+        return true;
+    }
+
+    Rule find(final Rule[] rules, final String category, final String operation) {
+        for (final Rule rule : rules) {
+            if (rule.matches(category, operation)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the rules parsed from the given configuration, parsing them only if the configuration changed since the
+     * previous call. Invalid rules are ignored and reported like other configuration errors.
+     *
+     * @param source The value of {@link MeterConfig#samplingRules}.
+     * @return The parsed rules.
+     */
+    Rules configure(final String source) {
+        final String value = source == null ? "" : source;
+        final Rules rules = current;
+        if (rules.source.equals(value)) {
+            return rules;
+        }
+        synchronized (MeterSampler.class) {
+            if (!current.source.equals(value)) {
+                current = new Rules(value, parse(value));
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Parses sampling rules, ordered from most to least specific.
+     *
+     * @param source Comma-separated rules.
+     * @return The valid rules.
+     */
+    Rule[] parse(final String source) {
+        final List<Rule> rules = new ArrayList<>();
+        for (final String entry : source.split(",")) {
+            final String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            final Rule rule = parseRule(trimmed);
+            if (rule == null) {
+                ConfigParser.initializationErrors.add("Invalid sampling rule for property '" + MeterConfig.PROP_SAMPLING + "': '" + trimmed + "'. Ignoring rule.");
+            } else {
+                rules.add(rule);
+            }
+        }
+        rules.sort((a, b) -> {
+            if ((a.operationPrefix == null) != (b.operationPrefix == null)) {
+                return a.operationPrefix == null ? 1 : -1;
+            }
+            final int byCategory = Integer.compare(b.categoryPrefix.length(), a.categoryPrefix.length());
+            if (byCategory != 0 || a.operationPrefix == null) {
+                return byCategory;
+            }
+            return Integer.compare(b.operationPrefix.length(), a.operationPrefix.length());
+        });
+        return rules.toArray(new Rule[0]);
+    }
+
+    private Rule parseRule(final String entry) {
+        final int equals = entry.indexOf('=');
+        if (equals <= 0) {
+            return null;
+        }
+        final String prefix = entry.substring(0, equals).trim();
+        final String policy = entry.substring(equals + 1).trim();
+        final int slash = prefix.indexOf('/');
+        final String categoryPrefix = slash < 0 ? prefix : prefix.substring(0, slash);
+        final String operationPrefix = slash < 0 ? null : prefix.substring(slash + 1);
+        if (categoryPrefix.isEmpty() && operationPrefix != null) {
+            return null;
+        }
+        if ("all".equalsIgnoreCase(policy)) {
+            return new Rule(categoryPrefix, operationPrefix, 0, UNLIMITED);
+        }
+        final int policySlash = policy.indexOf('/');
+        if (policySlash <= 0) {
+            return null;
+        }
+        final long amount;
+        try {
+            amount = Long.parseLong(policy.substring(0, policySlash).trim());
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+        final String unit = policy.substring(policySlash + 1).trim();
+        if ("s".equals(unit)) {
+            if (amount < 0 || amount > NANOSECONDS_PER_SECOND) {
+                return null;
+            }
+            return new Rule(categoryPrefix, operationPrefix, 0, amount);
+        }
+        if (amount != 1) {
+            return null;
+        }
+        final long oneIn;
+        try {
+            oneIn = Long.parseLong(unit);
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+        return oneIn < 1 ? null : new Rule(categoryPrefix, operationPrefix, oneIn, UNLIMITED);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.usefultoys.slf4j.Session;
+import org.usefultoys.slf4j.SessionConfig;
+
+/**
+ * A reusable description of an operation, from which {@link Meter} instances are created with minimal per-call work.
+ * <p>
+ * A template resolves once everything that does not change between executions of the same operation: category,
+ * operation name, message and data loggers, the counter that assigns positions, and the default time limit. It is
+ * immutable and thread-safe, intended to be kept in a {@code static final} field of the instrumented class:
+ * <pre>{@code
+ * private static final MeterTemplate HANDLE = MeterFactory.template(Handler.class, "handle").limitMilliseconds(200);
+ *
+ * public Response handle(Request request) {
+ *     final Meter m = HANDLE.start();
+ *     ...
+ *     m.ok();
+ * }
+ * }</pre>
+ * Loggers are resolved again if {@link MeterConfig} prefixes or suffixes change. Logger levels are still checked on
+ * each lifecycle call, as logging backends may change them at runtime.
+ *
+ * @author Daniel Felix Ferber
+ * @see MeterFactory#template(Logger, String)
+ */
+public final class MeterTemplate {
+
+    /** The category of the operation, that is, the name of the logger. */
+    @Getter
+    private final String category;
+    /** The name of the operation, or {@code null} if the category itself describes the operation. */
+    @Getter
+    private final String operation;
+    /** Default time limit (in nanoseconds) assigned to each created `Meter`. Zero if no time limit is defined. */
+    @Getter
+    private final long timeLimit;
+    /** Counter that assigns positions to meters of this operation. */
+    private final MeterPositions.Counter counter;
+    /** Message and data loggers, replaced when {@link MeterConfig} prefixes or suffixes change. */
+    private volatile MeterLoggerCache.Entry loggers;
+    /** Short session UUID, replaced when {@link SessionConfig#uuidSize} changes. */
+    private volatile String sessionUuid;
+
+    MeterTemplate(final @NonNull Logger logger, final String operation) {
+        category = logger.getName();
+        this.operation = operation;
+        timeLimit = 0;
+        counter = MeterPositions.counter(category, operation);
+        loggers = MeterLoggerCache.get(category);
+        sessionUuid = Session.shortSessionUuid();
+    }
+
+    private MeterTemplate(final MeterTemplate template, final long timeLimit) {
+        category = template.category;
+        operation = template.operation;
+        this.timeLimit = timeLimit;
+        counter = template.counter;
+        loggers = template.loggers;
+        sessionUuid = template.sessionUuid;
+    }
+
+    /**
+     * Returns a template that assigns a default time limit to each created `Meter`. Meters may still override it with
+     * {@link Meter#limitMilliseconds(long)}.
+     *
+     * @param timeLimit The time limit in milliseconds. Must be a positive value.
+     * @return A new template with the time limit, or this template if the time limit is invalid.
+     */
+    public MeterTemplate limitMilliseconds(final long timeLimit) {
+        if (!MeterValidator.validateTemplateLimitMillisecondsCallArgument(this, timeLimit)) {
+            return this;
+        }
+        return new MeterTemplate(this, timeLimit * 1000 * 1000); // Convert milliseconds to nanoseconds
+    }
+
+    /**
+     * Creates a new `Meter` for this operation, not yet started, to be configured before {@link Meter#start()}.
+     *
+     * @return A new `Meter` instance.
+     */
+    public Meter create() {
+        return Meter.fromTemplate(this);
+    }
+
+    /**
+     * Creates and starts a new `Meter` for this operation.
+     *
+     * @return A new, started `Meter` instance.
+     */
+    public Meter start() {
+        return Meter.fromTemplate(this).start();
+    }
+
+    /**
+     * Borrows a reusable `Meter` for this operation, not yet started. See {@link MeterFactory#borrow(Logger)} for the
+     * rules that apply to borrowed meters.
+     *
+     * @return A borrowed `Meter` instance.
+     */
+    public Meter borrow() {
+        return MeterPool.borrow(this);
+    }
+
+    /**
+     * Returns the message logger of this operation.
+     *
+     * @return The logger for human-readable messages.
+     */
+    public Logger getMessageLogger() {
+        return loggers().messageLogger;
+    }
+
+    long nextPosition() {
+        return counter.next();
+    }
+
+    MeterIdentity identity() {
+        return counter.identity;
+    }
+
+    MeterLoggerCache.Entry loggers() {
+        MeterLoggerCache.Entry current = loggers;
+        if (!current.isCurrent()) {
+            current = MeterLoggerCache.get(category);
+            loggers = current;
+        }
+        return current;
+    }
+
+    String sessionUuid() {
+        String current = sessionUuid;
+        /* The short UUID is a suffix of the session UUID, so its length tells the size it was computed for. */
+        if (current.length() != SessionConfig.uuidSize) {
+            current = Session.shortSessionUuid();
+            sessionUuid = current;
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return operation == null ? category : category + '/' + operation;
+    }
+}
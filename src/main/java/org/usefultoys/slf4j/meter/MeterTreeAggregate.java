@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.usefultoys.slf4j.utils.UnitFormatter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summary of the operation trees of one top-level operation, reconstructed from a log by {@link MeterLogAnalyzer}.
+ * <p>
+ * A tree is a top-level operation (a meter without parent) together with all its sub-operations
+ * ({@link Meter#sub(String)}), recursively. For each tree, the execution time of the top-level operation is split into
+ * <i>child time</i>, while at least one direct sub-operation was running, and <i>self time</i>, while none was. The
+ * <i>critical path</i> is the chain of operations that determined when the tree finished: walking back from the end
+ * of each operation, the sub-operation that finished last is on the path, then the one that finished last before it
+ * started, and so on; the gaps between them are self time of the operation on the path. Each operation on the path is
+ * credited with its share of the execution time, which adds up to the execution time of the tree.
+ *
+ * @author Daniel Felix Ferber
+ */
+@Getter
+public final class MeterTreeAggregate {
+
+    /** Largest number of distinct operations credited with critical path time; others are credited together. */
+    static final int MAX_CRITICAL_OPERATIONS = 100;
+    /** Key that credits the operations beyond {@link #MAX_CRITICAL_OPERATIONS}. */
+    static final String OTHER_OPERATIONS = "...";
+    /** Number of operations listed by {@link #readableMessage()}. */
+    private static final int READABLE_OPERATIONS = 3;
+
+    /** Category of the top-level operation. */
+    private final String category;
+    /** Operation name of the top-level operation, or {@code null} for the category itself. */
+    private final String operation;
+    /** Number of trees. */
+    private long count = 0;
+    /** Sum of the execution times (nanoseconds) of the top-level operations. */
+    private long totalTime = 0;
+    /** Sum of the times (nanoseconds) while no direct sub-operation was running. */
+    private long selfTime = 0;
+    /** Sum of the times (nanoseconds) while at least one direct sub-operation was running. */
+    private long childTime = 0;
+    /** Execution time (nanoseconds) of the slowest tree. */
+    private long slowestTime = 0;
+    /** Operations on the critical path of the slowest tree, in order of start. */
+    @Getter(AccessLevel.NONE)
+    private List<String> slowestPath = Collections.emptyList();
+    /** Sum of the critical path times (nanoseconds) credited to each operation. */
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Long> criticalTimes = new LinkedHashMap<>();
+
+    MeterTreeAggregate(final String category, final String operation) {
+        this.category = category;
+        this.operation = operation;
+    }
+
+    /**
+     * Adds a tree.
+     *
+     * @param time          The execution time of the top-level operation.
+     * @param child         The time while at least one direct sub-operation was running.
+     * @param criticalTimes The critical path time credited to each operation of the tree.
+     * @param path          The operations on the critical path, in order of start.
+     */
+    void add(final long time, final long child, final Map<String, Long> criticalTimes, final List<String> path) {
+        count++;
+        totalTime += time;
+        childTime += child;
+        selfTime += time - child;
+        if (count == 1 || time > slowestTime) {
+            slowestTime = time;
+            slowestPath = path;
+        }
+        for (final Map.Entry<String, Long> entry : criticalTimes.entrySet()) {
+            String key = entry.getKey();
+            if (!this.criticalTimes.containsKey(key) && this.criticalTimes.size() >= MAX_CRITICAL_OPERATIONS) {
+                key = OTHER_OPERATIONS;
+            }
+            this.criticalTimes.merge(key, entry.getValue(), Long::sum);
+        }
+    }
+
+    /**
+     * Returns the average execution time of the top-level operation.
+     *
+     * @return The average execution time in nanoseconds, or zero if there are no trees.
+     */
+    public double getAverageTime() {
+        return count == 0 ? 0 : (double) totalTime / count;
+    }
+
+    /**
+     * Returns the operations on the critical path of the slowest tree.
+     *
+     * @return The keys ({@code category} or {@code category/operation}) of the operations, in order of start.
+     */
+    public List<String> getSlowestPath() {
+        return Collections.unmodifiableList(slowestPath);
+    }
+
+    /**
+     * Returns the critical path time credited to each operation, summed over all trees.
+     *
+     * @return The time in nanoseconds per operation key ({@code category} or {@code category/operation}), longest
+     * first. Operations beyond the first {@value #MAX_CRITICAL_OPERATIONS} are credited together to
+     * {@value #OTHER_OPERATIONS}.
+     */
+    public Map<String, Long> getCriticalTimes() {
+        final List<Map.Entry<String, Long>> entries = new ArrayList<>(criticalTimes.entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        final Map<String, Long> result = new LinkedHashMap<>();
+        for (final Map.Entry<String, Long> entry : entries) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Generates a human-readable summary of the trees, such as
+     * {@code TREE: a.b.Class/op; 120 trees; 3.4ms avg, 0.4ms self, 3.0ms children; critical path 60% a.b.Repo/load, 30% a.b.Http/call, 10% a.b.Class/op; slowest 45ms: a.b.Class/op > a.b.Repo/load}.
+     *
+     * @return A string containing the human-readable message.
+     */
+    public String readableMessage() {
+        final StringBuilder builder = new StringBuilder(200);
+        builder.append("TREE: ").append(category);
+        if (operation != null) {
+            builder.append('/').append(operation);
+        }
+        builder.append("; ").append(count).append(" trees");
+        if (count == 0) {
+            return builder.toString();
+        }
+        builder.append("; ");
+        UnitFormatter.nanoseconds(builder, getAverageTime());
+        builder.append(" avg, ");
+        UnitFormatter.nanoseconds(builder, (double) selfTime / count);
+        builder.append(" self, ");
+        UnitFormatter.nanoseconds(builder, (double) childTime / count);
+        builder.append(" children");
+        if (totalTime > 0) {
+            builder.append("; critical path");
+            int listed = 0;
+            for (final Map.Entry<String, Long> entry : getCriticalTimes().entrySet()) {
+                if (listed == READABLE_OPERATIONS) {
+                    break;
+                }
+                builder.append(listed++ == 0 ? " " : ", ")
+                        .append(Math.round(100.0 * entry.getValue() / totalTime)).append("% ").append(entry.getKey());
+            }
+        }
+        builder.append("; slowest ");
+        UnitFormatter.nanoseconds(builder, slowestTime);
+        builder.append(':');
+        for (int i = 0; i < slowestPath.size(); i++) {
+            builder.append(i == 0 ? " " : " > ").append(slowestPath.get(i));
+        }
+        return builder.toString();
+    }
+}
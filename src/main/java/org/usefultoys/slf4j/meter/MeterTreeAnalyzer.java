@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reconstructs operation trees from the terminal messages of stopped meters, as read by {@link MeterLogAnalyzer}.
+ * <p>
+ * A sub-operation refers to its parent by the {@link MeterData#getFullID() full ID} of the parent, which is unique
+ * within a JVM session. Sub-operations stop before their parent, so each stopped sub-operation waits, with its own
+ * sub-operations, until its parent stops. When a top-level operation stops, its tree is complete: it is summarized
+ * into the {@link MeterTreeAggregate} of the top-level operation and discarded. Sub-operations whose parent never
+ * stops, or that stop after their parent, wait until more than the allowed number of sub-operations are waiting; the
+ * ones waiting longest are then discarded and counted by {@link #getOrphanCount()}.
+ *
+ * @author Daniel Felix Ferber
+ */
+final class MeterTreeAnalyzer {
+
+    /** Default largest number of stopped sub-operations that wait for their parent. */
+    static final int DEFAULT_MAX_PENDING_NODES = 100_000;
+
+    private static final Comparator<Node> LATEST_STOP_FIRST = (a, b) -> Long.compare(b.stopTime, a.stopTime);
+
+    private final int maxPendingNodes;
+    private final int maxOperations;
+    /** Stopped sub-operations by the session and full ID of their parent, waiting longest first. */
+    private final Map<String, List<Node>> pending = new LinkedHashMap<>();
+    private final Map<String, MeterTreeAggregate> aggregates = new LinkedHashMap<>();
+    private int pendingNodeCount = 0;
+    private long treeCount = 0;
+    private long orphanCount = 0;
+    private long droppedCount = 0;
+
+    /**
+     * A stopped operation with its stopped sub-operations.
+     */
+    private static final class Node {
+        final String key;
+        final long startTime;
+        final long stopTime;
+        final List<Node> children;
+        /** Number of operations of the subtree, including this one. */
+        final int size;
+
+        Node(final String key, final long startTime, final long stopTime, final List<Node> children) {
+            this.key = key;
+            this.startTime = startTime;
+            this.stopTime = stopTime;
+            this.children = children;
+            int size = 1;
+            if (children != null) {
+                for (final Node child : children) {
+                    size += child.size;
+                }
+            }
+            this.size = size;
+        }
+    }
+
+    /**
+     * Creates an analyzer.
+     *
+     * @param maxPendingNodes The largest number of stopped sub-operations that wait for their parent.
+     * @param maxOperations   The largest number of distinct top-level operations that are summarized.
+     */
+    MeterTreeAnalyzer(final int maxPendingNodes, final int maxOperations) {
+        this.maxPendingNodes = maxPendingNodes;
+        this.maxOperations = maxOperations;
+    }
+
+    /**
+     * Adds a stopped operation.
+     *
+     * @param data The data of the stopped operation.
+     * @param key  The category, or category and operation separated by {@code /}, of the operation.
+     */
+    void add(final MeterData data, final String key) {
+        final String session = data.getSessionUuid() + ' ';
+        final List<Node> children = pending.remove(session + data.getFullID());
+        if (children != null) {
+            for (final Node child : children) {
+                pendingNodeCount -= child.size;
+            }
+        }
+        final long stopTime = data.getStopTime();
+        final Node node = new Node(key, stopTime - data.getExecutionTime(), stopTime, children);
+        if (data.getParent() == null) {
+            summarize(node, data);
+            return;
+        }
+        pending.computeIfAbsent(session + data.getParent(), k -> new ArrayList<>(2)).add(node);
+        pendingNodeCount += node.size;
+        final Iterator<List<Node>> oldest = pending.values().iterator();
+        while (pendingNodeCount > maxPendingNodes && oldest.hasNext()) {
+            for (final Node orphan : oldest.next()) {
+                pendingNodeCount -= orphan.size;
+                orphanCount += orphan.size;
+            }
+            oldest.remove();
+        }
+    }
+
+    private void summarize(final Node root, final MeterData data) {
+        treeCount++;
+        MeterTreeAggregate aggregate = aggregates.get(root.key);
+        if (aggregate == null) {
+            if (aggregates.size() >= maxOperations) {
+                droppedCount++;
+                return;
+            }
+            aggregate = new MeterTreeAggregate(data.getCategory(), data.getOperation());
+            aggregates.put(root.key, aggregate);
+        }
+        final Map<String, Long> criticalTimes = new HashMap<>();
+        final List<String> path = new ArrayList<>();
+        criticalPath(root, root.stopTime, criticalTimes, path);
+        aggregate.add(root.stopTime - root.startTime, childTime(root), criticalTimes, path);
+    }
+
+    /**
+     * Returns the time while at least one direct sub-operation of an operation was running.
+     */
+    private static long childTime(final Node node) {
+        if (node.children == null) {
+            return 0;
+        }
+        final List<Node> children = new ArrayList<>(node.children);
+        children.sort(Comparator.comparingLong(child -> child.startTime));
+        long covered = 0;
+        long coveredUntil = node.startTime;
+        for (final Node child : children) {
+            final long start = Math.max(child.startTime, coveredUntil);
+            final long stop = Math.min(child.stopTime, node.stopTime);
+            if (stop > start) {
+                covered += stop - start;
+                coveredUntil = stop;
+            }
+        }
+        return covered;
+    }
+
+    /**
+     * Walks back the critical path of an operation, crediting the gaps between sub-operations on the path to the
+     * operation and the sub-operations on the path to themselves, recursively.
+     *
+     * @param node          The operation on the path.
+     * @param end           The time when the path leaves the operation.
+     * @param criticalTimes Receives the time credited to each operation.
+     * @param path          Receives the operations on the path, in order of start.
+     */
+    private static void criticalPath(final Node node, final long end, final Map<String, Long> criticalTimes,
+                                     final List<String> path) {
+        path.add(node.key);
+        long self = 0;
+        long cursor = end;
+        List<Node> onPath = null;
+        List<Long> ends = null;
+        if (node.children != null) {
+            node.children.sort(LATEST_STOP_FIRST);
+            for (final Node child : node.children) {
+                if (cursor <= node.startTime) {
+                    break;
+                }
+                if (child.startTime >= cursor) {
+                    continue;
+                }
+                /* A sub-operation that overlaps the one after it on the path is on the path only until then. */
+                final long childEnd = Math.min(child.stopTime, cursor);
+                self += cursor - childEnd;
+                if (onPath == null) {
+                    onPath = new ArrayList<>(node.children.size());
+                    ends = new ArrayList<>(node.children.size());
+                }
+                onPath.add(child);
+                ends.add(childEnd);
+                cursor = Math.max(child.startTime, node.startTime);
+            }
+        }
+        if (cursor > node.startTime) {
+            self += cursor - node.startTime;
+        }
+        criticalTimes.merge(node.key, self, Long::sum);
+        if (onPath != null) {
+            for (int i = onPath.size() - 1; i >= 0; i--) {
+                criticalPath(onPath.get(i), ends.get(i), criticalTimes, path);
+            }
+        }
+    }
+
+    /**
+     * Returns the summaries of the top-level operations.
+     *
+     * @return One summary per top-level category and operation, in order of first occurrence.
+     */
+    List<MeterTreeAggregate> getAggregates() {
+        return new ArrayList<>(aggregates.values());
+    }
+
+    long getTreeCount() {
+        return treeCount;
+    }
+
+    long getOrphanCount() {
+        return orphanCount;
+    }
+
+    long getDroppedCount() {
+        return droppedCount;
+    }
+
+    int getPendingCount() {
+        return pendingNodeCount;
+    }
+}
@@ -17,6 +17,7 @@ package org.usefultoys.slf4j.meter;
 
 import lombok.experimental.UtilityClass;
 
+import org.slf4j.Logger;
 import org.usefultoys.slf4j.CallerStackTraceThrowable;
 
 import java.util.IllegalFormatException;
@@ -35,6 +36,9 @@ import java.util.IllegalFormatException;
 @UtilityClass
 public class MeterValidator {
 
+    /** Message for any call on a borrowed Meter that was already returned to the pool. */
+    private final String MSG_RELEASED = "Meter already released, must not use borrowed instance after ok/reject/fail/success()";
+
     /* ========== Validate Call Argument Methods ========== */
 
     /**
@@ -170,6 +174,23 @@ public class MeterValidator {
     }
 
 
+    /**
+     * Validates the arguments for the `limitMilliseconds` method of a MeterTemplate.
+     *
+     * @param template  The MeterTemplate instance.
+     * @param timeLimit The time limit in milliseconds.
+     * @return {@code true} if the time limit is positive, {@code false} otherwise.
+     */
+    boolean validateTemplateLimitMillisecondsCallArgument(final MeterTemplate template, final long timeLimit) {
+        if (timeLimit <= 0) {
+            final CallerStackTraceThrowable throwable = new CallerStackTraceThrowable();
+            template.getMessageLogger().error(Markers.INVALID_ARGUMENT, "MeterTemplate.{} - {}; id={}", throwable.getApiMethodName(), "Non-positive argument: timeLimit", template, throwable);
+            return false;
+        }
+        return true;
+    }
+
+
     /* ========== Validate Precondition Methods ========== */
 
     /**
@@ -180,6 +201,10 @@ public class MeterValidator {
      * @return {@code true} if the precondition is met, {@code false} otherwise.
      */
     boolean validateStartPrecondition(final Meter meter) {
+        if (meter.isReleased()) {
+            logInvalidTransition(meter, MSG_RELEASED);
+            return false;
+        }
         if (meter.getStopTime() != 0) {
             logInvalidTransition(meter, "Meter already stopped, must use instance only once");
             return false;
@@ -214,7 +239,10 @@ public class MeterValidator {
      * @return {@code true} if the meter can proceed to stop (even with warnings), {@code false} if the meter is already stopped.
      */
     boolean validateStopPrecondition(final Meter meter) {
-        if (meter.getStopTime() != 0) {
+        if (meter.isReleased()) {
+            logInvalidTransition(meter, MSG_RELEASED);
+            return false;
+        } else if (meter.getStopTime() != 0) {
             logInvalidTransition(meter, "Meter already stopped, must call ok/reject/fail/success() only once");
             return false;
         } else if (meter.getStartTime() == 0) {
@@ -270,6 +298,21 @@ public class MeterValidator {
         return true;
     }
 
+    /**
+     * Validates the precondition for configuring a Meter to collect its sub-operations.
+     * A meter cannot be configured as collecting after it has been stopped.
+     *
+     * @param meter The Meter instance to validate.
+     * @return {@code true} if the precondition is met (not stopped), {@code false} otherwise.
+     */
+    boolean validateCollectingPrecondition(final Meter meter) {
+        if (meter.getStopTime() != 0) {
+            logInvalidStateAlreadyStopped(meter);
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Validates the precondition for incrementing a Meter's iteration count.
      * An increment cannot occur if the meter has not been started.
@@ -328,24 +371,28 @@ public class MeterValidator {
     }
 
 
-    /* ========== Validate Finalize Method ========== */
+    /* ========== Leak Tracking ========== */
 
     /**
-     * Validates the state of a Meter instance during finalization.
-     * Logs an error if a Meter was started but never explicitly stopped.
+     * Logs an error for a Meter that was started but garbage-collected without being explicitly stopped.
+     * Called by {@link MeterLeakTracker} after the Meter is no longer reachable, hence the logger and the ID
+     * captured when tracking started.
      *
-     * @param meter The Meter instance being finalized.
+     * @param messageLogger The message logger of the reclaimed Meter.
+     * @param fullID        The full ID of the reclaimed Meter.
      */
-    void validateFinalize(final Meter meter) {
-        if (meter.getStartTime() != 0 && meter.getStopTime() == 0 && !meter.getCategory().equals(Meter.UNKNOWN_LOGGER_NAME)) {
-            meter.getMessageLogger().error(Markers.INVALID_ARGUMENT, "{}; id={}", "Meter never stopped, must remember to call ok/reject/fail/success() on each started one", meter.getFullID());
-        }
+    void logNeverStopped(final Logger messageLogger, final String fullID) {
+        messageLogger.error(Markers.INVALID_ARGUMENT, "{}; id={}", "Meter never stopped, must remember to call ok/reject/fail/success() on each started one", fullID);
     }
 
     /* ========== Utility Methods ========== */
 
     void logInvalidStateAlreadyStopped(final Meter meter) {
-        logInvalidState(meter, "Meter already stopped, must call before ok/reject/fail/success()");
+        if (meter.isReleased()) {
+            logInvalidState(meter, MSG_RELEASED);
+        } else {
+            logInvalidState(meter, "Meter already stopped, must call before ok/reject/fail/success()");
+        }
     }
 
     void logInvalidStateNotStarted(final Meter meter) {
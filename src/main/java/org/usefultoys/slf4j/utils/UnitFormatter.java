@@ -18,6 +18,9 @@ package org.usefultoys.slf4j.utils;
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
 /**
  * Utility class that provides methods to format numbers by rounding them to a unit,
  * thereby reducing their string representation.
@@ -26,6 +29,10 @@ import lombok.experimental.UtilityClass;
  *
  * <p>For example, it can convert large numbers into human-readable formats such as "1.2kB" or "3.4ms".
  *
+ * <p>Each method has an overload that appends to a {@link StringBuilder} instead of returning a string, for formatters
+ * that build messages on the hot path. Both produce the same text as {@link String#format(String, Object...)} with
+ * the default locale.
+ *
  * @author Daniel Felix Ferber
  */
 @UtilityClass
@@ -49,12 +56,32 @@ public final class UnitFormatter {
      * @param factors An array of factors for unit conversion (e.g., 1000, 1000, 1000).
      * @return A formatted string representing the value with units.
      */
+    String longUnit(final long value, @NonNull final String[] units, @NonNull final int[] factors) {
+        final StringBuilder sb = new StringBuilder(8);
+        appendLongUnit(sb, value, units, factors);
+        return sb.toString();
+    }
+
+    /**
+     * Appends a long integer value with appropriate units, as {@link #longUnit(long, String[], int[])} formats it.
+     *
+     * @param sb      The builder to append to.
+     * @param value   The long integer value to format.
+     * @param units   An array of unit strings (e.g., "B", "kB", "MB").
+     * @param factors An array of factors for unit conversion (e.g., 1000, 1000, 1000).
+     */
     @SuppressWarnings("AssignmentToMethodParameter")
-    String longUnit(long value, @NonNull final String[] units, @NonNull final int[] factors) {
+    void appendLongUnit(final StringBuilder sb, long value, @NonNull final String[] units, @NonNull final int[] factors) {
+        final LocaleSymbols symbols = localeSymbols();
         int index = 0;
         final int limit = factors[index] + factors[index] / 10;
         if (value < limit) {
-            return String.format("%d%s", value, units[index]);
+            if (symbols.asciiDigits) {
+                sb.append(value).append(units[index]);
+            } else {
+                sb.append(String.format("%d%s", value, units[index]));
+            }
+            return;
         }
 
         final int length = factors.length;
@@ -65,7 +92,8 @@ public final class UnitFormatter {
             value /= factors[index];
             index++;
         }
-        return String.format("%.1f%s", doubleValue, units[index]);
+        appendOneDecimal(sb, doubleValue, symbols);
+        sb.append(units[index]);
     }
 
     /**
@@ -82,10 +110,26 @@ public final class UnitFormatter {
      * @param factors An array of factors for unit conversion (e.g., 1000, 1000, 1000).
      * @return A formatted string representing the value with units.
      */
+    String doubleUnit(final double value, @NonNull final String[] units, @NonNull final int[] factors) {
+        final StringBuilder sb = new StringBuilder(8);
+        appendDoubleUnit(sb, value, units, factors);
+        return sb.toString();
+    }
+
+    /**
+     * Appends a double-precision floating-point value with appropriate units, as
+     * {@link #doubleUnit(double, String[], int[])} formats it.
+     *
+     * @param sb      The builder to append to.
+     * @param value   The double value to format.
+     * @param units   An array of unit strings (e.g., "/s", "k/s", "M/s").
+     * @param factors An array of factors for unit conversion (e.g., 1000, 1000, 1000).
+     */
     @SuppressWarnings("AssignmentToMethodParameter")
-    String doubleUnit(double value, @NonNull final String[] units, @NonNull final int[] factors) {
+    void appendDoubleUnit(final StringBuilder sb, double value, @NonNull final String[] units, @NonNull final int[] factors) {
         if (value == 0.0) {
-            return "0" + units[0];
+            sb.append('0').append(units[0]);
+            return;
         }
 
         int index = 0;
@@ -95,7 +139,100 @@ public final class UnitFormatter {
             value /= factors[index];
             index++;
         }
-        return String.format("%.1f%s", value, units[index]);
+        appendOneDecimal(sb, value, localeSymbols());
+        sb.append(units[index]);
+    }
+
+    /**
+     * Symbols of the default locale used by {@link String#format(String, Object...)}, cached to be looked up without
+     * creating objects while the default locale does not change.
+     */
+    private final class LocaleSymbols {
+        final Locale locale;
+        final char decimalSeparator;
+        /** Whether the locale writes digits as ASCII, which the fixed-point path of the append methods assumes. */
+        final boolean asciiDigits;
+
+        LocaleSymbols(final Locale locale) {
+            final DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+            this.locale = locale;
+            decimalSeparator = symbols.getDecimalSeparator();
+            asciiDigits = symbols.getZeroDigit() == '0';
+        }
+    }
+
+    private volatile LocaleSymbols localeSymbols = new LocaleSymbols(Locale.getDefault(Locale.Category.FORMAT));
+
+    private LocaleSymbols localeSymbols() {
+        final Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        LocaleSymbols symbols = localeSymbols;
+        if (symbols.locale != locale) {
+            symbols = new LocaleSymbols(locale);
+            localeSymbols = symbols;
+        }
+        return symbols;
+    }
+
+    private void appendOneDecimal(final StringBuilder sb, final double value, final LocaleSymbols symbols) {
+        if (symbols.asciiDigits) {
+            appendOneDecimal(sb, value, symbols.decimalSeparator);
+        } else {
+            sb.append(String.format("%.1f", value));
+        }
+    }
+
+    /**
+     * Largest magnitude handled by the fixed-point path of {@link #appendOneDecimal(StringBuilder, double, char)}.
+     * Up to this magnitude, the fraction of the value scaled by ten is precise enough to decide rounding.
+     */
+    private final double ONE_DECIMAL_FIXED_POINT_LIMIT = 1e6;
+    /**
+     * Distance from a rounding tie within which {@link #appendOneDecimal(StringBuilder, double, char)} cannot decide
+     * rounding from the binary value alone.
+     */
+    private final double ONE_DECIMAL_TIE_TOLERANCE = 1e-6;
+
+    /**
+     * Appends a value with exactly one decimal digit, producing the same digits as {@code String.format("%.1f", value)},
+     * but without creating intermediate objects.
+     * <p>
+     * Like {@link java.util.Formatter}, rounding is half-up over the shortest decimal representation of the value.
+     * The rare values close to a rounding tie that cannot be decided by fixed-point arithmetic, as well as very large,
+     * infinite or NaN values, are delegated to {@link String#format(Locale, String, Object...)}.
+     *
+     * @param sb               The builder to append to.
+     * @param value            The value to append.
+     * @param decimalSeparator The character that separates the integer part from the decimal digit.
+     */
+    public void appendOneDecimal(@NonNull final StringBuilder sb, final double value, final char decimalSeparator) {
+        final double magnitude = Math.abs(value);
+        if (!(magnitude < ONE_DECIMAL_FIXED_POINT_LIMIT)) {
+            appendOneDecimalFormatted(sb, value, decimalSeparator);
+            return;
+        }
+        final double scaled = magnitude * 10.0;
+        final double floor = Math.floor(scaled);
+        long tenths = (long) floor;
+        final double fraction = scaled - floor;
+        if (Math.abs(fraction - 0.5) < ONE_DECIMAL_TIE_TOLERANCE) {
+            /* Near a tie, only a value that is exactly the closest double to the tie is known to round up. */
+            if (magnitude != (floor + 0.5) / 10.0) {
+                appendOneDecimalFormatted(sb, value, decimalSeparator);
+                return;
+            }
+            tenths++;
+        } else if (fraction > 0.5) {
+            tenths++;
+        }
+        if (value < 0.0 || (value == 0.0 && 1.0 / value < 0.0)) {
+            sb.append('-');
+        }
+        sb.append(tenths / 10).append(decimalSeparator).append((char) ('0' + tenths % 10));
+    }
+
+    private void appendOneDecimalFormatted(final StringBuilder sb, final double value, final char decimalSeparator) {
+        final String formatted = String.format(Locale.US, "%.1f", value);
+        sb.append(decimalSeparator == '.' ? formatted : formatted.replace('.', decimalSeparator));
     }
 
     /**
@@ -108,6 +245,16 @@ public final class UnitFormatter {
         return longUnit(value, MEMORY_UNITS, MEMORY_FACTORS);
     }
 
+    /**
+     * Appends a number of bytes with appropriate units, as {@link #bytes(long)} formats it.
+     *
+     * @param sb    The builder to append to.
+     * @param value The number of bytes.
+     */
+    public void bytes(@NonNull final StringBuilder sb, final long value) {
+        appendLongUnit(sb, value, MEMORY_UNITS, MEMORY_FACTORS);
+    }
+
     /**
      * Formats a duration in nanoseconds into a human-readable string with appropriate time units.
      *
@@ -118,6 +265,16 @@ public final class UnitFormatter {
         return longUnit(value, TIME_UNITS, TIME_FACTORS);
     }
 
+    /**
+     * Appends a duration in nanoseconds with appropriate time units, as {@link #nanoseconds(long)} formats it.
+     *
+     * @param sb    The builder to append to.
+     * @param value The duration in nanoseconds.
+     */
+    public void nanoseconds(@NonNull final StringBuilder sb, final long value) {
+        appendLongUnit(sb, value, TIME_UNITS, TIME_FACTORS);
+    }
+
     /**
      * Formats a duration in nanoseconds (as a double) into a human-readable string with appropriate time units.
      *
@@ -128,6 +285,17 @@ public final class UnitFormatter {
         return doubleUnit(value, TIME_UNITS, TIME_FACTORS);
     }
 
+    /**
+     * Appends a duration in nanoseconds (as a double) with appropriate time units, as {@link #nanoseconds(double)}
+     * formats it.
+     *
+     * @param sb    The builder to append to.
+     * @param value The duration in nanoseconds.
+     */
+    public void nanoseconds(@NonNull final StringBuilder sb, final double value) {
+        appendDoubleUnit(sb, value, TIME_UNITS, TIME_FACTORS);
+    }
+
     /**
      * Formats a number of iterations into a human-readable string with appropriate units.
      *
@@ -138,6 +306,16 @@ public final class UnitFormatter {
         return longUnit(value, ITERATIONS_UNITS, ITERATIONS_FACTORS);
     }
 
+    /**
+     * Appends a number of iterations with appropriate units, as {@link #iterations(long)} formats it.
+     *
+     * @param sb    The builder to append to.
+     * @param value The number of iterations.
+     */
+    public void iterations(@NonNull final StringBuilder sb, final long value) {
+        appendLongUnit(sb, value, ITERATIONS_UNITS, ITERATIONS_FACTORS);
+    }
+
     /**
      * Formats a number of iterations per second (as a double) into a human-readable string with appropriate units.
      *
@@ -147,4 +325,15 @@ public final class UnitFormatter {
     public String iterationsPerSecond(final double value) {
         return doubleUnit(value, ITERATIONS_PER_TIME_UNITS, ITERATIONS_PER_TIME_FACTORS);
     }
+
+    /**
+     * Appends a number of iterations per second (as a double) with appropriate units, as
+     * {@link #iterationsPerSecond(double)} formats it.
+     *
+     * @param sb    The builder to append to.
+     * @param value The number of iterations per second.
+     */
+    public void iterationsPerSecond(@NonNull final StringBuilder sb, final double value) {
+        appendDoubleUnit(sb, value, ITERATIONS_PER_TIME_UNITS, ITERATIONS_PER_TIME_FACTORS);
+    }
 }
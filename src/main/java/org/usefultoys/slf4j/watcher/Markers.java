@@ -32,6 +32,8 @@ import org.slf4j.MarkerFactory;
  * <ul>
  *   <li>{@link #MSG_WATCHER} - Marker for general {@link Watcher} log messages.</li>
  *   <li>{@link #DATA_WATCHER} - Marker for {@link Watcher} data-related log messages.</li>
+ *   <li>{@link #MSG_AGGREGATE} - Marker for meter aggregates reported by the {@link Watcher}.</li>
+ *   <li>{@link #DATA_AGGREGATE} - Marker for meter aggregate data reported by the {@link Watcher}.</li>
  * </ul>
  * 
  * <p>
@@ -45,4 +47,6 @@ import org.slf4j.MarkerFactory;
 public final class Markers {
     public final Marker MSG_WATCHER = MarkerFactory.getMarker("WATCHER");
     public final Marker DATA_WATCHER = MarkerFactory.getMarker("WATCHER_DATA");
+    public final Marker MSG_AGGREGATE = MarkerFactory.getMarker("WATCHER_AGGREGATE");
+    public final Marker DATA_AGGREGATE = MarkerFactory.getMarker("WATCHER_AGGREGATE_DATA");
 }
@@ -19,6 +19,9 @@ import org.slf4j.Logger;
 import org.usefultoys.slf4j.NullLogger;
 import org.usefultoys.slf4j.Session;
 import org.usefultoys.slf4j.internal.SystemMetrics;
+import org.usefultoys.slf4j.meter.MeterAggregate;
+import org.usefultoys.slf4j.meter.MeterAggregator;
+import org.usefultoys.slf4j.meter.MeterConfig;
 
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -35,6 +38,9 @@ import static org.usefultoys.slf4j.watcher.WatcherConfig.*;
  * <li>A **human-readable summary** at the {@code INFO} level.</li>
  * <li>A **machine-parsable data message** at the {@code TRACE} level for automated analysis.</li>
  * </ul>
+ * If {@link MeterConfig#aggregationEnabled} is set, each call also reports the outcomes of the meters that stopped
+ * since the previous call, as merged by {@link MeterAggregator}: one pair of messages per category and operation.
+ * <p>
  * As a {@link Runnable}, this class can be easily integrated with scheduling
  * services like {@link ScheduledExecutorService}.
  *
@@ -82,6 +88,7 @@ public class Watcher extends WatcherData implements Runnable {
      * <li>Collects runtime, platform, and MBean metrics.</li>
      * <li>Logs a human-readable summary at the {@code INFO} level.</li>
      * <li>Logs a machine-parsable data message at the {@code TRACE} level.</li>
+     * <li>If meter aggregation is enabled, logs each meter aggregate at the {@code INFO} and {@code TRACE} levels.</li>
      * </ol>
      */
     @Override
@@ -101,5 +108,16 @@ public class Watcher extends WatcherData implements Runnable {
         if (dataLogger.isTraceEnabled()) {
             dataLogger.trace(Markers.DATA_WATCHER, json5Message());
         }
+        if (MeterConfig.aggregationEnabled) {
+            /* Drained even if both loggers are disabled, so that each report covers only the last interval. */
+            for (final MeterAggregate aggregate : MeterAggregator.drain()) {
+                if (messageLogger.isInfoEnabled()) {
+                    messageLogger.info(Markers.MSG_AGGREGATE, aggregate.readableMessage());
+                }
+                if (dataLogger.isTraceEnabled()) {
+                    dataLogger.trace(Markers.DATA_AGGREGATE, aggregate.json5Message());
+                }
+            }
+        }
     }
 }
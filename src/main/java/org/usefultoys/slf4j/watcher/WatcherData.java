@@ -94,11 +94,7 @@ public class WatcherData extends SystemData {
      * @return A string containing the JSON5-encoded message.
      */
     public final String json5Message() {
-        final StringBuilder sb = new StringBuilder(200);
-        sb.append("{");
-        writeJson5(sb);
-        sb.append("}");
-        return sb.toString();
+        return encodeJson5();
     }
 
 }
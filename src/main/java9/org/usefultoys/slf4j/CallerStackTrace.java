@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Captures the stack trace reported by {@link CallerStackTraceThrowable}.
+ * <p>
+ * This is the Java 9 implementation, packaged under {@code META-INF/versions/9} of the multi-release JAR. It walks
+ * the stack lazily with {@link StackWalker}, skips library frames by class name while streaming, and stops once it
+ * kept {@link CallerStackTraceThrowable#MAX_FRAMES} frames, so that the frames of deep stacks are never visited nor
+ * converted into {@link StackTraceElement}s. The result is the same as the Java 8 implementation.
+ *
+ * @author Daniel Felix Ferber
+ */
+final class CallerStackTrace {
+
+    /**
+     * Reflection frames are shown, as in {@link Thread#getStackTrace()}, so both implementations report the same
+     * frames.
+     */
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.SHOW_REFLECT_FRAMES);
+
+    /**
+     * Leading frames that belong to the capture itself: {@link #capture()},
+     * {@link CallerStackTraceThrowable#fillInStackTrace()} and the {@link Throwable} constructor.
+     */
+    private static final int CAPTURE_FRAMES = 3;
+
+    private CallerStackTrace() {
+        // Utility class
+    }
+
+    /**
+     * Captures the stack trace of the current thread, starting at the API entry point or at the user code, with at
+     * most {@link CallerStackTraceThrowable#MAX_FRAMES} frames. Must be called only from
+     * {@link CallerStackTraceThrowable#fillInStackTrace()}.
+     *
+     * @return the stack trace with internal frames removed
+     */
+    static StackTraceElement[] capture() {
+        return WALKER.walk(frames -> {
+            final Iterator<StackWalker.StackFrame> iterator = frames.skip(CAPTURE_FRAMES).iterator();
+            StackWalker.StackFrame previous = null;
+            StackWalker.StackFrame frame = null;
+            while (iterator.hasNext()) {
+                final StackWalker.StackFrame candidate = iterator.next();
+                if (!CallerStackTraceThrowable.isInternalFrame(candidate.getClassName())) {
+                    frame = candidate;
+                    break;
+                }
+                previous = candidate;
+            }
+            if (frame == null) {
+                /* All stack trace frames are from the library itself. */
+                return CallerStackTraceThrowable.EMPTY_STACK_TRACE;
+            }
+            final List<StackTraceElement> kept = new ArrayList<>(CallerStackTraceThrowable.MAX_FRAMES);
+            if (previous != null && !previous.getClassName().equals(CallerStackTraceThrowable.class.getName())) {
+                /* Library frames found, keep the last library method (API entry point). */
+                kept.add(previous.toStackTraceElement());
+            }
+            kept.add(frame.toStackTraceElement());
+            while (kept.size() < CallerStackTraceThrowable.MAX_FRAMES && iterator.hasNext()) {
+                kept.add(iterator.next().toStackTraceElement());
+            }
+            return kept.toArray(CallerStackTraceThrowable.EMPTY_STACK_TRACE);
+        });
+    }
+}
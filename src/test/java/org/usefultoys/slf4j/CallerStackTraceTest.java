@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link CallerStackTrace}, the capture behind {@link CallerStackTraceThrowable}.
+ * <p>
+ * The default test execution runs the Java 8 implementation from {@code target/classes}. The {@code java9-tests}
+ * execution runs the same tests, and the other stack trace tests, with {@code META-INF/versions/9} ahead on the
+ * classpath, so that the Java 9+ implementation of the multi-release JAR is tested too. Both must report the frames
+ * {@link Thread#getStackTrace()} would report below the API entry point, up to
+ * {@link CallerStackTraceThrowable#MAX_FRAMES}.
+ * <p>
+ * <b>Coverage:</b>
+ * <ul>
+ *   <li><b>Implementation:</b> The execution tests the implementation it is configured for</li>
+ *   <li><b>Parity:</b> Frames below the API entry point or the user code are kept, reflection frames included</li>
+ *   <li><b>Limit:</b> Deep stacks are cut after the limit; shallow stacks are kept whole</li>
+ * </ul>
+ *
+ * @author Daniel Felix Ferber
+ */
+@DisplayName("CallerStackTrace: Java 8 and Java 9+ implementations")
+class CallerStackTraceTest {
+
+    /** Set by the test execution that places the classes of a multi-release version first on the classpath. */
+    private static final String RELEASE_PROPERTY = "slf4jtoys.test.release";
+
+    @Test
+    @DisplayName("should load the implementation of the configured release")
+    void shouldLoadImplementationOfConfiguredRelease() {
+        // Given: the release configured for this test execution, if any
+        final String release = System.getProperty(RELEASE_PROPERTY);
+
+        // When: the location of the loaded implementation is examined
+        final String location = CallerStackTrace.class.getProtectionDomain().getCodeSource().getLocation().toString();
+
+        // Then: it comes from the versioned directory only if a release was configured
+        if (release == null) {
+            assertFalse(location.contains("META-INF/versions/"), "should load Java 8 implementation: " + location);
+        } else {
+            assertTrue(location.endsWith("META-INF/versions/" + release + "/"), "should load Java " + release + " implementation: " + location);
+        }
+    }
+
+    @Test
+    @DisplayName("should keep frames below the API entry point up to the limit")
+    void shouldKeepFramesBelowApiEntryPointUpToLimit() {
+        // Given: the full stack trace of this test method, deeper than the limit under the test runner
+        final StackTraceElement[] expected = Thread.currentThread().getStackTrace();
+        assertTrue(expected.length > CallerStackTraceThrowable.MAX_FRAMES, "test runner stack should exceed the limit");
+
+        // When: a library method creates the throwable
+        final StackTraceElement[] actual = LibraryHelper.outerMethod().getStackTrace();
+
+        // Then: the entry point replaces Thread.getStackTrace(), and the frames below are the same, up to the limit
+        assertEquals(CallerStackTraceThrowable.MAX_FRAMES, actual.length, "should keep as many frames as the limit");
+        assertEquals(LibraryHelper.class.getName(), actual[0].getClassName(), "Frame 0: should point to LibraryHelper");
+        assertEquals("outerMethod", actual[0].getMethodName(), "Frame 0: should be outerMethod");
+        assertSameFrames(expected, actual);
+    }
+
+    @Test
+    @DisplayName("should keep frames below user code up to the limit")
+    void shouldKeepFramesBelowUserCodeUpToLimit() {
+        // Given: the full stack trace of this test method
+        final StackTraceElement[] expected = Thread.currentThread().getStackTrace();
+
+        // When: the throwable is created directly by user code
+        final StackTraceElement[] actual = new CallerStackTraceThrowable().getStackTrace();
+
+        // Then: the user code replaces Thread.getStackTrace(), and the frames below are the same, up to the limit
+        assertEquals(CallerStackTraceThrowable.MAX_FRAMES, actual.length, "should keep as many frames as the limit");
+        assertEquals(getClass().getName(), actual[0].getClassName(), "Frame 0: should point to test method");
+        assertEquals("shouldKeepFramesBelowUserCodeUpToLimit", actual[0].getMethodName(), "Frame 0: should be test method");
+        for (int i = 1; i < actual.length; i++) {
+            assertEquals(expected[i + 1], actual[i], "Frame " + i + ": should match full stack trace");
+        }
+    }
+
+    @Test
+    @DisplayName("should keep all frames of a stack shallower than the limit")
+    void shouldKeepAllFramesOfShallowStack() throws InterruptedException {
+        // Given: a new thread, whose stack is shallower than the limit
+        final StackTraceElement[][] captured = new StackTraceElement[2][];
+        final Thread thread = new Thread(() -> {
+            captured[0] = Thread.currentThread().getStackTrace();
+            captured[1] = LibraryHelper.outerMethod().getStackTrace();
+        });
+
+        // When: a library method creates the throwable on that thread
+        thread.start();
+        thread.join();
+
+        // Then: the entry point replaces Thread.getStackTrace(), and all frames below are the same
+        final StackTraceElement[] expected = captured[0];
+        final StackTraceElement[] actual = captured[1];
+        assertTrue(expected.length < CallerStackTraceThrowable.MAX_FRAMES, "thread stack should be shallower than the limit");
+        assertEquals(expected.length, actual.length, "should keep as many frames as the full stack trace");
+        assertEquals("outerMethod", actual[0].getMethodName(), "Frame 0: should be outerMethod");
+        assertSameFrames(expected, actual);
+    }
+
+    /* Compares the frames below the top one; the line of the calling method differs between both captures. */
+    private static void assertSameFrames(final StackTraceElement[] expected, final StackTraceElement[] actual) {
+        assertEquals(expected[1].getClassName(), actual[1].getClassName(), "Frame 1: should point to calling method");
+        assertEquals(expected[1].getMethodName(), actual[1].getMethodName(), "Frame 1: should be calling method");
+        for (int i = 2; i < actual.length; i++) {
+            assertEquals(expected[i], actual[i], "Frame " + i + ": should match full stack trace");
+        }
+    }
+}
@@ -37,6 +37,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  *   <li><b>Default Values:</b> Verifies that all managed bean flags are false by default and no initialization errors occur</li>
  *   <li><b>Reset Functionality:</b> Ensures that reset() restores all values to defaults without errors</li>
  *   <li><b>Boolean Property Parsing:</b> Tests parsing of useClassLoadingManagedBean, useMemoryManagedBean, useCompilationManagedBean, useGarbageCollectionManagedBean, and usePlatformManagedBean with true, false, and invalid values</li>
+ *   <li><b>Time Property Parsing:</b> Tests parsing of samplingPeriodMilliseconds with time units and invalid values</li>
  *   <li><b>Error Handling:</b> Validates that invalid boolean values fall back to defaults and report errors via ConfigParser</li>
  * </ul>
  */
@@ -57,6 +58,7 @@ class SystemConfigTest {
         assertFalse(SystemConfig.useCompilationManagedBean, "Default value for useCompilationManagedBean should be false");
         assertFalse(SystemConfig.useGarbageCollectionManagedBean, "Default value for useGarbageCollectionManagedBean should be false");
         assertFalse(SystemConfig.usePlatformManagedBean, "Default value for usePlatformManagedBean should be false");
+        assertEquals(0L, SystemConfig.samplingPeriodMilliseconds, "Default value for samplingPeriodMilliseconds should be 0 (disabled)");
         assertTrue(ConfigParser.isInitializationOK(), "No errors should be reported for default values");
     }
 
@@ -73,6 +75,7 @@ class SystemConfigTest {
         assertFalse(SystemConfig.useCompilationManagedBean, "Default value for useCompilationManagedBean should be false");
         assertFalse(SystemConfig.useGarbageCollectionManagedBean, "Default value for useGarbageCollectionManagedBean should be false");
         assertFalse(SystemConfig.usePlatformManagedBean, "Default value for usePlatformManagedBean should be false");
+        assertEquals(0L, SystemConfig.samplingPeriodMilliseconds, "Default value for samplingPeriodMilliseconds should be 0 (disabled)");
         assertTrue(ConfigParser.isInitializationOK(), "No errors should be reported after reset");
     }
 
@@ -265,4 +268,29 @@ class SystemConfigTest {
         assertEquals(1, ConfigParser.initializationErrors.size());
         assertTrue(ConfigParser.initializationErrors.get(0).contains("Invalid boolean value for property '" + SystemConfig.PROP_USE_PLATFORM_MANAGED_BEAN));
     }
+
+    @Test
+    @DisplayName("should parse samplingPeriodMilliseconds with time unit")
+    void shouldParseSamplingPeriodWithTimeUnit() {
+        // Given: system property set with a time unit
+        System.setProperty(SystemConfig.PROP_SAMPLING_PERIOD, "2s");
+        // When: init() is called
+        SystemConfig.init();
+        // Then: samplingPeriodMilliseconds should be converted to milliseconds
+        assertEquals(2000L, SystemConfig.samplingPeriodMilliseconds, "samplingPeriodMilliseconds should reflect the system property value");
+        assertTrue(ConfigParser.isInitializationOK());
+    }
+
+    @Test
+    @DisplayName("should report error when samplingPeriodMilliseconds has invalid format")
+    void shouldReportErrorWhenSamplingPeriodInvalid() {
+        // Given: system property set to invalid value "invalid"
+        System.setProperty(SystemConfig.PROP_SAMPLING_PERIOD, "invalid");
+        // When: init() is called
+        SystemConfig.init();
+        // Then: should use default value and report error
+        assertEquals(0L, SystemConfig.samplingPeriodMilliseconds, "samplingPeriodMilliseconds should fall back to default for invalid format");
+        assertFalse(ConfigParser.isInitializationOK());
+        assertEquals(1, ConfigParser.initializationErrors.size());
+    }
 }
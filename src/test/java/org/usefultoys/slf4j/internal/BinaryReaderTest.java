@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.internal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.usefultoys.test.ValidateCharset;
+import org.usefultoys.test.WithLocale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link BinaryWriter} and {@link BinaryReader}.
+ * <p>
+ * Tests verify that values written by the writer are read back unchanged, take the expected number of bytes, and
+ * that malformed messages are rejected.
+ * <p>
+ * <b>Coverage:</b>
+ * <ul>
+ *   <li><b>Integers:</b> Unsigned and zig-zag encoded values, including limits, and their encoded size</li>
+ *   <li><b>Strings:</b> Null, empty, ASCII and multi-byte strings</li>
+ *   <li><b>Framing:</b> Prefix, Base64 alphabet and reuse of the writer after reset</li>
+ *   <li><b>Malformed Input:</b> Missing prefix, truncated records and overlong integers</li>
+ * </ul>
+ */
+@DisplayName("BinaryReader")
+@ValidateCharset
+@WithLocale("en")
+class BinaryReaderTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, -1, 63, -64, 64, 127, 128, 300, -300, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE})
+    @DisplayName("should read back signed and unsigned integers")
+    void shouldReadBackIntegers(final long value) {
+        // Given: a value written both as signed and unsigned
+        final BinaryWriter writer = new BinaryWriter(4);
+        writer.writeSigned(value);
+        writer.writeUnsigned(value);
+
+        // When: the message is read
+        final BinaryReader reader = new BinaryReader(writer.toMessage());
+
+        // Then: both are read back unchanged
+        assertEquals(value, reader.readSigned(), "signed value should be read back");
+        assertEquals(value, reader.readUnsigned(), "unsigned value should be read back");
+        assertTrue(reader.isExhausted(), "all bytes should be read");
+    }
+
+    @Test
+    @DisplayName("should write small magnitudes in few bytes")
+    void shouldWriteSmallMagnitudesInFewBytes() {
+        final BinaryWriter writer = new BinaryWriter(16);
+        writer.writeSigned(-64);
+        assertEquals(1, writer.size(), "-64 should take one byte");
+        writer.reset();
+        writer.writeSigned(64);
+        assertEquals(2, writer.size(), "64 should take two bytes");
+        writer.reset();
+        writer.writeUnsigned(127);
+        assertEquals(1, writer.size(), "127 should take one byte");
+        writer.reset();
+        writer.writeUnsigned(-1);
+        assertEquals(10, writer.size(), "negative unsigned value should take ten bytes");
+    }
+
+    @Test
+    @DisplayName("should read back strings")
+    void shouldReadBackStrings() {
+        // Given: null, empty, ASCII and multi-byte strings
+        final BinaryWriter writer = new BinaryWriter(1);
+        writer.writeString(null);
+        writer.writeString("");
+        writer.writeString("com.example.Service");
+        writer.writeString("ação 日本 '{,:}'");
+
+        // When: the message is read
+        final BinaryReader reader = new BinaryReader(writer.toMessage());
+
+        // Then: each string is read back unchanged
+        assertNull(reader.readString(), "null should be read back");
+        assertEquals("", reader.readString(), "empty string should be read back");
+        assertEquals("com.example.Service", reader.readString(), "ASCII string should be read back");
+        assertEquals("ação 日本 '{,:}'", reader.readString(), "multi-byte string should be read back");
+        assertTrue(reader.isExhausted(), "all bytes should be read");
+    }
+
+    @Test
+    @DisplayName("should frame the record as a single line of URL-safe Base64")
+    void shouldFrameRecordAsSingleLine() {
+        // Given: a writer reused after reset
+        final BinaryWriter writer = new BinaryWriter(8);
+        writer.writeString("discarded");
+        writer.reset();
+        for (int i = 0; i < 256; i++) {
+            writer.writeByte(i);
+        }
+
+        // When: the message is written
+        final String message = writer.toMessage();
+
+        // Then: it starts with the prefix, uses only the URL-safe alphabet and holds only the bytes after reset
+        assertTrue(BinaryReader.isBinaryMessage(message), "message should be recognized as binary");
+        assertTrue(message.substring(1).matches("[A-Za-z0-9_-]+"), "message should use only the URL-safe alphabet");
+        final BinaryReader reader = new BinaryReader(message);
+        for (int i = 0; i < 256; i++) {
+            assertEquals(i, reader.readByte(), "byte should be read back");
+        }
+        assertTrue(reader.isExhausted(), "all bytes should be read");
+    }
+
+    @Test
+    @DisplayName("should reject malformed messages")
+    void shouldRejectMalformedMessages() {
+        assertFalse(BinaryReader.isBinaryMessage("{a:1}"), "JSON5 message should not be recognized as binary");
+        assertFalse(BinaryReader.isBinaryMessage(""), "empty message should not be recognized as binary");
+        assertThrows(IllegalArgumentException.class, () -> new BinaryReader("{a:1}"), "missing prefix should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new BinaryReader("~a$b"), "invalid Base64 should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new BinaryReader("~").readByte(), "empty record should be truncated");
+        assertThrows(IllegalArgumentException.class, () -> new BinaryReader("~gA").readUnsigned(), "unterminated integer should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new BinaryReader("~_________________w").readUnsigned(), "overlong integer should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new BinaryReader("~BWE").readString(), "truncated string should be rejected");
+    }
+}
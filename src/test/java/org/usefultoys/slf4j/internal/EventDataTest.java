@@ -436,5 +436,52 @@ class EventDataTest {
         assertEquals(5555L, event.getLastCurrentTime(), "should preserve existing lastCurrentTime");
     }
 
+    @Test
+    @DisplayName("should encode complete JSON5 message enclosed in braces")
+    void testEncodeJson5_enclosesProperties() {
+        // Given: EventData with specific values
+        final EventData event = new EventData("abc", 7L, 1000L);
+
+        // When: the event is encoded as a JSON5 message
+        final String json5 = event.encodeJson5();
 
+        // Then: the message should contain all properties enclosed in braces
+        assertEquals("{_:abc,$:7,t:1000}", json5, "should encode complete message");
+    }
+
+    @Test
+    @DisplayName("should encode independent JSON5 messages when reusing per-thread buffer")
+    void testEncodeJson5_reusesBufferWithoutLeakingPreviousContent() {
+        // Given: two events with values of different lengths
+        final EventData longer = new EventData("long_session_uuid", 123456789L, 987654321L);
+        final EventData shorter = new EventData("s", 1L, 2L);
+
+        // When: both events are encoded in sequence on the same thread
+        final String first = longer.encodeJson5();
+        final String second = shorter.encodeJson5();
+
+        // Then: each message should contain only its own properties
+        assertEquals("{_:long_session_uuid,$:123456789,t:987654321}", first, "should keep first message unchanged");
+        assertEquals("{_:s,$:1,t:2}", second, "should not carry content from previous message");
+    }
+
+    @Test
+    @DisplayName("should encode JSON5 message larger than the retained buffer capacity")
+    void testEncodeJson5_largeMessage() {
+        // Given: an event whose message exceeds the capacity retained by the per-thread buffer
+        final StringBuilder uuid = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            uuid.append('u');
+        }
+        final EventData large = new EventData(uuid.toString(), 1L, 2L);
+        final EventData small = new EventData("s", 3L, 4L);
+
+        // When: the large event and then a small event are encoded
+        final String largeJson5 = large.encodeJson5();
+        final String smallJson5 = small.encodeJson5();
+
+        // Then: both messages should be complete
+        assertEquals("{_:" + uuid + ",$:1,t:2}", largeJson5, "should encode large message");
+        assertEquals("{_:s,$:3,t:4}", smallJson5, "should encode small message after large one");
+    }
 }
@@ -0,0 +1,365 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.internal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.usefultoys.test.ValidateCharset;
+import org.usefultoys.test.WithLocale;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link Json5Reader}.
+ * <p>
+ * Tests verify that the reader walks the top-level properties of a JSON5 message once and converts their values
+ * according to the subset of JSON5 written by the serializers of this library.
+ * <p>
+ * <b>Coverage:</b>
+ * <ul>
+ *   <li><b>Property Iteration:</b> Keys, whitespace, enclosing braces and skipping of malformed properties</li>
+ *   <li><b>Words and Numbers:</b> In-place parsing of long integers, including limits and invalid input</li>
+ *   <li><b>Quoted Strings:</b> Strings containing delimiters are read as a single value</li>
+ *   <li><b>Tuples:</b> Exact element count, whitespace and empty elements</li>
+ *   <li><b>Maps:</b> Entries without value, whitespace and values containing colons</li>
+ * </ul>
+ */
+@DisplayName("Json5Reader")
+@ValidateCharset
+@WithLocale("en")
+class Json5ReaderTest {
+
+    @Nested
+    @DisplayName("Property iteration")
+    class PropertyIteration {
+
+        @Test
+        @DisplayName("should visit each top-level property in order")
+        void shouldVisitEachTopLevelPropertyInOrder() {
+            // Given: a message with properties of each value type
+            final Json5Reader reader = new Json5Reader("{a:1,b:'x,y}',c:[1,2],d:{k:v,w:},e:z}");
+
+            // When/Then: each property is visited once, in order
+            assertTrue(reader.nextProperty(), "should find first property");
+            assertTrue(reader.isKey("a"), "first key should be a");
+            assertTrue(reader.nextProperty(), "should find second property");
+            assertTrue(reader.isKey("b"), "second key should be b");
+            assertTrue(reader.nextProperty(), "should find third property");
+            assertTrue(reader.isKey("c"), "third key should be c");
+            assertTrue(reader.nextProperty(), "should find fourth property");
+            assertTrue(reader.isKey("d"), "fourth key should be d");
+            assertTrue(reader.nextProperty(), "should find fifth property");
+            assertTrue(reader.isKey("e"), "fifth key should be e");
+            assertFalse(reader.nextProperty(), "should find no more properties");
+            assertFalse(reader.nextProperty(), "should remain at end of message");
+        }
+
+        @Test
+        @DisplayName("should compare whole key")
+        void shouldCompareWholeKey() {
+            // Given: a message with a key that is a prefix of another key
+            final Json5Reader reader = new Json5Reader("{t0:1}");
+
+            // When: the property is read
+            assertTrue(reader.nextProperty(), "should find property");
+
+            // Then: only the whole key matches
+            assertTrue(reader.isKey("t0"), "should match whole key");
+            assertFalse(reader.isKey("t"), "should not match key prefix");
+            assertFalse(reader.isKey("t01"), "should not match longer key");
+        }
+
+        @Test
+        @DisplayName("should accept whitespace around keys, colons and values")
+        void shouldAcceptWhitespaceAroundKeysColonsAndValues() {
+            // Given: a message with whitespace everywhere
+            final Json5Reader reader = new Json5Reader("  { a : 1 ,\tb:\n2 }  ");
+
+            // When/Then: properties are read without whitespace
+            assertTrue(reader.nextProperty(), "should find first property");
+            assertTrue(reader.isKey("a"), "first key should be a");
+            assertEquals(1L, reader.longValue(0L), "first value should be 1");
+            assertTrue(reader.nextProperty(), "should find second property");
+            assertTrue(reader.isKey("b"), "second key should be b");
+            assertEquals(2L, reader.longValue(0L), "second value should be 2");
+            assertFalse(reader.nextProperty(), "should find no more properties");
+        }
+
+        @Test
+        @DisplayName("should read message without enclosing braces")
+        void shouldReadMessageWithoutEnclosingBraces() {
+            // Given: properties without enclosing braces
+            final Json5Reader reader = new Json5Reader("a:1,b:2");
+
+            // When/Then: properties are read
+            assertTrue(reader.nextProperty(), "should find first property");
+            assertEquals(1L, reader.longValue(0L), "first value should be 1");
+            assertTrue(reader.nextProperty(), "should find second property");
+            assertEquals(2L, reader.longValue(0L), "second value should be 2");
+            assertFalse(reader.nextProperty(), "should find no more properties");
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "{}", "  ", "{ }", "}"})
+        @DisplayName("should find no property in empty message")
+        void shouldFindNoPropertyInEmptyMessage(final String json5) {
+            // Given: an empty message
+            final Json5Reader reader = new Json5Reader(json5);
+
+            // When/Then: no property is found
+            assertFalse(reader.nextProperty(), "should find no property");
+        }
+
+        @Test
+        @DisplayName("should skip properties without colon or key")
+        void shouldSkipPropertiesWithoutColonOrKey() {
+            // Given: a message with malformed properties between valid ones
+            final Json5Reader reader = new Json5Reader("{a 'x',:2,b:3}");
+
+            // When/Then: only the valid property is found
+            assertTrue(reader.nextProperty(), "should find valid property");
+            assertTrue(reader.isKey("b"), "should skip malformed properties");
+            assertEquals(3L, reader.longValue(0L), "value should be 3");
+            assertFalse(reader.nextProperty(), "should find no more properties");
+        }
+
+        @Test
+        @DisplayName("should not visit keys nested in maps or strings")
+        void shouldNotVisitKeysNestedInMapsOrStrings() {
+            // Given: a message whose map and string values look like properties
+            final Json5Reader reader = new Json5Reader("{ctx:{c:nested},d:'x,c:quoted'}");
+
+            // When/Then: only top-level keys are visited
+            assertTrue(reader.nextProperty(), "should find map property");
+            assertTrue(reader.isKey("ctx"), "first key should be ctx");
+            assertTrue(reader.nextProperty(), "should find string property");
+            assertTrue(reader.isKey("d"), "second key should be d");
+            assertEquals("x,c:quoted", reader.stringValue(null), "string should contain delimiters");
+            assertFalse(reader.nextProperty(), "should find no more properties");
+        }
+
+        @Test
+        @DisplayName("should stop at unterminated value")
+        void shouldStopAtUnterminatedValue() {
+            // Given: a message with an unterminated string
+            final Json5Reader reader = new Json5Reader("{a:1,d:'unterminated,b:2}");
+
+            // When/Then: the unterminated value is ignored and consumes the rest of the message
+            assertTrue(reader.nextProperty(), "should find first property");
+            assertTrue(reader.nextProperty(), "should find unterminated property");
+            assertTrue(reader.isKey("d"), "key should be d");
+            assertEquals("default", reader.stringValue("default"), "unterminated string should be ignored");
+            assertFalse(reader.nextProperty(), "should find no more properties");
+        }
+    }
+
+    @Nested
+    @DisplayName("Word and number values")
+    class WordAndNumberValues {
+
+        static Stream<Arguments> longScenarios() {
+            return Stream.of(
+                    Arguments.of("0", 0L),
+                    Arguments.of("42", 42L),
+                    Arguments.of("-42", -42L),
+                    Arguments.of("+42", 42L),
+                    Arguments.of("007", 7L),
+                    Arguments.of(Long.toString(Long.MAX_VALUE), Long.MAX_VALUE),
+                    Arguments.of(Long.toString(Long.MIN_VALUE), Long.MIN_VALUE)
+            );
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("org.usefultoys.slf4j.internal.Json5ReaderTest$WordAndNumberValues#longScenarios")
+        @DisplayName("should parse long value in place")
+        void shouldParseLongValueInPlace(final String word, final long expected) {
+            // Given: a property with a numeric word
+            final Json5Reader reader = new Json5Reader("{n:" + word + "}");
+            assertTrue(reader.nextProperty(), "should find property");
+
+            // When/Then: the value is parsed as Long.parseLong would
+            assertEquals(expected, reader.longValue(-1L), "should parse " + word);
+            assertEquals(Long.parseLong(word), reader.longValue(-1L), "should agree with Long.parseLong");
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"abc", "1a", "-", "+", "9223372036854775808", "-9223372036854775809", "1.5"})
+        @DisplayName("should reject invalid long value")
+        void shouldRejectInvalidLongValue(final String word) {
+            // Given: a property with a word that is not a long integer
+            final Json5Reader reader = new Json5Reader("{n:" + word + "}");
+            assertTrue(reader.nextProperty(), "should find property");
+
+            // When/Then: parsing fails as Long.parseLong does
+            assertThrows(NumberFormatException.class, () -> reader.longValue(0L), "should reject " + word);
+        }
+
+        @Test
+        @DisplayName("should return default for missing or non-word value")
+        void shouldReturnDefaultForMissingOrNonWordValue() {
+            // Given: properties without value or with a value of another type
+            final Json5Reader reader = new Json5Reader("{a:,b:'1',c:[1]}");
+
+            // When/Then: the default is returned
+            assertTrue(reader.nextProperty(), "should find property without value");
+            assertEquals(5L, reader.longValue(5L), "should return default for missing value");
+            assertNull(reader.wordValue(null), "should return default word for missing value");
+            assertTrue(reader.nextProperty(), "should find string property");
+            assertEquals(5L, reader.longValue(5L), "should return default for string value");
+            assertTrue(reader.nextProperty(), "should find tuple property");
+            assertEquals(5L, reader.longValue(5L), "should return default for tuple value");
+        }
+
+        @Test
+        @DisplayName("should read word and double values")
+        void shouldReadWordAndDoubleValues() {
+            // Given: properties with identifier and decimal words
+            final Json5Reader reader = new Json5Reader("{c:com.example.Service,sl:0.5}");
+
+            // When/Then: values are read
+            assertTrue(reader.nextProperty(), "should find word property");
+            assertEquals("com.example.Service", reader.wordValue(null), "should read word");
+            assertTrue(reader.nextProperty(), "should find double property");
+            assertEquals(0.5, reader.doubleValue(0.0), 0.0, "should read double");
+        }
+    }
+
+    @Nested
+    @DisplayName("String values")
+    class StringValues {
+
+        @Test
+        @DisplayName("should read quoted and empty strings")
+        void shouldReadQuotedAndEmptyStrings() {
+            // Given: properties with a quoted string and an empty string
+            final Json5Reader reader = new Json5Reader("{d:'a {b}: c',e:''}");
+
+            // When/Then: strings are read without quotes
+            assertTrue(reader.nextProperty(), "should find first property");
+            assertEquals("a {b}: c", reader.stringValue(null), "should read quoted string");
+            assertTrue(reader.nextProperty(), "should find second property");
+            assertEquals("", reader.stringValue(null), "should read empty string");
+        }
+
+        @Test
+        @DisplayName("should return default for unquoted value")
+        void shouldReturnDefaultForUnquotedValue() {
+            // Given: a property whose value is not quoted
+            final Json5Reader reader = new Json5Reader("{d:word}");
+            assertTrue(reader.nextProperty(), "should find property");
+
+            // When/Then: the default is returned
+            assertEquals("default", reader.stringValue("default"), "should return default");
+        }
+    }
+
+    @Nested
+    @DisplayName("Tuple values")
+    class TupleValues {
+
+        @Test
+        @DisplayName("should read tuple with expected size")
+        void shouldReadTupleWithExpectedSize() {
+            // Given: a property with a tuple of three elements and whitespace
+            final Json5Reader reader = new Json5Reader("{m:[1, 22 ,333]}");
+            assertTrue(reader.nextProperty(), "should find property");
+
+            // When: the tuple is read
+            final boolean result = reader.tupleValue(3);
+
+            // Then: all elements are available
+            assertTrue(result, "should read tuple");
+            assertEquals(1L, reader.tupleElement(0), "first element should match");
+            assertEquals(22L, reader.tupleElement(1), "second element should match");
+            assertEquals(333L, reader.tupleElement(2), "third element should match");
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"{m:[1,2]}", "{m:[1,2,3,4]}", "{m:[]}", "{m:[1,,3]}", "{m:1}", "{m:'[1,2,3]'}"})
+        @DisplayName("should not read tuple with unexpected shape")
+        void shouldNotReadTupleWithUnexpectedShape(final String json5) {
+            // Given: a property that is not a tuple of three elements
+            final Json5Reader reader = new Json5Reader(json5);
+            assertTrue(reader.nextProperty(), "should find property");
+
+            // When/Then: the tuple is not read
+            assertFalse(reader.tupleValue(3), "should not read " + json5);
+        }
+
+        @Test
+        @DisplayName("should reject tuple with invalid element")
+        void shouldRejectTupleWithInvalidElement() {
+            // Given: a tuple with an element that is not a number
+            final Json5Reader reader = new Json5Reader("{gc:[1,x]}");
+            assertTrue(reader.nextProperty(), "should find property");
+
+            // When/Then: parsing fails
+            assertThrows(NumberFormatException.class, () -> reader.tupleValue(2), "should reject invalid element");
+        }
+    }
+
+    @Nested
+    @DisplayName("Map values")
+    class MapValues {
+
+        @Test
+        @DisplayName("should read map entries")
+        void shouldReadMapEntries() {
+            // Given: a map with values, an entry without value, whitespace and a value containing a colon
+            final Json5Reader reader = new Json5Reader("{ctx:{ a : 1 ,b:,c,url:http://x}}");
+            assertTrue(reader.nextProperty(), "should find property");
+
+            // When: the map is read
+            final Map<String, String> result = reader.mapValue(null);
+
+            // Then: all entries are present
+            final Map<String, String> expected = new HashMap<>();
+            expected.put("a", "1");
+            expected.put("b", null);
+            expected.put("c", null);
+            expected.put("url", "http://x");
+            assertEquals(expected, result, "should read all entries");
+        }
+
+        @Test
+        @DisplayName("should return default for empty map or non-map value")
+        void shouldReturnDefaultForEmptyMapOrNonMapValue() {
+            // Given: an empty map and a word value
+            final Map<String, String> defaultValue = new HashMap<>();
+            final Json5Reader reader = new Json5Reader("{ctx:{},x:word}");
+
+            // When/Then: the default is returned
+            assertTrue(reader.nextProperty(), "should find empty map");
+            assertSame(defaultValue, reader.mapValue(defaultValue), "should return default for empty map");
+            assertTrue(reader.nextProperty(), "should find word");
+            assertSame(defaultValue, reader.mapValue(defaultValue), "should return default for word");
+        }
+    }
+}
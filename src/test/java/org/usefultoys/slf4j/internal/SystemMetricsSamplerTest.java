@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.internal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.usefultoys.slf4j.SystemConfig;
+import org.usefultoys.test.ResetSystemConfig;
+import org.usefultoys.test.ValidateCharset;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link SystemMetricsSampler} and {@link SystemSnapshot}.
+ * <p>
+ * Tests validate that the sampler keeps a snapshot refreshed by a daemon thread while sampling is enabled, that the
+ * snapshot copies the same status as the collector, and that the thread stops once sampling is disabled.
+ * <p>
+ * <b>Coverage:</b>
+ * <ul>
+ *   <li><b>Snapshot:</b> Sample holds runtime status and applies it to {@link SystemData}</li>
+ *   <li><b>System Load:</b> Applying a snapshot without system load keeps the previous value</li>
+ *   <li><b>Refresh:</b> Daemon thread replaces the snapshot every sampling period</li>
+ *   <li><b>Lifecycle:</b> Thread starts on first read and stops when sampling is disabled or stopped</li>
+ *   <li><b>Integration:</b> {@link SystemMetrics#collectStatus(SystemData)} uses the sampler only when enabled</li>
+ * </ul>
+ */
+@DisplayName("SystemMetricsSampler")
+@ValidateCharset
+@ResetSystemConfig
+class SystemMetricsSamplerTest {
+
+    private SystemMetricsSampler sampler;
+
+    private static final class TestSystemData extends SystemData {
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static SystemMetricsCollector realCollector() {
+        return new SystemMetricsCollector(
+                ManagementFactory.getOperatingSystemMXBean(),
+                ManagementFactory.getMemoryMXBean(),
+                ManagementFactory.getClassLoadingMXBean(),
+                ManagementFactory.getCompilationMXBean(),
+                ManagementFactory.getGarbageCollectorMXBeans());
+    }
+
+    @BeforeEach
+    void createSampler() {
+        sampler = new SystemMetricsSampler(realCollector());
+    }
+
+    @AfterEach
+    void stopSampler() throws InterruptedException {
+        sampler.stop();
+        awaitStopped(sampler);
+    }
+
+    @Test
+    @DisplayName("should sample runtime status into snapshot")
+    void shouldSampleRuntimeStatusIntoSnapshot() {
+        // When: a snapshot is sampled
+        final SystemSnapshot snapshot = realCollector().sample();
+
+        // Then: the snapshot holds the runtime status
+        assertTrue(snapshot.getRuntime_totalMemory() > 0, "should sample total memory");
+        assertTrue(snapshot.getRuntime_usedMemory() > 0, "should sample used memory");
+        assertTrue(snapshot.getRuntime_maxMemory() > 0, "should sample max memory");
+        assertTrue(snapshot.getSampleTime() != 0, "should record sample time");
+    }
+
+    @Test
+    @DisplayName("should apply snapshot to system data")
+    void shouldApplySnapshotToSystemData() {
+        // Given: a snapshot with platform status enabled
+        SystemConfig.usePlatformManagedBean = true;
+        final SystemSnapshot snapshot = realCollector().sample();
+        final SystemData data = new TestSystemData();
+
+        // When: the snapshot is applied
+        snapshot.applyTo(data);
+
+        // Then: data holds the sampled status
+        assertEquals(snapshot.getRuntime_totalMemory(), data.getRuntime_totalMemory(), "should copy total memory");
+        assertEquals(snapshot.getRuntime_usedMemory(), data.getRuntime_usedMemory(), "should copy used memory");
+        assertEquals(snapshot.getRuntime_maxMemory(), data.getRuntime_maxMemory(), "should copy max memory");
+        if (snapshot.getSystemLoad() >= 0) {
+            assertEquals(snapshot.getSystemLoad(), data.getSystemLoad(), "should copy system load");
+        }
+    }
+
+    @Test
+    @DisplayName("should keep system load when not sampled")
+    void shouldKeepSystemLoadWhenNotSampled() {
+        // Given: a snapshot with platform status disabled and data with a previous system load
+        SystemConfig.usePlatformManagedBean = false;
+        final SystemSnapshot snapshot = realCollector().sample();
+        final SystemData data = new TestSystemData();
+        data.systemLoad = 0.5;
+
+        // When: the snapshot is applied
+        snapshot.applyTo(data);
+
+        // Then: system load is unchanged
+        assertTrue(snapshot.getSystemLoad() < 0, "should not sample system load");
+        assertEquals(0.5, data.getSystemLoad(), "should keep previous system load");
+    }
+
+    @Test
+    @DisplayName("should start thread on first read and refresh snapshot")
+    void shouldStartThreadOnFirstReadAndRefreshSnapshot() throws InterruptedException {
+        // Given: sampling enabled with a short period
+        SystemConfig.samplingPeriodMilliseconds = 10;
+
+        // When: the snapshot is read
+        final SystemSnapshot first = sampler.latest();
+
+        // Then: the thread runs and eventually replaces the snapshot
+        assertNotNull(first, "should sample synchronously on first read");
+        assertTrue(sampler.isRunning(), "should start thread");
+        assertSame(first, sampler.latest(), "should return same snapshot until refreshed");
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        SystemSnapshot refreshed = sampler.latest();
+        while (refreshed == first && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+            refreshed = sampler.latest();
+        }
+        assertNotSame(first, refreshed, "should refresh snapshot in background");
+        assertTrue(refreshed.getSampleTime() > first.getSampleTime(), "should be a newer sample");
+    }
+
+    @Test
+    @DisplayName("should stop thread when sampling is disabled")
+    void shouldStopThreadWhenSamplingIsDisabled() throws InterruptedException {
+        // Given: a running sampler
+        SystemConfig.samplingPeriodMilliseconds = 10;
+        sampler.latest();
+
+        // When: sampling is disabled
+        SystemConfig.samplingPeriodMilliseconds = 0;
+
+        // Then: the thread stops by itself
+        awaitStopped(sampler);
+        assertFalse(sampler.isRunning(), "should stop thread");
+    }
+
+    @Test
+    @DisplayName("should restart thread with fresh snapshot after stop")
+    void shouldRestartThreadWithFreshSnapshotAfterStop() throws InterruptedException {
+        // Given: a sampler stopped after its first read
+        SystemConfig.samplingPeriodMilliseconds = 60_000;
+        final SystemSnapshot first = sampler.latest();
+        sampler.stop();
+        awaitStopped(sampler);
+
+        // When: the snapshot is read again
+        final SystemSnapshot second = sampler.latest();
+
+        // Then: the thread runs again and the stale snapshot is replaced synchronously
+        assertTrue(sampler.isRunning(), "should restart thread");
+        assertNotSame(first, second, "should sample again on restart");
+    }
+
+    @Test
+    @DisplayName("should collect status synchronously when sampling is disabled")
+    void shouldCollectStatusSynchronouslyWhenSamplingIsDisabled() {
+        // Given: sampling disabled
+        SystemConfig.samplingPeriodMilliseconds = 0;
+        final SystemData data = new TestSystemData();
+
+        // When: status is collected
+        SystemMetrics.collectStatus(data);
+
+        // Then: data holds the runtime status and the shared sampler is not involved
+        assertTrue(data.getRuntime_totalMemory() > 0, "should collect total memory");
+        assertTrue(data.getRuntime_maxMemory() > 0, "should collect max memory");
+    }
+
+    @Test
+    @DisplayName("should collect status from shared sampler when sampling is enabled")
+    void shouldCollectStatusFromSharedSamplerWhenSamplingIsEnabled() throws InterruptedException {
+        // Given: sampling enabled
+        SystemConfig.samplingPeriodMilliseconds = 60_000;
+        final SystemData data = new TestSystemData();
+
+        // When: status is collected
+        SystemMetrics.collectStatus(data);
+
+        // Then: data holds the shared snapshot
+        final SystemMetricsSampler shared = SystemMetrics.getSampler();
+        try {
+            assertTrue(shared.isRunning(), "should start shared sampler");
+            assertEquals(shared.latest().getRuntime_totalMemory(), data.getRuntime_totalMemory(), "should copy snapshot");
+        } finally {
+            shared.stop();
+            awaitStopped(shared);
+        }
+    }
+
+    private static void awaitStopped(final SystemMetricsSampler sampler) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (sampler.isRunning() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
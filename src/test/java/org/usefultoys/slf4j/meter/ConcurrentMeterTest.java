@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.impl.MockLogger;
+import org.slf4j.impl.MockLoggerEvent;
+import org.usefultoys.slf4jtestmock.AssertLogger;
+import org.usefultoys.slf4jtestmock.Slf4jMock;
+import org.usefultoys.slf4jtestmock.WithMockLogger;
+import org.usefultoys.test.ResetMeterConfig;
+import org.usefultoys.test.ValidateCharset;
+import org.usefultoys.test.ValidateCleanMeter;
+import org.usefultoys.test.WithLocale;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.slf4j.impl.MockLoggerEvent.Level.DEBUG;
+import static org.slf4j.impl.MockLoggerEvent.Level.INFO;
+import static org.slf4j.impl.MockLoggerEvent.Level.TRACE;
+import static org.usefultoys.slf4j.meter.Markers.DATA_OK;
+import static org.usefultoys.slf4j.meter.Markers.DATA_PROGRESS;
+import static org.usefultoys.slf4j.meter.Markers.DATA_START;
+import static org.usefultoys.slf4j.meter.Markers.MSG_OK;
+import static org.usefultoys.slf4j.meter.Markers.MSG_START;
+
+/**
+ * Unit tests for {@link ConcurrentMeter}.
+ * <p>
+ * Tests validate that iterations reported concurrently by worker threads are neither lost nor counted twice, that
+ * progress reported by workers stays consistent and stops at the terminal transition, and that the terminal message
+ * carries the summed count.
+ * <p>
+ * <b>Coverage:</b>
+ * <ul>
+ *   <li><b>Counting:</b> {@code inc()} and {@code incBy()} from many threads add up exactly</li>
+ *   <li><b>Progress:</b> Workers report progress without locking; reported counts never go backwards</li>
+ *   <li><b>Terminal transition:</b> The final message carries the summed count; later progress is ignored</li>
+ *   <li><b>Absolute count:</b> {@code incTo()} sets the count reported by a single thread</li>
+ * </ul>
+ */
+@DisplayName("ConcurrentMeter")
+@ValidateCharset
+@ResetMeterConfig
+@WithLocale("en")
+@WithMockLogger
+@ValidateCleanMeter
+class ConcurrentMeterTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final int WORKERS = 4;
+    private static final int ITERATIONS_PER_WORKER = 10_000;
+    private static final Pattern ITERATION = Pattern.compile("\\bi:(\\d+)");
+
+    @Slf4jMock
+    private Logger logger;
+    private ExecutorService pool;
+
+    @BeforeEach
+    void createPool() {
+        pool = Executors.newFixedThreadPool(WORKERS);
+    }
+
+    @AfterEach
+    void shutdownPool() throws InterruptedException {
+        pool.shutdownNow();
+        assertTrue(pool.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS), "pool should terminate");
+    }
+
+    /**
+     * Runs the task on all workers at once and waits for all of them.
+     */
+    private void runOnWorkers(final Runnable task) throws Exception {
+        final CountDownLatch ready = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < WORKERS; i++) {
+            futures.add(pool.submit(() -> {
+                ready.await();
+                task.run();
+                return null;
+            }));
+        }
+        ready.countDown();
+        for (final Future<?> future : futures) {
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("should sum iterations reported by all workers")
+    void shouldSumIterationsReportedByAllWorkers() throws Exception {
+        // Given: a started concurrent meter
+        final ConcurrentMeter meter = new ConcurrentMeter(logger, "batch");
+        meter.iterations(WORKERS * ITERATIONS_PER_WORKER).start();
+
+        // When: all workers increment at the same time, then the operation completes
+        runOnWorkers(() -> {
+            for (int i = 0; i < ITERATIONS_PER_WORKER; i++) {
+                meter.inc();
+            }
+        });
+        meter.ok();
+
+        // Then: no iteration is lost and the terminal messages carry the summed count
+        assertEquals(WORKERS * ITERATIONS_PER_WORKER, meter.getCurrentIteration(), "should count every iteration");
+        AssertLogger.assertEventCount(logger, 4);
+        AssertLogger.assertEvent(logger, 0, DEBUG, MSG_START);
+        AssertLogger.assertEvent(logger, 1, TRACE, DATA_START);
+        AssertLogger.assertEvent(logger, 2, INFO, MSG_OK);
+        AssertLogger.assertEvent(logger, 3, TRACE, DATA_OK, "i:" + WORKERS * ITERATIONS_PER_WORKER);
+    }
+
+    @Test
+    @DisplayName("should sum increments of different sizes")
+    void shouldSumIncrementsOfDifferentSizes() throws Exception {
+        // Given: a started concurrent meter
+        final ConcurrentMeter meter = new ConcurrentMeter(logger, "batch");
+        meter.start();
+
+        // When: all workers add increments of 3, then the operation completes
+        runOnWorkers(() -> {
+            for (int i = 0; i < ITERATIONS_PER_WORKER; i++) {
+                meter.incBy(3);
+            }
+        });
+        meter.ok();
+
+        // Then: the count is the sum of all increments
+        assertEquals(3L * WORKERS * ITERATIONS_PER_WORKER, meter.getCurrentIteration(), "should sum every increment");
+    }
+
+    @Test
+    @DisplayName("should report progress from workers with non-decreasing counts")
+    void shouldReportProgressFromWorkersWithNonDecreasingCounts() throws Exception {
+        // Given: a started concurrent meter that reports progress without throttling
+        MeterConfig.progressPeriodMilliseconds = 0;
+        final ConcurrentMeter meter = new ConcurrentMeter(logger, "batch");
+        meter.iterations(WORKERS * ITERATIONS_PER_WORKER).start();
+
+        // When: all workers increment and report progress at the same time
+        runOnWorkers(() -> {
+            for (int i = 0; i < ITERATIONS_PER_WORKER; i++) {
+                meter.inc().progress();
+            }
+        });
+        meter.ok();
+
+        // Then: progress was reported, counts never went backwards, and the terminal message is the last one
+        final List<MockLoggerEvent> events = ((MockLogger) logger).getLoggerEvents();
+        long previous = 0;
+        int progressCount = 0;
+        for (final MockLoggerEvent event : events) {
+            if (DATA_PROGRESS.equals(event.getMarker())) {
+                progressCount++;
+                final Matcher matcher = ITERATION.matcher(event.getFormattedMessage());
+                assertTrue(matcher.find(), "progress should carry the count: " + event.getFormattedMessage());
+                final long reported = Long.parseLong(matcher.group(1));
+                assertTrue(reported >= previous, "progress should not go backwards: " + event.getFormattedMessage());
+                previous = reported;
+            }
+        }
+        assertTrue(progressCount > 0, "should report progress");
+        final int count = ((MockLogger) logger).getEventCount();
+        AssertLogger.assertEvent(logger, count - 2, INFO, MSG_OK);
+        AssertLogger.assertEvent(logger, count - 1, TRACE, DATA_OK, "i:" + WORKERS * ITERATIONS_PER_WORKER);
+    }
+
+    @Test
+    @DisplayName("should ignore progress after terminal transition")
+    void shouldIgnoreProgressAfterTerminalTransition() {
+        // Given: a concurrent meter that completed after some iterations
+        MeterConfig.progressPeriodMilliseconds = 0;
+        final ConcurrentMeter meter = new ConcurrentMeter(logger, "batch");
+        meter.iterations(10).start();
+        meter.incBy(5);
+        meter.ok();
+
+        // When: a late worker reports progress
+        meter.progress();
+
+        // Then: no progress is logged and the count reported by the terminal transition is kept
+        AssertLogger.assertEventCount(logger, 4);
+        AssertLogger.assertEvent(logger, 3, TRACE, DATA_OK, "i:5");
+        assertEquals(5, meter.getCurrentIteration(), "should keep the reported count");
+    }
+
+    @Test
+    @DisplayName("should set the absolute count with incTo")
+    void shouldSetAbsoluteCountWithIncTo() {
+        // Given: a started concurrent meter with some iterations
+        final ConcurrentMeter meter = new ConcurrentMeter(logger, "batch");
+        meter.start();
+        meter.incBy(3);
+
+        // When: a single thread reports the absolute count
+        meter.incTo(8);
+        meter.ok();
+
+        // Then: the count is the absolute count
+        assertEquals(8, meter.getCurrentIteration(), "should report the absolute count");
+        AssertLogger.assertEvent(logger, 3, TRACE, DATA_OK, "i:8");
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.usefultoys.test.ResetMeterConfig;
+import org.usefultoys.test.ValidateCharset;
+import org.usefultoys.test.WithLocale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link MeterAggregate}.
+ * <p>
+ * Tests validate the log-linear histogram bucket layout, the statistics derived from an aggregate, and its
+ * readable and JSON5 representations.
+ * <p>
+ * <b>Coverage:</b>
+ * <ul>
+ *   <li><b>Histogram:</b> Bucket of each execution time, bucket bounds, and clamping of extreme times</li>
+ *   <li><b>Statistics:</b> Count, average and percentiles estimated within the observed range</li>
+ *   <li><b>Readable Message:</b> Identification, counts and times</li>
+ *   <li><b>JSON5:</b> Round trip of all attributes, including sparse histogram buckets</li>
+ *   <li><b>Reset:</b> Reverts all attributes</li>
+ * </ul>
+ */
+@DisplayName("MeterAggregate")
+@ValidateCharset
+@ResetMeterConfig
+@WithLocale("en")
+class MeterAggregateTest {
+
+    private static MeterAggregate aggregateOf(final long... times) {
+        final MeterAggregate aggregate = new MeterAggregate("uuid", 3, 1000, 2000, "a.b.Category", "op");
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        long total = 0;
+        for (final long time : times) {
+            aggregate.histogram[MeterAggregate.bucketIndex(time)]++;
+            min = Math.min(min, time);
+            max = Math.max(max, time);
+            total += time;
+        }
+        aggregate.add(times.length, 0, 0, 0, min, max, total);
+        return aggregate;
+    }
+
+    @Test
+    @DisplayName("should place execution times within bucket bounds")
+    void shouldPlaceExecutionTimesWithinBucketBounds() {
+        // Given: execution times from nanoseconds to hours
+        for (long time = 1; time < (1L << 45); time = time * 3 / 2 + 1) {
+            // When: the bucket is computed
+            final int index = MeterAggregate.bucketIndex(time);
+
+            // Then: the time lies within the bucket bounds
+            assertTrue(index >= 0 && index < MeterAggregate.HISTOGRAM_BUCKETS, "should be a valid bucket for " + time);
+            assertTrue(time < MeterAggregate.bucketUpperBound(index), "should be below upper bound for " + time);
+            if (index > 0) {
+                assertTrue(time >= MeterAggregate.bucketUpperBound(index - 1), "should be above lower bound for " + time);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should have contiguous buckets with bounded relative width")
+    void shouldHaveContiguousBucketsWithBoundedRelativeWidth() {
+        // Given: the bounds of all buckets but the first and the last
+        for (int index = 1; index < MeterAggregate.HISTOGRAM_BUCKETS - 1; index++) {
+            final long lower = MeterAggregate.bucketUpperBound(index - 1);
+            final long upper = MeterAggregate.bucketUpperBound(index);
+
+            // Then: bounds increase, lower bound belongs to the bucket, and width is at most 25% of lower bound
+            assertTrue(upper > lower, "bounds should increase at bucket " + index);
+            assertEquals(index, MeterAggregate.bucketIndex(lower), "lower bound should belong to bucket " + index);
+            assertEquals(index, MeterAggregate.bucketIndex(upper - 1), "upper bound should be exclusive at bucket " + index);
+            assertTrue((upper - lower) * 4 <= lower, "width should be at most 25% at bucket " + index);
+        }
+    }
+
+    @Test
+    @DisplayName("should clamp extreme execution times to first and last buckets")
+    void shouldClampExtremeExecutionTimesToFirstAndLastBuckets() {
+        assertEquals(0, MeterAggregate.bucketIndex(0), "zero should be in first bucket");
+        assertEquals(0, MeterAggregate.bucketIndex(1023), "sub-microsecond should be in first bucket");
+        assertEquals(1, MeterAggregate.bucketIndex(1024), "1024ns should be in second bucket");
+        assertEquals(MeterAggregate.HISTOGRAM_BUCKETS - 1, MeterAggregate.bucketIndex(Long.MAX_VALUE), "huge time should be in last bucket");
+        assertEquals(Long.MAX_VALUE, MeterAggregate.bucketUpperBound(MeterAggregate.HISTOGRAM_BUCKETS - 1), "last bucket should be unbounded");
+    }
+
+    @Test
+    @DisplayName("should derive count, average and percentiles")
+    void shouldDeriveCountAverageAndPercentiles() {
+        // Given: 100 operations from 1ms to 100ms
+        final long[] times = new long[100];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = (i + 1) * 1_000_000L;
+        }
+        final MeterAggregate aggregate = aggregateOf(times);
+
+        // Then: statistics are derived from counters and histogram
+        assertEquals(100, aggregate.getCount(), "should count operations");
+        assertEquals(50_500_000.0, aggregate.getAverageTime(), 0.001, "should compute average");
+        assertEquals(1_000_000L, aggregate.getMinTime(), "should keep minimum");
+        assertEquals(100_000_000L, aggregate.getMaxTime(), "should keep maximum");
+        final long p50 = aggregate.getPercentileTime(50);
+        assertTrue(p50 >= 50_000_000L && p50 <= 50_000_000L * 5 / 4, "p50 should be within 25%: " + p50);
+        final long p99 = aggregate.getPercentileTime(99);
+        assertTrue(p99 >= 99_000_000L && p99 <= 100_000_000L, "p99 should be within observed range: " + p99);
+        assertEquals(100_000_000L, aggregate.getPercentileTime(100), "p100 should be the maximum");
+        final long p0 = aggregate.getPercentileTime(0);
+        assertTrue(p0 >= 1_000_000L && p0 <= 1_000_000L * 5 / 4, "p0 should be within 25% of minimum: " + p0);
+    }
+
+    @Test
+    @DisplayName("should report zero statistics when empty")
+    void shouldReportZeroStatisticsWhenEmpty() {
+        final MeterAggregate aggregate = new MeterAggregate("uuid", 1, 0, 0, "category", null);
+        assertEquals(0, aggregate.getCount(), "should have no operations");
+        assertEquals(0.0, aggregate.getAverageTime(), "should have no average");
+        assertEquals(0L, aggregate.getPercentileTime(50), "should have no percentile");
+    }
+
+    @Test
+    @DisplayName("should merge counters keeping extremes")
+    void shouldMergeCountersKeepingExtremes() {
+        // Given: an empty aggregate
+        final MeterAggregate aggregate = new MeterAggregate("uuid", 1, 0, 0, "category", null);
+
+        // When: counters of two threads are merged
+        aggregate.add(2, 1, 0, 0, 500, 900, 2000);
+        aggregate.add(0, 0, 3, 1, 100, 700, 1600);
+
+        // Then: counts and totals add up and extremes are kept
+        assertEquals(2, aggregate.getOkCount(), "should add ok");
+        assertEquals(1, aggregate.getSlowCount(), "should add slow");
+        assertEquals(3, aggregate.getRejectCount(), "should add reject");
+        assertEquals(1, aggregate.getFailCount(), "should add fail");
+        assertEquals(100, aggregate.getMinTime(), "should keep minimum");
+        assertEquals(900, aggregate.getMaxTime(), "should keep maximum");
+        assertEquals(3600, aggregate.getTotalTime(), "should add total");
+    }
+
+    @Test
+    @DisplayName("should produce readable message")
+    void shouldProduceReadableMessage() {
+        // Given: an aggregate with operations of 2ms and 4ms
+        final MeterAggregate aggregate = aggregateOf(2_000_000L, 4_000_000L);
+
+        // When: the readable message is generated
+        final String message = aggregate.readableMessage();
+
+        // Then: the message identifies the operation and summarizes counts and times
+        assertTrue(message.startsWith("AGGREGATE: a.b.Category/op; 2 ok, 0 slow, 0 reject, 0 fail; "), message);
+        assertTrue(message.contains("2.0ms min, 3.0ms avg, 4.0ms max"), message);
+        assertTrue(message.contains(" p50, "), message);
+        assertTrue(message.endsWith(" p99"), message);
+    }
+
+    @Test
+    @DisplayName("should omit times from readable message when empty")
+    void shouldOmitTimesFromReadableMessageWhenEmpty() {
+        final MeterAggregate aggregate = new MeterAggregate("uuid", 1, 0, 0, "category", null);
+        assertEquals("AGGREGATE: category; 0 ok, 0 slow, 0 reject, 0 fail", aggregate.readableMessage());
+    }
+
+    @Test
+    @DisplayName("should encode and decode JSON5")
+    void shouldEncodeAndDecodeJson5() {
+        // Given: an aggregate with several outcomes and times
+        final MeterAggregate original = aggregateOf(500L, 2_000L, 3_000_000L);
+        original.add(0, 1, 2, 3, 500, 3_000_000L, 0);
+
+        // When: the aggregate is encoded and decoded
+        final String json5 = original.json5Message();
+        final MeterAggregate decoded = new MeterAggregate();
+        decoded.readJson5(json5);
+
+        // Then: all attributes are restored
+        assertTrue(json5.startsWith("{_:uuid,$:3,t:2000,c:a.b.Category,n:op,ti:1000,ac:[3,1,2,3],at:[500,3000000,3002500],ah:{"), json5);
+        assertEquals(original.getSessionUuid(), decoded.getSessionUuid());
+        assertEquals(original.getPosition(), decoded.getPosition());
+        assertEquals(original.getLastCurrentTime(), decoded.getLastCurrentTime());
+        assertEquals(original.getCategory(), decoded.getCategory());
+        assertEquals(original.getOperation(), decoded.getOperation());
+        assertEquals(original.getIntervalStart(), decoded.getIntervalStart());
+        assertEquals(original.getOkCount(), decoded.getOkCount());
+        assertEquals(original.getSlowCount(), decoded.getSlowCount());
+        assertEquals(original.getRejectCount(), decoded.getRejectCount());
+        assertEquals(original.getFailCount(), decoded.getFailCount());
+        assertEquals(original.getMinTime(), decoded.getMinTime());
+        assertEquals(original.getMaxTime(), decoded.getMaxTime());
+        assertEquals(original.getTotalTime(), decoded.getTotalTime());
+        for (int index = 0; index < MeterAggregate.HISTOGRAM_BUCKETS; index++) {
+            assertEquals(original.getHistogramCount(index), decoded.getHistogramCount(index), "bucket " + index);
+        }
+    }
+
+    @Test
+    @DisplayName("should reset all attributes")
+    void shouldResetAllAttributes() {
+        // Given: a populated aggregate
+        final MeterAggregate aggregate = aggregateOf(2_000L, 4_000L);
+
+        // When: the aggregate is reset
+        aggregate.reset();
+
+        // Then: all attributes are reverted
+        assertNull(aggregate.getCategory());
+        assertNull(aggregate.getOperation());
+        assertEquals(0, aggregate.getIntervalStart());
+        assertEquals(0, aggregate.getCount());
+        assertEquals(0, aggregate.getMinTime());
+        assertEquals(0, aggregate.getMaxTime());
+        assertEquals(0, aggregate.getTotalTime());
+        assertEquals(0, aggregate.getHistogramCount(MeterAggregate.bucketIndex(2_000L)));
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.usefultoys.slf4j.internal.TestTimeSource;
+import org.usefultoys.test.ResetMeterConfig;
+import org.usefultoys.test.ValidateCharset;
+import org.usefultoys.test.WithLocale;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link MeterAggregator}.
+ * <p>
+ * Tests validate that terminal transitions of meters are counted per category and operation when
+ * {@link MeterConfig#aggregationEnabled} is set, and that {@link MeterAggregator#drain()} merges and resets the
+ * counters recorded by all threads.
+ * <p>
+ * <b>Coverage:</b>
+ * <ul>
+ *   <li><b>Disabled:</b> Nothing is recorded unless aggregation is enabled</li>
+ *   <li><b>Outcomes:</b> ok, slow ok, reject, fail and close are counted apart, with execution times</li>
+ *   <li><b>Grouping:</b> Categories and operations are aggregated apart and ordered</li>
+ *   <li><b>Intervals:</b> Drain resets counters, advances positions and chains intervals</li>
+ *   <li><b>Concurrency:</b> Outcomes recorded by many threads, including terminated ones, are all merged</li>
+ *   <li><b>Clear:</b> Discards recorded outcomes</li>
+ * </ul>
+ */
+@DisplayName("MeterAggregator")
+@ValidateCharset
+@ResetMeterConfig
+@WithLocale("en")
+class MeterAggregatorTest {
+
+    private static final int THREADS = 8;
+    private static final int METERS_PER_THREAD = 1_000;
+
+    private final Logger logger = LoggerFactory.getLogger("aggregator.test");
+    private TestTimeSource timeSource;
+
+    @BeforeEach
+    void enableAggregation() {
+        MeterConfig.aggregationEnabled = true;
+        MeterAggregator.clear();
+        timeSource = new TestTimeSource(TestTimeSource.DAY1);
+    }
+
+    @AfterEach
+    void clearAggregator() {
+        MeterAggregator.clear();
+    }
+
+    private Meter startedMeter(final String operation) {
+        return new Meter(logger, operation).withTimeSource(timeSource).start();
+    }
+
+    @Test
+    @DisplayName("should not record when aggregation is disabled")
+    void shouldNotRecordWhenAggregationIsDisabled() {
+        // Given: aggregation disabled
+        MeterConfig.aggregationEnabled = false;
+
+        // When: a meter completes
+        startedMeter("op").ok();
+
+        // Then: nothing is aggregated
+        assertTrue(MeterAggregator.drain().isEmpty(), "should not aggregate");
+    }
+
+    @Test
+    @DisplayName("should count each outcome with execution times")
+    void shouldCountEachOutcomeWithExecutionTimes() {
+        // Given: meters for the same operation with distinct outcomes and durations
+        Meter meter = startedMeter("op");
+        timeSource.advanceMiliseconds(10);
+        meter.ok();
+        meter = startedMeter("op").limitMilliseconds(5);
+        timeSource.advanceMiliseconds(20);
+        meter.ok();
+        meter = startedMeter("op");
+        timeSource.advanceMiliseconds(30);
+        meter.reject("invalid");
+        meter = startedMeter("op");
+        timeSource.advanceMiliseconds(40);
+        meter.fail(new IllegalStateException());
+        meter = startedMeter("op");
+        timeSource.advanceMiliseconds(50);
+        meter.close();
+
+        // When: outcomes are drained
+        final List<MeterAggregate> aggregates = MeterAggregator.drain();
+
+        // Then: one aggregate counts all outcomes
+        assertEquals(1, aggregates.size(), "should have one aggregate");
+        final MeterAggregate aggregate = aggregates.get(0);
+        assertEquals("aggregator.test", aggregate.getCategory());
+        assertEquals("op", aggregate.getOperation());
+        assertEquals(1, aggregate.getOkCount(), "should count ok");
+        assertEquals(1, aggregate.getSlowCount(), "should count slow ok");
+        assertEquals(1, aggregate.getRejectCount(), "should count reject");
+        assertEquals(2, aggregate.getFailCount(), "should count fail and close");
+        assertEquals(10_000_000L, aggregate.getMinTime(), "should keep minimum");
+        assertEquals(50_000_000L, aggregate.getMaxTime(), "should keep maximum");
+        assertEquals(150_000_000L, aggregate.getTotalTime(), "should sum times");
+        assertEquals(1, aggregate.getHistogramCount(MeterAggregate.bucketIndex(30_000_000L)), "should count in histogram");
+        assertEquals(1, aggregate.getPosition(), "should be first aggregate of the operation");
+    }
+
+    @Test
+    @DisplayName("should not count meter twice when closed after stop")
+    void shouldNotCountMeterTwiceWhenClosedAfterStop() {
+        // Given: a meter stopped inside try-with-resources
+        try (final Meter meter = startedMeter("op")) {
+            meter.ok();
+        }
+
+        // When: outcomes are drained
+        final List<MeterAggregate> aggregates = MeterAggregator.drain();
+
+        // Then: only the explicit outcome is counted
+        assertEquals(1, aggregates.get(0).getCount(), "should count once");
+        assertEquals(1, aggregates.get(0).getOkCount(), "should count ok");
+    }
+
+    @Test
+    @DisplayName("should aggregate categories and operations apart and ordered")
+    void shouldAggregateCategoriesAndOperationsApartAndOrdered() {
+        // Given: meters for distinct operations and categories
+        startedMeter("b").ok();
+        startedMeter("a").ok();
+        startedMeter("a").ok();
+        new Meter(logger).start().ok();
+        new Meter(LoggerFactory.getLogger("aggregator.other"), "a").start().ok();
+
+        // When: outcomes are drained
+        final List<MeterAggregate> aggregates = MeterAggregator.drain();
+
+        // Then: aggregates are ordered by category and operation, category itself first
+        assertEquals(4, aggregates.size(), "should have one aggregate per operation");
+        assertEquals("aggregator.other", aggregates.get(0).getCategory());
+        assertEquals("aggregator.test", aggregates.get(1).getCategory());
+        assertNull(aggregates.get(1).getOperation());
+        assertEquals("a", aggregates.get(2).getOperation());
+        assertEquals(2, aggregates.get(2).getOkCount());
+        assertEquals("b", aggregates.get(3).getOperation());
+    }
+
+    @Test
+    @DisplayName("should reset counters and chain intervals on drain")
+    void shouldResetCountersAndChainIntervalsOnDrain() {
+        // Given: a drained interval
+        startedMeter("op").ok();
+        final MeterAggregate first = MeterAggregator.drain().get(0);
+
+        // When: no meter completes, then one meter completes
+        final List<MeterAggregate> empty = MeterAggregator.drain();
+        startedMeter("op").ok();
+        final MeterAggregate second = MeterAggregator.drain().get(0);
+
+        // Then: idle intervals report nothing and positions advance per operation
+        assertTrue(empty.isEmpty(), "should not report idle operations");
+        assertEquals(1, second.getCount(), "should count only the last interval");
+        assertEquals(2, second.getPosition(), "should advance position");
+        assertTrue(second.getIntervalStart() >= first.getLastCurrentTime(), "should start after previous interval");
+        assertTrue(second.getLastCurrentTime() >= second.getIntervalStart(), "should end after it starts");
+    }
+
+    @Test
+    @DisplayName("should merge outcomes recorded by many threads")
+    void shouldMergeOutcomesRecordedByManyThreads() throws InterruptedException {
+        // Given: threads completing meters concurrently, all terminated before drain
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < METERS_PER_THREAD; i++) {
+                    new Meter(logger, "concurrent").start().ok();
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // When: outcomes are drained twice
+        final List<MeterAggregate> aggregates = MeterAggregator.drain();
+        final List<MeterAggregate> again = MeterAggregator.drain();
+
+        // Then: every outcome is counted exactly once
+        assertEquals(1, aggregates.size(), "should have one aggregate");
+        assertEquals((long) THREADS * METERS_PER_THREAD, aggregates.get(0).getCount(), "should count all outcomes");
+        long histogramTotal = 0;
+        for (int index = 0; index < MeterAggregate.HISTOGRAM_BUCKETS; index++) {
+            histogramTotal += aggregates.get(0).getHistogramCount(index);
+        }
+        assertEquals((long) THREADS * METERS_PER_THREAD, histogramTotal, "should count all outcomes in histogram");
+        assertTrue(again.isEmpty(), "should not count outcomes twice");
+    }
+
+    @Test
+    @DisplayName("should discard outcomes on clear")
+    void shouldDiscardOutcomesOnClear() {
+        // Given: recorded outcomes
+        startedMeter("op").ok();
+        MeterAggregator.drain();
+        startedMeter("op").ok();
+
+        // When: the aggregator is cleared and a meter completes on the same thread
+        MeterAggregator.clear();
+        startedMeter("op").ok();
+
+        // Then: only the new outcome is reported, with positions restarted
+        final List<MeterAggregate> aggregates = MeterAggregator.drain();
+        assertEquals(1, aggregates.get(0).getCount(), "should discard previous outcomes");
+        assertEquals(1, aggregates.get(0).getPosition(), "should restart positions");
+    }
+}
@@ -30,7 +30,6 @@ import org.usefultoys.test.ValidateCharset;
 import org.usefultoys.test.ValidateCleanMeter;
 import org.usefultoys.test.WithLocale;
 
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -270,8 +269,7 @@ class MeterBasicFeaturesTest {
         void shouldWrapPositionAtMaxValue() {
             // Given: a category with counter at MAX_VALUE
             final String category = "wrapTestCategory";
-            final AtomicLong counter = new AtomicLong(Long.MAX_VALUE);
-            Meter.EVENT_COUNTER.put(category, counter);
+            MeterPositions.seed(category, null, Long.MAX_VALUE);
 
             // When: extracting position
             final long pos = Meter.extractNextPosition(category, null);
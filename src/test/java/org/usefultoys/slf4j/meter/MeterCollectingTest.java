@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.usefultoys.slf4jtestmock.AssertLogger;
+import org.usefultoys.slf4jtestmock.Slf4jMock;
+import org.usefultoys.slf4jtestmock.WithMockLogger;
+import org.usefultoys.test.ResetMeterConfig;
+import org.usefultoys.test.ValidateCharset;
+import org.usefultoys.test.ValidateCleanMeter;
+import org.usefultoys.test.WithLocale;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.slf4j.impl.MockLoggerEvent.Level.DEBUG;
+import static org.slf4j.impl.MockLoggerEvent.Level.ERROR;
+import static org.slf4j.impl.MockLoggerEvent.Level.INFO;
+import static org.slf4j.impl.MockLoggerEvent.Level.TRACE;
+import static org.usefultoys.slf4j.meter.Markers.DATA_FAIL;
+import static org.usefultoys.slf4j.meter.Markers.DATA_OK;
+import static org.usefultoys.slf4j.meter.Markers.DATA_START;
+import static org.usefultoys.slf4j.meter.Markers.INVALID_STATE;
+import static org.usefultoys.slf4j.meter.Markers.MSG_FAIL;
+import static org.usefultoys.slf4j.meter.Markers.MSG_OK;
+import static org.usefultoys.slf4j.meter.Markers.MSG_START;
+
+/**
+ * Unit tests for {@link Meter#collecting()}.
+ * <p>
+ * Tests validate that sub-operations of a collecting meter log nothing of their own, and that the collecting meter
+ * reports their outcomes, execution time distribution, iterations and slowest sub-operation when it stops.
+ * <p>
+ * <b>Coverage:</b>
+ * <ul>
+ *   <li><b>Silence:</b> Collected sub-operations log no start, progress nor terminal messages</li>
+ *   <li><b>Outcomes:</b> OK, rejected and failed sub-operations are counted separately</li>
+ *   <li><b>Distribution:</b> Percentiles, longest execution time and slowest sub-operation are reported</li>
+ *   <li><b>Fork-join:</b> Sub-operations stopping concurrently on a ForkJoinPool are all counted</li>
+ *   <li><b>Scope:</b> Only direct sub-operations are collected; ordinary meters are unaffected</li>
+ *   <li><b>Late:</b> Sub-operations that stop after the collecting meter log their own terminal messages</li>
+ * </ul>
+ */
+@DisplayName("Collecting Meter")
+@ValidateCharset
+@ResetMeterConfig
+@WithLocale("en")
+@WithMockLogger
+@ValidateCleanMeter
+class MeterCollectingTest {
+
+    @Slf4jMock
+    private Logger logger;
+
+    @Test
+    @DisplayName("should report outcomes of sub-operations instead of logging them")
+    void shouldReportOutcomesOfSubOperationsInsteadOfLoggingThem() {
+        // Given: a collecting meter
+        final Meter parent = new Meter(logger, "job").collecting().start();
+
+        // When: sub-operations end with each outcome, then the parent completes
+        parent.sub("task").start().ok();
+        parent.sub("task").start().ok();
+        parent.sub("task").start().reject("invalid");
+        parent.sub("task").start().fail(new IllegalStateException("broken"));
+        parent.ok();
+
+        // Then: only the parent logged, reporting the outcomes of its sub-operations
+        assertEquals(4, parent.getChildCount(), "should count all sub-operations");
+        assertEquals(2, parent.getChildOkCount(), "should count OK sub-operations");
+        assertEquals(1, parent.getChildRejectCount(), "should count rejected sub-operations");
+        assertEquals(1, parent.getChildFailCount(), "should count failed sub-operations");
+        AssertLogger.assertEventCount(logger, 4);
+        AssertLogger.assertEvent(logger, 0, DEBUG, MSG_START);
+        AssertLogger.assertEvent(logger, 1, TRACE, DATA_START);
+        AssertLogger.assertEvent(logger, 2, INFO, MSG_OK, "4 children (2 ok, 0 slow, 1 reject, 1 fail)", " p50, ", " max (");
+        AssertLogger.assertEvent(logger, 3, TRACE, DATA_OK, "cc:[2,0,1,1]", "cd:[", "cs:");
+    }
+
+    @Test
+    @DisplayName("should report slowest sub-operation and iterations")
+    void shouldReportSlowestSubOperationAndIterations() throws InterruptedException {
+        // Given: a collecting meter with fast sub-operations and one slow sub-operation
+        final Meter parent = new Meter(logger, "job").collecting().start();
+        parent.sub("fast").start().incBy(10).ok();
+        final Meter slow = parent.sub("slow").start();
+        Thread.sleep(20);
+        slow.incBy(5).ok();
+        parent.sub("fast").start().incBy(10).ok();
+
+        // When: the parent completes
+        parent.ok();
+
+        // Then: the slow sub-operation is reported as the slowest, and iterations are summed
+        assertEquals(slow.getFullID(), parent.getSlowestChild(), "should report the slowest sub-operation");
+        assertEquals(slow.getExecutionTime(), parent.getChildMaxTime(), "should report the longest execution time");
+        assertTrue(parent.getChildMinTime() <= parent.getChildMedianTime(), "median should not be below minimum");
+        assertTrue(parent.getChildP99Time() <= parent.getChildMaxTime(), "99th percentile should not exceed maximum");
+        assertEquals(25, parent.getChildIterations(), "should sum iterations of sub-operations");
+        AssertLogger.assertEvent(logger, 3, TRACE, DATA_OK, "ci:25", "cs:" + slow.getFullID());
+    }
+
+    @Test
+    @DisplayName("should count sub-operations stopping concurrently on a fork-join pool")
+    void shouldCountSubOperationsStoppingConcurrentlyOnForkJoinPool() throws InterruptedException {
+        // Given: a collecting meter and a fork-join pool
+        final Meter parent = new Meter(logger, "job").collecting().start();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        // When: a recursive task fans out into one sub-operation per leaf
+        try {
+            pool.invoke(new Split(parent, 0, 1000));
+        } finally {
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS), "pool should terminate");
+        }
+        parent.ok();
+
+        // Then: every sub-operation was counted and only the parent logged
+        assertEquals(1000, parent.getChildCount(), "should count every sub-operation");
+        assertEquals(1000, parent.getChildIterations(), "should sum iterations of every sub-operation");
+        AssertLogger.assertEventCount(logger, 4);
+        AssertLogger.assertEvent(logger, 3, TRACE, DATA_OK, "cc:[1000,0,0,0]");
+    }
+
+    private static final class Split extends RecursiveAction {
+        private final Meter parent;
+        private final int from;
+        private final int to;
+
+        Split(final Meter parent, final int from, final int to) {
+            this.parent = parent;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                parent.sub("leaf").start().inc().ok();
+                return;
+            }
+            final int middle = (from + to) / 2;
+            invokeAll(new Split(parent, from, middle), new Split(parent, middle, to));
+        }
+    }
+
+    @Test
+    @DisplayName("should log failure of sub-operation that stops after the parent")
+    void shouldLogFailureOfSubOperationStoppingAfterParent() {
+        // Given: a collecting meter with a running sub-operation
+        final Meter parent = new Meter(logger, "job").collecting().start();
+        final Meter child = parent.sub("task").start();
+
+        // When: the parent completes before the sub-operation fails
+        parent.ok();
+        child.fail(new IllegalStateException("broken"));
+
+        // Then: the parent reported no sub-operation, and the sub-operation logged its own failure
+        assertEquals(0, parent.getChildCount(), "should not count the late sub-operation");
+        assertTrue(child.isFail(), "sub-operation should fail");
+        AssertLogger.assertEventCount(logger, 6);
+        AssertLogger.assertEvent(logger, 2, INFO, MSG_OK, "job");
+        AssertLogger.assertEvent(logger, 4, ERROR, MSG_FAIL, "job/task");
+        AssertLogger.assertEvent(logger, 5, TRACE, DATA_FAIL, "java.lang.IllegalStateException");
+    }
+
+    @Test
+    @DisplayName("should not collect sub-operations of sub-operations")
+    void shouldNotCollectSubOperationsOfSubOperations() {
+        // Given: a collecting meter with a sub-operation that has a sub-operation of its own
+        final Meter parent = new Meter(logger, "job").collecting().start();
+        final Meter child = parent.sub("task").start();
+
+        // When: the nested sub-operation and then its parents complete
+        child.sub("step").start().ok();
+        child.ok();
+        parent.ok();
+
+        // Then: the nested sub-operation logged its own messages and the parent counted only its child
+        assertEquals(1, parent.getChildCount(), "should count only the direct sub-operation");
+        AssertLogger.assertEventCount(logger, 8);
+        AssertLogger.assertEvent(logger, 2, DEBUG, MSG_START, "job/task/step");
+        AssertLogger.assertEvent(logger, 4, INFO, MSG_OK, "job/task/step");
+        AssertLogger.assertEvent(logger, 6, INFO, MSG_OK, "1 children");
+    }
+
+    @Test
+    @DisplayName("should not report children of an ordinary meter")
+    void shouldNotReportChildrenOfOrdinaryMeter() {
+        // Given: an ordinary meter
+        final Meter parent = new Meter(logger, "job").start();
+
+        // When: a sub-operation and then the parent complete
+        parent.sub("task").start().ok();
+        parent.ok();
+
+        // Then: both logged their messages and nothing was collected
+        assertEquals(0, parent.getChildCount(), "should not collect sub-operations");
+        assertNull(parent.getSlowestChild(), "should not report a slowest sub-operation");
+        AssertLogger.assertEventCount(logger, 8);
+        AssertLogger.assertEventNot(logger, 7, TRACE, "cc:");
+    }
+
+    @Test
+    @DisplayName("should reject collecting after stop")
+    void shouldRejectCollectingAfterStop() {
+        // Given: a stopped meter
+        final Meter meter = new Meter(logger, "job").start().ok();
+
+        // When: it is configured as collecting
+        meter.collecting();
+
+        // Then: an invalid state is reported
+        AssertLogger.assertEventCount(logger, 5);
+        AssertLogger.assertEvent(logger, 4, ERROR, INVALID_STATE, "Meter already stopped");
+    }
+}
@@ -65,6 +65,12 @@ class MeterConfigTest {
         assertEquals("", MeterConfig.dataSuffix, "Default value for dataSuffix should be an empty string");
         assertEquals("", MeterConfig.messagePrefix, "Default value for messagePrefix should be an empty string");
         assertEquals("", MeterConfig.messageSuffix, "Default value for messageSuffix should be an empty string");
+        assertEquals(0, MeterConfig.leakTrackingSample, "Default value for leakTrackingSample should be 0 (disabled)");
+        assertEquals(1, MeterConfig.positionBlockSize, "Default value for positionBlockSize should be 1");
+        assertEquals(8, MeterConfig.poolCapacity, "Default value for poolCapacity should be 8");
+        assertFalse(MeterConfig.aggregationEnabled, "Default value for aggregationEnabled should be false");
+        assertEquals(0, MeterConfig.asyncCapacity, "Default value for asyncCapacity should be 0 (disabled)");
+        assertFalse(MeterConfig.asyncBlockOnOverflow, "Default value for asyncBlockOnOverflow should be false");
         assertTrue(ConfigParser.isInitializationOK(), "No errors should be reported for default values");
     }
 
@@ -115,6 +121,132 @@ class MeterConfigTest {
         assertTrue(ConfigParser.initializationErrors.get(0).contains("Invalid time value for property '" + MeterConfig.PROP_PROGRESS_PERIOD));
     }
 
+    /**
+     * Tests that leakTrackingSample property is correctly parsed from system property.
+     */
+    @Test
+    @DisplayName("should parse leakTrackingSample property correctly")
+    void testLeakTrackingSampleProperty() {
+        System.setProperty(MeterConfig.PROP_LEAK_TRACKING_SAMPLE, "100");
+        MeterConfig.init();
+        assertEquals(100, MeterConfig.leakTrackingSample, "leakTrackingSample should reflect the system property value");
+        assertTrue(ConfigParser.isInitializationOK(), "No errors should be reported for valid leakTrackingSample");
+    }
+
+    /**
+     * Tests that negative leakTrackingSample property falls back to default and reports error.
+     */
+    @Test
+    @DisplayName("should handle negative leakTrackingSample value")
+    void testLeakTrackingSampleOutOfRange() {
+        System.setProperty(MeterConfig.PROP_LEAK_TRACKING_SAMPLE, "-1");
+        MeterConfig.init();
+        assertEquals(0, MeterConfig.leakTrackingSample, "leakTrackingSample should fall back to default for negative value");
+        assertFalse(ConfigParser.isInitializationOK(), "An error should be reported for negative leakTrackingSample");
+        assertEquals(1, ConfigParser.initializationErrors.size());
+        assertTrue(ConfigParser.initializationErrors.get(0).contains("is out of range"));
+    }
+
+    /**
+     * Tests that positionBlockSize property is correctly parsed from system property.
+     */
+    @Test
+    @DisplayName("should parse positionBlockSize property correctly")
+    void testPositionBlockSizeProperty() {
+        System.setProperty(MeterConfig.PROP_POSITION_BLOCK_SIZE, "64");
+        MeterConfig.init();
+        assertEquals(64, MeterConfig.positionBlockSize, "positionBlockSize should reflect the system property value");
+        assertTrue(ConfigParser.isInitializationOK(), "No errors should be reported for valid positionBlockSize");
+    }
+
+    /**
+     * Tests that zero positionBlockSize property falls back to default and reports error.
+     */
+    @Test
+    @DisplayName("should handle zero positionBlockSize value")
+    void testPositionBlockSizeOutOfRange() {
+        System.setProperty(MeterConfig.PROP_POSITION_BLOCK_SIZE, "0");
+        MeterConfig.init();
+        assertEquals(1, MeterConfig.positionBlockSize, "positionBlockSize should fall back to default for zero value");
+        assertFalse(ConfigParser.isInitializationOK(), "An error should be reported for zero positionBlockSize");
+        assertEquals(1, ConfigParser.initializationErrors.size());
+        assertTrue(ConfigParser.initializationErrors.get(0).contains("is out of range"));
+    }
+
+    /**
+     * Tests that poolCapacity property is correctly parsed from system property.
+     */
+    @Test
+    @DisplayName("should parse poolCapacity property correctly")
+    void testPoolCapacityProperty() {
+        System.setProperty(MeterConfig.PROP_POOL_CAPACITY, "0");
+        MeterConfig.init();
+        assertEquals(0, MeterConfig.poolCapacity, "poolCapacity should reflect the system property value");
+        assertTrue(ConfigParser.isInitializationOK(), "No errors should be reported for valid poolCapacity");
+    }
+
+    /**
+     * Tests that negative poolCapacity property falls back to default and reports error.
+     */
+    @Test
+    @DisplayName("should handle negative poolCapacity value")
+    void testPoolCapacityOutOfRange() {
+        System.setProperty(MeterConfig.PROP_POOL_CAPACITY, "-1");
+        MeterConfig.init();
+        assertEquals(8, MeterConfig.poolCapacity, "poolCapacity should fall back to default for negative value");
+        assertFalse(ConfigParser.isInitializationOK(), "An error should be reported for negative poolCapacity");
+        assertEquals(1, ConfigParser.initializationErrors.size());
+        assertTrue(ConfigParser.initializationErrors.get(0).contains("is out of range"));
+    }
+
+    /**
+     * Tests that aggregationEnabled property is correctly parsed from system property.
+     */
+    @Test
+    @DisplayName("should parse aggregationEnabled property correctly")
+    void testAggregationEnabledProperty() {
+        System.setProperty(MeterConfig.PROP_AGGREGATION_ENABLED, "true");
+        MeterConfig.init();
+        assertTrue(MeterConfig.aggregationEnabled, "aggregationEnabled should reflect the system property value");
+        assertTrue(ConfigParser.isInitializationOK(), "No errors should be reported for valid aggregationEnabled");
+    }
+
+    /**
+     * Tests that asyncCapacity property is correctly parsed from system property.
+     */
+    @Test
+    @DisplayName("should parse asyncCapacity property correctly")
+    void testAsyncCapacityProperty() {
+        System.setProperty(MeterConfig.PROP_ASYNC_CAPACITY, "1024");
+        MeterConfig.init();
+        assertEquals(1024, MeterConfig.asyncCapacity, "asyncCapacity should reflect the system property value");
+        assertTrue(ConfigParser.isInitializationOK(), "No errors should be reported for valid asyncCapacity");
+    }
+
+    /**
+     * Tests that a negative asyncCapacity falls back to the default.
+     */
+    @Test
+    @DisplayName("should handle out of range asyncCapacity")
+    void testAsyncCapacityOutOfRange() {
+        System.setProperty(MeterConfig.PROP_ASYNC_CAPACITY, "-1");
+        MeterConfig.init();
+        assertEquals(0, MeterConfig.asyncCapacity, "asyncCapacity should fall back to default when out of range");
+        assertFalse(ConfigParser.isInitializationOK(), "An error should be reported for out of range asyncCapacity");
+    }
+
+    /**
+     * Tests that asyncBlockOnOverflow property is correctly parsed from system property.
+     */
+    @Test
+    @DisplayName("should parse asyncBlockOnOverflow property correctly")
+    void testAsyncBlockOnOverflowProperty() {
+        System.setProperty(MeterConfig.PROP_ASYNC_BLOCK, "true");
+        MeterConfig.init();
+        assertTrue(MeterConfig.asyncBlockOnOverflow, "asyncBlockOnOverflow should reflect the system property value");
+        assertTrue(ConfigParser.isInitializationOK(), "No errors should be reported for valid asyncBlockOnOverflow");
+    }
+
     /**
      * Tests that printCategory property is correctly parsed from system property.
      */
@@ -27,7 +27,6 @@ import org.usefultoys.test.ValidateCharset;
 import org.usefultoys.test.ValidateCleanMeter;
 import org.usefultoys.test.WithLocale;
 
-import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -65,12 +64,8 @@ class MeterConstructorTest {
     @Slf4jMock(TEST_CATEGORY)
     protected Logger testLogger;
 
-    private static String positionKey(final String category, final String operation) {
-        return operation == null ? category : category + "/" + operation;
-    }
-
     private static void seedPositionCounter(final String category, final String operation, final long initialValue) {
-        Meter.EVENT_COUNTER.put(positionKey(category, operation), new AtomicLong(initialValue));
+        MeterPositions.seed(category, operation, initialValue);
     }
 
     private static void assertNewMeterDefaults(final Meter meter, final String expectedCategory, final String expectedOperation,
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.impl.MockLogger;
+import org.usefultoys.slf4jtestmock.AssertLogger;
+import org.usefultoys.slf4jtestmock.Slf4jMock;
+import org.usefultoys.slf4jtestmock.WithMockLogger;
+import org.usefultoys.test.ResetMeterConfig;
+import org.usefultoys.test.ValidateCharset;
+import org.usefultoys.test.ValidateCleanMeter;
+import org.usefultoys.test.WithLocale;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.slf4j.impl.MockLoggerEvent.Level.INFO;
+import static org.slf4j.impl.MockLoggerEvent.Level.TRACE;
+import static org.usefultoys.slf4j.meter.Markers.DATA_OK;
+import static org.usefultoys.slf4j.meter.Markers.MSG_OK;
+
+/**
+ * Unit tests for {@link MeterDataBinary} and the binary message of {@link MeterData}.
+ * <p>
+ * Tests validate that the binary message carries the same information as the JSON5 message, by reading it back and
+ * comparing the JSON5 encoding of both objects, and that it is selected for the data channel by
+ * {@link MeterConfig#dataBinary}.
+ * <p>
+ * <b>Coverage:</b>
+ * <ul>
+ *   <li><b>Round-Trip Serialization:</b> Full, minimal, reject, fail, collected and context data are read back with no loss</li>
+ *   <li><b>Edge Values:</b> Negative and extreme timestamps, non-ASCII strings and null context values</li>
+ *   <li><b>Size:</b> The binary message is at most half of the JSON5 message for numeric attributes and shorter for a typical meter</li>
+ *   <li><b>Invalid Messages:</b> JSON5, truncated and unsupported version messages are rejected</li>
+ *   <li><b>Data Channel:</b> Meters write binary messages when configured, read back by {@link MeterData#readMessage(String)}</li>
+ * </ul>
+ */
+@DisplayName("MeterDataBinary")
+@ValidateCharset
+@ResetMeterConfig
+@WithLocale("en")
+@WithMockLogger
+@ValidateCleanMeter
+class MeterDataBinaryTest {
+
+    @Slf4jMock
+    private Logger logger;
+
+    private static MeterData typical() {
+        final Map<String, String> context = new LinkedHashMap<>();
+        context.put("user", "alice");
+        context.put("items", "42");
+        context.put("flag", null);
+        return new MeterData("8ae94091", 1234, 987654321098L,
+                210_000_000L, 4_000_000_000L, 150_000_000L, 80_000_000L, 0L, 75_000_000L, 0L,
+                9_500L, 9_800L, 300L, 12_345L, 87L, 456L,
+                300_000_000L, 4_000_000_000L, 500_000_000L, 0.4,
+                "com.example.service.OrderService", "checkout", "com.example.web.Controller#17", "Checkout order",
+                987654000000L, 987654100000L, 987654321098L, 5_000_000_000L, 42L, 100L,
+                "paid", null, null, null, context);
+    }
+
+    static Stream<Arguments> roundTripScenarios() {
+        final Map<String, String> context = new LinkedHashMap<>();
+        context.put("key1", "value1");
+        context.put("nullKey", null);
+        context.put("ação", "ñ 日本");
+
+        final MeterData collected = new MeterData("8ae94091", 9, "Parent", "job", null);
+        collected.childOkCount = 10;
+        collected.childSlowCount = 2;
+        collected.childRejectCount = 1;
+        collected.childFailCount = 3;
+        collected.childIterations = 500;
+        collected.childMinTime = 100;
+        collected.childMedianTime = 200;
+        collected.childP90Time = 300;
+        collected.childP99Time = 400;
+        collected.childMaxTime = 500;
+        collected.childTotalTime = 4000;
+        collected.slowestChild = "Parent/job/task#7";
+        collected.suppressedCount = 5;
+        collected.subCount = 16;
+        collected.subTime = 4000;
+
+        return Stream.of(
+                Arguments.of("Typical completed meter", typical()),
+                Arguments.of("Minimal data",
+                        new MeterData("8ae94091", 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0.0, null, null, null, null, 0, 0, 0, 0, 0, 0, null, null, null, null, null)),
+                Arguments.of("Reject data",
+                        new MeterData("8ae94091", 2, 2000, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0.0, "RejectCategory", "rejectOp", null, "Rejected operation", 150, 250, 350, 0, 0, 0, null, "ValidationError", null, null, null)),
+                Arguments.of("Fail data",
+                        new MeterData("8ae94091", 3, 3000, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0.0, "FailCategory", "failOp", "parent2", "Failed 'operation'", 180, 280, 380, 3000, 5, 10, null, null, "java.lang.RuntimeException", "Something went wrong", null)),
+                Arguments.of("Negative and extreme timestamps",
+                        new MeterData("8ae94091", Long.MAX_VALUE, -5_000, -1, -1, 0, 0, -1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0.0, "Cat", "op", null, null, Long.MIN_VALUE + 1, 0, Long.MAX_VALUE, Long.MAX_VALUE, -1, Long.MIN_VALUE, "ok", null, null, null, null)),
+                Arguments.of("Context with null and non-ASCII values",
+                        new MeterData("8ae94091", 6, 6000, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0.0, null, null, null, null, 0, 0, 0, 0, 0, 0, null, null, null, null, context)),
+                Arguments.of("Collected sub-operations", collected)
+        );
+    }
+
+    @Nested
+    @DisplayName("Round-trip serialization")
+    class RoundTrip {
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("org.usefultoys.slf4j.meter.MeterDataBinaryTest#roundTripScenarios")
+        @DisplayName("should read back all attributes")
+        void shouldReadBackAllAttributes(final String testName, final MeterData original) {
+            // Given: a meter data with the attributes of the scenario
+            // When: the binary message is read back into a new instance
+            final String message = original.binaryMessage();
+            final MeterData restored = new MeterData();
+            restored.readBinary(message);
+
+            // Then: the restored instance has the same attributes as the original
+            assertTrue(message.startsWith("~"), "binary message should start with the prefix");
+            assertEquals(original.json5Message(), restored.json5Message(), "restored attributes should match");
+            assertEquals(original.getSessionUuid(), restored.getSessionUuid(), "session UUID should match");
+            assertEquals(original.getPosition(), restored.getPosition(), "position should match");
+            assertEquals(original.getLastCurrentTime(), restored.getLastCurrentTime(), "event time should match");
+            assertEquals(original.getContext(), restored.getContext(), "context should match");
+        }
+
+        @Test
+        @DisplayName("should read back binary and JSON5 messages by readMessage")
+        void shouldReadBackBothEncodingsByReadMessage() {
+            // Given: the binary and the JSON5 message of the same data
+            final MeterData original = typical();
+
+            // When: both are read by the same method
+            final MeterData fromBinary = new MeterData();
+            fromBinary.readMessage(original.binaryMessage());
+            final MeterData fromJson5 = new MeterData();
+            fromJson5.readMessage(original.json5Message());
+
+            // Then: both restore the same attributes
+            for (final MeterData restored : new MeterData[]{fromBinary, fromJson5}) {
+                assertEquals(original.getCategory(), restored.getCategory(), "category should match");
+                assertEquals(original.getDescription(), restored.getDescription(), "description should match");
+                assertEquals(original.getStopTime(), restored.getStopTime(), "stop time should match");
+                assertEquals(original.getHeap_max(), restored.getHeap_max(), "heap max should match");
+                assertEquals(original.getSystemLoad(), restored.getSystemLoad(), "system load should match");
+                assertEquals(original.getContext(), restored.getContext(), "context should match");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Size")
+    class Size {
+        @Test
+        @DisplayName("should be at most half of the JSON5 message for numeric attributes")
+        void shouldBeAtMostHalfOfJson5MessageForNumericAttributes() {
+            // Given: a completed meter with system metrics, timestamps, iterations and time limit, but no strings
+            final MeterData data = new MeterData("8ae94091", 1234, 987654321098L,
+                    210_000_000L, 4_000_000_000L, 150_000_000L, 80_000_000L, 0L, 75_000_000L, 0L,
+                    9_500L, 9_800L, 300L, 12_345L, 87L, 456L,
+                    300_000_000L, 4_000_000_000L, 500_000_000L, 0.4,
+                    null, null, null, null,
+                    987654000000L, 987654100000L, 987654321098L, 5_000_000_000L, 42L, 100L,
+                    null, null, null, null, null);
+
+            // When: both encodings are written
+            final int binaryLength = data.binaryMessage().length();
+            final int json5Length = data.json5Message().length();
+
+            // Then: the binary message is at most half as long
+            assertTrue(binaryLength * 2 <= json5Length,
+                    "binary message (" + binaryLength + ") should be at most half of JSON5 (" + json5Length + ")");
+        }
+
+        @Test
+        @DisplayName("should be shorter than the JSON5 message for a typical meter")
+        void shouldBeShorterThanJson5MessageForTypicalMeter() {
+            // Given: a typical completed meter, whose strings are written as they are by both encodings
+            final MeterData data = typical();
+
+            // When: both encodings are written
+            final int binaryLength = data.binaryMessage().length();
+            final int json5Length = data.json5Message().length();
+
+            // Then: the binary message is shorter
+            assertTrue(binaryLength * 4 <= json5Length * 3,
+                    "binary message (" + binaryLength + ") should be at most 3/4 of JSON5 (" + json5Length + ")");
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalid messages")
+    class InvalidMessages {
+        @Test
+        @DisplayName("should reject JSON5 message")
+        void shouldRejectJson5Message() {
+            final MeterData data = new MeterData();
+            assertThrows(IllegalArgumentException.class, () -> data.readBinary("{c:Cat}"), "JSON5 message should be rejected");
+        }
+
+        @Test
+        @DisplayName("should reject truncated message")
+        void shouldRejectTruncatedMessage() {
+            // Given: a binary message missing its last characters
+            final String message = typical().binaryMessage();
+            final String truncated = message.substring(0, message.length() - 8);
+
+            // When/Then: reading fails instead of restoring partial attributes silently
+            final MeterData data = new MeterData();
+            assertThrows(IllegalArgumentException.class, () -> data.readBinary(truncated), "truncated message should be rejected");
+        }
+
+        @Test
+        @DisplayName("should reject unsupported version")
+        void shouldRejectUnsupportedVersion() {
+            // Given: a record whose first byte is an unknown layout version (0x7F)
+            final MeterData data = new MeterData();
+
+            // When/Then
+            final IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> data.readBinary("~fw"),
+                    "unknown version should be rejected");
+            assertTrue(e.getMessage().contains("version"), "message should mention the version");
+        }
+    }
+
+    @Nested
+    @DisplayName("Data channel")
+    class DataChannel {
+        @Test
+        @DisplayName("should write binary message when configured")
+        void shouldWriteBinaryMessageWhenConfigured() {
+            // Given: the data channel configured for the binary encoding
+            MeterConfig.dataBinary = true;
+
+            // When: a meter completes
+            final Meter meter = new Meter(logger, "op").iterations(10).start().inc().ok();
+
+            // Then: the data message is binary and carries the attributes of the meter
+            AssertLogger.assertEventCount(logger, 4);
+            AssertLogger.assertEvent(logger, 2, INFO, MSG_OK);
+            AssertLogger.assertEvent(logger, 3, TRACE, DATA_OK, "~");
+            final String message = ((MockLogger) logger).getEvent(3).getFormattedMessage();
+            final MeterData restored = new MeterData();
+            restored.readMessage(message);
+            assertEquals(meter.getCategory(), restored.getCategory(), "category should match");
+            assertEquals("op", restored.getOperation(), "operation should match");
+            assertEquals(1, restored.getCurrentIteration(), "iteration should match");
+            assertEquals(10, restored.getExpectedIterations(), "expected iterations should match");
+            assertEquals(meter.getStopTime(), restored.getStopTime(), "stop time should match");
+        }
+
+        @Test
+        @DisplayName("should write JSON5 message by default")
+        void shouldWriteJson5MessageByDefault() {
+            // Given: the default configuration
+            // When: a meter completes
+            new Meter(logger, "op").start().ok();
+
+            // Then: the data message is JSON5
+            AssertLogger.assertEvent(logger, 3, TRACE, DATA_OK, "{", "n:op");
+        }
+    }
+}
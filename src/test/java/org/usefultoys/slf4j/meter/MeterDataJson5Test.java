@@ -17,6 +17,7 @@ package org.usefultoys.slf4j.meter;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -43,6 +44,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
  *   <li><b>Edge Cases:</b> Validates handling of disordered fields, missing fields, and various path types.</li>
  *   <li><b>Specific Fields:</b> Tests reading of individual fields like description, category, operation, and paths.</li>
  *   <li><b>Timing & Iteration:</b> Ensures timing (create, start, stop) and iteration counts are correctly parsed.</li>
+ *   <li><b>Suppressed Count:</b> Ensures the number of executions suppressed by sampling is written and read back.</li>
  *   <li><b>Context Data:</b> Validates parsing of the context map, including null values, spaces, and numeric values.</li>
  *   <li><b>Invalid JSON:</b> Verifies that the parser handles malformed JSON gracefully without throwing exceptions.</li>
  * </ul>
@@ -532,6 +534,130 @@ class MeterDataJson5Test {
         }
     }
 
+    /**
+     * Tests for the number of executions suppressed by sampling.
+     */
+    @Nested
+    @DisplayName("Suppressed count tests")
+    class SuppressedCount {
+        @Test
+        @DisplayName("Should write and read suppressed count")
+        void shouldWriteAndReadSuppressedCount() {
+            // Given: data with executions suppressed by sampling
+            final TestMeterData data = new TestMeterData();
+            data.suppressedCount = 99;
+
+            // When: data is serialized and deserialized
+            final StringBuilder sb = new StringBuilder();
+            MeterDataJson5.write(data, sb);
+            final TestMeterData newData = new TestMeterData();
+            MeterDataJson5.read(newData, "{" + sb + "}");
+
+            // Then: the count is written and read back
+            assertEquals(",sc:99", sb.toString(), "serialized JSON should contain suppressed count");
+            assertEquals(99L, newData.suppressedCount, "suppressedCount should match");
+        }
+
+        @Test
+        @DisplayName("Should omit zero suppressed count")
+        void shouldOmitZeroSuppressedCount() {
+            // Given: data without suppressed executions
+            final TestMeterData data = new TestMeterData();
+
+            // When: data is serialized
+            final StringBuilder sb = new StringBuilder();
+            MeterDataJson5.write(data, sb);
+
+            // Then: the count is not written
+            assertEquals("", sb.toString(), "serialized JSON should not contain suppressed count");
+        }
+    }
+
+    /**
+     * Tests for the outcomes of sub-operations collected by a collecting meter.
+     */
+    @Nested
+    @DisplayName("Collected sub-operations")
+    class CollectedChildren {
+        @Test
+        @DisplayName("Should write and read collected sub-operations")
+        void shouldWriteAndReadCollectedChildren() {
+            // Given: data with outcomes collected from sub-operations
+            final TestMeterData data = new TestMeterData();
+            data.childOkCount = 10;
+            data.childSlowCount = 2;
+            data.childRejectCount = 1;
+            data.childFailCount = 3;
+            data.childIterations = 500;
+            data.childMinTime = 100;
+            data.childMedianTime = 200;
+            data.childP90Time = 300;
+            data.childP99Time = 400;
+            data.childMaxTime = 500;
+            data.childTotalTime = 4000;
+            data.slowestChild = "a.b.C/op/task#7";
+
+            // When: data is serialized and deserialized
+            final StringBuilder sb = new StringBuilder();
+            MeterDataJson5.write(data, sb);
+            final TestMeterData newData = new TestMeterData();
+            MeterDataJson5.read(newData, "{" + sb + "}");
+
+            // Then: all attributes are written and read back
+            assertEquals(",cc:[10,2,1,3],cd:[100,200,300,400,500,4000],ci:500,cs:a.b.C/op/task#7", sb.toString(),
+                    "serialized JSON should contain collected sub-operations");
+            assertEquals(16L, newData.getChildCount(), "child count should match");
+            assertEquals(2L, newData.childSlowCount, "childSlowCount should match");
+            assertEquals(3L, newData.childFailCount, "childFailCount should match");
+            assertEquals(500L, newData.childIterations, "childIterations should match");
+            assertEquals(200L, newData.childMedianTime, "childMedianTime should match");
+            assertEquals(400L, newData.childP99Time, "childP99Time should match");
+            assertEquals(4000L, newData.childTotalTime, "childTotalTime should match");
+            assertEquals("a.b.C/op/task#7", newData.slowestChild, "slowestChild should match");
+        }
+
+        @Test
+        @DisplayName("Should omit sub-operations when none were collected")
+        void shouldOmitChildrenWhenNoneCollected() {
+            // Given: data without collected sub-operations
+            final TestMeterData data = new TestMeterData();
+
+            // When: data is serialized
+            final StringBuilder sb = new StringBuilder();
+            MeterDataJson5.write(data, sb);
+
+            // Then: nothing is written
+            assertEquals("", sb.toString(), "serialized JSON should not contain collected sub-operations");
+        }
+    }
+
+    @Nested
+    @DisplayName("Self time and sub-operation time")
+    class SubOperations {
+        @Test
+        @DisplayName("Should write and read sub-operation count and time")
+        void shouldWriteAndReadSubOperations() {
+            // Given: data of an operation whose sub-operations took part of its execution time
+            final TestMeterData data = new TestMeterData();
+            data.startTime = 1000;
+            data.stopTime = 5000;
+            data.subCount = 3;
+            data.subTime = 2500;
+
+            // When: data is serialized and deserialized
+            final StringBuilder sb = new StringBuilder();
+            MeterDataJson5.write(data, sb);
+            final TestMeterData newData = new TestMeterData();
+            MeterDataJson5.read(newData, "{" + sb + "}");
+
+            // Then: count and time are written as a tuple and read back
+            assertEquals(",t1:1000,t2:5000,so:[3,2500]", sb.toString(), "serialized JSON should contain sub-operations");
+            assertEquals(3L, newData.subCount, "subCount should match");
+            assertEquals(2500L, newData.subTime, "subTime should match");
+            assertEquals(1500L, newData.getSelfTime(), "self time should exclude sub-operation time");
+        }
+    }
+
     /**
      * Data provider for invalid JSON scenarios.
      *
@@ -35,6 +35,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -53,6 +54,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  *   <li><b>Configuration integration:</b> Tests integration with SystemConfig and SessionConfig</li>
  *   <li><b>JSON5 Round-Trip Serialization:</b> Tests serialization to JSON5 and deserialization back to MeterData</li>
  *   <li><b>JSON5 Special Behavior:</b> Tests edge cases and partial field updates with JSON5</li>
+ *   <li><b>Identity Cache:</b> Full ID and simple category are derived once, and again when identity changes</li>
  * </ul>
  *
  * @author Co-authored-by: GitHub Copilot using Claude Haiku 4.5
@@ -320,6 +322,44 @@ class MeterDataTest {
         assertEquals(expected, actual, "should match expected full ID format");
     }
 
+    @Test
+    @DisplayName("should derive full ID once and again when category, operation or position change")
+    void testFullIDCache() {
+        // Given: a MeterData whose full ID was already requested
+        final MeterData data = new MeterData("uuid", 1, "a.b.Cat", "op", null);
+        final String first = data.getFullID();
+
+        // When: the full ID is requested again, and after each part of the identity changes
+        final String second = data.getFullID();
+        data.operation = "other";
+        final String renamed = data.getFullID();
+        data.reset("uuid", 7, "a.b.Cat", "other", null);
+        final String moved = data.getFullID();
+        data.category = "x.Dog";
+        final String recategorized = data.getFullID();
+
+        // Then: the same string is returned while the identity is unchanged, and a new one after each change
+        assertSame(first, second, "should return the cached full ID");
+        assertEquals("a.b.Cat/other#1", renamed, "should derive full ID for the new operation");
+        assertEquals("a.b.Cat/other#7", moved, "should derive full ID for the new position");
+        assertEquals("x.Dog/other#7", recategorized, "should derive full ID for the new category");
+        assertEquals("Dog", data.identity().simpleCategory, "should derive simple category for the new category");
+    }
+
+    @Test
+    @DisplayName("should size the builder of the readable message from the previous message")
+    void testReadableCapacity() {
+        // Given: a MeterData without any readable message yet
+        final MeterData data = new MeterData("uuid", 1, "a.b.Cat", "op", null);
+        assertEquals(MeterIdentity.DEFAULT_READABLE_LENGTH, data.identity().readableCapacity(), "should start with default capacity");
+
+        // When: a readable message is generated
+        final String message = data.readableMessage();
+
+        // Then: the next builder holds at least the previous message
+        assertTrue(data.identity().readableCapacity() > message.length(), "should size the builder from the previous message");
+    }
+
     // ============================================================================
     // JSON5 Round-Trip Serialization Tests
     // ============================================================================
@@ -491,6 +531,50 @@ class MeterDataTest {
                 "should preserve failMessage in " + scenarioName);
     }
 
+    @Test
+    @DisplayName("should keep compilation time apart from collected sub-operations in JSON5")
+    void testWriteReadJson5_collectedChildrenWithCompilationTime() {
+        // Given: a collecting parent that also reports compilation time
+        final MeterData original = new MeterData("uuid-ct", 3L, 300L, 30L, 60L, 45L, 15L, 30L, 22L, 1L,
+                300L, 600L, 30L, 3500L, 15L, 3000L, 192L, 384L, 288L, 0.3,
+                "parent", "collect", null, null,
+                300L, 350L, 450L, 0L, 0L, 0L,
+                null, null, null, null, null);
+        original.childOkCount = 4;
+        original.childMedianTime = 200;
+        original.childMaxTime = 500;
+        original.childTotalTime = 1000;
+        final StringBuilder sb = new StringBuilder(256);
+
+        // When: it is serialized and deserialized
+        original.writeJson5(sb);
+        final MeterData restored = new MeterData();
+        restored.readJson5("{" + sb + "}");
+
+        // Then: compilation time and child times use distinct keys and are both read back
+        assertEquals(sb.indexOf("ct:"), sb.lastIndexOf("ct:"), "should write ct once");
+        assertTrue(sb.indexOf("ct:3500") >= 0, "should write compilation time as ct");
+        assertTrue(sb.indexOf("cd:[0,200,0,0,500,1000]") >= 0, "should write child times as cd");
+        assertEquals(3500L, restored.getCompilationTime(), "should preserve compilationTime");
+        assertEquals(4L, restored.getChildCount(), "should preserve child count");
+        assertEquals(200L, restored.childMedianTime, "should preserve childMedianTime");
+        assertEquals(1000L, restored.childTotalTime, "should preserve childTotalTime");
+    }
+
+    @Test
+    @DisplayName("should read compilation time written as ct")
+    void testReadJson5_compilationTime() {
+        // Given: a data message that reports compilation time
+        final MeterData meterData = new MeterData();
+
+        // When: readJson5 is called
+        meterData.readJson5("{_:abc,$:1,t:5,ct:123,c:cat}");
+
+        // Then: compilation time is read as system data
+        assertEquals(123L, meterData.getCompilationTime(), "should read compilationTime");
+        assertEquals(0L, meterData.getChildCount(), "should not read child times");
+    }
+
     // ============================================================================
     // JSON5 Special Behavior Tests (Non-Round-Trip)
     // ============================================================================
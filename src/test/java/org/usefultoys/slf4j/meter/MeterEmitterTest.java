@@ -0,0 +1,310 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.impl.MockLogger;
+import org.slf4j.impl.MockLoggerEvent;
+import org.usefultoys.slf4j.internal.TestTimeSource;
+import org.usefultoys.slf4jtestmock.Slf4jMock;
+import org.usefultoys.slf4jtestmock.WithMockLogger;
+import org.usefultoys.test.ResetMeterConfig;
+import org.usefultoys.test.ValidateCharset;
+import org.usefultoys.test.ValidateCleanMeter;
+import org.usefultoys.test.WithLocale;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.slf4j.impl.MockLoggerEvent.Level.DEBUG;
+import static org.slf4j.impl.MockLoggerEvent.Level.ERROR;
+import static org.slf4j.impl.MockLoggerEvent.Level.INFO;
+import static org.slf4j.impl.MockLoggerEvent.Level.TRACE;
+import static org.slf4j.impl.MockLoggerEvent.Level.WARN;
+import static org.usefultoys.slf4j.meter.Markers.ASYNC_OVERFLOW;
+import static org.usefultoys.slf4j.meter.Markers.DATA_FAIL;
+import static org.usefultoys.slf4j.meter.Markers.DATA_OK;
+import static org.usefultoys.slf4j.meter.Markers.DATA_REJECT;
+import static org.usefultoys.slf4j.meter.Markers.DATA_SLOW_OK;
+import static org.usefultoys.slf4j.meter.Markers.DATA_START;
+import static org.usefultoys.slf4j.meter.Markers.MSG_FAIL;
+import static org.usefultoys.slf4j.meter.Markers.MSG_OK;
+import static org.usefultoys.slf4j.meter.Markers.MSG_REJECT;
+import static org.usefultoys.slf4j.meter.Markers.MSG_SLOW_OK;
+import static org.usefultoys.slf4j.meter.Markers.MSG_START;
+import static org.usefultoys.slf4j.meter.MeterLifeCycleTestHelper.assertLogs;
+import static org.usefultoys.slf4j.meter.MeterLifeCycleTestHelper.configureLogger;
+import static org.usefultoys.slf4j.meter.MeterLifeCycleTestHelper.event;
+import static org.usefultoys.slf4j.meter.MeterLifeCycleTestHelper.eventWithTrowable;
+
+/**
+ * Unit tests for {@link MeterEmitter}.
+ * <p>
+ * Tests validate that, with {@link MeterConfig#asyncCapacity} set, terminal messages are logged by the emitter
+ * thread with the same levels and markers as synchronous emission, from a copy that is independent of the meter,
+ * and that a full buffer either discards and counts messages or blocks the stopping thread.
+ * <p>
+ * <b>Coverage:</b>
+ * <ul>
+ *   <li><b>Emission:</b> ok, slow ok, reject, fail and close are logged asynchronously, in order</li>
+ *   <li><b>Snapshot:</b> Context cleared after stop is still reported</li>
+ *   <li><b>Overflow:</b> Data messages dropped near full, events rejected when full, drops reported</li>
+ *   <li><b>Blocking:</b> Stopping thread waits for a free slot when blocking is enabled</li>
+ *   <li><b>Capacity:</b> Buffer capacity is rounded up to a power of two</li>
+ *   <li><b>Restart:</b> A stopped emitter restarts on the next event, without registering another shutdown hook</li>
+ *   <li><b>Shutdown:</b> Events stopped while the emitter stops are either emitted or counted as dropped</li>
+ *   <li><b>Idle:</b> The emitter thread sleeps until woken while the buffer is empty</li>
+ * </ul>
+ */
+@DisplayName("MeterEmitter")
+@ValidateCharset
+@ResetMeterConfig
+@WithLocale("en")
+@WithMockLogger
+@ValidateCleanMeter
+class MeterEmitterTest {
+
+    private static final long TIMEOUT_MILLISECONDS = 10_000;
+
+    @Slf4jMock
+    private Logger logger;
+
+    @BeforeEach
+    void enableAsyncEmission() {
+        MeterEmitter.stop(TIMEOUT_MILLISECONDS);
+        MeterConfig.asyncCapacity = 16;
+    }
+
+    @AfterEach
+    void stopEmitter() {
+        MeterEmitter.stop(TIMEOUT_MILLISECONDS);
+    }
+
+    @Test
+    @DisplayName("should emit terminal messages asynchronously in order")
+    void shouldEmitTerminalMessagesAsynchronouslyInOrder() {
+        // Given: only readable terminal messages enabled, since start messages are logged synchronously and may
+        // interleave with terminal messages of previous meters; and meters stopped with each outcome
+        configureLogger(logger, INFO);
+        final IllegalStateException failure = new IllegalStateException("broken");
+        final TestTimeSource timeSource = new TestTimeSource(TestTimeSource.DAY1);
+        new Meter(logger, "ok").start().ok();
+        final Meter slow = new Meter(logger, "slow").withTimeSource(timeSource).limitMilliseconds(1).start();
+        timeSource.advanceMiliseconds(10);
+        slow.ok();
+        new Meter(logger, "reject").start().reject("invalid");
+        new Meter(logger, "fail").start().fail(failure);
+        new Meter(logger, "close").start().close();
+
+        // When: the emitter is flushed
+        assertTrue(MeterEmitter.flush(TIMEOUT_MILLISECONDS), "should emit all events");
+
+        // Then: terminal messages were logged asynchronously, in order
+        assertLogs(logger, INFO,
+                event(DEBUG, MSG_START), event(TRACE, DATA_START), event(INFO, MSG_OK, "ok"), event(TRACE, DATA_OK, "ok"),
+                event(DEBUG, MSG_START), event(TRACE, DATA_START), event(WARN, MSG_SLOW_OK, "slow"), event(TRACE, DATA_SLOW_OK, "slow"),
+                event(DEBUG, MSG_START), event(TRACE, DATA_START), event(INFO, MSG_REJECT, "invalid"), event(TRACE, DATA_REJECT, "invalid"),
+                event(DEBUG, MSG_START), event(TRACE, DATA_START), eventWithTrowable(ERROR, MSG_FAIL, "fail", IllegalStateException.class, "broken", "shouldEmitTerminalMessagesAsynchronouslyInOrder"), event(TRACE, DATA_FAIL, "fail"),
+                event(DEBUG, MSG_START), event(TRACE, DATA_START), event(ERROR, MSG_FAIL, "try-with-resources"), event(TRACE, DATA_FAIL, "try-with-resources"));
+    }
+
+    @Test
+    @DisplayName("should emit context cleared after stop")
+    void shouldEmitContextClearedAfterStop() {
+        // Given: a meter with context, stopped while asynchronous emission is enabled
+        final Meter meter = new Meter(logger, "context").start().ctx("key", "value");
+        ((MockLogger) logger).clearEvents();
+        meter.ok();
+
+        // When: the emitter is flushed
+        assertTrue(MeterEmitter.flush(TIMEOUT_MILLISECONDS), "should emit all events");
+
+        // Then: the meter context was cleared, but the copy reported it
+        assertTrue(meter.getContext() == null || meter.getContext().isEmpty(), "should clear meter context");
+        assertLogs(logger, TRACE, event(INFO, MSG_OK, "key"), event(TRACE, DATA_OK, "key:value"));
+    }
+
+    @Test
+    @DisplayName("should restart after stop without registering another shutdown hook")
+    void shouldRestartWithoutRegisteringAnotherShutdownHook() {
+        // Given: an emitter that already emitted an event
+        configureLogger(logger, INFO);
+        new Meter(logger, "first").start().ok();
+        assertTrue(MeterEmitter.flush(TIMEOUT_MILLISECONDS), "should emit first event");
+        final Thread hook = MeterEmitter.shutdownHook();
+
+        // When: the emitter is stopped and the next event restarts it
+        assertTrue(MeterEmitter.stop(TIMEOUT_MILLISECONDS), "should stop emitter");
+        new Meter(logger, "second").start().ok();
+        assertTrue(MeterEmitter.flush(TIMEOUT_MILLISECONDS), "should emit second event");
+
+        // Then: both events were emitted and the shutdown hook registered for the first buffer is kept
+        assertNotNull(hook, "should register shutdown hook");
+        assertSame(hook, MeterEmitter.shutdownHook(), "should not register another shutdown hook");
+        assertLogs(logger, INFO, event(INFO, MSG_OK, "first"), event(INFO, MSG_OK, "second"));
+    }
+
+    @Test
+    @DisplayName("should emit or count as dropped events stopped while emitter stops")
+    void shouldEmitOrCountEventsStoppedWhileEmitterStops() throws InterruptedException {
+        // Given: only readable terminal messages enabled, and threads ready to stop meters concurrently
+        configureLogger(logger, INFO);
+        final int threadCount = 4;
+        final int meterCount = 2_000;
+        final long droppedEventsBefore = MeterEmitter.getDroppedEvents();
+        final CountDownLatch ready = new CountDownLatch(threadCount);
+        final CountDownLatch go = new CountDownLatch(1);
+        final Thread[] producers = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            producers[t] = new Thread(() -> {
+                ready.countDown();
+                try {
+                    go.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < meterCount; i++) {
+                    new Meter(logger, "race").start().ok();
+                }
+            });
+            producers[t].start();
+        }
+        ready.await();
+
+        // When: the emitter is stopped repeatedly while the threads stop meters, and once more after they finish
+        go.countDown();
+        for (final Thread producer : producers) {
+            while (producer.isAlive()) {
+                assertTrue(MeterEmitter.stop(TIMEOUT_MILLISECONDS), "should stop emitter while meters stop");
+                Thread.yield();
+            }
+        }
+        assertTrue(MeterEmitter.stop(TIMEOUT_MILLISECONDS), "should stop emitter after meters stop");
+
+        // Then: every stopped meter was either emitted or counted as dropped
+        int emitted = 0;
+        for (final MockLoggerEvent event : ((MockLogger) logger).getLoggerEvents()) {
+            if (event.getMarker() == MSG_OK) {
+                emitted++;
+            }
+        }
+        final long dropped = MeterEmitter.getDroppedEvents() - droppedEventsBefore;
+        assertEquals(threadCount * meterCount, emitted + dropped, "should emit or count as dropped every event");
+    }
+
+    @Test
+    @DisplayName("should sleep until woken while buffer is empty")
+    void shouldSleepUntilWokenWhileBufferIsEmpty() throws InterruptedException {
+        // Given: a running emitter thread with an empty buffer
+        configureLogger(logger, INFO);
+        MeterConfig.asyncCapacity = 0;
+        final MeterEmitter.RingBuffer buffer = new MeterEmitter.RingBuffer(4);
+        final Meter meter = new Meter(logger, "idle").start().ok();
+        ((MockLogger) logger).clearEvents();
+        buffer.start();
+
+        // When: the buffer stays empty for a while
+        Thread.sleep(100);
+
+        // Then: the emitter thread is parked without a timeout, and still emits the next event
+        assertEquals(Thread.State.WAITING, buffer.thread.getState(), "should park without timeout");
+        assertTrue(buffer.offer(meter, MeterEmitter.OK, null), "should accept event");
+        assertTrue(buffer.awaitEmitted(1, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLISECONDS)), "should emit event");
+        assertTrue(buffer.stop(TIMEOUT_MILLISECONDS), "should stop after emitting");
+        assertLogs(logger, INFO, event(INFO, MSG_OK, "idle"));
+    }
+
+    @Test
+    @DisplayName("should round capacity up to power of two, at least two")
+    void shouldRoundCapacityUpToPowerOfTwo() {
+        assertEquals(2, new MeterEmitter.RingBuffer(1).capacity());
+        assertEquals(2, new MeterEmitter.RingBuffer(2).capacity());
+        assertEquals(4, new MeterEmitter.RingBuffer(3).capacity());
+        assertEquals(16, new MeterEmitter.RingBuffer(16).capacity());
+        assertEquals(32, new MeterEmitter.RingBuffer(17).capacity());
+    }
+
+    @Test
+    @DisplayName("should drop data first and then events when buffer is full")
+    void shouldDropDataFirstAndThenEventsWhenBufferIsFull() {
+        // Given: a meter stopped synchronously, and a buffer of four slots whose emitter thread is not yet running
+        MeterConfig.asyncCapacity = 0;
+        final MeterEmitter.RingBuffer buffer = new MeterEmitter.RingBuffer(4);
+        final Meter meter = new Meter(logger, "overflow").start().ok();
+        ((MockLogger) logger).clearEvents();
+        final long droppedDataBefore = MeterEmitter.getDroppedData();
+
+        // When: five events are offered
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(meter, MeterEmitter.OK, null), "should accept event " + i);
+        }
+        final boolean fifth = buffer.offer(meter, MeterEmitter.OK, null);
+
+        // Then: the fifth event is rejected and the data of the fourth, offered at three quarters, is dropped
+        assertFalse(fifth, "should reject event when full");
+        assertEquals(droppedDataBefore + 1, MeterEmitter.getDroppedData(), "should count dropped data");
+
+        // When: the emitter thread runs
+        buffer.start();
+        assertTrue(buffer.stop(TIMEOUT_MILLISECONDS), "should stop after emitting");
+
+        // Then: the drop is reported before the remaining events
+        assertLogs(logger, TRACE,
+                event(WARN, ASYNC_OVERFLOW, "droppedData=1"),
+                event(INFO, MSG_OK), event(TRACE, DATA_OK),
+                event(INFO, MSG_OK), event(TRACE, DATA_OK),
+                event(INFO, MSG_OK), event(TRACE, DATA_OK),
+                event(INFO, MSG_OK));
+    }
+
+    @Test
+    @DisplayName("should block stopping thread when buffer is full and blocking is enabled")
+    void shouldBlockStoppingThreadWhenBufferIsFullAndBlockingIsEnabled() throws InterruptedException {
+        // Given: a meter stopped synchronously, and a full buffer whose emitter thread is not yet running, with
+        // blocking enabled
+        MeterConfig.asyncCapacity = 0;
+        MeterConfig.asyncBlockOnOverflow = true;
+        final MeterEmitter.RingBuffer buffer = new MeterEmitter.RingBuffer(2);
+        final Meter meter = new Meter(logger, "blocking").start().ok();
+        assertTrue(buffer.offer(meter, MeterEmitter.OK, null), "should accept first event");
+        assertTrue(buffer.offer(meter, MeterEmitter.OK, null), "should accept second event");
+
+        // When: another thread offers an event
+        final AtomicBoolean offered = new AtomicBoolean();
+        final Thread producer = new Thread(() -> offered.set(buffer.offer(meter, MeterEmitter.OK, null)));
+        producer.start();
+        producer.join(100);
+
+        // Then: it waits until the emitter thread frees a slot
+        assertTrue(producer.isAlive(), "should block while buffer is full");
+        buffer.start();
+        producer.join(TIMEOUT_MILLISECONDS);
+        assertFalse(producer.isAlive(), "should resume once a slot is free");
+        assertTrue(offered.get(), "should accept event after waiting");
+        assertTrue(buffer.stop(TIMEOUT_MILLISECONDS), "should stop after emitting");
+    }
+}
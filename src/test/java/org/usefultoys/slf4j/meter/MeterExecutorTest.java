@@ -29,12 +29,15 @@ import org.usefultoys.test.ValidateCleanMeter;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.slf4j.impl.MockLoggerEvent.Level.DEBUG;
@@ -1298,4 +1301,193 @@ class MeterExecutorTest {
         AssertLogger.assertEvent(logger, 4, ERROR, INVALID_EXCEPTION, "Meter cannot create exception of type");
         assertEventWithThrowable(logger, 4, IOException.class);
     }
+
+    /**
+     * Completes a future from a new thread that has its own current meter, and checks that the completion leaves the
+     * current meter of that thread untouched.
+     */
+    private static void completeOnAnotherThread(final Runnable completion) throws InterruptedException {
+        final Throwable[] failure = {null};
+        final Thread thread = new Thread(() -> {
+            try {
+                final Meter other = new Meter(LoggerFactory.getLogger("test.executor.other")).start();
+                completion.run();
+                assertSame(other, Meter.getCurrentInstance(), "Completion should not change the current instance of the completing thread");
+                other.ok();
+            } catch (final Throwable e) {
+                failure[0] = e;
+            }
+        });
+        thread.start();
+        thread.join();
+        assertNull(failure[0], "Completing thread should not fail");
+    }
+
+    @Test
+    @DisplayName("callAsync() completed on another thread with ok and result")
+    void testCallAsyncOkOnAnotherThread() throws Exception {
+        // Given: a meter that is not started and a future completed later
+        final Meter meter = new Meter(logger);
+        final CompletableFuture<String> pending = new CompletableFuture<>();
+        final Meter[] currentInSupplier = {null};
+
+        // When: the asynchronous call is started and completed on another thread
+        final CompletableFuture<String> result = meter.callAsync(() -> {
+            currentInSupplier[0] = Meter.getCurrentInstance();
+            return pending;
+        });
+
+        // Then: the meter is started, current only while the supplier ran, and not yet stopped
+        assertSame(meter, currentInSupplier[0], "Current instance should be the meter while the supplier runs");
+        assertTrue(meter.isStarted(), "Meter should be started");
+        assertFalse(meter.isStopped(), "Meter should not be stopped before the future completes");
+        assertEquals(Meter.UNKNOWN_LOGGER_NAME, Meter.getCurrentInstance().getCategory(), "Meter should no longer be the current instance");
+        assertFalse(result.isDone(), "Returned future should not be done");
+
+        completeOnAnotherThread(() -> pending.complete("value"));
+
+        assertEquals("value", result.get(), "Returned future should complete with the result");
+        assertTrue(meter.isOK(), "Meter should be in OK state");
+        assertFalse(meter.isReject(), "Meter should not be in reject state");
+        assertFalse(meter.isFail(), "Meter should not be in fail state");
+        AssertLogger.assertEventCount(logger, 4);
+        AssertLogger.assertEvent(logger, 0, DEBUG, MSG_START);
+        AssertLogger.assertEvent(logger, 1, TRACE, DATA_START);
+        AssertLogger.assertEvent(logger, 2, INFO, MSG_OK);
+        AssertLogger.assertEvent(logger, 3, TRACE, DATA_OK, "result:value");
+    }
+
+    @Test
+    @DisplayName("callAsync() completed exceptionally with exception to reject")
+    void testCallAsyncReject() throws Exception {
+        // Given: a started meter and a future completed later
+        final Meter meter = new Meter(logger).start();
+        final CompletableFuture<String> pending = new CompletableFuture<>();
+
+        // When: the future completes on another thread with an exception to reject
+        final CompletableFuture<String> result = meter.callAsync(() -> pending, IOException.class);
+        completeOnAnotherThread(() -> pending.completeExceptionally(new IOException("test checked exception")));
+
+        // Then: the meter is rejected and the returned future carries the exception
+        final ExecutionException e = assertThrows(ExecutionException.class, result::get);
+        assertSame(IOException.class, e.getCause().getClass(), "Cause should be IOException");
+        assertFalse(meter.isOK(), "Meter should not be in OK state");
+        assertTrue(meter.isReject(), "Meter should be in reject state");
+        assertFalse(meter.isFail(), "Meter should not be in fail state");
+        assertEquals("IOException", meter.getRejectPath(), "Reject path should match exception class");
+        AssertLogger.assertEventCount(logger, 4);
+        AssertLogger.assertEvent(logger, 0, DEBUG, MSG_START);
+        AssertLogger.assertEvent(logger, 1, TRACE, DATA_START);
+        AssertLogger.assertEvent(logger, 2, INFO, MSG_REJECT);
+        AssertLogger.assertEvent(logger, 3, TRACE, DATA_REJECT);
+    }
+
+    @Test
+    @DisplayName("callAsync() completed exceptionally by a dependent stage")
+    void testCallAsyncFailUnwrapsCompletionException() throws Exception {
+        // Given: a future whose dependent stage throws
+        final Meter meter = new Meter(logger);
+        final CompletableFuture<String> pending = new CompletableFuture<>();
+
+        // When: the dependent stage fails while an unrelated exception class is to be rejected
+        final CompletableFuture<String> result = meter.callAsync(() -> pending.thenApply(value -> {
+            throw new IllegalStateException("test exception");
+        }), IOException.class);
+        completeOnAnotherThread(() -> pending.complete("value"));
+
+        // Then: the meter fails with the original exception, not with its CompletionException wrapper
+        assertThrows(ExecutionException.class, result::get);
+        assertFalse(meter.isOK(), "Meter should not be in OK state");
+        assertFalse(meter.isReject(), "Meter should not be in reject state");
+        assertTrue(meter.isFail(), "Meter should be in fail state");
+        assertEquals("java.lang.IllegalStateException", meter.getFailPath(), "Fail path should match original exception class");
+        assertEquals("test exception", meter.getFailMessage(), "Fail message should match original exception message");
+        AssertLogger.assertEventCount(logger, 4);
+        AssertLogger.assertEvent(logger, 0, DEBUG, MSG_START);
+        AssertLogger.assertEvent(logger, 1, TRACE, DATA_START);
+        AssertLogger.assertEvent(logger, 2, ERROR, MSG_FAIL);
+        AssertLogger.assertEvent(logger, 3, TRACE, DATA_FAIL);
+    }
+
+    @Test
+    @DisplayName("callAsync() with supplier that throws")
+    void testCallAsyncSupplierThrows() {
+        // Given: a meter that is not started
+        final Meter meter = new Meter(logger);
+
+        // When: the supplier throws before returning a future
+        final CompletableFuture<String> result = meter.callAsync(() -> {
+            throw new IllegalArgumentException("test exception");
+        });
+
+        // Then: the failure is reported through the returned future and the meter is no longer current
+        assertTrue(result.isCompletedExceptionally(), "Returned future should be completed exceptionally");
+        assertTrue(meter.isFail(), "Meter should be in fail state");
+        assertEquals("java.lang.IllegalArgumentException", meter.getFailPath(), "Fail path should match exception class");
+        assertEquals(Meter.UNKNOWN_LOGGER_NAME, Meter.getCurrentInstance().getCategory(), "Meter should no longer be the current instance");
+        AssertLogger.assertEventCount(logger, 4);
+        AssertLogger.assertEvent(logger, 2, ERROR, MSG_FAIL);
+        AssertLogger.assertEvent(logger, 3, TRACE, DATA_FAIL);
+    }
+
+    @Test
+    @DisplayName("callAsync() with supplier that throws an error")
+    void testCallAsyncSupplierThrowsError() {
+        // Given: a meter that is not started
+        final Meter meter = new Meter(logger);
+
+        // When: the supplier throws an error before returning a future
+        final AssertionError e = assertThrows(AssertionError.class, () -> meter.callAsync(() -> {
+            throw new AssertionError("test error");
+        }));
+
+        // Then: the error is rethrown, the meter failed and is no longer current
+        assertEquals("test error", e.getMessage(), "Error should be rethrown");
+        assertTrue(meter.isFail(), "Meter should be in fail state");
+        assertEquals("java.lang.AssertionError", meter.getFailPath(), "Fail path should match error class");
+        assertEquals(Meter.UNKNOWN_LOGGER_NAME, Meter.getCurrentInstance().getCategory(), "Meter should no longer be the current instance");
+        AssertLogger.assertEventCount(logger, 4);
+        AssertLogger.assertEvent(logger, 2, ERROR, MSG_FAIL);
+        AssertLogger.assertEvent(logger, 3, TRACE, DATA_FAIL);
+    }
+
+    @Test
+    @DisplayName("callAsync() with future already completed")
+    void testCallAsyncAlreadyCompleted() throws Exception {
+        // Given: a meter nested in an outer meter of the calling thread
+        final Meter outer = new Meter(logger, "outer").start();
+        final Meter meter = outer.sub("inner");
+
+        // When: the supplier returns a future that is already completed
+        final CompletableFuture<Integer> result = meter.callAsync(() -> CompletableFuture.completedFuture(1));
+
+        // Then: the meter completes on the calling thread and the outer meter is current again
+        assertEquals(1, result.get(), "Returned future should complete with the result");
+        assertTrue(meter.isOK(), "Meter should be in OK state");
+        assertSame(outer, Meter.getCurrentInstance(), "Outer meter should be the current instance again");
+        outer.ok();
+        AssertLogger.assertEventCount(logger, 8);
+        AssertLogger.assertEvent(logger, 4, INFO, MSG_OK);
+        AssertLogger.assertEvent(logger, 6, INFO, MSG_OK);
+    }
+
+    @Test
+    @DisplayName("runAsync() completed on another thread does not store the result")
+    void testRunAsyncOkOnAnotherThread() throws Exception {
+        // Given: a meter that is not started and a future completed later
+        final Meter meter = new Meter(logger);
+        final CompletableFuture<String> pending = new CompletableFuture<>();
+
+        // When: the asynchronous run is started and completed on another thread
+        final CompletableFuture<String> result = meter.runAsync(() -> pending);
+        completeOnAnotherThread(() -> pending.complete("value"));
+
+        // Then: the meter is OK and no result was added to the context
+        assertEquals("value", result.get(), "Returned future should complete with the result");
+        assertTrue(meter.isOK(), "Meter should be in OK state");
+        AssertLogger.assertEventCount(logger, 4);
+        AssertLogger.assertEvent(logger, 2, INFO, MSG_OK);
+        AssertLogger.assertEvent(logger, 3, TRACE, DATA_OK);
+        assertFalse(logger.getEvent(3).getFormattedMessage().contains("result:"), "Result should not be added to the context");
+    }
 }
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.usefultoys.slf4jtestmock.Slf4jMock;
+import org.usefultoys.slf4jtestmock.WithMockLogger;
+import org.usefultoys.test.ResetMeterConfig;
+import org.usefultoys.test.ValidateCharset;
+import org.usefultoys.test.ValidateCleanMeter;
+import org.usefultoys.test.WithLocale;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link MeterExecutors}.
+ * <p>
+ * Tests validate that the current {@link Meter} of the submitting thread becomes the current `Meter` of the thread
+ * that runs a decorated task, so that sub-operations link to the right parent, and that the running thread's own
+ * current `Meter` is restored afterwards.
+ * <p>
+ * <b>Coverage:</b>
+ * <ul>
+ *   <li><b>No active Meter:</b> Tasks are returned unchanged</li>
+ *   <li><b>Decorators:</b> Runnable, Callable and Supplier run with the captured Meter</li>
+ *   <li><b>Executors:</b> Tasks submitted to wrapped Executor and ExecutorService, including invokeAll and
+ *   CompletableFuture pipelines, run with the Meter current at submission</li>
+ *   <li><b>Restoration:</b> The running thread's current Meter is restored, also when the task fails</li>
+ *   <li><b>Nesting:</b> Meters started within the task become current and then revert to the captured Meter</li>
+ * </ul>
+ */
+@DisplayName("MeterExecutors")
+@ValidateCharset
+@ResetMeterConfig
+@WithLocale("en")
+@WithMockLogger
+@ValidateCleanMeter
+class MeterExecutorsTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Slf4jMock
+    private Logger logger;
+    private ExecutorService pool;
+
+    @BeforeEach
+    void createPool() {
+        pool = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void shutdownPool() throws InterruptedException {
+        pool.shutdownNow();
+        assertTrue(pool.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS), "pool should terminate");
+    }
+
+    /**
+     * Returns the `Meter` current on the calling thread, or {@code null} if there is none.
+     */
+    private static Meter current() {
+        return Meter.currentReference() == null ? null : Meter.currentReference().get();
+    }
+
+    @Test
+    @DisplayName("should return tasks unchanged when no meter is active")
+    void shouldReturnTasksUnchangedWhenNoMeterIsActive() {
+        // Given: no active meter and some tasks
+        final Runnable runnable = () -> { };
+        final Callable<String> callable = () -> "result";
+        final Supplier<String> supplier = () -> "result";
+
+        // When/Then: decorating returns the same instances
+        assertSame(runnable, MeterExecutors.runnable(runnable), "should not decorate runnable");
+        assertSame(callable, MeterExecutors.callable(callable), "should not decorate callable");
+        assertSame(supplier, MeterExecutors.supplier(supplier), "should not decorate supplier");
+    }
+
+    @Test
+    @DisplayName("should run runnable with captured meter and link sub-meter")
+    void shouldRunRunnableWithCapturedMeterAndLinkSubMeter() throws Exception {
+        // Given: a runnable decorated while a meter is active
+        final Meter meter = new Meter(logger, "parent").start();
+        final AtomicReference<Meter> seen = new AtomicReference<>();
+        final AtomicReference<String> subParent = new AtomicReference<>();
+        final Runnable task = MeterExecutors.runnable(() -> {
+            seen.set(MeterFactory.getCurrentMeter());
+            final Meter sub = MeterFactory.getCurrentSubMeter("child").start();
+            subParent.set(sub.getParent());
+            sub.ok();
+        });
+        meter.ok();
+
+        // When: the task runs on another thread
+        pool.submit(task).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // Then: the captured meter was current, the sub-meter linked to it, and the pool thread was restored
+        assertSame(meter, seen.get(), "should install captured meter");
+        assertEquals(meter.getFullID(), subParent.get(), "should link sub-meter to captured meter");
+        assertNull(pool.submit(MeterExecutorsTest::current).get(TIMEOUT_SECONDS, TimeUnit.SECONDS), "should restore pool thread");
+    }
+
+    @Test
+    @DisplayName("should run callable and supplier with captured meter")
+    void shouldRunCallableAndSupplierWithCapturedMeter() throws Exception {
+        // Given: a callable and a supplier decorated while a meter is active
+        final Meter meter = new Meter(logger, "parent").start();
+        final Callable<Meter> callable = MeterExecutors.callable(MeterExecutorsTest::current);
+        final Supplier<Meter> supplier = MeterExecutors.supplier(MeterExecutorsTest::current);
+        meter.ok();
+
+        // When: both run on another thread
+        final Meter fromCallable = pool.submit(callable).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        final Meter fromSupplier = CompletableFuture.supplyAsync(supplier, pool).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // Then: both saw the captured meter
+        assertSame(meter, fromCallable, "callable should see captured meter");
+        assertSame(meter, fromSupplier, "supplier should see captured meter");
+    }
+
+    @Test
+    @DisplayName("should capture meter at submission on wrapped executor service")
+    void shouldCaptureMeterAtSubmissionOnWrappedExecutorService() throws Exception {
+        // Given: a wrapped executor service
+        final ExecutorService wrapped = MeterExecutors.wrap(pool);
+
+        // When: tasks are submitted while distinct meters are active
+        final Meter first = new Meter(logger, "first").start();
+        final Future<Meter> fromFirst = wrapped.submit(MeterExecutorsTest::current);
+        final Meter second = new Meter(logger, "second").start();
+        final List<Future<Meter>> fromSecond = wrapped.invokeAll(Arrays.asList(MeterExecutorsTest::current, MeterExecutorsTest::current));
+        second.ok();
+        first.ok();
+        final Future<Meter> fromNone = wrapped.submit(MeterExecutorsTest::current);
+
+        // Then: each task saw the meter current when it was submitted
+        assertSame(first, fromFirst.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), "should see first meter");
+        for (final Future<Meter> future : fromSecond) {
+            assertSame(second, future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), "should see second meter");
+        }
+        assertNull(fromNone.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), "should see no meter");
+        assertSame(wrapped, MeterExecutors.wrap(wrapped), "should not wrap twice");
+    }
+
+    @Test
+    @DisplayName("should propagate meter through CompletableFuture pipeline on wrapped executor")
+    void shouldPropagateMeterThroughCompletableFuturePipelineOnWrappedExecutor() throws Exception {
+        // Given: a wrapped executor that is not an executor service
+        final Executor wrapped = MeterExecutors.wrap((Executor) pool::execute);
+        final Meter meter = new Meter(logger, "pipeline").start();
+
+        // When: a pipeline runs on the wrapped executor
+        final CompletableFuture<String> future = CompletableFuture
+                .supplyAsync(() -> MeterFactory.getCurrentSubMeter("load").start(), wrapped)
+                .thenApplyAsync(sub -> sub.ok().getParent(), wrapped);
+        final String parent = future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        meter.ok();
+
+        // Then: the sub-meter created by the pipeline linked to the meter
+        assertEquals(meter.getFullID(), parent, "should link sub-meter to meter");
+    }
+
+    @Test
+    @DisplayName("should restore running thread meter when task fails")
+    void shouldRestoreRunningThreadMeterWhenTaskFails() throws Exception {
+        // Given: a failing task decorated while a meter is active
+        final Meter captured = new Meter(logger, "captured").start();
+        final Runnable task = MeterExecutors.runnable(() -> {
+            throw new IllegalStateException("task failure");
+        });
+        captured.ok();
+
+        // When: the task fails on a thread that has its own meter
+        final Callable<Boolean> runner = () -> {
+            final Meter own = new Meter(logger, "own").start();
+            try {
+                task.run();
+            } catch (final IllegalStateException expected) {
+                // expected
+            }
+            final boolean restored = current() == own;
+            own.ok();
+            return restored;
+        };
+
+        // Then: the running thread's meter is current again
+        assertTrue(pool.submit(runner).get(TIMEOUT_SECONDS, TimeUnit.SECONDS), "should restore running thread meter");
+    }
+
+    @Test
+    @DisplayName("should revert to captured meter after meter started within task stops")
+    void shouldRevertToCapturedMeterAfterMeterStartedWithinTaskStops() throws Exception {
+        // Given: a task that starts and stops its own meter
+        final Meter meter = new Meter(logger, "parent").start();
+        final Callable<Meter[]> task = MeterExecutors.callable(() -> {
+            final Meter inner = new Meter(logger, "inner").start();
+            final Meter during = current();
+            inner.ok();
+            return new Meter[]{inner, during, current()};
+        });
+        meter.ok();
+
+        // When: the task runs on another thread
+        final Meter[] seen = pool.submit(task).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // Then: the inner meter was current while running, and the captured meter afterwards
+        assertSame(seen[0], seen[1], "inner meter should be current while running");
+        assertNotSame(seen[0], seen[2], "inner meter should no longer be current");
+        assertSame(meter, seen[2], "captured meter should be current again");
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.usefultoys.slf4jtestmock.AssertLogger;
+import org.usefultoys.slf4jtestmock.Slf4jMock;
+import org.usefultoys.slf4jtestmock.WithMockLogger;
+import org.usefultoys.test.ResetMeterConfig;
+import org.usefultoys.test.ValidateCharset;
+import org.usefultoys.test.ValidateCleanMeter;
+import org.usefultoys.test.WithLocale;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.slf4j.impl.MockLoggerEvent.Level.DEBUG;
+import static org.slf4j.impl.MockLoggerEvent.Level.ERROR;
+import static org.slf4j.impl.MockLoggerEvent.Level.INFO;
+import static org.slf4j.impl.MockLoggerEvent.Level.TRACE;
+import static org.usefultoys.slf4j.meter.Markers.DATA_FAIL;
+import static org.usefultoys.slf4j.meter.Markers.DATA_OK;
+import static org.usefultoys.slf4j.meter.Markers.DATA_START;
+import static org.usefultoys.slf4j.meter.Markers.MSG_FAIL;
+import static org.usefultoys.slf4j.meter.Markers.MSG_OK;
+import static org.usefultoys.slf4j.meter.Markers.MSG_PROGRESS;
+import static org.usefultoys.slf4j.meter.Markers.MSG_START;
+
+/**
+ * Unit tests for {@link Meter#iterate(Iterable)}, {@link Meter#wrap(Iterator)} and {@link Meter#stream(Stream)}.
+ * <p>
+ * Tests validate that each traversed element counts as one iteration, that the meter is finished when the traversal
+ * is exhausted or throws, and that progress checks are amortized over a stride that adapts to throughput.
+ * <p>
+ * <b>Coverage:</b>
+ * <ul>
+ *   <li><b>Iterable:</b> Elements are counted, collection size becomes expected iterations, exhaustion finishes OK</li>
+ *   <li><b>Iterator:</b> An exception thrown by the iterator fails the meter and is rethrown</li>
+ *   <li><b>Iterator:</b> An exception thrown after the loop body stopped the meter keeps its outcome</li>
+ *   <li><b>Iterable:</b> Iterating again after the meter finished neither counts nor reports progress</li>
+ *   <li><b>Stream:</b> Elements are counted; an exception in a downstream stage fails the meter</li>
+ *   <li><b>Stream:</b> Counting a sized stream traverses it and finishes OK</li>
+ *   <li><b>Progress:</b> Progress is reported while traversing; checks are amortized for fast traversals</li>
+ * </ul>
+ */
+@DisplayName("Meter iteration adapters")
+@ValidateCharset
+@ResetMeterConfig
+@WithLocale("en")
+@WithMockLogger
+@ValidateCleanMeter
+class MeterIterationTest {
+
+    @Slf4jMock
+    private Logger logger;
+
+    @Test
+    @DisplayName("should count elements of iterable and finish OK")
+    void shouldCountElementsOfIterableAndFinishOk() {
+        // Given: a meter that is not started
+        final Meter meter = new Meter(logger, "export");
+        final List<String> items = Arrays.asList("a", "b", "c");
+
+        // When: the items are traversed through the meter
+        final StringBuilder traversed = new StringBuilder();
+        for (final String item : meter.iterate(items)) {
+            traversed.append(item);
+        }
+
+        // Then: all items were traversed, counted against the collection size, and the meter finished OK
+        assertEquals("abc", traversed.toString(), "should traverse all items");
+        assertTrue(meter.isOK(), "should finish OK");
+        assertEquals(3, meter.getCurrentIteration(), "should count all items");
+        assertEquals(3, meter.getExpectedIterations(), "should expect the collection size");
+        AssertLogger.assertEventCount(logger, 4);
+        AssertLogger.assertEvent(logger, 0, DEBUG, MSG_START);
+        AssertLogger.assertEvent(logger, 1, TRACE, DATA_START);
+        AssertLogger.assertEvent(logger, 2, INFO, MSG_OK);
+        AssertLogger.assertEvent(logger, 3, TRACE, DATA_OK, "i:3", "ei:3");
+    }
+
+    @Test
+    @DisplayName("should iterate again without reporting on finished meter")
+    void shouldIterateAgainWithoutReportingOnFinishedMeter() {
+        // Given: an iterable returned by the meter, traversed once until the meter finished OK
+        final Meter meter = new Meter(logger, "export");
+        final Iterable<String> iterable = meter.iterate(Arrays.asList("a", "b", "c"));
+        for (final String ignored : iterable) {
+            // Only traverse
+        }
+
+        // When: the same iterable is traversed again
+        final StringBuilder traversed = new StringBuilder();
+        for (final String item : iterable) {
+            traversed.append(item);
+        }
+
+        // Then: all items were traversed again, without changing the finished meter or logging an invalid state
+        assertEquals("abc", traversed.toString(), "should traverse all items again");
+        assertTrue(meter.isOK(), "should remain OK");
+        assertEquals(3, meter.getCurrentIteration(), "should not count items traversed again");
+        AssertLogger.assertEventCount(logger, 4);
+    }
+
+    @Test
+    @DisplayName("should fail when iterator throws")
+    void shouldFailWhenIteratorThrows() {
+        // Given: an iterator that throws on its third element
+        final Meter meter = new Meter(logger, "export");
+        final Iterator<Integer> source = new Iterator<Integer>() {
+            private int next = 1;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                if (next == 3) {
+                    throw new IllegalStateException("broken source");
+                }
+                return next++;
+            }
+        };
+
+        // When: the iterator is traversed through the meter
+        final Iterator<Integer> iterator = meter.wrap(source);
+        final IllegalStateException e = assertThrows(IllegalStateException.class, () -> {
+            while (iterator.hasNext()) {
+                iterator.next();
+            }
+        });
+
+        // Then: the exception is rethrown and the meter failed with the elements traversed before
+        assertEquals("broken source", e.getMessage(), "should rethrow the exception of the iterator");
+        assertTrue(meter.isFail(), "should finish FAIL");
+        assertEquals("java.lang.IllegalStateException", meter.getFailPath(), "should fail with the exception class");
+        assertEquals(2, meter.getCurrentIteration(), "should count elements traversed before the exception");
+        AssertLogger.assertEventCount(logger, 4);
+        AssertLogger.assertEvent(logger, 2, ERROR, MSG_FAIL);
+        AssertLogger.assertEvent(logger, 3, TRACE, DATA_FAIL, "i:2");
+    }
+
+    @Test
+    @DisplayName("should keep outcome of meter stopped by loop body when iterator throws")
+    void shouldKeepOutcomeOfMeterStoppedByLoopBodyWhenIteratorThrows() {
+        // Given: an iterator that throws on its second element
+        final Meter meter = new Meter(logger, "export");
+        final Iterator<Integer> source = new Iterator<Integer>() {
+            private int next = 1;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                if (next == 2) {
+                    throw new IllegalStateException("broken source");
+                }
+                return next++;
+            }
+        };
+
+        // When: the loop body rejects the meter on the first element, and the iterator then throws
+        final Iterator<Integer> iterator = meter.wrap(source);
+        assertThrows(IllegalStateException.class, () -> {
+            while (iterator.hasNext()) {
+                iterator.next();
+                if (!meter.isStopped()) {
+                    meter.reject("skipped");
+                }
+            }
+        });
+
+        // Then: the meter keeps its outcome, without logging an invalid transition
+        assertTrue(meter.isReject(), "should remain rejected");
+        AssertLogger.assertEventCount(logger, 4);
+    }
+
+    @Test
+    @DisplayName("should count elements of stream and finish OK")
+    void shouldCountElementsOfStreamAndFinishOk() {
+        // Given: a meter that is not started
+        final Meter meter = new Meter(logger, "export");
+
+        // When: a stream is consumed through the meter
+        final List<Integer> result = meter.stream(Stream.of(1, 2, 3, 4)).map(i -> i * 10).collect(Collectors.toList());
+
+        // Then: all elements were consumed and counted, and the meter finished OK
+        assertEquals(Arrays.asList(10, 20, 30, 40), result, "should consume all elements");
+        assertTrue(meter.isOK(), "should finish OK");
+        assertEquals(4, meter.getCurrentIteration(), "should count all elements");
+        AssertLogger.assertEventCount(logger, 4);
+        AssertLogger.assertEvent(logger, 3, TRACE, DATA_OK, "i:4");
+    }
+
+    @Test
+    @DisplayName("should traverse sized stream on count and finish OK")
+    void shouldTraverseSizedStreamOnCountAndFinishOk() {
+        // Given: a meter that is not started
+        final Meter meter = new Meter(logger, "export");
+
+        // When: the elements of a sized stream are counted through the meter
+        final long count = meter.stream(Arrays.asList(1, 2, 3).stream()).map(i -> i * 10).count();
+
+        // Then: all elements were traversed and counted, and the meter finished OK
+        assertEquals(3, count, "should count all elements");
+        assertTrue(meter.isOK(), "should finish OK");
+        assertEquals(3, meter.getCurrentIteration(), "should count all elements");
+        AssertLogger.assertEventCount(logger, 4);
+        AssertLogger.assertEvent(logger, 3, TRACE, DATA_OK, "i:3");
+    }
+
+    @Test
+    @DisplayName("should fail when downstream stage of stream throws")
+    void shouldFailWhenDownstreamStageOfStreamThrows() {
+        // Given: a stream pipeline whose mapping throws on the second element
+        final Meter meter = new Meter(logger, "export");
+
+        // When: the stream is consumed through the meter
+        assertThrows(IllegalArgumentException.class, () -> meter.stream(Stream.of(1, 2, 3)).map(i -> {
+            if (i == 2) {
+                throw new IllegalArgumentException("bad element");
+            }
+            return i;
+        }).forEach(i -> { }));
+
+        // Then: the meter failed with the elements consumed before
+        assertTrue(meter.isFail(), "should finish FAIL");
+        assertEquals("java.lang.IllegalArgumentException", meter.getFailPath(), "should fail with the exception class");
+        assertEquals(1, meter.getCurrentIteration(), "should count elements consumed before the exception");
+    }
+
+    @Test
+    @DisplayName("should report progress while traversing")
+    void shouldReportProgressWhileTraversing() {
+        // Given: progress is reported without throttling
+        MeterConfig.progressPeriodMilliseconds = 0;
+        final Meter meter = new Meter(logger, "export");
+
+        // When: a few elements are traversed
+        for (final Integer ignored : meter.iterate(Arrays.asList(1, 2, 3))) {
+            assertFalse(meter.isStopped(), "should not finish before exhaustion");
+        }
+
+        // Then: progress was reported before the meter finished OK
+        AssertLogger.assertEvent(logger, 2, INFO, MSG_PROGRESS);
+        assertTrue(meter.isOK(), "should finish OK");
+    }
+
+    @Test
+    @DisplayName("should amortize progress checks of fast traversals")
+    void shouldAmortizeProgressChecksOfFastTraversals() {
+        // Given: a long progress period and a meter that counts its progress checks
+        MeterConfig.progressPeriodMilliseconds = 60_000;
+        final int[] checks = {0};
+        final Meter meter = new Meter(logger, "export") {
+            @Override
+            public Meter progress() {
+                checks[0]++;
+                return super.progress();
+            }
+        };
+
+        // When: a million elements are traversed
+        final Iterator<Integer> iterator = meter.wrap(Stream.iterate(0, i -> i + 1).limit(1_000_000).iterator());
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+
+        // Then: every element was counted, but progress was checked only a few times
+        assertEquals(1_000_000, meter.getCurrentIteration(), "should count all elements");
+        assertTrue(checks[0] < 100, "should check progress only a few times, was " + checks[0]);
+        assertTrue(meter.isOK(), "should finish OK");
+    }
+}
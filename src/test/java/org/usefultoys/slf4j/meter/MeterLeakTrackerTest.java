@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.impl.MockLogger;
+import org.slf4j.impl.MockLoggerEvent;
+import org.usefultoys.slf4j.LoggerFactory;
+import org.usefultoys.slf4jtestmock.Slf4jMock;
+import org.usefultoys.slf4jtestmock.WithMockLogger;
+import org.usefultoys.test.ResetMeterConfig;
+import org.usefultoys.test.ValidateCharset;
+import org.usefultoys.test.ValidateCleanMeter;
+import org.usefultoys.test.WithLocale;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for {@link MeterLeakTracker}.
+ * <p>
+ * Tests validate that only the configured sample of started meters is tracked, that stopping a meter discards its
+ * record, and that a tracked meter reclaimed by the garbage collector without being stopped is reported.
+ * <p>
+ * <b>Coverage:</b>
+ * <ul>
+ *   <li><b>Opt-in:</b> No meter is tracked while tracking is disabled</li>
+ *   <li><b>Sampling:</b> Every started meter is tracked with sample one; unknown meters are never tracked</li>
+ *   <li><b>Untracking:</b> ok(), reject(), fail() and close() discard the record</li>
+ *   <li><b>Reporting:</b> A reclaimed, never stopped meter is reported with its full ID</li>
+ * </ul>
+ */
+@DisplayName("MeterLeakTracker")
+@ValidateCharset
+@ResetMeterConfig
+@WithLocale("en")
+@WithMockLogger
+@ValidateCleanMeter
+class MeterLeakTrackerTest {
+
+    @Slf4jMock
+    private Logger logger;
+
+    /** Sink to keep the allocation pressure from being optimized away by the JIT. */
+    @SuppressWarnings("unused")
+    private static volatile long blackhole;
+
+    @BeforeEach
+    void drainPreviousTests() {
+        MeterLeakTracker.drain();
+    }
+
+    @Test
+    @DisplayName("should not track started meter when tracking is disabled")
+    void shouldNotTrackStartedMeterWhenTrackingIsDisabled() {
+        // Given: tracking disabled, as by default
+        MeterConfig.leakTrackingSample = 0;
+        final int pendingBefore = MeterLeakTracker.pendingCount();
+
+        // When: a meter is started
+        final Meter meter = new Meter(logger).start();
+
+        // Then: the meter is not tracked
+        assertNull(MeterLeakTracker.track(meter), "should not track when disabled");
+        assertEquals(pendingBefore, MeterLeakTracker.pendingCount(), "should not add pending record");
+        meter.ok();
+    }
+
+    @Test
+    @DisplayName("should track every started meter with sample one and untrack when stopped")
+    void shouldTrackEveryStartedMeterWithSampleOneAndUntrackWhenStopped() {
+        // Given: tracking enabled for every started meter
+        MeterConfig.leakTrackingSample = 1;
+        final int pendingBefore = MeterLeakTracker.pendingCount();
+
+        // When: meters are started
+        final Meter meterOk = new Meter(logger, "ok").start();
+        final Meter meterReject = new Meter(logger, "reject").start();
+        final Meter meterFail = new Meter(logger, "fail").start();
+        final Meter meterClose = new Meter(logger, "close").start();
+
+        // Then: every started meter is pending
+        assertEquals(pendingBefore + 4, MeterLeakTracker.pendingCount(), "should track every started meter");
+
+        // When: meters are stopped, in reverse order
+        meterClose.close();
+        meterFail.fail("failure");
+        meterReject.reject("rejection");
+        meterOk.ok();
+
+        // Then: no record remains pending
+        assertEquals(pendingBefore, MeterLeakTracker.pendingCount(), "should untrack stopped meters");
+    }
+
+    @Test
+    @DisplayName("should not track meter with unknown category")
+    void shouldNotTrackMeterWithUnknownCategory() {
+        // Given: tracking enabled for every started meter
+        MeterConfig.leakTrackingSample = 1;
+        final Meter meter = new Meter(LoggerFactory.getLogger(Meter.UNKNOWN_LOGGER_NAME));
+
+        // When: the meter is offered for tracking
+        final MeterLeakTracker.Record record = MeterLeakTracker.track(meter);
+
+        // Then: the meter is not tracked
+        assertNull(record, "should not track unknown meter");
+    }
+
+    @Test
+    @DisplayName("should capture logger and full ID when tracking")
+    void shouldCaptureLoggerAndFullIdWhenTracking() {
+        // Given: tracking enabled for every started meter
+        MeterConfig.leakTrackingSample = 1;
+        final Meter meter = new Meter(logger, "operation");
+
+        // When: the meter is offered for tracking
+        final MeterLeakTracker.Record record = MeterLeakTracker.track(meter);
+
+        // Then: the record holds what is needed to report the meter after reclamation
+        assertNotNull(record, "should track meter");
+        assertEquals(meter.getFullID(), record.fullID, "should capture full ID");
+        assertEquals(meter.getMessageLogger(), record.messageLogger, "should capture message logger");
+        MeterLeakTracker.untrack(record);
+    }
+
+    @Test
+    @DisplayName("should report reclaimed meter that was never stopped")
+    void shouldReportReclaimedMeterThatWasNeverStopped() throws InterruptedException {
+        // Given: tracking enabled for every started meter
+        MeterConfig.leakTrackingSample = 1;
+        final MockLogger mockLogger = (MockLogger) logger;
+
+        // When: a meter is started and forgotten by a thread that then terminates, releasing its thread-local stack
+        final AtomicReference<WeakReference<Meter>> tracker = new AtomicReference<>();
+        final AtomicReference<String> fullId = new AtomicReference<>();
+        final Thread thread = new Thread(() -> {
+            final Meter meter = new Meter(logger, "forgotten").start();
+            fullId.set(meter.getFullID());
+            tracker.set(new WeakReference<>(meter));
+        });
+        thread.start();
+        thread.join();
+        mockLogger.clearEvents();
+
+        // Then: once reclaimed, the meter is reported with its full ID
+        assumeTrue(driveReclamationAndLeakReport(tracker.get(), mockLogger),
+                "Could not trigger GC in this environment; skipping");
+        assertTrue(hasNeverStoppedWarning(mockLogger, fullId.get()), "should report never stopped meter with its full ID");
+    }
+
+    private static boolean driveReclamationAndLeakReport(final WeakReference<Meter> tracker, final MockLogger logger) {
+        final long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+        while (System.nanoTime() < deadlineNanos) {
+            System.gc();
+            final byte[] pressure = new byte[8 * 1024 * 1024];
+            blackhole += pressure.length;
+            MeterLeakTracker.drain();
+            if (tracker.get() == null && hasNeverStoppedWarning(logger, "")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasNeverStoppedWarning(final MockLogger logger, final String fullId) {
+        try {
+            for (final MockLoggerEvent event : new ArrayList<>(logger.getLoggerEvents())) {
+                final String formatted = event.getFormattedMessage();
+                if (event.getLevel() == MockLoggerEvent.Level.ERROR && event.getMarker() == Markers.INVALID_ARGUMENT
+                        && formatted != null && formatted.contains("Meter never stopped") && formatted.contains(fullId)) {
+                    return true;
+                }
+            }
+        } catch (final ConcurrentModificationException ignored) {
+            // The reporter thread is appending concurrently; treat as "not yet" and retry.
+        }
+        return false;
+    }
+}
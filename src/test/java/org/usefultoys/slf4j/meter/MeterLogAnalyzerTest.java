@@ -0,0 +1,460 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.usefultoys.test.ResetMeterConfig;
+import org.usefultoys.test.ValidateCharset;
+import org.usefultoys.test.WithLocale;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link MeterLogAnalyzer}.
+ * <p>
+ * Tests validate that the analyzer finds the data channel messages in log lines of any layout, aggregates stopped
+ * operations per category and operation, and keeps its memory bounded.
+ * <p>
+ * <b>Coverage:</b>
+ * <ul>
+ *   <li><b>Aggregation:</b> Outcome counts, execution times and throughput per category and operation</li>
+ *   <li><b>Sessions:</b> Throughput is not computed for operations of several sessions</li>
+ *   <li><b>Message Kinds:</b> Start, progress, readable and watcher messages are skipped; binary messages are read</li>
+ *   <li><b>Layout:</b> A tilde in the layout around the message is not taken for a binary message</li>
+ *   <li><b>Memory-Mapped Windows:</b> Lines crossing window boundaries and a last line without terminator</li>
+ *   <li><b>Limits:</b> Operations beyond the limit are dropped; malformed messages are counted as invalid</li>
+ *   <li><b>Report:</b> One line per operation and a summary</li>
+ *   <li><b>Parallel Reading:</b> Chunks read on a fork-join pool give the same result as reading in order</li>
+ *   <li><b>Operation Trees:</b> Self time, child time and critical path per top-level operation, across sessions,
+ *   with overlapping sub-operations and bounded orphans</li>
+ * </ul>
+ */
+@DisplayName("MeterLogAnalyzer")
+@ValidateCharset
+@ResetMeterConfig
+@WithLocale("en")
+class MeterLogAnalyzerTest {
+
+    @TempDir
+    Path directory;
+
+    private static MeterData stopped(final String operation, final long startTime, final long stopTime) {
+        final MeterData data = new MeterData("8ae94091", 1, "app.Service", operation, null);
+        data.startTime = startTime;
+        data.stopTime = stopTime;
+        return data;
+    }
+
+    private static String line(final String marker, final String message) {
+        return "2026-10-16 12:00:00.000 TRACE [main] " + marker + " app.Service - " + message + "\n";
+    }
+
+    private Path write(final String... lines) throws IOException {
+        final Path file = directory.resolve("app.log");
+        Files.write(file, String.join("", lines).getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static String sampleLog() {
+        final MeterData started = new MeterData("8ae94091", 1, "app.Service", "load", null);
+        started.startTime = 1_000;
+        final MeterData rejected = stopped("load", 1_000_000, 3_000_000);
+        rejected.rejectPath = "notFound";
+        final MeterData failed = stopped("save", 1_000_000, 9_000_000);
+        failed.failPath = "java.io.IOException";
+        final MeterData slow = stopped("load", 1_000_000, 51_000_000);
+        slow.timeLimit = 10_000_000;
+        return line("METER_DATA_START", started.json5Message())
+                + "2026-10-16 12:00:00.000 INFO [main] METER_OK app.Service - OK: app.Service/load 2.0ms\n"
+                + line("METER_DATA_OK", stopped("load", 1_000_000, 3_000_000).json5Message())
+                + line("METER_DATA_OK", stopped("load", 999_000_000, 1_003_000_000).json5Message())
+                + line("METER_DATA_REJECT", rejected.json5Message())
+                + line("METER_DATA_SLOW_OK", slow.json5Message())
+                + line("METER_DATA_FAIL", failed.json5Message())
+                + line("WATCHER_DATA", "{_:8ae94091,$:3,t:5000,m:[1,2,3]}");
+    }
+
+    @Test
+    @DisplayName("should aggregate stopped operations per category and operation")
+    void shouldAggregateStoppedOperations() throws IOException {
+        // Given: a log with start, readable, terminal and watcher messages
+        final Path file = write(sampleLog());
+
+        // When: the file is analyzed
+        final MeterLogAnalyzer analyzer = new MeterLogAnalyzer();
+        analyzer.analyze(file);
+
+        // Then: only terminal messages are aggregated, per operation
+        assertEquals(8, analyzer.getLineCount(), "should read all lines");
+        assertEquals(7, analyzer.getMessageCount(), "should read all data messages");
+        assertEquals(5, analyzer.getOperationCount(), "should aggregate stopped operations");
+        assertEquals(0, analyzer.getInvalidCount(), "should find no invalid message");
+        final List<MeterAggregate> aggregates = analyzer.getAggregates();
+        assertEquals(2, aggregates.size(), "should aggregate two operations");
+        final MeterAggregate load = aggregates.get(0);
+        assertEquals("app.Service", load.getCategory(), "category should match");
+        assertEquals("load", load.getOperation(), "operations should be ordered");
+        assertEquals(2, load.getOkCount(), "should count OK operations");
+        assertEquals(1, load.getSlowCount(), "should count slow operations");
+        assertEquals(1, load.getRejectCount(), "should count rejected operations");
+        assertEquals(2_000_000, load.getMinTime(), "should keep shortest execution time");
+        assertEquals(50_000_000, load.getMaxTime(), "should keep longest execution time");
+        assertEquals(4, load.getThroughput(), 0.001, "should divide count by the interval between stop times");
+        final MeterAggregate save = aggregates.get(1);
+        assertEquals(1, save.getFailCount(), "should count failed operations");
+        assertEquals(8_000_000, save.getPercentileTime(50), "percentile should be limited to observed times");
+    }
+
+    @Test
+    @DisplayName("should read binary messages")
+    void shouldReadBinaryMessages() throws IOException {
+        // Given: a log with binary messages, one of them at the end of a line with trailing text
+        final Path file = write(
+                line("METER_DATA_OK", stopped("load", 1_000_000, 3_000_000).binaryMessage()),
+                "METER_DATA_OK " + stopped("load", 1_000_000, 5_000_000).binaryMessage() + " trailing\r\n");
+
+        // When: the file is analyzed
+        final MeterLogAnalyzer analyzer = new MeterLogAnalyzer();
+        analyzer.analyze(file);
+
+        // Then: both are aggregated
+        assertEquals(2, analyzer.getOperationCount(), "should aggregate binary messages");
+        assertEquals(4_000_000, analyzer.getAggregates().get(0).getMaxTime(), "should read execution time");
+    }
+
+    @Test
+    @DisplayName("should not take a tilde in the layout for a binary message")
+    void shouldNotTakeTildeInLayoutForBinaryMessage() {
+        // Given: an analyzer
+        final MeterLogAnalyzer analyzer = new MeterLogAnalyzer();
+
+        // When: lines whose layout holds a tilde before the message are read
+        analyzer.analyzeLine("TRACE [~worker] /home/~user METER_DATA_OK - " + stopped("json", 1_000, 2_000).json5Message());
+        analyzer.analyzeLine("TRACE ~user METER_DATA_OK - " + stopped("binary", 1_000, 3_000).binaryMessage());
+        analyzer.analyzeLine("TRACE [~worker] /home/~user - plain text line");
+
+        // Then: the messages after the layout are read, and no line is invalid
+        assertEquals(2, analyzer.getMessageCount(), "should read the messages after the layout");
+        assertEquals(2, analyzer.getOperationCount(), "should aggregate both messages");
+        assertEquals(0, analyzer.getInvalidCount(), "should not count the layout as invalid message");
+    }
+
+    @Test
+    @DisplayName("should read lines crossing mapped windows")
+    void shouldReadLinesCrossingMappedWindows() throws IOException {
+        // Given: a log whose last line has no terminator
+        final String log = sampleLog();
+        final Path file = write(log, "METER_DATA_OK " + stopped("last", 1_000, 2_000).json5Message());
+
+        // When: the file is analyzed with windows smaller than a line and with a single window
+        final MeterLogAnalyzer small = new MeterLogAnalyzer(10, 200, MeterLogAnalyzer.CHUNK);
+        small.analyze(file);
+        final MeterLogAnalyzer large = new MeterLogAnalyzer();
+        large.analyze(file);
+
+        // Then: both find the same operations
+        assertEquals(9, large.getLineCount(), "should read last line without terminator");
+        assertEquals(6, large.getOperationCount(), "should aggregate last line");
+        assertEquals(3, large.getAggregates().size(), "should aggregate three operations");
+        assertEquals(large.getOperationCount(), small.getOperationCount(), "windows should not change operations");
+        assertEquals(large.getLineCount(), small.getLineCount(), "windows should not change lines");
+    }
+
+    @Test
+    @DisplayName("should bound distinct operations and count invalid messages")
+    void shouldBoundOperationsAndCountInvalidMessages() {
+        // Given: an analyzer limited to one operation
+        final MeterLogAnalyzer analyzer = new MeterLogAnalyzer(1);
+
+        // When: lines of two operations and malformed messages are read
+        analyzer.analyzeLine(stopped("a", 1_000, 2_000).json5Message());
+        analyzer.analyzeLine(stopped("b", 1_000, 2_000).json5Message());
+        analyzer.analyzeLine(stopped("a", 1_000, 3_000).json5Message());
+        analyzer.analyzeLine("METER_DATA_OK ~AQ");
+        analyzer.analyzeLine("METER_DATA_OK {_:8ae94091,t2:x");
+        analyzer.analyzeLine("plain text line");
+
+        // Then: the second operation is dropped and malformed messages are invalid
+        assertEquals(1, analyzer.getAggregates().size(), "should keep one operation");
+        assertEquals(2, analyzer.getOperationCount(), "should aggregate the first operation");
+        assertEquals(1, analyzer.getDroppedCount(), "should drop the second operation");
+        assertEquals(2, analyzer.getInvalidCount(), "should count malformed messages");
+        assertEquals(6, analyzer.getLineCount(), "should count all lines");
+    }
+
+    @Test
+    @DisplayName("should report one line per operation and a summary")
+    void shouldReportOneLinePerOperation() throws IOException {
+        // Given: an analyzed log
+        final MeterLogAnalyzer analyzer = new MeterLogAnalyzer();
+        analyzer.analyze(write(sampleLog()));
+
+        // When: the report is printed
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        analyzer.report(new PrintStream(bytes, true, "UTF-8"));
+        final String[] report = new String(bytes.toByteArray(), StandardCharsets.UTF_8).split("\\R");
+
+        // Then: each operation is followed by its throughput, and the summary comes last
+        assertEquals(3, report.length, "should print two operations and a summary");
+        assertTrue(report[0].startsWith("AGGREGATE: app.Service/load; 2 ok, 1 slow, 1 reject, 0 fail;"), report[0]);
+        assertTrue(report[0].endsWith("; 4.0/s"), report[0]);
+        assertTrue(report[1].startsWith("AGGREGATE: app.Service/save;"), report[1]);
+        assertEquals("8 lines, 7 messages, 5 operations, 0 invalid, 0 dropped; 2 distinct operations", report[2]);
+    }
+
+    @Test
+    @DisplayName("should not report throughput across sessions")
+    void shouldNotReportThroughputAcrossSessions() throws IOException {
+        // Given: a log with operations of two sessions, whose stop times have unrelated origins
+        final MeterData other = new MeterData("5d3f0a17", 1, "app.Service", "load", null);
+        other.startTime = 7_000_000_000L;
+        other.stopTime = 7_002_000_000L;
+        final Path file = write(line("METER_DATA_OK", stopped("load", 1_000_000, 3_000_000).json5Message()),
+                line("METER_DATA_OK", stopped("load", 999_000_000, 1_003_000_000).json5Message()),
+                line("METER_DATA_OK", other.json5Message()),
+                line("METER_DATA_OK", stopped("save", 1_000_000, 9_000_000).json5Message()));
+
+        // When: the file is analyzed
+        final MeterLogAnalyzer analyzer = new MeterLogAnalyzer();
+        analyzer.analyze(file);
+
+        // Then: the operation of both sessions is aggregated without throughput, the other one keeps its throughput
+        final List<MeterAggregate> aggregates = analyzer.getAggregates();
+        final MeterAggregate load = aggregates.get(0);
+        assertEquals(3, load.getCount(), "should aggregate operations of both sessions");
+        assertTrue(load.isMultipleSessions(), "should hold several sessions");
+        assertEquals(0, load.getThroughput(), 0.0, "should not compute throughput across sessions");
+        assertFalse(aggregates.get(1).isMultipleSessions(), "should hold one session");
+        final String[] report = report(analyzer).split("\\R");
+        assertTrue(report[0].endsWith("; several sessions"), report[0]);
+        assertTrue(report[1].endsWith("/s"), report[1]);
+    }
+
+    private static String report(final MeterLogAnalyzer analyzer) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        analyzer.report(new PrintStream(bytes, true, "UTF-8"));
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static long[] histogram(final MeterAggregate aggregate) {
+        final long[] histogram = new long[MeterAggregate.HISTOGRAM_BUCKETS];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = aggregate.getHistogramCount(i);
+        }
+        return histogram;
+    }
+
+    private Path manyOperationsLog() throws IOException {
+        final StringBuilder log = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            final MeterData data = new MeterData("session" + i, i, "app.Service", "op" + (i * 7 % 13), null);
+            data.startTime = 1_000_000L * i;
+            data.stopTime = data.startTime + 10_000L * (i % 97) + 1;
+            if (i % 11 == 0) {
+                data.failPath = "java.io.IOException";
+            }
+            log.append(line("METER_DATA_OK", i % 2 == 0 ? data.json5Message() : data.binaryMessage()));
+            if (i % 17 == 0) {
+                log.append(line("METER_DATA_OK", "{_:broken,t2:x"));
+            }
+        }
+        log.append("METER_DATA_OK ").append(stopped("last", 1_000, 2_000).json5Message());
+        return write(log.toString());
+    }
+
+    @Test
+    @DisplayName("should read chunks in parallel with the same result as in order")
+    void shouldReadChunksInParallelWithSameResult() throws IOException {
+        // Given: a log with many operations, split into chunks of about two lines
+        final Path file = manyOperationsLog();
+        final MeterLogAnalyzer sequential = new MeterLogAnalyzer();
+        sequential.analyze(file);
+
+        // When: the file is read in parallel
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        final MeterLogAnalyzer parallel = new MeterLogAnalyzer(MeterLogAnalyzer.DEFAULT_MAX_OPERATIONS, 1000, 300);
+        try {
+            parallel.analyze(file, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        // Then: counters, aggregates and histograms are identical
+        assertEquals(531, sequential.getLineCount(), "should read all lines");
+        assertEquals(30, sequential.getInvalidCount(), "should count invalid messages");
+        assertEquals(report(sequential), report(parallel), "report should be identical");
+        final List<MeterAggregate> expected = sequential.getAggregates();
+        final List<MeterAggregate> actual = parallel.getAggregates();
+        assertEquals(expected.size(), actual.size(), "should find the same operations");
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getSessionUuid(), actual.get(i).getSessionUuid(), "first session should match");
+            assertEquals(expected.get(i).getIntervalStart(), actual.get(i).getIntervalStart(), "interval should match");
+            assertEquals(expected.get(i).getTotalTime(), actual.get(i).getTotalTime(), "total time should match");
+            assertArrayEquals(histogram(expected.get(i)), histogram(actual.get(i)), "histogram should match");
+        }
+    }
+
+    @Test
+    @DisplayName("should drop the same operations in parallel as in order")
+    void shouldDropSameOperationsInParallel() throws IOException {
+        // Given: a log with more distinct operations than allowed
+        final Path file = manyOperationsLog();
+        final MeterLogAnalyzer sequential = new MeterLogAnalyzer(5);
+        sequential.analyze(file);
+
+        // When: the file is read in parallel, in chunks that hold fewer and more distinct operations than allowed
+        final MeterLogAnalyzer smallChunks = new MeterLogAnalyzer(5, 1000, 200);
+        smallChunks.analyze(file, ForkJoinPool.commonPool());
+        final MeterLogAnalyzer largeChunks = new MeterLogAnalyzer(5, 1000, 3000);
+        largeChunks.analyze(file, ForkJoinPool.commonPool());
+
+        // Then: the first operations in file order are kept, and the others are dropped
+        assertTrue(sequential.getDroppedCount() > 0, "should drop operations");
+        assertEquals(report(sequential), report(smallChunks), "report should be identical for small chunks");
+        assertEquals(report(sequential), report(largeChunks), "report should be identical for large chunks");
+    }
+
+    @Test
+    @DisplayName("should read empty file in parallel")
+    void shouldReadEmptyFileInParallel() throws IOException {
+        // Given: an empty log
+        final MeterLogAnalyzer analyzer = new MeterLogAnalyzer();
+
+        // When: it is read in parallel
+        analyzer.analyze(write(), ForkJoinPool.commonPool());
+
+        // Then: nothing is found
+        assertEquals(0, analyzer.getLineCount(), "should read no line");
+        assertTrue(analyzer.getAggregates().isEmpty(), "should find no operation");
+    }
+
+    private static String terminal(final String session, final long position, final String operation,
+                                   final String parent, final long startMillis, final long stopMillis) {
+        final MeterData data = new MeterData(session, position, "app.Service", operation, parent);
+        data.startTime = (1000 + startMillis) * 1_000_000;
+        data.stopTime = (1000 + stopMillis) * 1_000_000;
+        return line("METER_DATA_OK", data.json5Message());
+    }
+
+    private static String checkoutTree(final String session, final long startMillis) {
+        final String root = "app.Service/checkout#1";
+        final String call = "app.Service/call#1";
+        return terminal(session, 1, "load", root, startMillis + 10, startMillis + 45)
+                + terminal(session, 1, "send", call, startMillis + 60, startMillis + 88)
+                + terminal(session, 1, "call", root, startMillis + 50, startMillis + 90)
+                + terminal(session, 1, "checkout", null, startMillis, startMillis + 100);
+    }
+
+    @Test
+    @DisplayName("should reconstruct trees with self time, child time and critical path")
+    void shouldReconstructTrees() throws IOException {
+        // Given: two sessions whose checkout trees interleave; checkout calls load, then call, which calls send
+        final Path file = write(checkoutTree("8ae94091", 0), checkoutTree("d2c1fa07", 0), checkoutTree("8ae94091", 1000));
+
+        // When: the file is analyzed with tree reconstruction
+        final MeterLogAnalyzer analyzer = new MeterLogAnalyzer().reconstructTrees();
+        analyzer.analyze(file);
+
+        // Then: one summary per top-level operation, and no tree left in memory
+        assertEquals(3, analyzer.getTreeCount(), "should find all trees");
+        assertEquals(0, analyzer.getPendingCount(), "should discard complete trees");
+        assertEquals(0, analyzer.getOrphanCount(), "should find no orphan");
+        final List<MeterTreeAggregate> trees = analyzer.getTrees();
+        assertEquals(1, trees.size(), "should summarize only top-level operations");
+        final MeterTreeAggregate checkout = trees.get(0);
+        assertEquals("checkout", checkout.getOperation(), "should summarize the top-level operation");
+        assertEquals(3, checkout.getCount(), "should count trees of all sessions");
+        assertEquals(300_000_000, checkout.getTotalTime(), "should sum execution times");
+        assertEquals(3 * 75_000_000, checkout.getChildTime(), "should sum time of direct children");
+        assertEquals(3 * 25_000_000, checkout.getSelfTime(), "should sum time without children");
+        final Map<String, Long> critical = checkout.getCriticalTimes();
+        assertEquals(Arrays.asList("app.Service/load", "app.Service/send", "app.Service/checkout", "app.Service/call"),
+                new ArrayList<>(critical.keySet()), "should order critical path operations by time");
+        assertEquals(3 * 35_000_000L, critical.get("app.Service/load"), "should credit a whole child on the path");
+        assertEquals(3 * 12_000_000L, critical.get("app.Service/call"), "should credit gaps between grandchildren");
+        assertEquals(Arrays.asList("app.Service/checkout", "app.Service/load", "app.Service/call", "app.Service/send"),
+                checkout.getSlowestPath(), "should list the path in order of start");
+        assertEquals("TREE: app.Service/checkout; 3 trees; 100.0ms avg, 25.0ms self, 75.0ms children; "
+                        + "critical path 35% app.Service/load, 28% app.Service/send, 25% app.Service/checkout; "
+                        + "slowest 100.0ms: app.Service/checkout > app.Service/load > app.Service/call > app.Service/send",
+                checkout.readableMessage(), "readable message should summarize the trees");
+    }
+
+    @Test
+    @DisplayName("should follow the last finishing of overlapping sub-operations")
+    void shouldFollowOverlappingSubOperations() throws IOException {
+        // Given: a tree whose sub-operations run concurrently
+        final String root = "app.Service/batch#1";
+        final Path file = write(
+                terminal("8ae94091", 1, "first", root, 10, 80),
+                terminal("8ae94091", 1, "second", root, 20, 90),
+                terminal("8ae94091", 1, "batch", null, 0, 100));
+
+        // When: the file is analyzed with tree reconstruction
+        final MeterLogAnalyzer analyzer = new MeterLogAnalyzer().reconstructTrees();
+        analyzer.analyze(file);
+
+        // Then: overlapping time counts once, and the path leaves the last finishing one where it started
+        final MeterTreeAggregate batch = analyzer.getTrees().get(0);
+        assertEquals(80_000_000, batch.getChildTime(), "should count overlapping time once");
+        assertEquals(20_000_000, batch.getSelfTime(), "should keep time without children");
+        final Map<String, Long> critical = batch.getCriticalTimes();
+        assertEquals(70_000_000L, critical.get("app.Service/second"), "should credit the last finishing child");
+        assertEquals(10_000_000L, critical.get("app.Service/first"), "should credit the overlapped child until then");
+        assertEquals(20_000_000L, critical.get("app.Service/batch"), "should credit the gaps to the parent");
+    }
+
+    @Test
+    @DisplayName("should bound sub-operations waiting for their parent")
+    void shouldBoundPendingSubOperations() throws IOException {
+        // Given: sub-operations whose parent never stops, followed by a complete tree
+        final Path file = write(
+                terminal("8ae94091", 1, "load", "app.Service/lost#1", 0, 10),
+                terminal("8ae94091", 2, "load", "app.Service/lost#1", 10, 20),
+                terminal("8ae94091", 3, "load", "app.Service/lost#2", 20, 30),
+                terminal("8ae94091", 4, "load", "app.Service/lost#3", 30, 40),
+                checkoutTree("8ae94091", 100));
+
+        // When: the file is analyzed allowing four waiting sub-operations
+        final MeterLogAnalyzer analyzer = new MeterLogAnalyzer().reconstructTrees(4);
+        analyzer.analyze(file, ForkJoinPool.commonPool());
+
+        // Then: those waiting longest are discarded, and complete trees are still summarized
+        assertEquals(3, analyzer.getOrphanCount(), "should discard sub-operations waiting longest");
+        assertEquals(1, analyzer.getPendingCount(), "should keep the most recent sub-operations");
+        assertEquals(1, analyzer.getTreeCount(), "should summarize the complete tree");
+        assertEquals(1, analyzer.getTrees().get(0).getCount(), "should count the complete tree");
+        final String[] lines = report(analyzer).split("\\R");
+        assertEquals("1 trees, 3 orphans, 1 pending, 0 dropped", lines[lines.length - 1], "should summarize trees");
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.usefultoys.test.ResetMeterConfig;
+import org.usefultoys.test.ValidateCharset;
+import org.usefultoys.test.WithLocale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Unit tests for {@link MeterLoggerCache}.
+ * <p>
+ * Tests validate that message and data loggers are resolved once per category and resolved again whenever the
+ * prefixes or suffixes in {@link MeterConfig} change.
+ * <p>
+ * <b>Coverage:</b>
+ * <ul>
+ *   <li><b>Caching:</b> Same category returns the same resolved loggers</li>
+ *   <li><b>Logger Names:</b> Prefixes and suffixes are applied to message and data loggers</li>
+ *   <li><b>Invalidation:</b> Changes by {@link MeterConfig#init()} or by direct assignment resolve loggers again</li>
+ *   <li><b>Bounded Size:</b> Cache is cleared when the number of categories exceeds the limit</li>
+ * </ul>
+ */
+@DisplayName("MeterLoggerCache")
+@ValidateCharset
+@ResetMeterConfig
+@WithLocale("en")
+class MeterLoggerCacheTest {
+
+    @BeforeEach
+    void clearCache() {
+        MeterLoggerCache.clear();
+    }
+
+    @Test
+    @DisplayName("should return same loggers for same category")
+    void shouldReturnSameLoggersForSameCategory() {
+        // Given: loggers resolved for a category
+        final MeterLoggerCache.Entry first = MeterLoggerCache.get("cache.category");
+
+        // When: loggers are requested again for the same category
+        final MeterLoggerCache.Entry second = MeterLoggerCache.get("cache.category");
+
+        // Then: the cached entry is returned
+        assertSame(first, second, "should return cached entry");
+        assertEquals("cache.category", first.messageLogger.getName(), "message logger should be named after category");
+        assertEquals("cache.category", first.dataLogger.getName(), "data logger should be named after category");
+    }
+
+    @Test
+    @DisplayName("should resolve loggers again after init changes prefixes and suffixes")
+    void shouldResolveLoggersAgainAfterInitChangesPrefixesAndSuffixes() {
+        // Given: loggers resolved with default configuration
+        final MeterLoggerCache.Entry before = MeterLoggerCache.get("cache.category");
+
+        // When: prefixes and suffixes are changed by system properties and init()
+        System.setProperty(MeterConfig.PROP_MESSAGE_PREFIX, "msg.");
+        System.setProperty(MeterConfig.PROP_MESSAGE_SUFFIX, ".m");
+        System.setProperty(MeterConfig.PROP_DATA_PREFIX, "data.");
+        System.setProperty(MeterConfig.PROP_DATA_SUFFIX, ".d");
+        MeterConfig.init();
+        final MeterLoggerCache.Entry after = MeterLoggerCache.get("cache.category");
+
+        // Then: loggers are resolved with the new configuration
+        assertNotSame(before, after, "should resolve entry again");
+        assertEquals("msg.cache.category.m", after.messageLogger.getName(), "message logger should use new prefix and suffix");
+        assertEquals("data.cache.category.d", after.dataLogger.getName(), "data logger should use new prefix and suffix");
+    }
+
+    @Test
+    @DisplayName("should resolve loggers again after direct assignment of configuration")
+    void shouldResolveLoggersAgainAfterDirectAssignmentOfConfiguration() {
+        // Given: loggers resolved with default configuration
+        final MeterLoggerCache.Entry before = MeterLoggerCache.get("cache.category");
+
+        // When: the data suffix is assigned directly, without init()
+        MeterConfig.dataSuffix = ".data";
+        final MeterLoggerCache.Entry after = MeterLoggerCache.get("cache.category");
+
+        // Then: loggers are resolved with the new configuration
+        assertNotSame(before, after, "should resolve entry again");
+        assertEquals("cache.category", after.messageLogger.getName(), "message logger should be unchanged");
+        assertEquals("cache.category.data", after.dataLogger.getName(), "data logger should use new suffix");
+    }
+
+    @Test
+    @DisplayName("should clear cache when number of categories exceeds limit")
+    void shouldClearCacheWhenNumberOfCategoriesExceedsLimit() {
+        // Given: the cache filled up to its limit
+        final MeterLoggerCache.Entry first = MeterLoggerCache.get("cache.category.0");
+        for (int i = 1; i < MeterLoggerCache.MAX_CATEGORIES; i++) {
+            MeterLoggerCache.get("cache.category." + i);
+        }
+        assertSame(first, MeterLoggerCache.get("cache.category.0"), "should still cache first category at limit");
+
+        // When: one more category is resolved
+        MeterLoggerCache.get("cache.category.overflow");
+
+        // Then: previously cached categories are resolved again
+        assertNotSame(first, MeterLoggerCache.get("cache.category.0"), "should have cleared the cache");
+    }
+}
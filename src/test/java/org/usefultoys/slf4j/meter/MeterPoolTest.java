@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.usefultoys.slf4j.LoggerFactory;
+import org.usefultoys.test.ResetMeterConfig;
+import org.usefultoys.test.ValidateCharset;
+import org.usefultoys.test.ValidateCleanMeter;
+import org.usefultoys.test.WithLocale;
+
+import java.lang.ref.WeakReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link MeterPool} and meters borrowed by {@link MeterFactory#borrow(Logger)}.
+ * <p>
+ * Tests validate that borrowed meters return to the pool of the current thread after their terminal transition, are
+ * handed out again in the same state as a newly created meter, and ignore calls made after they were released.
+ * <p>
+ * <b>Coverage:</b>
+ * <ul>
+ *   <li><b>Release:</b> ok(), reject(), fail() and close() return the borrowed meter to the pool</li>
+ *   <li><b>Reuse:</b> The next borrow hands out the released instance, reverted to a new meter</li>
+ *   <li><b>Stale references:</b> References to the meter kept from its previous use are cleared on reuse</li>
+ *   <li><b>Use-after-release:</b> Lifecycle calls on a released meter are ignored and do not release it twice</li>
+ *   <li><b>Capacity:</b> Pool keeps at most {@link MeterConfig#poolCapacity} meters; zero disables reuse</li>
+ *   <li><b>Nesting:</b> Meters borrowed while others are running are distinct instances</li>
+ * </ul>
+ */
+@DisplayName("MeterPool")
+@ValidateCharset
+@ResetMeterConfig
+@WithLocale("en")
+@ValidateCleanMeter
+class MeterPoolTest {
+
+    private final Logger logger = LoggerFactory.getLogger("pool.category");
+
+    @BeforeEach
+    void clearPool() {
+        MeterPool.clear();
+    }
+
+    @Test
+    @DisplayName("should borrow meter in created state")
+    void shouldBorrowMeterInCreatedState() {
+        // When: a meter is borrowed from an empty pool
+        final Meter meter = MeterFactory.borrow(logger, "operation");
+
+        // Then: the meter is like a newly created one
+        assertEquals("pool.category", meter.getCategory(), "should use logger name as category");
+        assertEquals("operation", meter.getOperation(), "should keep operation");
+        assertTrue(meter.getPosition() > 0, "should assign position");
+        assertTrue(meter.getCreateTime() > 0, "should assign create time");
+        assertEquals(0L, meter.getStartTime(), "should not be started");
+        assertFalse(meter.isReleased(), "should not be released");
+        meter.start().ok();
+    }
+
+    @Test
+    @DisplayName("should return meter to pool after ok")
+    void shouldReturnMeterToPoolAfterOk() {
+        // Given: a borrowed and started meter
+        final Meter meter = MeterFactory.borrow(logger).start();
+        assertEquals(0, MeterPool.size(), "should not pool running meter");
+
+        // When: the meter completes successfully
+        meter.ok("path");
+
+        // Then: the meter is released to the pool, keeping its terminal state
+        assertTrue(meter.isReleased(), "should be released");
+        assertEquals(1, MeterPool.size(), "should pool released meter");
+        assertEquals("path", meter.getOkPath(), "should keep terminal state until borrowed again");
+    }
+
+    @Test
+    @DisplayName("should return meter to pool after reject, fail and close")
+    void shouldReturnMeterToPoolAfterRejectFailAndClose() {
+        // Given: borrowed meters started one at a time, with pooling disabled to force distinct instances
+        MeterConfig.poolCapacity = 0;
+        final Meter rejected = MeterFactory.borrow(logger, "reject").start().reject("rejection");
+        final Meter failed = MeterFactory.borrow(logger, "fail").start().fail("failure");
+        final Meter closed = MeterFactory.borrow(logger, "close").start();
+        closed.close();
+
+        // Then: every terminal transition releases the meter
+        assertTrue(rejected.isReleased(), "reject() should release");
+        assertTrue(failed.isReleased(), "fail() should release");
+        assertTrue(closed.isReleased(), "close() should release");
+        assertEquals(0, MeterPool.size(), "should not pool with zero capacity");
+    }
+
+    @Test
+    @DisplayName("should reuse released meter as new meter")
+    void shouldReuseReleasedMeterAsNewMeter() {
+        // Given: a released meter that had description, limit, iterations, path and context
+        final Meter first = MeterFactory.borrow(logger, "first")
+                .m("description").limitMilliseconds(10).iterations(5).ctx("key", "value")
+                .start().inc();
+        first.ok("path");
+
+        // When: another meter is borrowed on the same thread
+        final Meter second = MeterFactory.borrow(LoggerFactory.getLogger("pool.other"), "second");
+
+        // Then: the released instance is handed out again, reverted to a new meter
+        assertSame(first, second, "should reuse released instance");
+        assertFalse(second.isReleased(), "should not be released anymore");
+        assertEquals(0, MeterPool.size(), "should take meter from pool");
+        assertEquals("pool.other", second.getCategory(), "should assign new category");
+        assertEquals("second", second.getOperation(), "should assign new operation");
+        assertEquals("pool.other", second.getMessageLogger().getName(), "should assign new message logger");
+        assertNull(second.getDescription(), "should clear description");
+        assertNull(second.getOkPath(), "should clear path");
+        assertEquals(0L, second.getTimeLimit(), "should clear time limit");
+        assertEquals(0L, second.getExpectedIterations(), "should clear expected iterations");
+        assertEquals(0L, second.getCurrentIteration(), "should clear current iteration");
+        assertEquals(0L, second.getStartTime(), "should clear start time");
+        assertEquals(0L, second.getStopTime(), "should clear stop time");
+        assertTrue(second.getContext().isEmpty(), "should clear context");
+        assertTrue(second.getPosition() > 0, "should assign position");
+
+        // When/Then: the reused meter runs a full lifecycle
+        second.start().ok();
+        assertTrue(second.getStopTime() >= second.getStartTime(), "should measure reused meter");
+        assertEquals(1, MeterPool.size(), "should pool again");
+    }
+
+    @Test
+    @DisplayName("should clear references kept from previous use when reusing meter")
+    void shouldClearReferencesKeptFromPreviousUse() {
+        // Given: a reference to a borrowed meter captured while it was current, as MeterExecutors does
+        final Meter first = MeterFactory.borrow(logger, "first").start();
+        final WeakReference<Meter> captured = Meter.currentReference();
+        first.ok();
+
+        // When: the released meter is borrowed and started for another operation
+        final Meter second = MeterFactory.borrow(logger, "second").start();
+
+        // Then: the captured reference no longer reaches the reused instance
+        assertSame(first, second, "should reuse released instance");
+        assertNull(captured.get(), "should clear reference from previous use");
+        assertNotSame(captured, Meter.currentReference(), "should push a new reference");
+        assertSame(second, Meter.getCurrentInstance(), "should make reused meter current");
+        second.ok();
+    }
+
+    @Test
+    @DisplayName("should ignore calls on released meter")
+    void shouldIgnoreCallsOnReleasedMeter() {
+        // Given: a released meter
+        final Meter meter = MeterFactory.borrow(logger).start().ok();
+        final long stopTime = meter.getStopTime();
+
+        // When: the released meter is used again
+        meter.start();
+        meter.m("late description");
+        meter.ok("late");
+        meter.fail("late");
+        meter.close();
+
+        // Then: calls are ignored and the meter is not pooled twice
+        assertEquals(stopTime, meter.getStopTime(), "should keep stop time");
+        assertNull(meter.getDescription(), "should ignore description");
+        assertNull(meter.getOkPath(), "should ignore path");
+        assertNull(meter.getFailPath(), "should ignore failure");
+        assertEquals(1, MeterPool.size(), "should not release twice");
+    }
+
+    @Test
+    @DisplayName("should keep at most pool capacity meters")
+    void shouldKeepAtMostPoolCapacityMeters() {
+        // Given: a pool capacity of 2 and 4 nested borrowed meters
+        MeterConfig.poolCapacity = 2;
+        final Meter m1 = MeterFactory.borrow(logger, "1").start();
+        final Meter m2 = MeterFactory.borrow(logger, "2").start();
+        final Meter m3 = MeterFactory.borrow(logger, "3").start();
+        final Meter m4 = MeterFactory.borrow(logger, "4").start();
+
+        // When: all meters complete
+        m4.ok();
+        m3.ok();
+        m2.ok();
+        m1.ok();
+
+        // Then: only the capacity is kept
+        assertEquals(2, MeterPool.size(), "should not exceed capacity");
+    }
+
+    @Test
+    @DisplayName("should borrow distinct instances for nested meters")
+    void shouldBorrowDistinctInstancesForNestedMeters() {
+        // Given: a pooled meter
+        MeterFactory.borrow(logger).start().ok();
+
+        // When: two meters are borrowed and run nested
+        final Meter outer = MeterFactory.borrow(logger, "outer").start();
+        final Meter inner = MeterFactory.borrow(logger, "inner").start();
+
+        // Then: the instances are distinct and the inner one is current
+        assertNotSame(outer, inner, "should not hand out running meter");
+        assertSame(inner, Meter.getCurrentInstance(), "should make inner meter current");
+        inner.ok();
+        assertSame(outer, Meter.getCurrentInstance(), "should restore outer meter as current");
+        outer.ok();
+    }
+
+    @Test
+    @DisplayName("should create new meter when pooling is disabled")
+    void shouldCreateNewMeterWhenPoolingIsDisabled() {
+        // Given: pooling disabled
+        MeterConfig.poolCapacity = 0;
+        final Meter first = MeterFactory.borrow(logger).start().ok();
+
+        // When: another meter is borrowed
+        final Meter second = MeterFactory.borrow(logger);
+
+        // Then: a new instance is created
+        assertNotSame(first, second, "should create new instance");
+        second.start().ok();
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.usefultoys.slf4j.LoggerFactory;
+import org.usefultoys.test.ResetMeterConfig;
+import org.usefultoys.test.ValidateCharset;
+import org.usefultoys.test.WithLocale;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link MeterPositions}.
+ * <p>
+ * Tests validate that positions are unique per category and operation, both when taken one by one from the shared
+ * counter and when reserved in per-thread blocks configured by {@link MeterConfig#positionBlockSize}.
+ * <p>
+ * <b>Coverage:</b>
+ * <ul>
+ *   <li><b>Sequence:</b> Consecutive positions on the same thread are sequential, with or without blocks</li>
+ *   <li><b>Independence:</b> Categories and operations have independent counters</li>
+ *   <li><b>Uniqueness:</b> Positions taken concurrently by many threads never repeat</li>
+ *   <li><b>Wrap:</b> Counter wraps to 1 after {@link Long#MAX_VALUE}, also for blocks</li>
+ *   <li><b>Seeding:</b> Seeding a counter discards blocks already reserved by the thread</li>
+ *   <li><b>Identity:</b> Meters of the same category and operation share one {@link MeterIdentity}</li>
+ * </ul>
+ */
+@DisplayName("MeterPositions")
+@ValidateCharset
+@ResetMeterConfig
+@WithLocale("en")
+class MeterPositionsTest {
+
+    private static final int THREADS = 8;
+    private static final int POSITIONS_PER_THREAD = 10_000;
+
+    @Test
+    @DisplayName("should generate sequential positions without blocks")
+    void shouldGenerateSequentialPositionsWithoutBlocks() {
+        // Given: a fresh counter and no blocks
+        MeterConfig.positionBlockSize = 1;
+        MeterPositions.seed("positions.sequence", "op", 0);
+
+        // When: positions are taken
+        final long pos1 = MeterPositions.next("positions.sequence", "op");
+        final long pos2 = MeterPositions.next("positions.sequence", "op");
+
+        // Then: positions start at 1 and are sequential
+        assertEquals(1L, pos1, "should start at 1");
+        assertEquals(2L, pos2, "should increment by 1");
+    }
+
+    @Test
+    @DisplayName("should generate sequential positions within block")
+    void shouldGenerateSequentialPositionsWithinBlock() {
+        // Given: a fresh counter and blocks of 4 positions
+        MeterConfig.positionBlockSize = 4;
+        MeterPositions.seed("positions.block", null, 0);
+
+        // When: more positions than a block holds are taken by the same thread
+        final List<Long> positions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            positions.add(MeterPositions.next("positions.block", null));
+        }
+
+        // Then: positions are sequential across consecutive blocks
+        for (int i = 0; i < positions.size(); i++) {
+            assertEquals(i + 1L, positions.get(i), "should be sequential on the same thread");
+        }
+    }
+
+    @Test
+    @DisplayName("should keep independent counters per category and operation")
+    void shouldKeepIndependentCountersPerCategoryAndOperation() {
+        // Given: fresh counters for a category, for operations of it, and for another category
+        MeterPositions.seed("positions.a", null, 0);
+        MeterPositions.seed("positions.a", "x", 10);
+        MeterPositions.seed("positions.a", "y", 20);
+        MeterPositions.seed("positions.b", null, 30);
+
+        // When/Then: each counter advances independently
+        assertEquals(1L, MeterPositions.next("positions.a", null), "category without operation");
+        assertEquals(11L, MeterPositions.next("positions.a", "x"), "operation x");
+        assertEquals(21L, MeterPositions.next("positions.a", "y"), "operation y");
+        assertEquals(31L, MeterPositions.next("positions.b", null), "other category");
+        assertEquals(2L, MeterPositions.next("positions.a", null), "category without operation again");
+    }
+
+    @Test
+    @DisplayName("should generate unique positions across threads without blocks")
+    void shouldGenerateUniquePositionsAcrossThreadsWithoutBlocks() throws InterruptedException {
+        // Given: no blocks
+        MeterConfig.positionBlockSize = 1;
+
+        // When/Then: positions taken concurrently never repeat and are contiguous
+        final Set<Long> positions = collectConcurrently("positions.unique.single");
+        assertEquals(THREADS * POSITIONS_PER_THREAD, positions.size(), "should never repeat a position");
+        assertTrue(positions.contains(1L) && positions.contains((long) THREADS * POSITIONS_PER_THREAD),
+                "should not skip positions without blocks");
+    }
+
+    @Test
+    @DisplayName("should generate unique positions across threads with blocks")
+    void shouldGenerateUniquePositionsAcrossThreadsWithBlocks() throws InterruptedException {
+        // Given: blocks of 64 positions
+        MeterConfig.positionBlockSize = 64;
+
+        // When/Then: positions taken concurrently never repeat
+        final Set<Long> positions = collectConcurrently("positions.unique.block");
+        assertEquals(THREADS * POSITIONS_PER_THREAD, positions.size(), "should never repeat a position");
+    }
+
+    @Test
+    @DisplayName("should wrap to 1 after Long.MAX_VALUE with blocks")
+    void shouldWrapToOneAfterLongMaxValueWithBlocks() {
+        // Given: blocks of 64 positions and a counter close to the maximum value
+        MeterConfig.positionBlockSize = 64;
+        MeterPositions.seed("positions.wrap", null, Long.MAX_VALUE - 2);
+
+        // When: positions are taken past the maximum value
+        final long pos1 = MeterPositions.next("positions.wrap", null);
+        final long pos2 = MeterPositions.next("positions.wrap", null);
+        final long pos3 = MeterPositions.next("positions.wrap", null);
+        final long pos4 = MeterPositions.next("positions.wrap", null);
+
+        // Then: the block is truncated at the maximum value and the sequence wraps to 1
+        assertEquals(Long.MAX_VALUE - 1, pos1, "should continue from seed");
+        assertEquals(Long.MAX_VALUE, pos2, "should reach maximum value");
+        assertEquals(1L, pos3, "should wrap to 1");
+        assertEquals(2L, pos4, "should continue after wrap");
+    }
+
+    @Test
+    @DisplayName("should discard reserved block when counter is seeded")
+    void shouldDiscardReservedBlockWhenCounterIsSeeded() {
+        // Given: a block already reserved by the current thread
+        MeterConfig.positionBlockSize = 64;
+        MeterPositions.seed("positions.seed", null, 0);
+        final long reserved = MeterPositions.next("positions.seed", null);
+
+        // When: the counter is seeded
+        MeterPositions.seed("positions.seed", null, 1000);
+        final long seeded = MeterPositions.next("positions.seed", null);
+
+        // Then: the next position follows the seed, not the old block
+        assertEquals(1L, reserved, "should start at 1");
+        assertEquals(1001L, seeded, "should follow seed");
+        assertNotEquals(reserved + 1, seeded, "should not continue old block");
+    }
+
+    private static Set<Long> collectConcurrently(final String category) throws InterruptedException {
+        final List<Thread> threads = new ArrayList<>();
+        final List<long[]> results = new ArrayList<>();
+        final CountDownLatch startSignal = new CountDownLatch(1);
+        for (int t = 0; t < THREADS; t++) {
+            final long[] taken = new long[POSITIONS_PER_THREAD];
+            results.add(taken);
+            final Thread thread = new Thread(() -> {
+                try {
+                    startSignal.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < POSITIONS_PER_THREAD; i++) {
+                    taken[i] = MeterPositions.next(category, "op");
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        startSignal.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        final Set<Long> positions = new HashSet<>();
+        for (final long[] taken : results) {
+            for (final long position : taken) {
+                positions.add(position);
+            }
+        }
+        return positions;
+    }
+
+    @Test
+    @DisplayName("should keep one identity per category and operation")
+    void shouldKeepOneIdentityPerCategoryAndOperation() {
+        // Given: counters of two operations of the same category
+        final MeterIdentity identity = MeterPositions.counter("positions.identity", "op").identity;
+
+        // When: the counters are looked up again, and one of them is seeded
+        final MeterIdentity again = MeterPositions.counter("positions.identity", "op").identity;
+        final MeterIdentity other = MeterPositions.counter("positions.identity", null).identity;
+        MeterPositions.seed("positions.identity", "op", 0);
+        final MeterIdentity seeded = MeterPositions.counter("positions.identity", "op").identity;
+
+        // Then: the same operation keeps the same identity, and other operations have their own
+        assertSame(identity, again, "should share identity of the same operation");
+        assertSame(identity, seeded, "should keep identity when seeded");
+        assertNotSame(identity, other, "should not share identity of another operation");
+        assertEquals("positions.identity/op", identity.prefix, "should derive prefix");
+        assertEquals("positions.identity", other.prefix, "should derive prefix without operation");
+    }
+
+    @Test
+    @DisplayName("should share identity and readable length hint among meters of the same operation")
+    void shouldShareIdentityAmongMeters() {
+        // Given: a meter that already generated its readable message
+        final Logger logger = LoggerFactory.getLogger("positions.meter");
+        final Meter first = new Meter(logger, "op");
+        final String message = first.readableMessage();
+
+        // When: other meters of the same operation are created, directly, by template and by borrowing
+        final Meter second = new Meter(logger, "op");
+        final Meter templated = MeterFactory.template(logger, "op").create();
+        final Meter borrowed = MeterFactory.borrow(logger, "op");
+
+        // Then: all share the identity, and the first message of the next meter is sized from the previous one
+        assertSame(first.identity(), second.identity(), "should share identity of new meter");
+        assertSame(first.identity(), templated.identity(), "should share identity of template meter");
+        assertSame(first.identity(), borrowed.identity(), "should share identity of borrowed meter");
+        assertTrue(second.identity().readableCapacity() > message.length(), "should size builder from previous meter");
+        assertNotSame(first.identity(), new Meter(logger, "other").identity(), "should not share identity of another operation");
+        borrowed.start().ok();
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.usefultoys.slf4j.internal.TestTimeSource;
+import org.usefultoys.slf4j.utils.ConfigParser;
+import org.usefultoys.slf4jtestmock.Slf4jMock;
+import org.usefultoys.slf4jtestmock.WithMockLogger;
+import org.usefultoys.test.ResetMeterConfig;
+import org.usefultoys.test.ValidateCharset;
+import org.usefultoys.test.ValidateCleanMeter;
+import org.usefultoys.test.WithLocale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.slf4j.impl.MockLoggerEvent.Level.DEBUG;
+import static org.slf4j.impl.MockLoggerEvent.Level.ERROR;
+import static org.slf4j.impl.MockLoggerEvent.Level.INFO;
+import static org.slf4j.impl.MockLoggerEvent.Level.TRACE;
+import static org.slf4j.impl.MockLoggerEvent.Level.WARN;
+import static org.usefultoys.slf4j.meter.Markers.DATA_FAIL;
+import static org.usefultoys.slf4j.meter.Markers.DATA_OK;
+import static org.usefultoys.slf4j.meter.Markers.DATA_SLOW_OK;
+import static org.usefultoys.slf4j.meter.Markers.DATA_START;
+import static org.usefultoys.slf4j.meter.Markers.MSG_FAIL;
+import static org.usefultoys.slf4j.meter.Markers.MSG_OK;
+import static org.usefultoys.slf4j.meter.Markers.MSG_SLOW_OK;
+import static org.usefultoys.slf4j.meter.Markers.MSG_START;
+import static org.usefultoys.slf4j.meter.MeterLifeCycleTestHelper.assertLogs;
+import static org.usefultoys.slf4j.meter.MeterLifeCycleTestHelper.event;
+import static org.usefultoys.slf4j.meter.MeterLifeCycleTestHelper.eventWithTrowable;
+
+/**
+ * Unit tests for {@link MeterSampler}.
+ * <p>
+ * Tests validate that the rules of {@link MeterConfig#samplingRules} suppress messages of fast successful
+ * operations only, that the most specific rule applies, and that suppressed executions are reported by the next
+ * message logged under the same rule.
+ * <p>
+ * <b>Coverage:</b>
+ * <ul>
+ *   <li><b>No rules:</b> Every execution is logged</li>
+ *   <li><b>1-in-N:</b> The first of every N successful executions is logged</li>
+ *   <li><b>Rate limit:</b> At most K successful executions per second, refilled over time</li>
+ *   <li><b>Always logged:</b> Slow, rejected and failed executions are never suppressed</li>
+ *   <li><b>Matching:</b> Operation rules and longer prefixes win; {@code all} overrides broader rules</li>
+ *   <li><b>Parsing:</b> Invalid rules are ignored and reported</li>
+ *   <li><b>Messages:</b> Suppressed messages are not logged and their count appears in the next message</li>
+ * </ul>
+ */
+@DisplayName("MeterSampler")
+@ValidateCharset
+@ResetMeterConfig
+@WithLocale("en")
+@WithMockLogger
+@ValidateCleanMeter
+class MeterSamplerTest {
+
+    @Slf4jMock
+    private Logger logger;
+    private TestTimeSource timeSource;
+
+    @BeforeEach
+    void setUpTimeSource() {
+        timeSource = new TestTimeSource(TestTimeSource.DAY1);
+    }
+
+    private Meter stoppedMeter(final String operation) {
+        final Meter meter = new Meter(logger, operation).withTimeSource(timeSource);
+        meter.startTime = timeSource.nanoTime();
+        meter.stopTime = timeSource.nanoTime();
+        return meter;
+    }
+
+    private int admitted(final String operation, final int executions) {
+        int count = 0;
+        for (int i = 0; i < executions; i++) {
+            if (MeterSampler.admit(stoppedMeter(operation), true)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    @DisplayName("should admit every execution without rules")
+    void shouldAdmitEveryExecutionWithoutRules() {
+        // Given: no sampling rules
+        MeterConfig.samplingRules = "";
+
+        // When: many executions stop
+        final int count = admitted("op", 100);
+
+        // Then: all are admitted
+        assertEquals(100, count, "should admit all executions");
+    }
+
+    @Test
+    @DisplayName("should admit one in every N executions")
+    void shouldAdmitOneInEveryNExecutions() {
+        // Given: a 1-in-3 rule for the category
+        MeterConfig.samplingRules = logger.getName() + "=1/3";
+
+        // When: ten executions stop
+        final int count = admitted("op", 10);
+        final Meter next = stoppedMeter("op");
+        final boolean admitted = MeterSampler.admit(next, true);
+
+        // Then: executions 1, 4, 7 and 10 were admitted, and the eleventh is suppressed
+        assertEquals(4, count, "should admit first of every three executions");
+        assertFalse(admitted, "should suppress eleventh execution");
+    }
+
+    @Test
+    @DisplayName("should report suppressed executions in next admitted execution")
+    void shouldReportSuppressedExecutionsInNextAdmittedExecution() {
+        // Given: a 1-in-3 rule for the category, and three executions
+        MeterConfig.samplingRules = logger.getName() + "=1/3";
+        admitted("op", 3);
+
+        // When: the next execution is admitted
+        final Meter meter = stoppedMeter("op");
+        assertTrue(MeterSampler.admit(meter, true), "should admit fourth execution");
+
+        // Then: it reports the two suppressed executions, and the following admitted one reports none
+        assertEquals(2, meter.getSuppressedCount(), "should report suppressed executions");
+        admitted("op", 2);
+        final Meter following = stoppedMeter("op");
+        assertTrue(MeterSampler.admit(following, true), "should admit seventh execution");
+        assertEquals(2, following.getSuppressedCount(), "should report only executions suppressed since previous");
+    }
+
+    @Test
+    @DisplayName("should admit at most K executions per second")
+    void shouldAdmitAtMostKExecutionsPerSecond() {
+        // Given: a rate limit of 4 per second
+        MeterConfig.samplingRules = logger.getName() + "=4/s";
+
+        // When/Then: a burst admits up to the limit
+        assertEquals(4, admitted("op", 10), "should admit burst up to the limit");
+
+        // When/Then: half a second later, half the bucket is refilled
+        timeSource.advanceMiliseconds(500);
+        assertEquals(2, admitted("op", 10), "should admit refilled tokens");
+
+        // When/Then: after a long pause, the bucket is full but not beyond its capacity
+        timeSource.advanceMiliseconds(10_000);
+        assertEquals(4, admitted("op", 10), "should not accumulate beyond capacity");
+    }
+
+    @Test
+    @DisplayName("should always admit executions that are not samplable")
+    void shouldAlwaysAdmitExecutionsThatAreNotSamplable() {
+        // Given: a rule that suppresses every successful execution, and suppressed executions
+        MeterConfig.samplingRules = logger.getName() + "=0/s";
+        assertEquals(0, admitted("op", 5), "should suppress every successful execution");
+
+        // When: an execution that is always logged stops
+        final Meter meter = stoppedMeter("op");
+        final boolean admitted = MeterSampler.admit(meter, false);
+
+        // Then: it is admitted and reports the suppressed executions
+        assertTrue(admitted, "should admit execution");
+        assertEquals(5, meter.getSuppressedCount(), "should report suppressed executions");
+    }
+
+    @Test
+    @DisplayName("should apply most specific rule")
+    void shouldApplyMostSpecificRule() {
+        // Given: a rule that suppresses the category, one for its longer prefix, and one for an operation
+        final String category = logger.getName();
+        MeterConfig.samplingRules = category.substring(0, 3) + "=0/s, " + category + "=1/2, " + category + "/db=all";
+
+        // When/Then: operations starting with "db" use the operation rule
+        assertEquals(10, admitted("dbRead", 10), "should admit all db operations");
+        // When/Then: other operations use the longest category rule
+        assertEquals(5, admitted("http", 10), "should admit half of other operations");
+    }
+
+    @Test
+    @DisplayName("should ignore and report invalid rules")
+    void shouldIgnoreAndReportInvalidRules() {
+        // Given: invalid rules next to a valid one
+        ConfigParser.clearInitializationErrors();
+        MeterConfig.samplingRules = "a=2/3, b, =1/2, c=x/s, d=1/0, e=1/h, " + logger.getName() + "=1/2";
+
+        // When: executions stop
+        final int count = admitted("op", 10);
+
+        // Then: the valid rule applies and each invalid rule is reported
+        assertEquals(5, count, "should apply valid rule");
+        assertEquals(6, ConfigParser.initializationErrors.size(), "should report each invalid rule");
+        assertTrue(ConfigParser.initializationErrors.get(0).contains("'" + MeterConfig.PROP_SAMPLING + "': 'a=2/3'"));
+        ConfigParser.clearInitializationErrors();
+    }
+
+    @Test
+    @DisplayName("should not log suppressed executions and report them in next message")
+    void shouldNotLogSuppressedExecutionsAndReportThemInNextMessage() {
+        // Given: a 1-in-3 rule for the category
+        MeterConfig.samplingRules = logger.getName() + "=1/3";
+        final IllegalStateException failure = new IllegalStateException("broken");
+
+        // When: three fast executions, one slow and one failed execution stop
+        new Meter(logger, "op").start().ok();
+        new Meter(logger, "op").start().ok();
+        new Meter(logger, "op").start().ok();
+        final Meter slow = new Meter(logger, "op").withTimeSource(timeSource).limitMilliseconds(1).start();
+        timeSource.advanceMiliseconds(10);
+        slow.ok();
+        new Meter(logger, "op").start().fail(failure);
+
+        // Then: suppressed executions log only their start, and the slow one reports two suppressed executions
+        assertLogs(logger, TRACE,
+                event(DEBUG, MSG_START), event(TRACE, DATA_START), event(INFO, MSG_OK, "op"), event(TRACE, DATA_OK, "op"),
+                event(DEBUG, MSG_START), event(TRACE, DATA_START),
+                event(DEBUG, MSG_START), event(TRACE, DATA_START),
+                event(DEBUG, MSG_START), event(TRACE, DATA_START), event(WARN, MSG_SLOW_OK, "2 suppressed"), event(TRACE, DATA_SLOW_OK, "sc:2"),
+                event(DEBUG, MSG_START), event(TRACE, DATA_START), eventWithTrowable(ERROR, MSG_FAIL, "op", IllegalStateException.class, "broken", "shouldNotLogSuppressedExecutionsAndReportThemInNextMessage"), event(TRACE, DATA_FAIL, "op"));
+    }
+}
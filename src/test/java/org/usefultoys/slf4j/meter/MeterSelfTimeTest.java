@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.usefultoys.slf4jtestmock.AssertLogger;
+import org.usefultoys.slf4jtestmock.Slf4jMock;
+import org.usefultoys.slf4jtestmock.WithMockLogger;
+import org.usefultoys.test.ResetMeterConfig;
+import org.usefultoys.test.ValidateCharset;
+import org.usefultoys.test.ValidateCleanMeter;
+import org.usefultoys.test.WithLocale;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.slf4j.impl.MockLoggerEvent.Level.INFO;
+import static org.slf4j.impl.MockLoggerEvent.Level.TRACE;
+import static org.usefultoys.slf4j.meter.Markers.DATA_OK;
+import static org.usefultoys.slf4j.meter.Markers.MSG_OK;
+
+/**
+ * Unit tests for the self time and sub-operation time that sub-operations created by {@link Meter#sub(String)} add to
+ * their parent.
+ * <p>
+ * Tests validate that each sub-operation adds its execution time to its parent when it stops, and that the parent
+ * reports its self time and the time spent in sub-operations.
+ * <p>
+ * <b>Coverage:</b>
+ * <ul>
+ *   <li><b>Accounting:</b> Count and execution time of sub-operations, and the remaining self time</li>
+ *   <li><b>Messages:</b> Readable and data messages of the parent report self time and sub-operation time</li>
+ *   <li><b>Current Instance:</b> Sub-operations of the current instance of the thread are counted</li>
+ *   <li><b>Concurrency:</b> Sub-operations stopping concurrently on a ForkJoinPool are all counted</li>
+ *   <li><b>Scope:</b> Only direct sub-operations that stop while the parent still runs the same operation are counted</li>
+ * </ul>
+ */
+@DisplayName("Meter self time")
+@ValidateCharset
+@ResetMeterConfig
+@WithLocale("en")
+@WithMockLogger
+@ValidateCleanMeter
+class MeterSelfTimeTest {
+
+    @Slf4jMock
+    private Logger logger;
+
+    @Test
+    @DisplayName("should report self time and time spent in sub-operations")
+    void shouldReportSelfTimeAndSubOperationTime() throws InterruptedException {
+        // Given: a started meter
+        final Meter parent = new Meter(logger, "job").start();
+
+        // When: two sub-operations run, then the parent completes
+        final Meter first = parent.sub("load").start();
+        Thread.sleep(5);
+        first.ok();
+        final Meter second = parent.sub("save").start();
+        Thread.sleep(5);
+        second.reject("conflict");
+        parent.ok();
+
+        // Then: the parent accounts the execution time of both sub-operations
+        final long subTime = first.getExecutionTime() + second.getExecutionTime();
+        assertEquals(2, parent.getSubCount(), "should count sub-operations");
+        assertEquals(subTime, parent.getSubTime(), "should sum execution time of sub-operations");
+        assertEquals(parent.getExecutionTime() - subTime, parent.getSelfTime(), "self time should exclude sub-operations");
+        AssertLogger.assertEventCount(logger, 12);
+        AssertLogger.assertEvent(logger, 10, INFO, MSG_OK, " self, ", " in 2 sub-operations");
+        AssertLogger.assertEvent(logger, 11, TRACE, DATA_OK, "so:[2," + subTime + "]");
+    }
+
+    @Test
+    @DisplayName("should not report self time without sub-operations")
+    void shouldNotReportSelfTimeWithoutSubOperations() {
+        // Given: a started meter
+        final Meter meter = new Meter(logger, "job").start();
+
+        // When: it completes without sub-operations
+        meter.ok();
+
+        // Then: its whole execution time is self time, and messages report no sub-operations
+        assertEquals(0, meter.getSubCount(), "should count no sub-operation");
+        assertEquals(meter.getExecutionTime(), meter.getSelfTime(), "whole execution time should be self time");
+        AssertLogger.assertEventNot(logger, 2, INFO, "sub-operations");
+        AssertLogger.assertEventNot(logger, 3, TRACE, "so:");
+    }
+
+    @Test
+    @DisplayName("should count sub-operations of the current instance")
+    void shouldCountSubOperationsOfCurrentInstance() {
+        // Given: a started meter, current on the thread
+        final Meter parent = new Meter(logger, "job").start();
+
+        // When: code deeper in the call stack creates a sub-operation from the current instance
+        Meter.getCurrentInstance().sub("step").start().ok();
+        parent.ok();
+
+        // Then: the parent counted the sub-operation
+        assertEquals(1, parent.getSubCount(), "should count the sub-operation of the current instance");
+    }
+
+    @Test
+    @DisplayName("should count only direct sub-operations")
+    void shouldCountOnlyDirectSubOperations() {
+        // Given: a started meter with a sub-operation that has a sub-operation of its own
+        final Meter parent = new Meter(logger, "job").start();
+        final Meter child = parent.sub("task").start();
+
+        // When: the nested sub-operation and then its parents complete
+        final Meter grandchild = child.sub("step").start().ok();
+        child.ok();
+        parent.ok();
+
+        // Then: each meter accounts only for its direct sub-operations
+        assertEquals(1, child.getSubCount(), "child should count the nested sub-operation");
+        assertEquals(grandchild.getExecutionTime(), child.getSubTime(), "child should sum the nested sub-operation");
+        assertEquals(1, parent.getSubCount(), "parent should count only the direct sub-operation");
+        assertEquals(child.getExecutionTime(), parent.getSubTime(), "parent should sum only the direct sub-operation");
+    }
+
+    @Test
+    @DisplayName("should count sub-operations stopping concurrently on a fork-join pool")
+    void shouldCountSubOperationsStoppingConcurrentlyOnForkJoinPool() throws InterruptedException {
+        // Given: a started meter, collecting so that its sub-operations log nothing, and a fork-join pool
+        final Meter parent = new Meter(logger, "job").collecting().start();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        // When: a recursive task fans out into one sub-operation per leaf
+        try {
+            pool.invoke(new Split(parent, 0, 1000));
+        } finally {
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS), "pool should terminate");
+        }
+        parent.ok();
+
+        // Then: every sub-operation was counted, as by collecting
+        assertEquals(1000, parent.getSubCount(), "should count every sub-operation");
+        assertEquals(parent.getChildTotalTime(), parent.getSubTime(), "should sum the same time as collecting");
+    }
+
+    private static final class Split extends RecursiveAction {
+        private final Meter parent;
+        private final int from;
+        private final int to;
+
+        Split(final Meter parent, final int from, final int to) {
+            this.parent = parent;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                parent.sub("leaf").start().ok();
+                return;
+            }
+            final int middle = (from + to) / 2;
+            invokeAll(new Split(parent, from, middle), new Split(parent, middle, to));
+        }
+    }
+
+    @Test
+    @DisplayName("should not add to a borrowed parent recycled for another operation")
+    void shouldNotAddToRecycledParent() {
+        // Given: a sub-operation that outlives its borrowed parent
+        final Meter parent = MeterFactory.borrow(logger, "job").start();
+        final Meter child = parent.sub("task").start();
+        parent.ok();
+
+        // When: the parent is recycled for another operation before the sub-operation stops
+        final Meter next = MeterFactory.borrow(logger, "job").start();
+        child.ok();
+        next.ok();
+
+        // Then: the other operation counted no sub-operation
+        assertSame(parent, next, "should recycle the released parent");
+        assertEquals(0, next.getSubCount(), "should not count the sub-operation of the previous operation");
+    }
+
+    @Test
+    @DisplayName("should not add to a borrowed parent recycled for an operation at the same position")
+    void shouldNotAddToParentRecycledForOperationAtSamePosition() {
+        // Given: a sub-operation that outlives its borrowed parent, the first meter of its operation
+        final Meter parent = MeterFactory.borrow(logger, "recycled-first").start();
+        final Meter child = parent.sub("task").start();
+        parent.ok();
+
+        // When: the parent is recycled for the first meter of another operation before the sub-operation stops
+        final Meter next = MeterFactory.borrow(logger, "recycled-second").start();
+        child.ok();
+        next.ok();
+
+        // Then: the other operation, although at the same position, counted no sub-operation
+        assertSame(parent, next, "should recycle the released parent");
+        assertEquals(1, next.getPosition(), "should reach the same position as the previous operation");
+        assertEquals(0, next.getSubCount(), "should not count the sub-operation of the previous operation");
+        assertEquals(0, next.getSubTime(), "should not sum the sub-operation of the previous operation");
+    }
+
+    @Test
+    @DisplayName("should not add a sub-operation that stops after its parent")
+    void shouldNotAddSubOperationStoppingAfterParent() {
+        // Given: a started meter with a running sub-operation
+        final Meter parent = new Meter(logger, "job").start();
+        final Meter child = parent.sub("task").start();
+
+        // When: the parent completes before the sub-operation
+        parent.ok();
+        final long selfTime = parent.getSelfTime();
+        child.ok();
+
+        // Then: the parent accounts for no sub-operation, as already reported by its terminal messages
+        assertEquals(0, parent.getSubCount(), "should not count the sub-operation");
+        assertEquals(0, parent.getSubTime(), "should not sum the sub-operation");
+        assertEquals(selfTime, parent.getSelfTime(), "self time should not change after the parent stopped");
+    }
+}
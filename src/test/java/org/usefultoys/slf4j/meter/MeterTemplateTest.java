@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 Daniel Felix Ferber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.usefultoys.slf4j.meter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.usefultoys.slf4j.LoggerFactory;
+import org.usefultoys.slf4j.Session;
+import org.usefultoys.slf4j.SessionConfig;
+import org.usefultoys.test.ResetMeterConfig;
+import org.usefultoys.test.ResetSessionConfig;
+import org.usefultoys.test.ValidateCharset;
+import org.usefultoys.test.ValidateCleanMeter;
+import org.usefultoys.test.WithLocale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link MeterTemplate}.
+ * <p>
+ * Tests validate that meters created from a template are equivalent to meters created by the constructor, and that
+ * the pieces resolved by the template follow changes to the configuration.
+ * <p>
+ * <b>Coverage:</b>
+ * <ul>
+ *   <li><b>Creation:</b> create(), start() and borrow() produce meters for the template's category and operation</li>
+ *   <li><b>Positions:</b> Template and constructor share the same position sequence</li>
+ *   <li><b>Time Limit:</b> limitMilliseconds() returns a new template whose meters carry the limit</li>
+ *   <li><b>Configuration:</b> Loggers and session UUID follow changes to prefixes, suffixes and UUID size</li>
+ * </ul>
+ */
+@DisplayName("MeterTemplate")
+@ValidateCharset
+@ResetMeterConfig
+@ResetSessionConfig
+@WithLocale("en")
+@ValidateCleanMeter
+class MeterTemplateTest {
+
+    private final Logger logger = LoggerFactory.getLogger("template.category");
+
+    @BeforeEach
+    void clearPool() {
+        MeterPool.clear();
+    }
+
+    @Test
+    @DisplayName("should create meter not yet started")
+    void shouldCreateMeterNotYetStarted() {
+        // Given: a template for an operation
+        final MeterTemplate template = MeterFactory.template(logger, "operation");
+
+        // When: a meter is created
+        final Meter meter = template.create();
+
+        // Then: the meter is like one created by the constructor
+        assertEquals("template.category", meter.getCategory(), "should use logger name as category");
+        assertEquals("operation", meter.getOperation(), "should use template operation");
+        assertNull(meter.getParent(), "should have no parent");
+        assertEquals(Session.shortSessionUuid(), meter.getSessionUuid(), "should use short session UUID");
+        assertEquals("template.category", meter.getMessageLogger().getName(), "should use message logger");
+        assertEquals("template.category", meter.getDataLogger().getName(), "should use data logger");
+        assertTrue(meter.getCreateTime() > 0, "should assign create time");
+        assertEquals(0L, meter.getStartTime(), "should not be started");
+        assertEquals(0L, meter.getTimeLimit(), "should have no time limit");
+        meter.start().ok();
+    }
+
+    @Test
+    @DisplayName("should start meter")
+    void shouldStartMeter() {
+        // Given: a template for the category
+        final MeterTemplate template = MeterFactory.template(logger);
+
+        // When: a meter is started
+        final Meter meter = template.start();
+
+        // Then: the meter is started and current
+        assertTrue(meter.getStartTime() > 0, "should be started");
+        assertNull(meter.getOperation(), "should have no operation");
+        assertSame(meter, Meter.getCurrentInstance(), "should be current instance");
+        meter.ok();
+    }
+
+    @Test
+    @DisplayName("should share position sequence with constructor")
+    void shouldSharePositionSequenceWithConstructor() {
+        // Given: a template and a known position counter
+        MeterPositions.seed("template.category", "shared", 0);
+        final MeterTemplate template = MeterFactory.template(logger, "shared");
+
+        // When: meters are created alternately by template and constructor
+        final Meter m1 = template.create();
+        final Meter m2 = new Meter(logger, "shared");
+        final Meter m3 = template.create();
+
+        // Then: positions follow a single sequence
+        assertEquals(1L, m1.getPosition(), "first position");
+        assertEquals(2L, m2.getPosition(), "second position");
+        assertEquals(3L, m3.getPosition(), "third position");
+    }
+
+    @Test
+    @DisplayName("should assign time limit from template")
+    void shouldAssignTimeLimitFromTemplate() {
+        // Given: a template and a derived template with a time limit
+        final MeterTemplate template = MeterFactory.template(logger, "limited");
+        final MeterTemplate limited = template.limitMilliseconds(200);
+
+        // When: meters are created from both
+        final Meter plain = template.create();
+        final Meter meter = limited.create();
+
+        // Then: only meters from the derived template carry the limit
+        assertEquals(0L, plain.getTimeLimit(), "should not change original template");
+        assertEquals(200L * 1000 * 1000, meter.getTimeLimit(), "should assign limit in nanoseconds");
+        assertEquals(200L * 1000 * 1000, limited.getTimeLimit(), "should keep limit in nanoseconds");
+        assertEquals("limited", meter.getOperation(), "should keep operation");
+    }
+
+    @Test
+    @DisplayName("should ignore non-positive time limit")
+    void shouldIgnoreNonPositiveTimeLimit() {
+        // Given: a template
+        final MeterTemplate template = MeterFactory.template(logger, "invalid");
+
+        // When: a non-positive time limit is requested
+        final MeterTemplate result = template.limitMilliseconds(0);
+
+        // Then: the template is returned unchanged
+        assertSame(template, result, "should return same template");
+    }
+
+    @Test
+    @DisplayName("should borrow meter with template time limit")
+    void shouldBorrowMeterWithTemplateTimeLimit() {
+        // Given: a released meter in the pool and a template with a time limit
+        MeterFactory.borrow(logger).start().ok();
+        final MeterTemplate template = MeterFactory.template(logger, "borrowed").limitMilliseconds(50);
+
+        // When: a meter is borrowed from the template
+        final Meter meter = template.borrow();
+
+        // Then: the pooled meter is reused for the template's operation
+        assertEquals(0, MeterPool.size(), "should take meter from pool");
+        assertEquals("borrowed", meter.getOperation(), "should use template operation");
+        assertEquals(50L * 1000 * 1000, meter.getTimeLimit(), "should use template time limit");
+        meter.start().ok();
+        assertEquals(1, MeterPool.size(), "should return meter to pool");
+    }
+
+    @Test
+    @DisplayName("should resolve loggers again after configuration changes")
+    void shouldResolveLoggersAgainAfterConfigurationChanges() {
+        // Given: a template resolved with default configuration
+        final MeterTemplate template = MeterFactory.template(logger, "config");
+
+        // When: prefixes and suffixes change
+        MeterConfig.messagePrefix = "msg.";
+        MeterConfig.dataSuffix = ".data";
+        final Meter meter = template.create();
+
+        // Then: the meter uses loggers resolved with the new configuration
+        assertEquals("msg.template.category", meter.getMessageLogger().getName(), "should apply message prefix");
+        assertEquals("template.category.data", meter.getDataLogger().getName(), "should apply data suffix");
+    }
+
+    @Test
+    @DisplayName("should resolve session UUID again after UUID size changes")
+    void shouldResolveSessionUuidAgainAfterUuidSizeChanges() {
+        // Given: a template resolved with default UUID size
+        final MeterTemplate template = MeterFactory.template(logger, "uuid");
+
+        // When: the UUID size changes
+        SessionConfig.uuidSize = 8;
+        final Meter meter = template.create();
+
+        // Then: the meter uses the short UUID for the new size
+        assertEquals(8, meter.getSessionUuid().length(), "should apply new UUID size");
+        assertEquals(Session.shortSessionUuid(), meter.getSessionUuid(), "should use short session UUID");
+    }
+}
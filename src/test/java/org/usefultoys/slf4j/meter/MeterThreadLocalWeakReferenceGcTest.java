@@ -21,6 +21,7 @@ import org.slf4j.Logger;
 import org.slf4j.impl.MockLogger;
 import org.slf4j.impl.MockLoggerEvent;
 import org.usefultoys.slf4j.LoggerFactory;
+import org.usefultoys.test.ResetMeterConfig;
 import org.usefultoys.test.ValidateCleanMeter;
 
 import java.lang.ref.WeakReference;
@@ -60,6 +61,7 @@ import static org.junit.jupiter.api.Assumptions.assumeTrue;
  *
  * @author Daniel Felix Ferber
  */
+@ResetMeterConfig
 @ValidateCleanMeter
 @DisplayName("Diagnostic: WeakReference in Meter ThreadLocal loses the started Meter on GC")
 class MeterThreadLocalWeakReferenceGcTest {
@@ -193,7 +195,9 @@ class MeterThreadLocalWeakReferenceGcTest {
      * </ol>
      * This test proves that the current {@code WeakReference}-based design satisfies all three, and
      * therefore that removing the {@code WeakReference} (which would pin the chain in a pooled thread
-     * and also prevent {@code finalize()} from ever logging) must NOT be done under this requirement.
+     * and also prevent the leak tracker from ever logging) must NOT be done under this requirement.
+     * The warning requires leak tracking, which is opt-in, to be enabled for the Meter
+     * (see {@link MeterConfig#leakTrackingSample}).
      */
     @Test
     @DisplayName("REQUIREMENT: a forgotten Meter is reclaimed (no leak), logs a warning, and the stack self-heals")
@@ -204,6 +208,7 @@ class MeterThreadLocalWeakReferenceGcTest {
         final MockLogger messageLogger = (MockLogger) LoggerFactory.getLogger(
                 MeterConfig.messagePrefix + CATEGORY + MeterConfig.messageSuffix);
         messageLogger.clearEvents();
+        MeterConfig.leakTrackingSample = 1;
 
         // Start a Meter and "forget" it: keep NO strong reference. A WeakReference lets us observe
         // whether it becomes collectable without itself preventing collection.
@@ -211,16 +216,16 @@ class MeterThreadLocalWeakReferenceGcTest {
         assertEquals(CATEGORY, Meter.getCurrentInstance().getCategory(),
                 "Meter must be active immediately after start()");
 
-        // Drive GC + finalization until the Meter is reclaimed AND its finalize() warning is logged.
-        final boolean reclaimedAndWarned = driveReclamationAndFinalization(tracker, messageLogger);
-        assumeTrue(reclaimedAndWarned, "Could not trigger GC/finalization in this environment; skipping");
+        // Drive GC until the Meter is reclaimed AND the leak tracker warning is logged.
+        final boolean reclaimedAndWarned = driveReclamationAndLeakReport(tracker, messageLogger);
+        assumeTrue(reclaimedAndWarned, "Could not trigger GC in this environment; skipping");
 
         // (1) NO MEMORY LEAK: nothing retained the forgotten Meter, so the GC reclaimed it.
         assertNull(tracker.get(),
                 "A forgotten started Meter must be garbage-collectable: the WeakReference design "
                         + "guarantees no unbounded retention in a pooled thread — i.e. no memory leak.");
 
-        // (2) INCONSISTENCY LOGGED: finalize() reported the never-stopped Meter.
+        // (2) INCONSISTENCY LOGGED: the leak tracker reported the never-stopped Meter.
         assertTrue(hasNeverStoppedWarning(messageLogger),
                 "Reclaiming a started-but-never-stopped Meter must log an inconsistency warning "
                         + "('Meter never stopped...') so the misuse is visible.");
@@ -231,21 +236,20 @@ class MeterThreadLocalWeakReferenceGcTest {
     }
 
     /**
-     * Drives garbage collection and finalization until the tracked Meter has been reclaimed AND its
-     * {@code finalize()} warning has been logged, or until the time budget expires.
+     * Drives garbage collection until the tracked Meter has been reclaimed AND the leak tracker
+     * warning has been logged, or until the time budget expires.
      *
      * @return {@code true} if both reclamation and the warning were observed in time; {@code false}
-     *         if the collector/finalizer could not be driven (the test should then be skipped).
+     *         if the collector could not be driven (the test should then be skipped).
      */
-    @SuppressWarnings({"removal", "deprecation"})
-    private static boolean driveReclamationAndFinalization(
+    private static boolean driveReclamationAndLeakReport(
             final WeakReference<Meter> tracker, final MockLogger messageLogger) {
         final long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
         while (System.nanoTime() < deadlineNanos) {
             System.gc();
-            System.runFinalization();
             final byte[] pressure = new byte[8 * 1024 * 1024];
             blackhole += pressure.length;
+            MeterLeakTracker.drain();
             if (tracker.get() == null && hasNeverStoppedWarning(messageLogger)) {
                 return true;
             }
@@ -254,8 +258,8 @@ class MeterThreadLocalWeakReferenceGcTest {
     }
 
     /**
-     * Defensively scans the logger for the finalize() inconsistency warning. Tolerates concurrent
-     * writes from the finalizer thread by snapshotting and retrying on the next poll iteration.
+     * Defensively scans the logger for the leak tracker inconsistency warning. Tolerates concurrent
+     * writes from the reporter thread by snapshotting and retrying on the next poll iteration.
      */
     private static boolean hasNeverStoppedWarning(final MockLogger messageLogger) {
         try {
@@ -268,7 +272,7 @@ class MeterThreadLocalWeakReferenceGcTest {
                 }
             }
         } catch (final ConcurrentModificationException ignored) {
-            // The finalizer thread is appending concurrently; treat as "not yet" and retry.
+            // The reporter thread is appending concurrently; treat as "not yet" and retry.
         }
         return false;
     }
@@ -58,7 +58,7 @@ import static org.usefultoys.slf4jtestmock.AssertLogger.assertNoEvents;
  *   <li><b>Progress Precondition:</b> Validates meter is started before progress reporting</li>
  *   <li><b>Path Arguments:</b> Validates path arguments are not null</li>
  *   <li><b>Path Precondition:</b> Validates meter is started and not stopped before setting path</li>
- *   <li><b>Finalization:</b> Validates finalization checks for started-but-not-stopped meters</li>
+ *   <li><b>Leak Tracking:</b> Validates the error logged for started-but-not-stopped meters reclaimed by the GC</li>
  *   <li><b>Utility Methods:</b> Validates direct logging methods for invalid state, arguments, and transitions</li>
  *   <li><b>Error Logging:</b> Validates proper error logging with markers and stack traces</li>
  * </ul>
@@ -831,59 +831,18 @@ public class MeterValidatorTest {
     }
 
     @Nested
-    @DisplayName("Finalization Tests")
-    class FinalizationTests {
+    @DisplayName("Leak Tracking Tests")
+    class LeakTrackingTests {
 
         @Test
-        @DisplayName("should log error when meter is not stopped during finalization")
-        void shouldValidateFinalizeWhenNotStopped() {
-            // Given: meter has been started but not stopped (start time = 1L, stop time = 0L) and has a valid category
-            when(meter.getStartTime()).thenReturn(1L);
-            when(meter.getStopTime()).thenReturn(0L);
-            when(meter.getCategory()).thenReturn("test-category");
-            // When: validateFinalize is called
-            // Then: should log finalization error
-            MeterValidator.validateFinalize(meter);
+        @DisplayName("should log error for meter reclaimed without being stopped")
+        void shouldLogNeverStopped() {
+            // Given: the logger and full ID captured when a meter started being tracked
+            // When: logNeverStopped is called
+            // Then: should log error with the full ID
+            MeterValidator.logNeverStopped(logger, "test-id");
             assertEvent(logger, 0, MockLoggerEvent.Level.ERROR, Markers.INVALID_ARGUMENT, "Meter never stopped, must remember to call ok/reject/fail/success() on each started one; id=test-id");
         }
-
-        @Test
-        @DisplayName("should not log error when meter is already stopped")
-        void shouldValidateFinalizeWhenAlreadyStopped() {
-            // Given: meter has been started and stopped (start time = 1L, stop time = 2L)
-            when(meter.getStartTime()).thenReturn(1L);
-            when(meter.getStopTime()).thenReturn(2L);
-            // When: validateFinalize is called
-            // Then: should not log any events
-            MeterValidator.validateFinalize(meter);
-            assertNoEvents(logger);
-        }
-
-        @Test
-        @DisplayName("should not log error when meter uses unknown logger name")
-        void shouldValidateFinalizeWhenUnknownLogger() {
-            // Given: meter has been started but not stopped and uses unknown logger name
-            when(meter.getStartTime()).thenReturn(1L);
-            when(meter.getStopTime()).thenReturn(0L);
-            when(meter.getCategory()).thenReturn(Meter.UNKNOWN_LOGGER_NAME);
-            // When: validateFinalize is called
-            // Then: should not log any events (unknown logger is acceptable)
-            MeterValidator.validateFinalize(meter);
-            assertNoEvents(logger);
-        }
-
-        @Test
-        @DisplayName("should not log error when meter was never started")
-        void shouldValidateFinalizeWhenNotStarted() {
-            // Given: meter was never started (start time = 0L)
-            when(meter.getStartTime()).thenReturn(0L);
-            when(meter.getStopTime()).thenReturn(0L);
-            when(meter.getCategory()).thenReturn("test-category");
-            // When: validateFinalize is called
-            // Then: should not log any events
-            MeterValidator.validateFinalize(meter);
-            assertNoEvents(logger);
-        }
     }
 
     @Nested
@@ -16,11 +16,15 @@
 package org.usefultoys.slf4j.utils;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.usefultoys.test.ValidateCharset;
 import org.usefultoys.test.WithLocale;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -39,6 +43,8 @@ import static org.junit.jupiter.params.provider.Arguments.of;
  *   <li><b>Time Units:</b> Covers formatting of time values in nanoseconds, microseconds, milliseconds, seconds</li>
  *   <li><b>Iteration Units:</b> Tests formatting of iteration counts with appropriate units</li>
  *   <li><b>Edge Cases:</b> Ensures correct handling of zero, negative, and large values</li>
+ *   <li><b>Builder Overloads:</b> Appending to a StringBuilder gives the same text as String.format, in locales with
+ *   other decimal separators and digits</li>
  * </ul>
  */
 @ValidateCharset
@@ -349,5 +355,167 @@ class UnitFormatterTest {
         // Then: should return value formatted with ns, us, ms, s, m, h suffixes
         assertEquals(expected, result, "should format " + value + "ns as " + expected);
     }
-}
 
+    static Stream<org.junit.jupiter.params.provider.Arguments> provideOneDecimalTestCases() {
+        return Stream.of(
+            of(0.0, "0.0"),
+            of(-0.0, "-0.0"),
+            of(0.04, "0.0"),
+            of(0.05, "0.1"),
+            of(0.15, "0.2"),
+            of(0.25, "0.3"),
+            of(0.35, "0.4"),
+            of(0.45, "0.5"),
+            of(Math.nextDown(0.35), "0.3"),
+            of(Math.nextUp(0.35), "0.4"),
+            of(0.96, "1.0"),
+            of(1.45, "1.5"),
+            of(9.95, "10.0"),
+            of(18.0, "18.0"),
+            of(999.94, "999.9"),
+            of(-0.01, "-0.0"),
+            of(-1.25, "-1.3"),
+            of(123456.78, "123456.8"),
+            of(1.0e7, "10000000.0"),
+            of(1.0e20, "100000000000000000000.0"),
+            of(Double.NaN, "NaN"),
+            of(Double.POSITIVE_INFINITY, "Infinity"),
+            of(Double.NEGATIVE_INFINITY, "-Infinity")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideOneDecimalTestCases")
+    @DisplayName("should append value with one decimal exactly as String.format")
+    void shouldAppendValueWithOneDecimalExactlyAsStringFormat(final double value, final String expected) {
+        // Given: a builder with previous content
+        final StringBuilder sb = new StringBuilder("x=");
+        // When: value is appended with one decimal
+        UnitFormatter.appendOneDecimal(sb, value, '.');
+        // Then: should append the same digits as String.format with one decimal
+        assertEquals("x=" + expected, sb.toString(), "should append " + value + " as " + expected);
+        assertEquals(String.format(java.util.Locale.US, "%.1f", value), expected, "expected value should match String.format");
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideOneDecimalTestCases")
+    @DisplayName("should append value with one decimal using given decimal separator")
+    void shouldAppendValueWithOneDecimalUsingGivenDecimalSeparator(final double value, final String expected) {
+        // Given: an empty builder
+        final StringBuilder sb = new StringBuilder();
+        // When: value is appended with one decimal and comma as separator
+        UnitFormatter.appendOneDecimal(sb, value, ',');
+        // Then: should use comma instead of dot
+        assertEquals(expected.replace('.', ','), sb.toString(), "should append " + value + " with comma separator");
+    }
+
+    private static final String[] TIME_UNITS = {"ns", "us", "ms", "s", "m", "h"};
+    private static final int[] TIME_FACTORS = {1000, 1000, 1000, 60, 60};
+
+    /** The formatting of {@link UnitFormatter#longUnit(long, String[], int[])} by {@link String#format}. */
+    private static String formattedLongUnit(long value, final String[] units, final int[] factors) {
+        int index = 0;
+        if (value < factors[0] + factors[0] / 10) {
+            return String.format("%d%s", value, units[0]);
+        }
+        double doubleValue = value;
+        while (index < factors.length && value >= (factors[index] + factors[index] / 10)) {
+            doubleValue = value / (double) factors[index];
+            value /= factors[index];
+            index++;
+        }
+        return String.format("%.1f%s", doubleValue, units[index]);
+    }
+
+    /** The formatting of {@link UnitFormatter#doubleUnit(double, String[], int[])} by {@link String#format}. */
+    private static String formattedDoubleUnit(double value, final String[] units, final int[] factors) {
+        if (value == 0.0) {
+            return "0" + units[0];
+        }
+        int index = 0;
+        while (index < factors.length && (value + 0.001) >= (factors[index] + factors[index] / 10.0)) {
+            value /= factors[index];
+            index++;
+        }
+        return String.format("%.1f%s", value, units[index]);
+    }
+
+    private static List<Long> sampleValues() {
+        final List<Long> values = new ArrayList<>();
+        for (long value = -1100; value <= 1_200_000; value += value < 20_000 ? 7 : 997) {
+            values.add(value);
+        }
+        final Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            values.add(random.nextLong() >>> random.nextInt(64));
+        }
+        values.add(Long.MAX_VALUE);
+        values.add(Long.MIN_VALUE);
+        return values;
+    }
+
+    private static void assertAppendsAsFormatted() {
+        for (final long value : sampleValues()) {
+            final double doubleValue = value / 7.0;
+            final StringBuilder sb = new StringBuilder("x");
+            UnitFormatter.nanoseconds(sb, value);
+            assertEquals("x" + formattedLongUnit(value, TIME_UNITS, TIME_FACTORS), sb.toString(), "nanoseconds(long) should match for " + value);
+            sb.setLength(1);
+            UnitFormatter.nanoseconds(sb, doubleValue);
+            assertEquals("x" + formattedDoubleUnit(doubleValue, TIME_UNITS, TIME_FACTORS), sb.toString(), "nanoseconds(double) should match for " + doubleValue);
+            sb.setLength(1);
+            UnitFormatter.bytes(sb, value);
+            assertEquals("x" + formattedLongUnit(value, new String[]{"B", "kB", "MB", "GB"}, FACTORS), sb.toString(), "bytes should match for " + value);
+            if (value >= 1_000_000_000) {
+                /* Beyond the largest unit of iterations. */
+                continue;
+            }
+            sb.setLength(1);
+            UnitFormatter.iterations(sb, value);
+            assertEquals("x" + formattedLongUnit(value, new String[]{"", "k", "M"}, FACTORS), sb.toString(), "iterations should match for " + value);
+            sb.setLength(1);
+            UnitFormatter.iterationsPerSecond(sb, doubleValue);
+            assertEquals("x" + formattedDoubleUnit(doubleValue, new String[]{"/s", "k/s", "M/s"}, FACTORS), sb.toString(), "iterationsPerSecond should match for " + doubleValue);
+            assertEquals(UnitFormatter.iterationsPerSecond(doubleValue), sb.substring(1), "string and builder overloads should match");
+        }
+    }
+
+    @Test
+    @DisplayName("should append exactly as String.format")
+    void shouldAppendExactlyAsStringFormat() {
+        // Given: English locale, many values of all magnitudes
+        // When: values are appended by the builder overloads
+        // Then: text is identical to String.format
+        assertAppendsAsFormatted();
+    }
+
+    @Test
+    @WithLocale("de-DE")
+    @DisplayName("should append with decimal separator of the default locale")
+    void shouldAppendWithDecimalSeparatorOfDefaultLocale() {
+        // Given: a locale with comma as decimal separator
+        final StringBuilder sb = new StringBuilder();
+
+        // When: a value with a decimal digit is appended
+        UnitFormatter.nanoseconds(sb, 1_500_000L);
+
+        // Then: the comma is used, as by String.format, for all values
+        assertEquals("1,5ms", sb.toString(), "should use the decimal separator of the locale");
+        assertAppendsAsFormatted();
+    }
+
+    @Test
+    @WithLocale("th-TH-u-nu-thai")
+    @DisplayName("should append with digits of the default locale")
+    void shouldAppendWithDigitsOfDefaultLocale() {
+        // Given: a locale that does not write digits as ASCII
+        final StringBuilder sb = new StringBuilder();
+
+        // When: a value is appended
+        UnitFormatter.nanoseconds(sb, 12L);
+
+        // Then: the digits of the locale are used, as by String.format, for all values
+        assertEquals(String.format("%d", 12) + "ns", sb.toString(), "should use the digits of the locale");
+        assertAppendsAsFormatted();
+    }
+}
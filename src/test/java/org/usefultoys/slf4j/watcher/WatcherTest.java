@@ -16,12 +16,17 @@
 package org.usefultoys.slf4j.watcher;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.slf4j.LoggerFactory;
 import org.slf4j.impl.MockLogger;
 import org.slf4j.impl.MockLoggerEvent;
+import org.usefultoys.slf4j.meter.Meter;
+import org.usefultoys.slf4j.meter.MeterAggregator;
+import org.usefultoys.slf4j.meter.MeterConfig;
 import org.usefultoys.slf4j.utils.ConfigParser;
+import org.usefultoys.test.ResetMeterConfig;
 import org.usefultoys.test.ResetWatcherConfig;
 import org.usefultoys.test.ValidateCharset;
 
@@ -42,10 +47,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  *   <li><b>Data Logging:</b> Verifies logging of WatcherData with different configurations</li>
  *   <li><b>Logger State Handling:</b> Ensures correct behavior with enabled/disabled loggers</li>
  *   <li><b>Configuration Scenarios:</b> Covers multiple combinations of watcher settings</li>
+ *   <li><b>Meter Aggregates:</b> Reports aggregated meter outcomes when aggregation is enabled</li>
  * </ul>
  */
 @ValidateCharset
 @ResetWatcherConfig
+@ResetMeterConfig
 class WatcherTest {
     private static final String TEST_WATCHER_NAME = "myWatcher";
 
@@ -153,4 +160,44 @@ class WatcherTest {
         messageMockLogger.clearEvents();
         dataMockLogger.clearEvents();
     }
+
+    @Test
+    @DisplayName("should report meter aggregates when aggregation is enabled")
+    void shouldReportMeterAggregatesWhenAggregationIsEnabled() {
+        // Given: aggregation enabled and meters completed since the last drain
+        System.setProperty(WatcherConfig.PROP_DATA_ENABLED, "true");
+        System.setProperty(WatcherConfig.PROP_DATA_SUFFIX, ".data");
+        WatcherConfig.init();
+        MeterConfig.aggregationEnabled = true;
+        MeterAggregator.clear();
+        final MockLogger messageMockLogger = (MockLogger) LoggerFactory.getLogger(TEST_WATCHER_NAME);
+        final MockLogger dataMockLogger = (MockLogger) LoggerFactory.getLogger(TEST_WATCHER_NAME + ".data");
+        messageMockLogger.setEnabled(true);
+        dataMockLogger.setEnabled(true);
+        try {
+            new Meter(LoggerFactory.getLogger("watcher.aggregate"), "op").start().ok();
+            new Meter(LoggerFactory.getLogger("watcher.aggregate"), "op").start().reject("invalid");
+            messageMockLogger.clearEvents();
+            dataMockLogger.clearEvents();
+
+            // When: watcher is executed twice
+            final Watcher watcher = new Watcher(TEST_WATCHER_NAME);
+            watcher.run();
+            watcher.run();
+
+            // Then: the first run reports the aggregate after the watcher messages; the second has nothing to report
+            assertEquals(3, messageMockLogger.getEventCount(), "should log watcher, aggregate and watcher messages");
+            messageMockLogger.assertEvent(0, MockLoggerEvent.Level.INFO, Markers.MSG_WATCHER);
+            messageMockLogger.assertEvent(1, MockLoggerEvent.Level.INFO, Markers.MSG_AGGREGATE);
+            assertTrue(messageMockLogger.getEvent(1).getFormattedMessage().contains("watcher.aggregate/op; 1 ok, 0 slow, 1 reject, 0 fail"));
+            messageMockLogger.assertEvent(2, MockLoggerEvent.Level.INFO, Markers.MSG_WATCHER);
+            assertEquals(3, dataMockLogger.getEventCount(), "should log watcher, aggregate and watcher data");
+            dataMockLogger.assertEvent(1, MockLoggerEvent.Level.TRACE, Markers.DATA_AGGREGATE);
+            assertTrue(dataMockLogger.getEvent(1).getFormattedMessage().contains("ac:[1,0,1,0]"));
+        } finally {
+            MeterAggregator.clear();
+            messageMockLogger.clearEvents();
+            dataMockLogger.clearEvents();
+        }
+    }
 }